@@ -0,0 +1,144 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.provider.MediaStore;
+import android.test.AndroidTestCase;
+import android.test.mock.MockContentResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Imports backups from another device, whose track ids name unrelated tracks on this one
+ */
+public class BookmarkBackupImportTest extends AndroidTestCase {
+    private static final String DB_NAME = "backup_import_test.db";
+
+    private MusicBookmarksDatabaseHelper helper;
+    private FakeMediaStore mediaStore;
+    private MockContentResolver resolver;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getContext().deleteDatabase(DB_NAME);
+        helper = new MusicBookmarksDatabaseHelper(getContext(), DB_NAME, true);
+        mediaStore = new FakeMediaStore();
+        resolver = new MockContentResolver();
+        resolver.addProvider(MediaStore.AUTHORITY, mediaStore);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        helper.close();
+        mediaStore.close();
+        getContext().deleteDatabase(DB_NAME);
+        super.tearDown();
+    }
+
+    public void testCollidingIds() throws IOException {
+        //Id 1 is a local track, id 2 an unrelated MediaStore track, and the lectures are elsewhere or absent
+        mediaStore.addTrack(1, "Song", "Album", "Band");
+        mediaStore.addTrack(2, "Unrelated", "Album", "Band");
+        mediaStore.addTrack(4, "Same", "Album", "Band");
+        mediaStore.addTrack(5, "Lecture 1", "Course", "Teacher");
+        ContentValues values = new ContentValues();
+        values.put(MusicColumns._ID, 1);
+        values.put(MusicColumns.TITLE, "Song");
+        values.put(MusicColumns.ALBUM, "Album");
+        values.put(MusicColumns.ARTIST, "Band");
+        values.put(MusicColumns.DISPLAY_NAME, "Song");
+        helper.getWritableDatabase().insertOrThrow(MusicColumns.TABLE, null, values);
+
+        byte[] backup = writeBackup(
+                new Object[] {1L, "Lecture 1", "Course", "Teacher"},
+                new Object[] {2L, "Lecture 2", "Course", "Teacher"},
+                new Object[] {3L, "Lecture 3", "Course", "Teacher"},
+                new Object[] {4L, "Same", "Album", "Band"});
+        BookmarkBackup.Counts counts = importBackup(backup);
+        assertEquals(4, counts.musicCount);
+        assertEquals(4, counts.bookmarkCount);
+
+        SQLiteDatabase db = helper.getReadableDatabase();
+        //Found by metadata under another id
+        assertTrack(db, 5, "Lecture 1", false);
+        assertBookmark(db, 5, false);
+        assertTrack(db, 1, "Song", false);
+        assertEquals(0, countBookmarks(db, 1));
+        //Not found, kept as missing under a placeholder until the file appears
+        long placeholderId = DatabaseUtils.longForQuery(db, "SELECT " + MusicColumns._ID + " FROM " +
+                MusicColumns.TABLE + " WHERE " + MusicColumns.TITLE + " = 'Lecture 2'", null);
+        assertTrue(placeholderId < 0);
+        assertTrack(db, placeholderId, "Lecture 2", true);
+        assertBookmark(db, placeholderId, true);
+        assertEquals(0, countBookmarks(db, 2));
+        //Free ids and ids naming the same track are kept
+        assertTrack(db, 3, "Lecture 3", false);
+        assertBookmark(db, 3, false);
+        assertTrack(db, 4, "Same", false);
+        assertBookmark(db, 4, false);
+
+        //Importing again changes nothing
+        counts = importBackup(backup);
+        assertEquals(0, counts.musicCount);
+        assertEquals(0, counts.bookmarkCount);
+    }
+
+    /**
+     * @param tracks id, title, album, and artist of each track, each with one bookmark
+     */
+    private static byte[] writeBackup(Object[]... tracks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        try {
+            for (Object[] track : tracks) {
+                writer.writeMusic((Long) track[0], 1000L, 1.0, null, false, (String) track[1], (String) track[2],
+                        (String) track[3], (String) track[1]);
+            }
+            for (Object[] track : tracks) {
+                writer.writeBookmark((Long) track[0], 60000, "Chapter", null, false);
+            }
+            writer.finish();
+        } finally {
+            writer.close();
+        }
+        return out.toByteArray();
+    }
+
+    private BookmarkBackup.Counts importBackup(byte[] backup) throws IOException {
+        return BookmarkBackup.importBackup(helper.getWritableDatabase(), new ByteArrayInputStream(backup), resolver,
+                MediaStore.Audio.Media.EXTERNAL_CONTENT_URI);
+    }
+
+    private static void assertTrack(SQLiteDatabase db, long id, String title, boolean missing) {
+        Cursor cursor = db.query(MusicColumns.TABLE, new String[] {MusicColumns.TITLE, MusicColumns.MISSING},
+                MusicColumns._ID + " = ?", new String[] {Long.toString(id)}, null, null, null);
+        try {
+            assertTrue(cursor.moveToFirst());
+            assertEquals(title, cursor.getString(0));
+            assertEquals(missing, cursor.getInt(1) != 0);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static void assertBookmark(SQLiteDatabase db, long musicId, boolean orphaned) {
+        Cursor cursor = db.query(BookmarkColumns.TABLE, new String[] {BookmarkColumns.ORPHANED},
+                BookmarkColumns.MUSIC_ID + " = ?", new String[] {Long.toString(musicId)}, null, null, null);
+        try {
+            assertEquals(1, cursor.getCount());
+            assertTrue(cursor.moveToFirst());
+            assertEquals(orphaned, cursor.getInt(0) != 0);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static long countBookmarks(SQLiteDatabase db, long musicId) {
+        return DatabaseUtils.queryNumEntries(db, BookmarkColumns.TABLE, BookmarkColumns.MUSIC_ID + " = " + musicId);
+    }
+}
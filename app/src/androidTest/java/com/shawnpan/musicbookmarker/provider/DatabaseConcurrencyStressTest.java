@@ -0,0 +1,185 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.net.Uri;
+import android.provider.MediaStore;
+import android.test.AndroidTestCase;
+import android.test.mock.MockContentResolver;
+import android.util.Log;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Runs type-ahead and bookmark reads through the provider while another thread opens tracks, so that
+ * the provider's {@link RecentHistoryWriter} writes and trims the recent history in the background.
+ * Runs once with the rollback journal and once with write-ahead logging, against a fake MediaStore.
+ * Read latency percentiles for both modes are written to the log under {@link #TAG}.
+ */
+public class DatabaseConcurrencyStressTest extends AndroidTestCase {
+    private static final String TAG = "DatabaseStressTest";
+
+    private static final long RUN_DURATION_MS = 5000;
+    private static final int TRACK_COUNT = 2000;
+    private static final int BOOKMARKED_TRACK_COUNT = 50;
+    private static final int BOOKMARKS_PER_TRACK = 4;
+    //Opening a track every few milliseconds gives each flush of the history writer many tracks to write
+    private static final long OPEN_INTERVAL_MS = 5;
+    private static final String[] KEYWORDS = new String[] {"t", "tr", "tra", "trac", "track", "track 1", "track 12",
+            "bookmark", "album 1"};
+
+    public void testReadLatencyUnderWrites() throws Exception {
+        long[] rollbackLatencies = runStress("stress_rollback.db", false);
+        long[] walLatencies = runStress("stress_wal.db", true);
+        assertTrue(rollbackLatencies.length > 0);
+        assertTrue(walLatencies.length > 0);
+        Log.i(TAG, "Rollback journal: " + summarize(rollbackLatencies));
+        Log.i(TAG, "Write-ahead log:  " + summarize(walLatencies));
+    }
+
+    /**
+     * Run reads on the calling thread against track opens on a background thread
+     * @param name database file name
+     * @param writeAheadLogging journal mode
+     * @return sorted read latencies in microseconds
+     */
+    private long[] runStress(String name, boolean writeAheadLogging) throws Exception {
+        getContext().deleteDatabase(name);
+        MusicBookmarksDatabaseHelper helper = new MusicBookmarksDatabaseHelper(getContext(), name, writeAheadLogging);
+        FakeMediaStore mediaStore = new FakeMediaStore();
+        try {
+            for (int id = 1; id <= TRACK_COUNT; id++) {
+                mediaStore.addTrack(id, "Track " + id, "Album " + (id % 50), "Artist " + (id % 20));
+            }
+            MockContentResolver resolver = new MockContentResolver();
+            resolver.addProvider(MediaStore.AUTHORITY, mediaStore);
+            final MusicBookmarksProvider provider = new MusicBookmarksProvider(helper);
+            provider.attachInfo(new ResolverContext(getContext(), resolver), null);
+            seedBookmarks(provider);
+
+            final long endTime = System.currentTimeMillis() + RUN_DURATION_MS;
+            final Set<Long> openedIds = new HashSet<>();
+            final Throwable[] writerError = new Throwable[1];
+            Thread writer = new Thread("StressWriter") {
+                @Override
+                public void run() {
+                    try {
+                        Random random = new Random(1);
+                        while (System.currentTimeMillis() < endTime) {
+                            long id = 1 + random.nextInt(TRACK_COUNT);
+                            //Marks the track as used, like opening it from the player
+                            drain(provider.query(MusicBookmarksProvider.GET_INFO_URI, null, null,
+                                    new String[] {Long.toString(id)}, null));
+                            openedIds.add(id);
+                            Thread.sleep(OPEN_INTERVAL_MS);
+                        }
+                    } catch (Throwable e) {
+                        writerError[0] = e;
+                    }
+                }
+            };
+            writer.start();
+
+            long[] latencies = new long[1024];
+            int count = 0;
+            Random random = new Random(2);
+            Uri pageUri = MusicBookmarksProvider.getBookmarkPageUri(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+                    MusicBookmarksProvider.MAX_BOOKMARK_PAGE_SIZE);
+            while (System.currentTimeMillis() < endTime) {
+                String keyword = KEYWORDS[count % KEYWORDS.length];
+                String musicId = Integer.toString(1 + random.nextInt(BOOKMARKED_TRACK_COUNT));
+                long startTime = System.nanoTime();
+                drain(provider.query(MusicBookmarksProvider.SUGGESTIONS_URI, null, null, new String[] {keyword}, null));
+                drain(provider.query(pageUri, null, null, new String[] {musicId}, null));
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = (System.nanoTime() - startTime) / 1000;
+            }
+            writer.join();
+            if (writerError[0] != null) {
+                throw new AssertionError(writerError[0]);
+            }
+
+            //Wait for the last touches to be written, the history is then trimmed back within the slack
+            Thread.sleep(RecentHistoryWriter.FLUSH_DELAY_MS * 3);
+            assertTrue(openedIds.size() > MusicBookmarksProvider.MAX_HISTORY_COUNT + RecentHistoryWriter.TRIM_SLACK);
+            long historyCount = DatabaseUtils.queryNumEntries(helper.getReadableDatabase(), MusicColumns.TABLE,
+                    RecentHistoryWriter.TRIMMABLE_FILTER);
+            assertTrue(historyCount > 0);
+            assertTrue(historyCount <= MusicBookmarksProvider.MAX_HISTORY_COUNT + RecentHistoryWriter.TRIM_SLACK);
+
+            latencies = Arrays.copyOf(latencies, count);
+            Arrays.sort(latencies);
+            return latencies;
+        } finally {
+            helper.close();
+            mediaStore.close();
+            getContext().deleteDatabase(name);
+        }
+    }
+
+    private static void seedBookmarks(MusicBookmarksProvider provider) {
+        ContentValues[] values = new ContentValues[BOOKMARKED_TRACK_COUNT * BOOKMARKS_PER_TRACK];
+        for (int id = 1; id <= BOOKMARKED_TRACK_COUNT; id++) {
+            for (int i = 0; i < BOOKMARKS_PER_TRACK; i++) {
+                ContentValues rowValues = new ContentValues();
+                rowValues.put(BookmarkColumns.MUSIC_ID, id);
+                rowValues.put(BookmarkColumns.POSITION, i * 30000);
+                rowValues.put(BookmarkColumns.LABEL, "Bookmark " + i);
+                values[(id - 1) * BOOKMARKS_PER_TRACK + i] = rowValues;
+            }
+        }
+        provider.bulkInsert(MusicBookmarksProvider.BOOKMARK_TABLE_URI, values);
+    }
+
+    /**
+     * Read every row of a cursor, as a caller would, and close it
+     */
+    private static void drain(Cursor cursor) {
+        try {
+            while (cursor.moveToNext()) {
+                cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @param latencies sorted latencies in microseconds
+     * @return percentile summary
+     */
+    private static String summarize(long[] latencies) {
+        return latencies.length + " reads, p50 " + percentile(latencies, 50) + "us, p95 " + percentile(latencies, 95) +
+                "us, p99 " + percentile(latencies, 99) + "us, max " + latencies[latencies.length - 1] + "us";
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.min(sorted.length - 1, (int) ((long) sorted.length * percent / 100))];
+    }
+
+    /**
+     * Context handing out a resolver that serves the fake MediaStore
+     */
+    private static class ResolverContext extends ContextWrapper {
+        private final ContentResolver contentResolver;
+
+        ResolverContext(Context base, ContentResolver contentResolver) {
+            super(base);
+            this.contentResolver = contentResolver;
+        }
+
+        @Override
+        public ContentResolver getContentResolver() {
+            return contentResolver;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.provider.MediaStore;
+import android.test.mock.MockContentProvider;
+
+/**
+ * MediaStore of music tracks in an in-memory database, answering every audio uri from the same table
+ * so that the provider's own selections are applied. Register it with a MockContentResolver under
+ * {@link MediaStore#AUTHORITY}.
+ */
+class FakeMediaStore extends MockContentProvider {
+    private static final String TABLE = "audio";
+
+    private final SQLiteDatabase db = SQLiteDatabase.create(null);
+
+    FakeMediaStore() {
+        db.execSQL("CREATE TABLE " + TABLE + " (" + MusicColumns._ID + " INTEGER PRIMARY KEY, " +
+                MusicColumns.TITLE + " TEXT, " + MusicColumns.TITLE_KEY + " TEXT, " +
+                MusicColumns.ALBUM + " TEXT, " + MusicColumns.ALBUM_KEY + " TEXT, " +
+                MusicColumns.ARTIST + " TEXT, " + MusicColumns.ARTIST_KEY + " TEXT, " +
+                MusicColumns.DATE_MODIFIED + " INTEGER, " + MusicColumns.IS_MUSIC + " INTEGER)");
+    }
+
+    /**
+     * Add a music track
+     */
+    void addTrack(long id, String title, String album, String artist) {
+        ContentValues values = new ContentValues();
+        values.put(MusicColumns._ID, id);
+        values.put(MusicColumns.TITLE, title);
+        values.put(MusicColumns.TITLE_KEY, MediaStore.Audio.keyFor(title));
+        values.put(MusicColumns.ALBUM, album);
+        values.put(MusicColumns.ALBUM_KEY, MediaStore.Audio.keyFor(album));
+        values.put(MusicColumns.ARTIST, artist);
+        values.put(MusicColumns.ARTIST_KEY, MediaStore.Audio.keyFor(artist));
+        values.put(MusicColumns.DATE_MODIFIED, 0);
+        values.put(MusicColumns.IS_MUSIC, 1);
+        db.insertOrThrow(TABLE, null, values);
+    }
+
+    @Override
+    public Cursor query(Uri uri, String[] projection, String selection, String[] selectionArgs, String sortOrder) {
+        return db.query(TABLE, projection, selection, selectionArgs, null, null, sortOrder);
+    }
+
+    void close() {
+        db.close();
+    }
+}
@@ -0,0 +1,86 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentValues;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.test.AndroidTestCase;
+
+import java.util.List;
+
+/**
+ * Trimming and clearing of the recent history by {@link RecentHistoryWriter}
+ */
+public class RecentHistoryWriterTest extends AndroidTestCase {
+    private static final String DB_NAME = "history_writer_test.db";
+    private static final int HISTORY_LIMIT = 5;
+    private static final long BOOKMARKED_ID = 1;
+
+    private MusicBookmarksDatabaseHelper helper;
+    private RecentHistoryWriter writer;
+    private volatile int deleteCount;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getContext().deleteDatabase(DB_NAME);
+        helper = new MusicBookmarksDatabaseHelper(getContext(), DB_NAME, true);
+        writer = new RecentHistoryWriter(helper, helper.getStatementCache(), HISTORY_LIMIT,
+                new RecentHistoryWriter.Listener() {
+                    @Override
+                    public void onHistoryWritten(List<ContentValues> insertedValues) {
+                    }
+
+                    @Override
+                    public void onHistoryDeleted() {
+                        deleteCount++;
+                    }
+                });
+        //A bookmark without a track must not stop trimming
+        insertBookmark(null);
+        insertBookmark(BOOKMARKED_ID);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        helper.close();
+        getContext().deleteDatabase(DB_NAME);
+        super.tearDown();
+    }
+
+    public void testTrimKeepsBookmarkedTracks() throws InterruptedException {
+        int touchCount = HISTORY_LIMIT + RecentHistoryWriter.TRIM_SLACK + 10;
+        for (long id = 1; id <= touchCount; id++) {
+            writer.touch(id, MusicItem.fromFields(id, "Track " + id, "Album", "Artist", "Track " + id, false));
+        }
+        awaitFlush();
+        SQLiteDatabase db = helper.getReadableDatabase();
+        assertEquals(HISTORY_LIMIT, DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE,
+                RecentHistoryWriter.TRIMMABLE_FILTER));
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE, MusicColumns._ID + " = " + BOOKMARKED_ID));
+        assertTrue(deleteCount > 0);
+    }
+
+    public void testClearKeepsBookmarkedTracks() throws InterruptedException {
+        for (long id = 1; id <= HISTORY_LIMIT; id++) {
+            writer.touch(id, MusicItem.fromFields(id, "Track " + id, "Album", "Artist", "Track " + id, false));
+        }
+        awaitFlush();
+        writer.clear();
+        awaitFlush();
+        SQLiteDatabase db = helper.getReadableDatabase();
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE, null));
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE,
+                MusicColumns._ID + " = " + BOOKMARKED_ID + " AND " + MusicColumns.LAST_USED + " IS NULL"));
+    }
+
+    private void insertBookmark(Long musicId) {
+        ContentValues values = new ContentValues();
+        values.put(BookmarkColumns.MUSIC_ID, musicId);
+        values.put(BookmarkColumns.POSITION, 0);
+        helper.getWritableDatabase().insertOrThrow(BookmarkColumns.TABLE, null, values);
+    }
+
+    private static void awaitFlush() throws InterruptedException {
+        Thread.sleep(RecentHistoryWriter.FLUSH_DELAY_MS * 2);
+    }
+}
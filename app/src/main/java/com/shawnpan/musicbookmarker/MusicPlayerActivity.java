@@ -6,23 +6,27 @@ import android.content.ContentUris;
 import android.content.Context;
 import android.content.Intent;
 import android.content.ServiceConnection;
+import android.database.ContentObserver;
 import android.database.Cursor;
+import android.database.DataSetObserver;
 import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.IBinder;
-import android.provider.BaseColumns;
 import android.provider.MediaStore;
 import android.support.v7.app.ActionBarActivity;
 import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
+import android.widget.CursorAdapter;
 import android.widget.ImageButton;
 import android.widget.SearchView;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import com.shawnpan.musicbookmarker.provider.BookmarkIndex;
+import com.shawnpan.musicbookmarker.provider.BookmarkIndexLoader;
 import com.shawnpan.musicbookmarker.provider.MusicItem;
 import com.shawnpan.musicbookmarker.provider.MusicBookmarksProvider;
 
@@ -38,6 +42,14 @@ public class MusicPlayerActivity extends ActionBarActivity {
     private ImageButton nextButton;
     private ImageButton playModeButton;
 
+    //Pressing previous within this time after a bookmark goes to the bookmark before it
+    private static final long PREVIOUS_GRACE_MS = 1000;
+    //Pause in updates of the search suggestions before the top hit is preloaded
+    private static final long PRELOAD_DELAY_MS = 300;
+    //Bookmarks of the track being played, loaded in the background
+    private BookmarkIndexLoader bookmarkLoader;
+    private ContentObserver bookmarkObserver;
+
     private MusicService musicService;
     private boolean musicServiceBound = false;
     private ServiceConnection musicServiceConnection = new ServiceConnection() {
@@ -73,6 +85,28 @@ public class MusicPlayerActivity extends ActionBarActivity {
         playModeButton = (ImageButton) findViewById(R.id.play_mode_button);
 
         bindListeners();
+
+        //Buttons read the index when pressed, so there is no listener
+        bookmarkLoader = new BookmarkIndexLoader(getContentResolver(), null);
+        bookmarkObserver = new ContentObserver(new Handler()) {
+            @Override
+            public void onChange(boolean selfChange) {
+                onChange(selfChange, null);
+            }
+
+            @Override
+            public void onChange(boolean selfChange, Uri uri) {
+                bookmarkLoader.onBookmarksChanged(uri);
+            }
+        };
+        getContentResolver().registerContentObserver(MusicBookmarksProvider.BOOKMARK_TABLE_URI, true, bookmarkObserver);
+    }
+
+    @Override
+    protected void onDestroy() {
+        getContentResolver().unregisterContentObserver(bookmarkObserver);
+        bookmarkLoader.clear();
+        super.onDestroy();
     }
 
 
@@ -85,7 +119,9 @@ public class MusicPlayerActivity extends ActionBarActivity {
         if (Intent.ACTION_SEARCH.equals(intent.getAction())) {
             playMusicBySearchString(intent.getStringExtra(SearchManager.QUERY));
         } else if (Intent.ACTION_VIEW.equals(intent.getAction())) {
-            playMusicById(intent.getStringExtra(SearchManager.EXTRA_DATA_KEY));
+            //Bookmark suggestions carry the position to start from in the intent data
+            long startPosition = MusicBookmarksProvider.getBookmarkJumpPosition(intent.getData());
+            playMusicById(intent.getStringExtra(SearchManager.EXTRA_DATA_KEY), startPosition);
         } else {
             Log.e(TAG, "Unknown intent type");
         }
@@ -96,15 +132,47 @@ public class MusicPlayerActivity extends ActionBarActivity {
         Cursor musicSearchCursor = getContentResolver().query(MusicBookmarksProvider.SUGGESTIONS_URI, null, null, musicSearchArgs, null);
         if (musicSearchCursor.moveToFirst()) {
             Log.v(TAG, "Taking first match for query: " + query);
-            String idString = Long.toString(musicSearchCursor.getLong(musicSearchCursor.getColumnIndex(BaseColumns._ID)));
-            playMusicById(idString);
+            //Same as selecting the suggestion, which may be a bookmark
+            playMusicById(getSuggestionMusicId(musicSearchCursor), getSuggestionStartPosition(musicSearchCursor));
         } else {
             Toast.makeText(this, R.string.search_no_matches, Toast.LENGTH_SHORT).show();
         }
         musicSearchCursor.close();
     }
 
-    private void playMusicById(String idString) {
+    /**
+     * Preload the track of the top search hit, so that it starts at once if it is picked.
+     * Reads the suggestions already queried in the background by the search view.
+     * @param suggestionCursor cursor of the suggestions shown, may be null
+     */
+    private void preloadTopHit(Cursor suggestionCursor) {
+        if (!musicServiceBound || suggestionCursor == null || suggestionCursor.isClosed() ||
+                !suggestionCursor.moveToFirst()) {
+            return;
+        }
+        long musicId = Long.parseLong(getSuggestionMusicId(suggestionCursor));
+        Uri musicUri = ContentUris.withAppendedId(MediaStore.Audio.Media.EXTERNAL_CONTENT_URI, musicId);
+        musicService.preload(musicUri, getSuggestionStartPosition(suggestionCursor));
+    }
+
+    /**
+     * @param suggestionCursor suggestions cursor positioned on a row
+     * @return id of the track the suggestion opens
+     */
+    private static String getSuggestionMusicId(Cursor suggestionCursor) {
+        return suggestionCursor.getString(suggestionCursor.getColumnIndex(SearchManager.SUGGEST_COLUMN_INTENT_EXTRA_DATA));
+    }
+
+    /**
+     * @param suggestionCursor suggestions cursor positioned on a row
+     * @return position the suggestion starts playing from in milliseconds, non-zero for bookmarks
+     */
+    private static long getSuggestionStartPosition(Cursor suggestionCursor) {
+        String intentData = suggestionCursor.getString(suggestionCursor.getColumnIndex(SearchManager.SUGGEST_COLUMN_INTENT_DATA));
+        return intentData == null ? 0 : MusicBookmarksProvider.getBookmarkJumpPosition(Uri.parse(intentData));
+    }
+
+    private void playMusicById(String idString, long startPosition) {
         String[] musicIdLookupArgs = new String[] {idString};
         Cursor musicInfoCursor = getContentResolver().query(MusicBookmarksProvider.GET_INFO_URI, null, null, musicIdLookupArgs, null);
         if (musicInfoCursor.moveToFirst()) {
@@ -115,9 +183,11 @@ public class MusicPlayerActivity extends ActionBarActivity {
             MusicItem musicItem = MusicItem.fromMusicTableCursor(musicInfoCursor);
             titleText.setText(musicItem.getDisplayName());
             infoText.setText(musicItem.getDescription());
+            bookmarkLoader.load(musicItem.getId());
             Uri musicUri = ContentUris.withAppendedId(MediaStore.Audio.Media.EXTERNAL_CONTENT_URI, musicItem.getId());
             Log.v(TAG, "Playing music uri: " + musicUri);
             Intent playIntent = new Intent(MusicService.ACTION_PLAY, musicUri, getApplicationContext(), MusicService.class);
+            playIntent.putExtra(MusicService.EXTRA_START_POSITION, startPosition);
             startService(playIntent);
         } else {
             Toast.makeText(this, R.string.music_no_longer_found, Toast.LENGTH_SHORT).show();
@@ -138,7 +208,12 @@ public class MusicPlayerActivity extends ActionBarActivity {
         previousButton.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                Log.v(TAG, "Previous button click");
+                BookmarkIndex bookmarkIndex = bookmarkLoader.getIndex();
+                if (musicServiceBound && bookmarkIndex != null) {
+                    int index = bookmarkIndex.previousIndex(musicService.getCurrentTime() - PREVIOUS_GRACE_MS);
+                    musicService.seekTo(index < 0 ? 0 : (int) bookmarkIndex.getPosition(index));
+                    updateSeekbar();
+                }
             }
         });
 
@@ -154,7 +229,14 @@ public class MusicPlayerActivity extends ActionBarActivity {
         nextButton.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                Log.v(TAG, "Next button click");
+                BookmarkIndex bookmarkIndex = bookmarkLoader.getIndex();
+                if (musicServiceBound && bookmarkIndex != null) {
+                    int index = bookmarkIndex.nextIndex(musicService.getCurrentTime());
+                    if (index >= 0) {
+                        musicService.seekTo((int) bookmarkIndex.getPosition(index));
+                        updateSeekbar();
+                    }
+                }
             }
         });
 
@@ -168,6 +250,34 @@ public class MusicPlayerActivity extends ActionBarActivity {
             }
         });
 
+        //Long press repeats the passage between the bookmarks around the current time, or stops repeating it
+        playModeButton.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                BookmarkIndex bookmarkIndex = bookmarkLoader.getIndex();
+                if (!musicServiceBound || bookmarkIndex == null) {
+                    return false;
+                }
+                if (musicService.hasLoopRegion()) {
+                    musicService.clearLoopRegion();
+                    Toast.makeText(MusicPlayerActivity.this, R.string.loop_region_cleared, Toast.LENGTH_SHORT).show();
+                } else {
+                    int currentTime = musicService.getCurrentTime();
+                    int startIndex = bookmarkIndex.previousIndex(currentTime + 1);
+                    int endIndex = bookmarkIndex.nextIndex(currentTime);
+                    int startTime = startIndex < 0 ? 0 : (int) bookmarkIndex.getPosition(startIndex);
+                    int endTime = endIndex < 0 ? musicService.getDuration() : (int) bookmarkIndex.getPosition(endIndex);
+                    if (endTime <= startTime) {
+                        return false;
+                    }
+                    musicService.setLoopRegion(startTime, endTime);
+                    Toast.makeText(MusicPlayerActivity.this, R.string.loop_region_set, Toast.LENGTH_SHORT).show();
+                }
+                updateButtonIcons();
+                return true;
+            }
+        });
+
         musicSeekBar.setOnTimeChangeListener(new MusicSeekBar.OnTimeChangeListener() {
             @Override
             public void onTimeChanged(int timeMillis) {
@@ -187,6 +297,7 @@ public class MusicPlayerActivity extends ActionBarActivity {
 
     @Override
     protected void onStop() {
+        preloadHandler.removeCallbacks(preloadRunnable);
         if (musicServiceBound) {
             unbindService(musicServiceConnection);
         }
@@ -206,7 +317,7 @@ public class MusicPlayerActivity extends ActionBarActivity {
     }
 
     private void updateButtonIcons() {
-        int playModeIcon = musicService.isRepeat() ?  R.drawable.ic_repeat_white_48dp : R.drawable.ic_looks_one_white_48dp;
+        int playModeIcon = musicService.isRepeat() || musicService.hasLoopRegion() ?  R.drawable.ic_repeat_white_48dp : R.drawable.ic_looks_one_white_48dp;
         playModeButton.setImageResource(playModeIcon);
         int playPauseIcon = musicService.isPlaying() ? R.drawable.ic_pause_white_48dp : R.drawable.ic_play_arrow_white_48dp;
         playPauseButton.setImageResource(playPauseIcon);
@@ -222,6 +333,15 @@ public class MusicPlayerActivity extends ActionBarActivity {
         }
     }
 
+    Handler preloadHandler = new Handler();
+    CursorAdapter suggestionsAdapter;
+    Runnable preloadRunnable = new Runnable() {
+        @Override
+        public void run() {
+            preloadTopHit(suggestionsAdapter.getCursor());
+        }
+    };
+
     Handler progressUpdateHandler = new Handler();
     Runnable progressUpdateRunnable = new Runnable() {
         @Override
@@ -243,6 +363,15 @@ public class MusicPlayerActivity extends ActionBarActivity {
         SearchManager searchManager = (SearchManager) getSystemService(Context.SEARCH_SERVICE);
         SearchView searchView = (SearchView) menu.findItem(R.id.search).getActionView();
         searchView.setSearchableInfo(searchManager.getSearchableInfo(getComponentName()));
+        //The search view queries suggestions in the background, the top hit is preloaded from its results
+        suggestionsAdapter = searchView.getSuggestionsAdapter();
+        suggestionsAdapter.registerDataSetObserver(new DataSetObserver() {
+            @Override
+            public void onChanged() {
+                preloadHandler.removeCallbacks(preloadRunnable);
+                preloadHandler.postDelayed(preloadRunnable, PRELOAD_DELAY_MS);
+            }
+        });
         //searchView.setIconified(false);
 
         return true;
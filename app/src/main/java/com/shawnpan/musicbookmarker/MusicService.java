@@ -1,15 +1,24 @@
 package com.shawnpan.musicbookmarker;
 
 import android.app.Service;
+import android.content.ContentUris;
 import android.content.Intent;
+import android.database.ContentObserver;
 import android.net.Uri;
 import android.os.Binder;
+import android.os.Handler;
 import android.os.IBinder;
 import android.util.Log;
 
 import com.shawnpan.musicbookmarker.audioplayer.AudioPlayer;
 import com.shawnpan.musicbookmarker.audioplayer.AudioPlayerWithLeader;
+import com.shawnpan.musicbookmarker.audioplayer.BufferPool;
 import com.shawnpan.musicbookmarker.audioplayer.ExoPlayerAudioPlayer;
+import com.shawnpan.musicbookmarker.provider.BookmarkIndex;
+import com.shawnpan.musicbookmarker.provider.BookmarkIndexLoader;
+import com.shawnpan.musicbookmarker.provider.MusicBookmarksProvider;
+
+import java.util.Arrays;
 
 /**
  * Service for playing music
@@ -21,9 +30,53 @@ public class MusicService extends Service {
     public static final String ACTION_PLAY = "com.shawnpan.musicbookmarker.action.PLAY";
     public static final String ACTION_STOP = "com.shawnpan.musicbookmarker.action.STOP";
     public static final String ACTION_PLAY_PAUSE = "com.shawnpan.musicbookmarker.action.PLAY_PAUSE";
+    //Position in milliseconds to start playing from, for ACTION_PLAY
+    public static final String EXTRA_START_POSITION = "com.shawnpan.musicbookmarker.extra.START_POSITION";
 
-    //Media player
+    //Media player, and the player it wraps
     private AudioPlayer audioPlayer;
+    private AudioPlayer internalPlayer;
+    //Second player, buffering the track most likely to be played next so that playing it is a handoff
+    private AudioPlayer preloadPlayer;
+    private Uri preloadUri;
+    private long preloadPosition;
+    //Bookmarks nearest the playback position are passed to the player as cue points
+    private static final int CUES_AHEAD = 3;
+    private static final int CUES_BEHIND = 2;
+    private static final long CUE_REFRESH_MS = 2000;
+    //Bookmarks of the track being played, and the cue points last passed to the player
+    private BookmarkIndexLoader bookmarkLoader;
+    private ContentObserver bookmarkObserver;
+    private int[] cuePoints;
+    //Position playback was started from, used for cue points until the track is ready
+    private long startPosition;
+    private final Handler cueHandler = new Handler();
+    //Sample buffers shared by both players, kept across tracks
+    private BufferPool bufferPool;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        bufferPool = BufferPool.create(this, getCueCacheBytes());
+        bookmarkLoader = new BookmarkIndexLoader(getContentResolver(), new BookmarkIndexLoader.Listener() {
+            @Override
+            public void onBookmarkIndexChanged(BookmarkIndex index) {
+                updateCuePoints();
+            }
+        });
+        bookmarkObserver = new ContentObserver(new Handler()) {
+            @Override
+            public void onChange(boolean selfChange) {
+                onChange(selfChange, null);
+            }
+
+            @Override
+            public void onChange(boolean selfChange, Uri uri) {
+                bookmarkLoader.onBookmarksChanged(uri);
+            }
+        };
+        getContentResolver().registerContentObserver(MusicBookmarksProvider.BOOKMARK_TABLE_URI, true, bookmarkObserver);
+    }
 
     @Override
     public int onStartCommand(Intent intent, int flags, int startId) {
@@ -31,7 +84,7 @@ public class MusicService extends Service {
         if (intent != null && intent.getAction() != null) {
             switch (intent.getAction()) {
                 case ACTION_PLAY:
-                    playMusic(intent.getData());
+                    playMusic(intent.getData(), intent.getLongExtra(EXTRA_START_POSITION, 0));
                     break;
                 case ACTION_STOP:
                     releaseMediaPlayer();
@@ -49,9 +102,22 @@ public class MusicService extends Service {
     @Override
     public void onDestroy() {
         Log.v(TAG, "ondestroy");
+        getContentResolver().unregisterContentObserver(bookmarkObserver);
         releaseMediaPlayer();
     }
 
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        bufferPool.trimMemory(level);
+        if (audioPlayer != null) {
+            audioPlayer.trimMemory(level);
+        }
+        if (preloadPlayer != null) {
+            preloadPlayer.trimMemory(level);
+        }
+    }
+
     //Binder implementation
     public class MusicServiceBinder extends Binder {
         /**
@@ -68,10 +134,77 @@ public class MusicService extends Service {
         return binder;
     }
 
-    private void playMusic(Uri uri) {
-        Log.v(TAG, "Playing " + uri);
-        initializeMediaPlayer();
-        audioPlayer.playUri(getApplicationContext(), uri);
+    private void playMusic(Uri uri, long startPosition) {
+        Log.v(TAG, "Playing " + uri + " from " + startPosition);
+        this.startPosition = startPosition;
+        if (preloadUri != null && preloadUri.equals(uri)) {
+            playPreloaded(startPosition);
+        } else {
+            initializeMediaPlayer();
+            audioPlayer.playUri(getApplicationContext(), uri);
+            if (startPosition > 0) {
+                audioPlayer.seekTo((int) startPosition);
+            }
+        }
+        cuePoints = null;
+        bookmarkLoader.load(ContentUris.parseId(uri));
+        cueHandler.removeCallbacks(cueRefreshRunnable);
+        cueHandler.postDelayed(cueRefreshRunnable, CUE_REFRESH_MS);
+    }
+
+    /**
+     * Pass the bookmarks nearest the playback position to the player, which caches the start of each.
+     * Nearest first, alternating between the bookmarks ahead and behind.
+     */
+    private void updateCuePoints() {
+        BookmarkIndex index = bookmarkLoader.getIndex();
+        //Not isStopped, which is true until the track has loaded
+        if (audioPlayer == null || index == null) {
+            return;
+        }
+        long position = audioPlayer.isReady() ? audioPlayer.getCurrentPosition() : startPosition;
+        int next = index.nextIndex(position);
+        if (next < 0) {
+            next = index.size();
+        }
+        int previous = next - 1;
+        int[] positions = new int[Math.min(CUES_AHEAD, index.size() - next) + Math.min(CUES_BEHIND, previous + 1)];
+        int count = 0;
+        for (int i = 0; count < positions.length; i++) {
+            if (i < CUES_AHEAD && next + i < index.size()) {
+                positions[count++] = (int) index.getPosition(next + i);
+            }
+            if (i < CUES_BEHIND && previous - i >= 0) {
+                positions[count++] = (int) index.getPosition(previous - i);
+            }
+        }
+        if (!Arrays.equals(positions, cuePoints)) {
+            cuePoints = positions;
+            audioPlayer.setCuePoints(positions);
+        }
+    }
+
+    /**
+     * Swap in the preloaded player and start it, keeping the previous player as the next preload player
+     */
+    private void playPreloaded(long startPosition) {
+        Log.v(TAG, "Playing preloaded " + preloadUri);
+        AudioPlayer previousPlayer = internalPlayer;
+        if (audioPlayer != null) {
+            preloadPlayer.setLooping(audioPlayer.isLooping());
+            //Also stops any leader countdown of the previous track
+            audioPlayer.setOnDoneListener(preloadDoneListener);
+            audioPlayer.reset();
+        }
+        internalPlayer = preloadPlayer;
+        preloadPlayer = previousPlayer;
+        preloadUri = null;
+        audioPlayer = new AudioPlayerWithLeader(internalPlayer);
+        audioPlayer.setOnDoneListener(onDoneListener);
+        if (startPosition != preloadPosition) {
+            audioPlayer.seekTo((int) startPosition);
+        }
+        audioPlayer.start();
     }
 
     private void togglePlayPause() {
@@ -82,8 +215,8 @@ public class MusicService extends Service {
 
     private void initializeMediaPlayer() {
         if (audioPlayer == null) {
-            //AudioPlayer internalPlayer = new MediaPlayerAudioPlayer();
-            AudioPlayer internalPlayer = new ExoPlayerAudioPlayer();
+            //internalPlayer = new MediaPlayerAudioPlayer();
+            internalPlayer = new ExoPlayerAudioPlayer(bufferPool, getCueCacheBytes());
             audioPlayer = new AudioPlayerWithLeader(internalPlayer);
             audioPlayer.setOnDoneListener(onDoneListener);
         } else {
@@ -91,11 +224,27 @@ public class MusicService extends Service {
         }
     }
 
+    /**
+     * @return memory budget of each player for the starts of bookmarks
+     */
+    private int getCueCacheBytes() {
+        return getResources().getInteger(R.integer.cue_cache_kilobytes) * 1024;
+    }
+
     private void releaseMediaPlayer() {
         if (audioPlayer != null) {
             audioPlayer.reset();
             audioPlayer.release();
             audioPlayer = null;
+            internalPlayer = null;
+        }
+        cueHandler.removeCallbacks(cueRefreshRunnable);
+        bookmarkLoader.clear();
+        cuePoints = null;
+        if (preloadPlayer != null) {
+            preloadPlayer.release();
+            preloadPlayer = null;
+            preloadUri = null;
         }
     }
 
@@ -117,7 +266,58 @@ public class MusicService extends Service {
         }
     };
 
+    //Moves the cue points along with playback
+    private final Runnable cueRefreshRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (audioPlayer != null) {
+                updateCuePoints();
+                cueHandler.postDelayed(this, CUE_REFRESH_MS);
+            }
+        }
+    };
+
+    //A failed preload only discards the preload
+    private AudioPlayer.OnDoneListener preloadDoneListener = new AudioPlayer.OnDoneListener() {
+        @Override
+        public void onDone(String error) {
+            if (error != null) {
+                Log.w(TAG, "Preload failed: " + error);
+            }
+            if (preloadPlayer != null) {
+                preloadPlayer.reset();
+            }
+            preloadUri = null;
+        }
+    };
+
     //Public API exposed to bound service
+
+    /**
+     * Load a track in the background so that playing it next starts without loading.
+     * Replaces the previous preload.
+     * @param uri track likely to be played next
+     * @param startPosition position in milliseconds it would be played from
+     */
+    public void preload(Uri uri, long startPosition) {
+        if (uri.equals(preloadUri) && startPosition == preloadPosition) {
+            return;
+        }
+        if (preloadPlayer == null) {
+            preloadPlayer = new ExoPlayerAudioPlayer(bufferPool, getCueCacheBytes());
+            preloadPlayer.setOnDoneListener(preloadDoneListener);
+        } else {
+            preloadPlayer.reset();
+        }
+        Log.v(TAG, "Preloading " + uri + " from " + startPosition);
+        preloadPlayer.prepareUri(getApplicationContext(), uri);
+        if (startPosition > 0) {
+            preloadPlayer.seekTo((int) startPosition);
+        }
+        preloadUri = uri;
+        preloadPosition = startPosition;
+    }
+
     public int getCurrentTime() {
         if (isStopped()) {
             return 0;
@@ -137,6 +337,7 @@ public class MusicService extends Service {
             return;
         }
         audioPlayer.seekTo(time);
+        updateCuePoints();
     }
 
     public boolean isRepeat() {
@@ -153,6 +354,27 @@ public class MusicService extends Service {
         audioPlayer.setLooping(repeat);
     }
 
+    public boolean hasLoopRegion() {
+        if (isStopped()) {
+            return false;
+        }
+        return audioPlayer.hasLoopRegion();
+    }
+
+    public void setLoopRegion(int startTime, int endTime) {
+        if (isStopped()) {
+            return;
+        }
+        audioPlayer.setLoopRegion(startTime, endTime);
+    }
+
+    public void clearLoopRegion() {
+        if (isStopped()) {
+            return;
+        }
+        audioPlayer.clearLoopRegion();
+    }
+
     public boolean isPlaying() {
         return audioPlayer != null && audioPlayer.isPlaying();
     }
@@ -36,7 +36,43 @@ public interface AudioPlayer {
 
     void setLooping(boolean looping);
 
+    /**
+     * Repeat a region of the track until the region is cleared or another track is played.
+     * Takes precedence over {@link #setLooping(boolean)}. Playback jumps to the start of the
+     * region if it is outside of it.
+     * @param startMsec start of the region in milliseconds
+     * @param endMsec end of the region in milliseconds, after the start
+     */
+    void setLoopRegion(int startMsec, int endMsec);
+
+    /**
+     * Stop repeating the loop region, playback continues from the current position
+     */
+    void clearLoopRegion();
+
+    boolean hasLoopRegion();
+
     void playUri(Context context, Uri uri);
 
+    /**
+     * Load and buffer a track without starting it, so that {@link #start()} plays it immediately
+     * @param context context of application
+     * @param uri track to load
+     */
+    void prepareUri(Context context, Uri uri);
+
+    /**
+     * Set the positions of the current track that playback is likely to jump to, such as its bookmarks,
+     * so that seeking to them can start faster. Cleared when another track is played.
+     * @param positionsMsec positions in milliseconds, most likely first
+     */
+    void setCuePoints(int[] positionsMsec);
+
+    /**
+     * Release memory kept only to play faster, in response to {@link android.content.ComponentCallbacks2#onTrimMemory(int)}
+     * @param level trim memory level
+     */
+    void trimMemory(int level);
+
     void setOnDoneListener(OnDoneListener onDoneListener);
 }
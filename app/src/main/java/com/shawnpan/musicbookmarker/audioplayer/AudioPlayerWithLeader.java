@@ -161,11 +161,41 @@ public class AudioPlayerWithLeader implements AudioPlayer {
         player.setLooping(looping);
     }
 
+    @Override
+    public void setLoopRegion(int startMsec, int endMsec) {
+        player.setLoopRegion(startMsec, endMsec);
+    }
+
+    @Override
+    public void clearLoopRegion() {
+        player.clearLoopRegion();
+    }
+
+    @Override
+    public boolean hasLoopRegion() {
+        return player.hasLoopRegion();
+    }
+
     @Override
     public void playUri(Context context, Uri uri) {
         player.playUri(context, uri);
     }
 
+    @Override
+    public void prepareUri(Context context, Uri uri) {
+        player.prepareUri(context, uri);
+    }
+
+    @Override
+    public void setCuePoints(int[] positionsMsec) {
+        player.setCuePoints(positionsMsec);
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        player.trimMemory(level);
+    }
+
     @Override
     public void setOnDoneListener(OnDoneListener onDoneListener) {
         player.setOnDoneListener(onDoneListener);
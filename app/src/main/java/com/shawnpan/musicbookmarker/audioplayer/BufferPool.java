@@ -0,0 +1,258 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.os.Build;
+
+import com.google.android.exoplayer.upstream.Allocation;
+import com.google.android.exoplayer.upstream.Allocator;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pool of buffer segments shared by the sample sources of all players, so that switching tracks reuses
+ * the segments of the previous track instead of allocating a new buffer. Each source gets its own
+ * {@link Allocator}, which counts its own segments against its buffer size, and returns them to the pool
+ * when released.
+ * <p>
+ * The pool also enforces one budget across all allocators. Loading blocks while the segments in use
+ * exceed it, and resumes as playback releases them. The allocators of a player are grouped in a
+ * {@link Share}, and a share that is preloading the next track is held to a quarter of the budget, so
+ * the playing track always has the rest. The budget is sized for {@link #PLAYER_COUNT} players, after
+ * the loop and cue caches each player keeps outside the pool.
+ * <p>
+ * Thread safe.
+ */
+public final class BufferPool {
+    /**
+     * Size of each segment in bytes
+     */
+    public static final int SEGMENT_SIZE = 64 * 1024;
+    /**
+     * Players sharing the pool, the one playing and the one preloading the next track
+     */
+    public static final int PLAYER_COUNT = 2;
+    //Largest budget, about 7 minutes of 320 kbps audio
+    static final int MAX_BUFFER_SIZE = 256 * SEGMENT_SIZE;
+    //Smallest budget, about 50 seconds of 320 kbps audio
+    static final int MIN_BUFFER_SIZE = 32 * SEGMENT_SIZE;
+    //Share of the heap given to all sample memory of the players, including their loop and cue caches
+    private static final int HEAP_FRACTION = 4;
+    private static final int LOW_RAM_HEAP_FRACTION = 8;
+    //Share of the budget a preloading player may fill
+    private static final int PRELOAD_FRACTION = 4;
+
+    private final int bufferSize;
+    private final int preloadSize;
+    //Unused segments kept for reuse
+    private final ArrayDeque<byte[]> freeSegments = new ArrayDeque<>();
+    private final int maxFreeSegments;
+    //Segments held by all allocators, guarded by this
+    private int allocatedCount = 0;
+
+    /**
+     * Create a pool sized for this device, from the heap size of the app. Each player also caches up to
+     * {@link LoopingSampleSource#MAX_CACHED_BYTES} for loops and cueCacheBytes for cue points, which are
+     * taken off the budget. If the caches alone fill the share of the heap, as on low RAM devices, the
+     * pool falls back to {@link #MIN_BUFFER_SIZE}.
+     * @param context context of application
+     * @param cueCacheBytes memory budget of the cue cache of each player
+     * @return new pool
+     */
+    public static BufferPool create(Context context, int cueCacheBytes) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        //Low RAM devices are only reported from KitKat
+        boolean lowRam = Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT && activityManager.isLowRamDevice();
+        int heapFraction = lowRam ? LOW_RAM_HEAP_FRACTION : HEAP_FRACTION;
+        long budget = (long) activityManager.getMemoryClass() * 1024 * 1024 / heapFraction -
+                (long) PLAYER_COUNT * (LoopingSampleSource.MAX_CACHED_BYTES + cueCacheBytes);
+        return new BufferPool((int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, budget)));
+    }
+
+    /**
+     * Constructor
+     * @param bufferSize budget of all allocators in bytes, which is also the most kept for reuse
+     */
+    BufferPool(int bufferSize) {
+        this.bufferSize = bufferSize / SEGMENT_SIZE * SEGMENT_SIZE;
+        this.preloadSize = this.bufferSize / PRELOAD_FRACTION;
+        this.maxFreeSegments = this.bufferSize / SEGMENT_SIZE;
+    }
+
+    /**
+     * @return bytes a track may buffer ahead, the whole budget less what other sources hold at the time
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return share of the allocators of one player
+     */
+    public Share createShare() {
+        return new Share();
+    }
+
+    /**
+     * @return allocator for one sample source, outside any player's share
+     */
+    public Allocator createAllocator() {
+        return new PooledAllocator(new Share());
+    }
+
+    /**
+     * @return bytes held for reuse
+     */
+    synchronized int getFreeBytes() {
+        return freeSegments.size() * SEGMENT_SIZE;
+    }
+
+    /**
+     * @return bytes held by all allocators
+     */
+    synchronized int getAllocatedBytes() {
+        return allocatedCount * SEGMENT_SIZE;
+    }
+
+    /**
+     * Release unused segments when memory is low
+     * @param level level passed to {@link ComponentCallbacks2#onTrimMemory(int)}
+     */
+    public synchronized void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            trim(0);
+        } else if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW || level == ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            trim(freeSegments.size() / 2);
+        }
+    }
+
+    private void trim(int segmentCount) {
+        while (freeSegments.size() > segmentCount) {
+            freeSegments.pop();
+        }
+    }
+
+    private synchronized byte[] takeSegment() {
+        byte[] segment = freeSegments.poll();
+        return segment != null ? segment : new byte[SEGMENT_SIZE];
+    }
+
+    private void returnSegment(byte[] segment) {
+        if (freeSegments.size() < maxFreeSegments) {
+            freeSegments.push(segment);
+        }
+    }
+
+    /**
+     * Allocators of one player, held to a smaller part of the budget while the player is preloading
+     */
+    public final class Share {
+        //Guarded by the pool
+        private int allocatedCount = 0;
+        private boolean preloading = false;
+
+        private Share() {}
+
+        /**
+         * @return allocator for one sample source of the player
+         */
+        public Allocator createAllocator() {
+            return new PooledAllocator(this);
+        }
+
+        /**
+         * @param preloading true while the player only prepares a track that may be played next
+         */
+        public void setPreloading(boolean preloading) {
+            synchronized (BufferPool.this) {
+                this.preloading = preloading;
+                BufferPool.this.notifyAll();
+            }
+        }
+
+        /**
+         * @return true if the share holds all it may, must hold the pool lock
+         */
+        private boolean isFull() {
+            return preloading && allocatedCount * SEGMENT_SIZE > preloadSize;
+        }
+    }
+
+    /**
+     * Allocator of one sample source, taking segments from the pool. Waits on the pool, which is
+     * notified whenever segments are released or a share may grow.
+     */
+    private final class PooledAllocator implements Allocator {
+        private final Share share;
+        //Guarded by the pool
+        private int allocatedCount = 0;
+
+        PooledAllocator(Share share) {
+            this.share = share;
+        }
+
+        @Override
+        public Allocation allocate() {
+            byte[] segment = takeSegment();
+            synchronized (BufferPool.this) {
+                allocatedCount++;
+                share.allocatedCount++;
+                BufferPool.this.allocatedCount++;
+            }
+            return new Allocation(segment, 0);
+        }
+
+        @Override
+        public void release(Allocation allocation) {
+            synchronized (BufferPool.this) {
+                returnSegment(allocation.data);
+                onReleased(1);
+            }
+        }
+
+        @Override
+        public void release(Allocation[] allocations) {
+            synchronized (BufferPool.this) {
+                for (Allocation allocation : allocations) {
+                    returnSegment(allocation.data);
+                }
+                onReleased(allocations.length);
+            }
+        }
+
+        private void onReleased(int count) {
+            allocatedCount -= count;
+            share.allocatedCount -= count;
+            BufferPool.this.allocatedCount -= count;
+            BufferPool.this.notifyAll();
+        }
+
+        @Override
+        public void trim(int targetSize) {
+            //Unused segments are kept by the pool for the next source, until memory is low
+        }
+
+        @Override
+        public void blockWhileTotalBytesAllocatedExceeds(int limit) throws InterruptedException {
+            synchronized (BufferPool.this) {
+                while (allocatedCount * SEGMENT_SIZE > limit || share.isFull() ||
+                        BufferPool.this.allocatedCount * SEGMENT_SIZE > bufferSize) {
+                    BufferPool.this.wait();
+                }
+            }
+        }
+
+        @Override
+        public int getTotalBytesAllocated() {
+            synchronized (BufferPool.this) {
+                return allocatedCount * SEGMENT_SIZE;
+            }
+        }
+
+        @Override
+        public int getIndividualAllocationLength() {
+            return SEGMENT_SIZE;
+        }
+    }
+}
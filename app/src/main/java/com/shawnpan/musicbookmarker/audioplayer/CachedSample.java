@@ -0,0 +1,46 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.C;
+import com.google.android.exoplayer.SampleHolder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Copy of an encoded sample kept in memory for reading again
+ */
+final class CachedSample {
+    final byte[] data;
+    final int flags;
+    final long timeUs;
+
+    private CachedSample(byte[] data, int flags, long timeUs) {
+        this.data = data;
+        this.flags = flags;
+        this.timeUs = timeUs;
+    }
+
+    /**
+     * Copy the sample just read into a sample holder, without the decode only flag
+     * @param sampleHolder holder with the sample data ending at its position
+     * @return copy of the sample
+     */
+    static CachedSample copyOf(SampleHolder sampleHolder) {
+        ByteBuffer data = sampleHolder.data.duplicate();
+        data.position(data.position() - sampleHolder.size);
+        byte[] copy = new byte[sampleHolder.size];
+        data.get(copy);
+        return new CachedSample(copy, sampleHolder.flags & ~C.SAMPLE_FLAG_DECODE_ONLY, sampleHolder.timeUs);
+    }
+
+    /**
+     * Write the sample into a sample holder, as the source it was copied from did
+     * @param sampleHolder holder to write to
+     */
+    void readInto(SampleHolder sampleHolder) {
+        sampleHolder.ensureSpaceForWrite(data.length);
+        sampleHolder.data.put(data);
+        sampleHolder.size = data.length;
+        sampleHolder.flags = flags;
+        sampleHolder.timeUs = timeUs;
+    }
+}
@@ -0,0 +1,171 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.C;
+import com.google.android.exoplayer.MediaFormat;
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sample source that starts playing from a {@link CueSampleCache} after a seek to a cached cue point,
+ * instead of waiting for the wrapped source to reload. The wrapped source is seeked to the end of the
+ * cached window at the same time, and takes over from the sample after the last cached one, so the
+ * decoder sees one continuous stream.
+ * <p>
+ * Supports a single enabled track. Called on the playback thread.
+ */
+final class CueCachingSampleSource implements SampleSource, SampleSource.SampleSourceReader {
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    private final SampleSource source;
+    private final CueSampleCache cache;
+    private SampleSourceReader reader;
+    private int enabledTrack = -1;
+
+    //Samples being replayed, null when reading the wrapped source
+    private List<CachedSample> replaySamples;
+    private int replayIndex;
+    //Samples before this time are decoded but not played
+    private long replayPositionUs;
+    //Samples of the wrapped source up to this time were replayed from the cache and are dropped
+    private long skipThroughUs = UNKNOWN;
+    private long pendingDiscontinuityUs = NO_DISCONTINUITY;
+
+    /**
+     * Constructor
+     * @param source source to read samples from
+     * @param cache cache of the same track
+     */
+    CueCachingSampleSource(SampleSource source, CueSampleCache cache) {
+        this.source = source;
+        this.cache = cache;
+    }
+
+    @Override
+    public SampleSourceReader register() {
+        reader = source.register();
+        return this;
+    }
+
+    @Override
+    public void maybeThrowError() throws IOException {
+        reader.maybeThrowError();
+    }
+
+    @Override
+    public boolean prepare(long positionUs) {
+        return reader.prepare(positionUs);
+    }
+
+    @Override
+    public int getTrackCount() {
+        return reader.getTrackCount();
+    }
+
+    @Override
+    public MediaFormat getFormat(int track) {
+        return reader.getFormat(track);
+    }
+
+    @Override
+    public void enable(int track, long positionUs) {
+        enabledTrack = track;
+        reader.enable(track, positionUs);
+        stopReplay();
+    }
+
+    @Override
+    public boolean continueBuffering(int track, long positionUs) {
+        //Keeps the wrapped source loading while replaying
+        boolean sourceReady = reader.continueBuffering(track, positionUs);
+        return sourceReady || (replaySamples != null && replayIndex < replaySamples.size());
+    }
+
+    @Override
+    public long readDiscontinuity(int track) {
+        if (pendingDiscontinuityUs != NO_DISCONTINUITY) {
+            long positionUs = pendingDiscontinuityUs;
+            pendingDiscontinuityUs = NO_DISCONTINUITY;
+            return positionUs;
+        }
+        return reader.readDiscontinuity(track);
+    }
+
+    @Override
+    public int readData(int track, long positionUs, MediaFormatHolder formatHolder, SampleHolder sampleHolder) {
+        if (pendingDiscontinuityUs != NO_DISCONTINUITY) {
+            return NOTHING_READ;
+        }
+        if (replaySamples != null) {
+            if (replayIndex < replaySamples.size()) {
+                replaySamples.get(replayIndex++).readInto(sampleHolder);
+                if (sampleHolder.timeUs < replayPositionUs) {
+                    sampleHolder.flags |= C.SAMPLE_FLAG_DECODE_ONLY;
+                }
+                return SAMPLE_READ;
+            }
+            replaySamples = null;
+        }
+        while (true) {
+            int result = reader.readData(track, positionUs, formatHolder, sampleHolder);
+            if (result != SAMPLE_READ || skipThroughUs == UNKNOWN) {
+                return result;
+            }
+            if (sampleHolder.timeUs > skipThroughUs) {
+                //First sample after the cached window, continuing where the cache ended
+                skipThroughUs = UNKNOWN;
+                sampleHolder.flags &= ~C.SAMPLE_FLAG_DECODE_ONLY;
+                return result;
+            }
+            sampleHolder.clearData();
+        }
+    }
+
+    @Override
+    public void seekToUs(long positionUs) {
+        CueSampleCache.Entry entry = cache.find(positionUs);
+        if (entry == null) {
+            stopReplay();
+            reader.seekToUs(positionUs);
+            return;
+        }
+        replaySamples = entry.samples;
+        replayIndex = 0;
+        replayPositionUs = positionUs;
+        skipThroughUs = entry.getEndUs();
+        //Loads the rest while the cache plays, its discontinuity is replaced by the seek position
+        reader.seekToUs(skipThroughUs);
+        reader.readDiscontinuity(enabledTrack);
+        pendingDiscontinuityUs = positionUs;
+    }
+
+    @Override
+    public long getBufferedPositionUs() {
+        long bufferedPositionUs = reader.getBufferedPositionUs();
+        if (replaySamples != null && bufferedPositionUs >= 0 && bufferedPositionUs < skipThroughUs) {
+            return skipThroughUs;
+        }
+        return bufferedPositionUs;
+    }
+
+    @Override
+    public void disable(int track) {
+        enabledTrack = -1;
+        stopReplay();
+        reader.disable(track);
+    }
+
+    @Override
+    public void release() {
+        reader.release();
+    }
+
+    private void stopReplay() {
+        replaySamples = null;
+        skipThroughUs = UNKNOWN;
+        pendingDiscontinuityUs = NO_DISCONTINUITY;
+    }
+}
@@ -0,0 +1,289 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Encoded samples of the first few seconds after each cue point of a track, such as its bookmarks,
+ * so that a jump to a cue point can start playing from memory. See {@link CueCachingSampleSource}.
+ * <p>
+ * The cache is filled by calling {@link #fill()} repeatedly on a background thread, which reads the
+ * windows from a second source of the track, one cue point at a time in order. Windows start a little
+ * before the cue point so that the decoder is primed. Entries are evicted least recently used first
+ * when the cache is over its budget.
+ * <p>
+ * Thread safe.
+ */
+final class CueSampleCache {
+    //Length of track cached after each cue point
+    static final long WINDOW_US = 5000000;
+    //Decoded but not played before the cue point
+    static final long PREROLL_US = 100000;
+    /**
+     * Returned by {@link #fill()} when there is nothing left to fill
+     */
+    static final long FILL_DONE = -1;
+    //Delay before filling again while waiting for the source to load
+    static final long FILL_RETRY_DELAY_MS = 20;
+    //Samples read by a call to fill, to keep the lock short
+    private static final int SAMPLES_PER_FILL = 64;
+    //Inexact seeks, such as before a seek index is ready, may land after the cue point. The fill is
+    //then tried again from further back.
+    private static final long FILL_RETRY_BACKOFF_US = 1000000;
+    private static final int MAX_FILL_ATTEMPTS = 3;
+
+    /**
+     * Cached window of one cue point, never modified once in the cache
+     */
+    static final class Entry {
+        final long cueUs;
+        final List<CachedSample> samples = new ArrayList<>();
+        int bytes = 0;
+        //Position filling starts from, and the number of times filling was started
+        long fillStartUs;
+        int fillAttempts = 0;
+
+        Entry(long cueUs) {
+            this.cueUs = cueUs;
+            this.fillStartUs = Math.max(0, cueUs - PREROLL_US);
+        }
+
+        /**
+         * @return time of the last sample
+         */
+        long getEndUs() {
+            return samples.get(samples.size() - 1).timeUs;
+        }
+    }
+
+    private int maxBytes;
+    private int cachedBytes = 0;
+    //Least recently used first
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ArrayDeque<Entry> pendingEntries = new ArrayDeque<>();
+
+    private SampleSource.SampleSourceReader reader;
+    private boolean prepared = false;
+    private boolean enabled = false;
+    //Entry being filled
+    private Entry filling;
+    private final MediaFormatHolder formatHolder = new MediaFormatHolder();
+    private final SampleHolder sampleHolder = new SampleHolder(SampleHolder.BUFFER_REPLACEMENT_MODE_NORMAL);
+
+    /**
+     * Constructor
+     * @param maxBytes memory budget for samples
+     */
+    CueSampleCache(int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Start caching a new track, discarding the cache of the previous one
+     * @param source second source of the track to fill the cache from, or null to stop caching
+     */
+    synchronized void setSource(SampleSource source) {
+        if (reader != null) {
+            if (enabled) {
+                reader.disable(0);
+            }
+            reader.release();
+        }
+        reader = source != null ? source.register() : null;
+        prepared = false;
+        enabled = false;
+        filling = null;
+        pendingEntries.clear();
+        entries.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Set the cue points to cache. Entries of other positions are discarded.
+     * @param cuesUs positions in microseconds, cached in this order
+     */
+    synchronized void setCuePoints(long[] cuesUs) {
+        long[] sortedCues = cuesUs.clone();
+        Arrays.sort(sortedCues);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (Arrays.binarySearch(sortedCues, entry.cueUs) < 0) {
+                cachedBytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+        if (filling != null && Arrays.binarySearch(sortedCues, filling.cueUs) < 0) {
+            filling = null;
+        }
+        pendingEntries.clear();
+        for (int i = 0; i < cuesUs.length; i++) {
+            long cueUs = cuesUs[i];
+            boolean duplicate = false;
+            for (int j = 0; j < i && !duplicate; j++) {
+                duplicate = cuesUs[j] == cueUs;
+            }
+            boolean isFilling = filling != null && filling.cueUs == cueUs;
+            if (!duplicate && !isFilling && !entries.containsKey(cueUs)) {
+                pendingEntries.add(new Entry(cueUs));
+            }
+        }
+    }
+
+    /**
+     * @param maxBytes new memory budget, evicting entries over it
+     */
+    synchronized void setMaxBytes(int maxBytes) {
+        this.maxBytes = maxBytes;
+        evict(maxBytes);
+    }
+
+    /**
+     * Evict entries until the cache fits, as when memory is low. Cue points not yet filled are
+     * not filled until the cue points are set again.
+     * @param bytes size to shrink the cache to
+     */
+    synchronized void trimToSize(int bytes) {
+        evict(bytes);
+        pendingEntries.clear();
+        filling = null;
+    }
+
+    /**
+     * Find the entry to play a position from, marking it as recently used
+     * @param positionUs position in microseconds
+     * @return entry with samples from at or before the position to well after it, or null
+     */
+    synchronized Entry find(long positionUs) {
+        for (Entry entry : entries.values()) {
+            if (entry.samples.get(0).timeUs <= positionUs && positionUs < entry.getEndUs()) {
+                //Moves the entry to the most recently used end
+                return entries.get(entry.cueUs);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return bytes of samples cached
+     */
+    synchronized int getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * @return number of cue points cached
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Read some samples into the cache. Called on the filling thread.
+     * @return delay in milliseconds before calling again, or {@link #FILL_DONE}
+     */
+    synchronized long fill() {
+        if (reader == null) {
+            return FILL_DONE;
+        }
+        if (!prepared) {
+            if (!reader.prepare(0)) {
+                return FILL_RETRY_DELAY_MS;
+            }
+            prepared = true;
+        }
+        if (filling == null) {
+            if (pendingEntries.isEmpty()) {
+                if (enabled) {
+                    //Stops the source loading
+                    reader.disable(0);
+                    enabled = false;
+                }
+                return FILL_DONE;
+            }
+            filling = pendingEntries.poll();
+            filling.fillAttempts++;
+            if (enabled) {
+                reader.seekToUs(filling.fillStartUs);
+            } else {
+                reader.enable(0, filling.fillStartUs);
+                enabled = true;
+            }
+            reader.readDiscontinuity(0);
+        }
+        for (int i = 0; i < SAMPLES_PER_FILL; i++) {
+            long fillStartUs = filling.fillStartUs;
+            reader.continueBuffering(0, fillStartUs);
+            sampleHolder.clearData();
+            int result = reader.readData(0, fillStartUs, formatHolder, sampleHolder);
+            if (result == SampleSource.NOTHING_READ) {
+                return FILL_RETRY_DELAY_MS;
+            } else if (result == SampleSource.END_OF_STREAM) {
+                finishEntry();
+                return 0;
+            } else if (result != SampleSource.SAMPLE_READ || sampleHolder.timeUs < fillStartUs) {
+                continue;
+            }
+            if (sampleHolder.isEncrypted()) {
+                //Cannot be replayed
+                filling = null;
+                return 0;
+            }
+            if (filling.samples.isEmpty() && sampleHolder.timeUs > filling.cueUs) {
+                if (filling.fillAttempts < MAX_FILL_ATTEMPTS && filling.fillStartUs > 0) {
+                    filling.fillStartUs = Math.max(0, filling.fillStartUs - FILL_RETRY_BACKOFF_US);
+                    pendingEntries.add(filling);
+                }
+                filling = null;
+                return 0;
+            }
+            filling.samples.add(CachedSample.copyOf(sampleHolder));
+            filling.bytes += sampleHolder.size;
+            if (sampleHolder.timeUs >= filling.cueUs + WINDOW_US || filling.bytes >= maxBytes) {
+                finishEntry();
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Stop filling and drop the cache
+     */
+    void release() {
+        setSource(null);
+    }
+
+    /**
+     * Add the entry being filled to the cache, if it reaches past its cue point
+     */
+    private void finishEntry() {
+        Entry entry = filling;
+        filling = null;
+        if (entry.samples.size() < 2 || entry.getEndUs() <= entry.cueUs) {
+            return;
+        }
+        entries.put(entry.cueUs, entry);
+        cachedBytes += entry.bytes;
+        evict(maxBytes);
+    }
+
+    /**
+     * Evict least recently used entries until the cache fits
+     */
+    private void evict(int bytes) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (cachedBytes > bytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+}
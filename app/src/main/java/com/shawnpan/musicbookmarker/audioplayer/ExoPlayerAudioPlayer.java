@@ -1,46 +1,100 @@
 package com.shawnpan.musicbookmarker.audioplayer;
 
+import android.content.AsyncQueryHandler;
+import android.content.ComponentCallbacks2;
+import android.content.ContentResolver;
 import android.content.Context;
-import android.media.AudioManager;
+import android.database.Cursor;
 import android.media.MediaCodec;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
 import android.util.Log;
 
 import com.google.android.exoplayer.ExoPlaybackException;
 import com.google.android.exoplayer.ExoPlayer;
 import com.google.android.exoplayer.MediaCodecAudioTrackRenderer;
-import com.google.android.exoplayer.MediaCodecSelector;
 import com.google.android.exoplayer.MediaCodecTrackRenderer;
-import com.google.android.exoplayer.audio.AudioCapabilities;
 import com.google.android.exoplayer.audio.AudioTrack;
-import com.google.android.exoplayer.drm.DrmSessionManager;
 import com.google.android.exoplayer.extractor.ExtractorSampleSource;
 import com.google.android.exoplayer.upstream.Allocator;
 import com.google.android.exoplayer.upstream.DataSource;
-import com.google.android.exoplayer.upstream.DefaultAllocator;
 import com.google.android.exoplayer.upstream.DefaultUriDataSource;
 
 /**
- * ExoPlayer based implementation of AudioPlayer
+ * ExoPlayer based implementation of AudioPlayer. Loops replay the samples of the looped region
+ * through a {@link LoopingSampleSource} rather than seeking, so they are gapless. MP3 files seek through
+ * a {@link Mp3SeekIndex}, so that seeks in VBR files land exactly. Seeks to cue points start from
+ * samples cached in the background by a {@link CueSampleCache}. Sample buffers come from a {@link BufferPool},
+ * which may be shared with other players. A prepared track that is not yet started buffers only the
+ * pool's preload share, and only loads a stored seek index rather than scanning the file for one.
+ * <p>
+ * A track is looked up in the MediaStore on a worker thread before it is prepared, so preparing returns at once.
+ * Must be created and used on a thread with a looper.
  */
 public class ExoPlayerAudioPlayer implements AudioPlayer {
     private static final String TAG = "ExoPlayerAudioPlayer";
-    private static final int BUFFER_SEGMENT_SIZE = 64 * 1024;
-    private static final int BUFFER_SEGMENT_COUNT = 256;
     private static final int TRACK_COUNT = 1;
+    //Buffer of the second source filling the cue cache, small so that it rarely loads ahead of what is read
+    private static final int CUE_BUFFER_SEGMENT_COUNT = 4;
+    private static final int TOKEN_TRACK = 1;
+    /**
+     * Default memory budget of the cue cache
+     */
+    public static final int DEFAULT_CUE_CACHE_BYTES = 2 * 1024 * 1024;
 
     private ExoPlayer exoPlayer;
     private OnDoneListener onDoneListener;
     private volatile boolean looping = false;
+    //Loop region in milliseconds, start is -1 when not set
+    private volatile int loopStartMsec = -1;
+    private volatile int loopEndMsec = -1;
+    private LoopingSampleSource loopingSource;
+    private final BufferPool bufferPool;
+    private final BufferPool.Share bufferShare;
+    private final CueSampleCache cueCache;
+    private final Handler cueCacheHandler;
+    //Looks up tracks in the MediaStore, created with the first track
+    private TrackQueryHandler trackQueryHandler;
+    //Track being looked up before it is prepared, null if none
+    private PendingTrack pendingTrack;
+    //Seek index lookup of the current track, null if it is not indexed
+    private Mp3SeekIndexStore.Lookup indexLookup;
+    //True from preparing a track until it is started
+    private boolean preloading = false;
+    //Cue points of the current track, passed again once its cue cache source is ready
+    private long[] cuesUs;
 
     public ExoPlayerAudioPlayer() {
+        this(new BufferPool(BufferPool.MAX_BUFFER_SIZE), DEFAULT_CUE_CACHE_BYTES);
+    }
+
+    /**
+     * Constructor
+     * @param bufferPool pool to take sample buffers from
+     * @param cueCacheBytes memory budget for samples cached after cue points
+     */
+    public ExoPlayerAudioPlayer(BufferPool bufferPool, int cueCacheBytes) {
+        this.bufferPool = bufferPool;
+        bufferShare = bufferPool.createShare();
         exoPlayer = ExoPlayer.Factory.newInstance(TRACK_COUNT);
         exoPlayer.addListener(playerListener);
+        cueCache = new CueSampleCache(cueCacheBytes);
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        cueCacheHandler = new Handler(thread.getLooper());
     }
 
     @Override
     public void start() {
+        if (preloading) {
+            preloading = false;
+            bufferShare.setPreloading(false);
+            if (indexLookup != null) {
+                indexLookup.buildIfMissing();
+            }
+        }
         exoPlayer.setPlayWhenReady(true);
     }
 
@@ -60,6 +114,14 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
 
     @Override
     public void reset() {
+        loopStartMsec = -1;
+        loopEndMsec = -1;
+        loopingSource = null;
+        cancelPendingTrack();
+        cancelIndexLookup();
+        cuesUs = null;
+        cueCacheHandler.removeCallbacks(fillCueCacheRunnable);
+        cueCache.setSource(null);
         exoPlayer.stop();
         exoPlayer.seekTo(0);
     }
@@ -67,8 +129,13 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
     @Override
     public void release() {
         if (exoPlayer != null) {
+            cancelPendingTrack();
+            cancelIndexLookup();
             exoPlayer.release();
             exoPlayer = null;
+            cueCacheHandler.removeCallbacks(fillCueCacheRunnable);
+            cueCache.release();
+            cueCacheHandler.getLooper().quit();
         }
     }
 
@@ -79,7 +146,13 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
 
     @Override
     public int getCurrentPosition() {
-        return (int) exoPlayer.getCurrentPosition();
+        long position = exoPlayer.getCurrentPosition();
+        LoopingSampleSource source = loopingSource;
+        if (source != null) {
+            //Playback time keeps increasing across passes of a loop
+            position = source.toTrackTimeUs(position * 1000) / 1000;
+        }
+        return (int) position;
     }
 
     @Override
@@ -105,19 +178,157 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
     @Override
     public void setLooping(boolean looping) {
         this.looping = looping;
+        applyLoop();
+    }
+
+    @Override
+    public void setLoopRegion(int startMsec, int endMsec) {
+        if (startMsec < 0 || endMsec <= startMsec) {
+            throw new IllegalArgumentException("Invalid loop region " + startMsec + " to " + endMsec);
+        }
+        loopStartMsec = startMsec;
+        loopEndMsec = endMsec;
+        applyLoop();
+    }
+
+    @Override
+    public void clearLoopRegion() {
+        loopStartMsec = -1;
+        loopEndMsec = -1;
+        applyLoop();
+    }
+
+    @Override
+    public boolean hasLoopRegion() {
+        return loopStartMsec >= 0;
+    }
+
+    /**
+     * Pass the loop region, or the whole track when looping, to the sample source.
+     * Seeks only if playback has already read past the new loop or is outside the loop region.
+     */
+    private void applyLoop() {
+        if (loopingSource == null) {
+            return;
+        }
+        int position = getCurrentPosition();
+        boolean seek;
+        if (hasLoopRegion()) {
+            seek = loopingSource.setLoop(loopStartMsec * 1000L, loopEndMsec * 1000L);
+            if (position < loopStartMsec || position >= loopEndMsec) {
+                position = loopStartMsec;
+                seek = true;
+            }
+        } else if (looping) {
+            seek = loopingSource.setLoop(0, LoopingSampleSource.END_OF_TRACK);
+        } else {
+            seek = loopingSource.setLoop(-1, -1);
+        }
+        if (seek) {
+            exoPlayer.seekTo(position);
+        }
     }
 
     @Override
     public void playUri(Context context, Uri uri) {
-        Allocator allocator = new DefaultAllocator(BUFFER_SEGMENT_SIZE);
+        prepareUri(context, uri);
+        start();
+    }
+
+    /**
+     * Start preparing a track. Seeks and cue points may be set before it is ready.
+     */
+    @Override
+    public void prepareUri(Context context, Uri uri) {
+        exoPlayer.setPlayWhenReady(false);
+        //Until started, the track may be one that is never played
+        preloading = true;
+        bufferShare.setPreloading(true);
+        cancelPendingTrack();
+        cancelIndexLookup();
+        cuesUs = null;
+        if (!Mp3SeekIndexStore.isIndexable(uri)) {
+            prepareSources(context, uri, null, null);
+            return;
+        }
+        if (trackQueryHandler == null) {
+            trackQueryHandler = new TrackQueryHandler(context.getContentResolver());
+        }
+        pendingTrack = new PendingTrack(context, uri);
+        trackQueryHandler.startQuery(TOKEN_TRACK, pendingTrack, uri, Mp3SeekIndexStore.MEDIA_PROJECTION, null, null, null);
+    }
+
+    private void cancelPendingTrack() {
+        if (pendingTrack != null) {
+            trackQueryHandler.cancelOperation(TOKEN_TRACK);
+            pendingTrack = null;
+        }
+    }
+
+    private void cancelIndexLookup() {
+        if (indexLookup != null) {
+            indexLookup.cancel();
+            indexLookup = null;
+        }
+    }
+
+    /**
+     * Build the sources of a track and prepare the player with them
+     * @param mp3Extractor extractor of the playback source, or null to detect the format
+     * @param cueExtractor extractor of the cue cache source, or null to detect the format
+     */
+    private void prepareSources(Context context, Uri uri, IndexedMp3Extractor mp3Extractor,
+                                IndexedMp3Extractor cueExtractor) {
+        Allocator allocator = bufferShare.createAllocator();
         DataSource dataSource = new DefaultUriDataSource(context, TAG);
-        ExtractorSampleSource sampleSource = new ExtractorSampleSource(uri, dataSource, allocator, BUFFER_SEGMENT_SIZE * BUFFER_SEGMENT_COUNT);
-        Handler handler = null;
-        DrmSessionManager drmSessionManager = null;
-        MediaCodecAudioTrackRenderer audioTrackRenderer = new MediaCodecAudioTrackRenderer(
-                sampleSource, MediaCodecSelector.DEFAULT, drmSessionManager, true, handler, eventListener, AudioCapabilities.getCapabilities(context), AudioManager.STREAM_MUSIC);
+        int bufferSize = bufferPool.getBufferSize();
+        ExtractorSampleSource sampleSource = mp3Extractor != null
+                ? new ExtractorSampleSource(uri, dataSource, allocator, bufferSize, mp3Extractor)
+                : new ExtractorSampleSource(uri, dataSource, allocator, bufferSize);
+        cueCacheHandler.removeCallbacks(fillCueCacheRunnable);
+        cueCache.setSource(createCueCacheSource(context, uri, cueExtractor));
+        if (cuesUs != null) {
+            //Set while the track was looked up
+            cueCache.setCuePoints(cuesUs);
+            cueCacheHandler.post(fillCueCacheRunnable);
+        }
+        loopingSource = new LoopingSampleSource(new CueCachingSampleSource(sampleSource, cueCache));
+        applyLoop();
+        MediaCodecAudioTrackRenderer audioTrackRenderer = new LoopingAudioTrackRenderer(loopingSource, context, eventListener);
         exoPlayer.prepare(audioTrackRenderer);
-        exoPlayer.setPlayWhenReady(true);
+    }
+
+    /**
+     * @return second source of a track to fill the cue cache from, seeking the same way as playback
+     */
+    private ExtractorSampleSource createCueCacheSource(Context context, Uri uri, IndexedMp3Extractor mp3Extractor) {
+        Allocator allocator = bufferShare.createAllocator();
+        DataSource dataSource = new DefaultUriDataSource(context, TAG);
+        int bufferSize = BufferPool.SEGMENT_SIZE * CUE_BUFFER_SEGMENT_COUNT;
+        return mp3Extractor != null
+                ? new ExtractorSampleSource(uri, dataSource, allocator, bufferSize, mp3Extractor)
+                : new ExtractorSampleSource(uri, dataSource, allocator, bufferSize);
+    }
+
+    @Override
+    public void setCuePoints(int[] positionsMsec) {
+        long[] cuesUs = new long[positionsMsec.length];
+        for (int i = 0; i < positionsMsec.length; i++) {
+            cuesUs[i] = positionsMsec[i] * 1000L;
+        }
+        this.cuesUs = cuesUs;
+        cueCache.setCuePoints(cuesUs);
+        cueCacheHandler.removeCallbacks(fillCueCacheRunnable);
+        cueCacheHandler.post(fillCueCacheRunnable);
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            cueCache.trimToSize(0);
+        } else if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW || level == ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            cueCache.trimToSize(cueCache.getCachedBytes() / 2);
+        }
     }
 
     @Override
@@ -132,6 +343,60 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
         }
     }
 
+    /**
+     * Track waiting for its MediaStore lookup
+     */
+    private static final class PendingTrack {
+        final Context context;
+        final Uri uri;
+
+        PendingTrack(Context context, Uri uri) {
+            this.context = context;
+            this.uri = uri;
+        }
+    }
+
+    //Prepares a track once its MediaStore row is read, unless another track was prepared since
+    private final class TrackQueryHandler extends AsyncQueryHandler {
+        TrackQueryHandler(ContentResolver contentResolver) {
+            super(contentResolver);
+        }
+
+        @Override
+        protected void onQueryComplete(int token, Object cookie, Cursor cursor) {
+            try {
+                if (cookie != pendingTrack) {
+                    return;
+                }
+                pendingTrack = null;
+                PendingTrack track = (PendingTrack) cookie;
+                Mp3SeekIndexStore store = Mp3SeekIndexStore.getInstance(track.context);
+                //One extractor for playback and one for the cue cache source
+                indexLookup = store.startLookup(track.uri, cursor, !preloading, 2);
+                if (indexLookup != null) {
+                    prepareSources(track.context, track.uri, indexLookup.getExtractor(0), indexLookup.getExtractor(1));
+                } else {
+                    prepareSources(track.context, track.uri, null, null);
+                }
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+        }
+    }
+
+    //Fills the cue cache a little at a time on the background thread
+    private final Runnable fillCueCacheRunnable = new Runnable() {
+        @Override
+        public void run() {
+            long delayMs = cueCache.fill();
+            if (delayMs != CueSampleCache.FILL_DONE) {
+                cueCacheHandler.postDelayed(this, delayMs);
+            }
+        }
+    };
+
     //Listeners
     private MediaCodecAudioTrackRenderer.EventListener eventListener = new MediaCodecAudioTrackRenderer.EventListener() {
         @Override
@@ -170,8 +435,9 @@ public class ExoPlayerAudioPlayer implements AudioPlayer {
         public void onPlayerStateChanged(boolean playWhenReady, int playbackState) {
             if (playbackState == ExoPlayer.STATE_ENDED) {
                 Log.v(TAG, "State Ended");
-                if (looping) {
-                    seekTo(0);
+                if (hasLoopRegion() || looping) {
+                    //Loop that was not armed in time, such as one set after the source reached the end
+                    seekTo(hasLoopRegion() ? loopStartMsec : 0);
                 } else {
                     if (onDoneListener != null) {
                         onDoneListener.onDone(null);
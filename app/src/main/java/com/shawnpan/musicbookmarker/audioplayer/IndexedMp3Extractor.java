@@ -0,0 +1,138 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.MediaFormat;
+import com.google.android.exoplayer.drm.DrmInitData;
+import com.google.android.exoplayer.extractor.Extractor;
+import com.google.android.exoplayer.extractor.ExtractorInput;
+import com.google.android.exoplayer.extractor.ExtractorOutput;
+import com.google.android.exoplayer.extractor.PositionHolder;
+import com.google.android.exoplayer.extractor.SeekMap;
+import com.google.android.exoplayer.extractor.TrackOutput;
+import com.google.android.exoplayer.extractor.mp3.Mp3Extractor;
+import com.google.android.exoplayer.util.ParsableByteArray;
+
+import java.io.IOException;
+
+/**
+ * MP3 extractor that seeks through a {@link Mp3SeekIndex} once one has been set, and through the seek
+ * map of the file until then. The wrapped extractor only estimates the time of the frame it lands on,
+ * so sample times after an indexed seek are shifted to the exact time recorded in the index.
+ */
+final class IndexedMp3Extractor implements Extractor, ExtractorOutput, TrackOutput, SeekMap {
+    //Seeks land this far before the target, so that the frames holding the bit reservoir are decoded
+    private static final long PREROLL_US = 100000;
+    private static final long NO_SEEK = -1;
+
+    private final Mp3Extractor extractor = new Mp3Extractor();
+    private volatile Mp3SeekIndex index;
+    private ExtractorOutput output;
+    private TrackOutput trackOutput;
+    private volatile SeekMap fileSeekMap;
+    //Time of the frame the last indexed seek returned, read when the extractor is told to seek
+    private volatile long indexedSeekTimeUs = NO_SEEK;
+    private long seekTimeUs = NO_SEEK;
+    private long timeOffsetUs = 0;
+
+    /**
+     * Use an index for seeks from now on. May be called from any thread.
+     * @param index index of the file being extracted
+     */
+    void setIndex(Mp3SeekIndex index) {
+        this.index = index;
+    }
+
+    //Extractor
+    @Override
+    public void init(ExtractorOutput output) {
+        this.output = output;
+        extractor.init(this);
+    }
+
+    @Override
+    public boolean sniff(ExtractorInput input) throws IOException, InterruptedException {
+        return extractor.sniff(input);
+    }
+
+    @Override
+    public int read(ExtractorInput input, PositionHolder seekPosition) throws IOException, InterruptedException {
+        return extractor.read(input, seekPosition);
+    }
+
+    @Override
+    public void seek() {
+        extractor.seek();
+        seekTimeUs = indexedSeekTimeUs;
+        indexedSeekTimeUs = NO_SEEK;
+        timeOffsetUs = 0;
+    }
+
+    //ExtractorOutput
+    @Override
+    public TrackOutput track(int trackId) {
+        trackOutput = output.track(trackId);
+        return this;
+    }
+
+    @Override
+    public void endTracks() {
+        output.endTracks();
+    }
+
+    @Override
+    public void seekMap(SeekMap seekMap) {
+        fileSeekMap = seekMap;
+        output.seekMap(this);
+    }
+
+    @Override
+    public void drmInitData(DrmInitData drmInitData) {
+        output.drmInitData(drmInitData);
+    }
+
+    //TrackOutput
+    @Override
+    public void format(MediaFormat format) {
+        Mp3SeekIndex index = this.index;
+        //Estimated from the bitrate of the first frame when the file has no table of contents
+        trackOutput.format(index != null && index.size() > 0 ? format.copyWithDurationUs(index.getDurationUs()) : format);
+    }
+
+    @Override
+    public int sampleData(ExtractorInput input, int length, boolean allowEndOfInput) throws IOException, InterruptedException {
+        return trackOutput.sampleData(input, length, allowEndOfInput);
+    }
+
+    @Override
+    public void sampleData(ParsableByteArray data, int length) {
+        trackOutput.sampleData(data, length);
+    }
+
+    @Override
+    public void sampleMetadata(long timeUs, int flags, int size, int offset, byte[] encryptionKey) {
+        if (seekTimeUs != NO_SEEK) {
+            //First frame after an indexed seek, which starts exactly at the indexed time
+            timeOffsetUs = seekTimeUs - timeUs;
+            seekTimeUs = NO_SEEK;
+        }
+        trackOutput.sampleMetadata(timeUs + timeOffsetUs, flags, size, offset, encryptionKey);
+    }
+
+    //SeekMap
+    @Override
+    public boolean isSeekable() {
+        SeekMap seekMap = fileSeekMap;
+        return index != null || (seekMap != null && seekMap.isSeekable());
+    }
+
+    @Override
+    public long getPosition(long timeUs) {
+        Mp3SeekIndex index = this.index;
+        int entry = index != null ? index.getEntry(Math.max(0, timeUs - PREROLL_US)) : -1;
+        if (entry < 0) {
+            indexedSeekTimeUs = NO_SEEK;
+            return fileSeekMap.getPosition(timeUs);
+        }
+        indexedSeekTimeUs = index.getTimeUs(entry);
+        return index.getPosition(entry);
+    }
+}
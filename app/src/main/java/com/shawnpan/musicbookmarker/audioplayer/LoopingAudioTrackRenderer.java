@@ -0,0 +1,69 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import android.content.Context;
+import android.media.AudioManager;
+import android.media.MediaCodec;
+
+import com.google.android.exoplayer.ExoPlaybackException;
+import com.google.android.exoplayer.MediaCodecAudioTrackRenderer;
+import com.google.android.exoplayer.MediaCodecSelector;
+import com.google.android.exoplayer.audio.AudioCapabilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Audio renderer that cuts the decoded frames at the boundaries of the passes of a
+ * {@link LoopingSampleSource}, so that a loop wraps at the exact sample rather than at a frame boundary
+ */
+final class LoopingAudioTrackRenderer extends MediaCodecAudioTrackRenderer {
+    private final LoopingSampleSource source;
+    //Output buffer already cut, which is processed again until the audio track has taken all of it
+    private int trimmedBufferIndex = -1;
+
+    /**
+     * Constructor
+     * @param source looping source to read from
+     * @param context context of application
+     * @param eventListener listener for audio track and decoder errors
+     */
+    LoopingAudioTrackRenderer(LoopingSampleSource source, Context context, EventListener eventListener) {
+        super(source, MediaCodecSelector.DEFAULT, null, true, null, eventListener,
+                AudioCapabilities.getCapabilities(context), AudioManager.STREAM_MUSIC);
+        this.source = source;
+    }
+
+    @Override
+    protected void onDiscontinuity(long positionUs) throws ExoPlaybackException {
+        super.onDiscontinuity(positionUs);
+        trimmedBufferIndex = -1;
+    }
+
+    @Override
+    protected boolean processOutputBuffer(long positionUs, long elapsedRealtimeUs, MediaCodec codec, ByteBuffer buffer,
+                                          MediaCodec.BufferInfo bufferInfo, int bufferIndex, boolean shouldSkip)
+            throws ExoPlaybackException {
+        if (!shouldSkip && bufferIndex != trimmedBufferIndex) {
+            LoopingSampleSource.Trim trim = source.pollTrim(bufferInfo.presentationTimeUs);
+            if (trim != null) {
+                int bytes = (int) Math.min((long) trim.frames * trim.bytesPerFrame, bufferInfo.size);
+                if (trim.end) {
+                    bufferInfo.size = bytes;
+                } else {
+                    bufferInfo.offset += bytes;
+                    bufferInfo.size -= bytes;
+                    //Continues the timeline of the previous pass, so the audio track does not resynchronize
+                    bufferInfo.presentationTimeUs = trim.cutUs;
+                }
+                buffer.limit(bufferInfo.offset + bufferInfo.size);
+                buffer.position(bufferInfo.offset);
+                trimmedBufferIndex = bufferIndex;
+            }
+        }
+        boolean processed = super.processOutputBuffer(positionUs, elapsedRealtimeUs, codec, buffer, bufferInfo,
+                bufferIndex, shouldSkip);
+        if (processed) {
+            trimmedBufferIndex = -1;
+        }
+        return processed;
+    }
+}
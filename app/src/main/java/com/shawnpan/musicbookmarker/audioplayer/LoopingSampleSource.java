@@ -0,0 +1,445 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.C;
+import com.google.android.exoplayer.MediaFormat;
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+import com.google.android.exoplayer.TrackRenderer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sample source that repeats a region of another source without seeking, so that the decoder and
+ * the audio track never see a discontinuity.
+ * <p>
+ * The encoded samples of the region are kept in memory as they are first played, and each time
+ * playback reaches the end of the region they are read again with timestamps moved forward by the
+ * length of the region. Playback time therefore keeps increasing across passes; use
+ * {@link #toTrackTimeUs(long)} to get the position in the track. A few samples before the start of
+ * the region are decoded but not played on each pass, which primes decoders such as MP3 that depend
+ * on the previous frame. The region boundaries rarely fall on frame boundaries, so the first and last
+ * frames of each pass are cut to the exact boundary by {@link LoopingAudioTrackRenderer} once decoded.
+ * <p>
+ * Regions larger than the cache are replayed from memory only for their start, while the wrapped
+ * source seeks ahead in the background. If the cache cannot be filled, such as when playback starts
+ * inside the region, the pass seeks the wrapped source instead and fills the cache then.
+ * <p>
+ * Supports a single enabled track. Called on the playback thread except for {@link #setLoop(long, long)}
+ * and {@link #toTrackTimeUs(long)}.
+ */
+final class LoopingSampleSource implements SampleSource, SampleSource.SampleSourceReader {
+    /**
+     * End of a loop that repeats until the end of the track
+     */
+    static final long END_OF_TRACK = Long.MAX_VALUE;
+    private static final long NO_LOOP = -1;
+    private static final long UNKNOWN = Long.MIN_VALUE;
+    //Decoded but not played before the loop start on each pass
+    static final long PREROLL_US = 100000;
+    static final int MAX_CACHED_BYTES = 4 * 1024 * 1024;
+
+    private enum CacheState {
+        NONE, //nothing cached, the next pass seeks and records
+        RECORDING, //recording from the preroll, complete at the end of the pass
+        HEAD, //only the start of the region is cached, up to cacheEndUs
+        COMPLETE //the whole region is cached
+    }
+
+    /**
+     * Cut of a decoded frame at the start or end of a pass
+     */
+    static final class Trim {
+        //Playback time of the frame to cut
+        final long presentationTimeUs;
+        //Playback time of the loop boundary within the frame
+        final long cutUs;
+        //True to keep the part before the cut, false to keep the part after
+        final boolean end;
+        //Number of PCM frames before the cut
+        final int frames;
+        final int bytesPerFrame;
+
+        Trim(long presentationTimeUs, long cutUs, boolean end, int frames, int bytesPerFrame) {
+            this.presentationTimeUs = presentationTimeUs;
+            this.cutUs = cutUs;
+            this.end = end;
+            this.frames = frames;
+            this.bytesPerFrame = bytesPerFrame;
+        }
+    }
+
+    private final SampleSource source;
+    private SampleSourceReader reader;
+    private int enabledTrack = -1;
+    private int sampleRate;
+    private int channelCount;
+
+    //Loop region in track time, start is NO_LOOP when not looping
+    private long loopStartUs = NO_LOOP;
+    private long loopEndUs = NO_LOOP;
+    //End of a pass, which is the end of the track for END_OF_TRACK once it has been reached
+    private long passEndUs = UNKNOWN;
+    //Whether playback started before the end of the loop, so that passes wrap
+    private boolean armed = false;
+    //Number of completed passes since the last seek
+    private int passes = 0;
+    private boolean wrapPending = false;
+    //Whether the first played sample of the current pass has been read
+    private boolean passStarted = true;
+
+    private CacheState cacheState = CacheState.NONE;
+    private final List<CachedSample> cache = new ArrayList<>();
+    private int cachedBytes = 0;
+    private long cacheEndUs;
+    //Index of the next sample to replay from the cache, or -1 when reading the wrapped source
+    private int replayIndex = -1;
+    //Samples of the wrapped source before this time are dropped, after it seeks past the cache
+    private long skipUntilUs = UNKNOWN;
+
+    //Track time and estimated duration of samples read
+    private long lastReadTimeUs = UNKNOWN;
+    private long frameDurationUs = 0;
+    //Playback time of the last sample played, and of the last decode only sample of the preroll
+    private long lastPlayedTimeUs = 0;
+    private long prerollTimeUs = 0;
+
+    private final ArrayDeque<Trim> trims = new ArrayDeque<>();
+
+    /**
+     * Constructor
+     * @param source source to read samples from
+     */
+    LoopingSampleSource(SampleSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Set the region to repeat. A new region takes effect without interrupting playback if playback has
+     * not read past its end yet, otherwise the caller must seek to restart the timeline.
+     * @param startUs start of the region in microseconds, or -1 to stop looping
+     * @param endUs end of the region in microseconds, or {@link #END_OF_TRACK}
+     * @return true if the caller must seek for the new region to take effect
+     */
+    synchronized boolean setLoop(long startUs, long endUs) {
+        if (startUs < 0) {
+            startUs = NO_LOOP;
+            endUs = NO_LOOP;
+        }
+        if (startUs == loopStartUs && endUs == loopEndUs) {
+            return false;
+        }
+        boolean wrapped = passes > 0 || wrapPending;
+        loopStartUs = startUs;
+        loopEndUs = endUs;
+        passEndUs = endUs == END_OF_TRACK ? UNKNOWN : endUs;
+        cache.clear();
+        cachedBytes = 0;
+        cacheState = CacheState.NONE;
+        if (wrapped) {
+            //Timeline is past the old region, playback must restart from a seek
+            armed = false;
+            return true;
+        }
+        armed = startUs != NO_LOOP && (lastReadTimeUs == UNKNOWN || lastReadTimeUs < endUs);
+        if (armed && (lastReadTimeUs == UNKNOWN || lastReadTimeUs < getPrerollStartUs())) {
+            cacheState = CacheState.RECORDING;
+        }
+        return startUs != NO_LOOP && !armed;
+    }
+
+    /**
+     * Convert a playback time, which keeps increasing across passes, to a time in the track
+     * @param playbackTimeUs playback position reported by the player in microseconds
+     * @return position in the track in microseconds
+     */
+    synchronized long toTrackTimeUs(long playbackTimeUs) {
+        if (!armed || passEndUs == UNKNOWN || playbackTimeUs < passEndUs) {
+            return playbackTimeUs;
+        }
+        return loopStartUs + (playbackTimeUs - passEndUs) % (passEndUs - loopStartUs);
+    }
+
+    /**
+     * Take the cut to apply to a decoded frame, if any. Cuts are taken in the order the frames are decoded.
+     * @param presentationTimeUs playback time of a decoded frame that is played
+     * @return cut of the frame, or null to play it whole
+     */
+    synchronized Trim pollTrim(long presentationTimeUs) {
+        //Cuts of frames that were never played, such as after the decoder was flushed
+        while (!trims.isEmpty() && trims.peek().cutUs < presentationTimeUs) {
+            trims.poll();
+        }
+        if (!trims.isEmpty() && trims.peek().presentationTimeUs == presentationTimeUs) {
+            return trims.poll();
+        }
+        return null;
+    }
+
+    @Override
+    public SampleSourceReader register() {
+        reader = source.register();
+        return this;
+    }
+
+    @Override
+    public void maybeThrowError() throws IOException {
+        reader.maybeThrowError();
+    }
+
+    @Override
+    public boolean prepare(long positionUs) {
+        return reader.prepare(positionUs);
+    }
+
+    @Override
+    public int getTrackCount() {
+        return reader.getTrackCount();
+    }
+
+    @Override
+    public MediaFormat getFormat(int track) {
+        return reader.getFormat(track);
+    }
+
+    @Override
+    public synchronized void enable(int track, long positionUs) {
+        enabledTrack = track;
+        setFormat(reader.getFormat(track));
+        reader.enable(track, positionUs);
+        restart(positionUs);
+    }
+
+    @Override
+    public synchronized boolean continueBuffering(int track, long positionUs) {
+        //Keeps the wrapped source loading even while replaying from the cache
+        boolean sourceReady = reader.continueBuffering(track, toTrackTimeUs(positionUs));
+        boolean cacheReady = (replayIndex >= 0 && replayIndex < cache.size()) ||
+                (wrapPending && (cacheState == CacheState.COMPLETE || cacheState == CacheState.HEAD));
+        return sourceReady || cacheReady;
+    }
+
+    @Override
+    public synchronized long readDiscontinuity(int track) {
+        return reader.readDiscontinuity(track);
+    }
+
+    @Override
+    public synchronized int readData(int track, long positionUs, MediaFormatHolder formatHolder, SampleHolder sampleHolder) {
+        if (wrapPending) {
+            wrap();
+        }
+        if (replayIndex >= 0) {
+            if (replayIndex < cache.size()) {
+                return replay(sampleHolder);
+            }
+            //Rest of the region comes from the wrapped source, which seeked past the cache when the pass started
+            replayIndex = -1;
+        }
+        while (true) {
+            int result = reader.readData(track, toTrackTimeUs(positionUs), formatHolder, sampleHolder);
+            if (result == FORMAT_READ) {
+                setFormat(formatHolder.format);
+                return result;
+            } else if (result == END_OF_STREAM) {
+                if (!armed || lastReadTimeUs == UNKNOWN || frameDurationUs == 0) {
+                    return result;
+                }
+                //Region ends at or after the end of the track
+                long trackEndUs = lastReadTimeUs + frameDurationUs;
+                if (passes == 0 && (passEndUs == UNKNOWN || passEndUs > trackEndUs)) {
+                    passEndUs = trackEndUs;
+                }
+                if (passEndUs <= loopStartUs) {
+                    return result;
+                }
+                wrap();
+                return replayIndex >= 0 ? replay(sampleHolder) : NOTHING_READ;
+            } else if (result != SAMPLE_READ) {
+                return result;
+            }
+            long timeUs = sampleHolder.timeUs;
+            if (timeUs < skipUntilUs) {
+                sampleHolder.clearData();
+                continue;
+            }
+            skipUntilUs = UNKNOWN;
+            if (armed && passEndUs != UNKNOWN && timeUs >= passEndUs) {
+                //Did not recognize the last frame of the pass, wrap at this frame boundary instead
+                sampleHolder.clearData();
+                wrap();
+                return replayIndex >= 0 ? replay(sampleHolder) : NOTHING_READ;
+            }
+            record(sampleHolder);
+            play(sampleHolder);
+            return SAMPLE_READ;
+        }
+    }
+
+    @Override
+    public synchronized void seekToUs(long positionUs) {
+        reader.seekToUs(positionUs);
+        restart(positionUs);
+    }
+
+    @Override
+    public synchronized long getBufferedPositionUs() {
+        if (passes > 0 || wrapPending) {
+            //Playback time is past the samples of the wrapped source
+            return TrackRenderer.UNKNOWN_TIME_US;
+        }
+        return reader.getBufferedPositionUs();
+    }
+
+    @Override
+    public synchronized void disable(int track) {
+        enabledTrack = -1;
+        reader.disable(track);
+    }
+
+    @Override
+    public void release() {
+        reader.release();
+    }
+
+    /**
+     * Start a new timeline from a position in the track
+     */
+    private void restart(long positionUs) {
+        passes = 0;
+        wrapPending = false;
+        passStarted = true;
+        replayIndex = -1;
+        skipUntilUs = UNKNOWN;
+        lastReadTimeUs = UNKNOWN;
+        trims.clear();
+        armed = loopStartUs != NO_LOOP && positionUs < loopEndUs;
+        if (cacheState == CacheState.RECORDING) {
+            cache.clear();
+            cachedBytes = 0;
+            cacheState = CacheState.NONE;
+        }
+        if (armed && cacheState == CacheState.NONE && positionUs <= getPrerollStartUs()) {
+            cacheState = CacheState.RECORDING;
+        }
+    }
+
+    /**
+     * Start the next pass, from the cache if possible
+     */
+    private void wrap() {
+        wrapPending = false;
+        passes++;
+        passStarted = false;
+        prerollTimeUs = lastPlayedTimeUs;
+        lastReadTimeUs = UNKNOWN;
+        if (cacheState == CacheState.RECORDING) {
+            cacheState = cache.isEmpty() ? CacheState.NONE : CacheState.COMPLETE;
+        }
+        if (cacheState == CacheState.COMPLETE) {
+            replayIndex = 0;
+        } else if (cacheState == CacheState.HEAD) {
+            replayIndex = 0;
+            seekSource(cacheEndUs);
+            skipUntilUs = cacheEndUs;
+        } else {
+            replayIndex = -1;
+            seekSource(getPrerollStartUs());
+            skipUntilUs = getPrerollStartUs();
+            cacheState = CacheState.RECORDING;
+        }
+    }
+
+    /**
+     * Seek the wrapped source without a discontinuity downstream
+     */
+    private void seekSource(long positionUs) {
+        reader.seekToUs(positionUs);
+        reader.readDiscontinuity(enabledTrack);
+    }
+
+    private int replay(SampleHolder sampleHolder) {
+        cache.get(replayIndex++).readInto(sampleHolder);
+        play(sampleHolder);
+        return SAMPLE_READ;
+    }
+
+    /**
+     * Keep a copy of a sample read from the wrapped source while recording the region
+     */
+    private void record(SampleHolder sampleHolder) {
+        if (cacheState != CacheState.RECORDING || sampleHolder.timeUs < getPrerollStartUs()) {
+            return;
+        }
+        if (cache.isEmpty() && sampleHolder.timeUs > loopStartUs) {
+            //Wrapped source started after the loop start, as inexact seeks can
+            cacheState = CacheState.NONE;
+        } else if (sampleHolder.isEncrypted() || cachedBytes + sampleHolder.size > MAX_CACHED_BYTES) {
+            cacheState = cache.isEmpty() ? CacheState.NONE : CacheState.HEAD;
+            cacheEndUs = sampleHolder.timeUs;
+        } else {
+            cache.add(CachedSample.copyOf(sampleHolder));
+            cachedBytes += sampleHolder.size;
+        }
+    }
+
+    /**
+     * Move a sample in track time onto the playback timeline of the current pass, and note the
+     * cuts needed at the pass boundaries
+     */
+    private void play(SampleHolder sampleHolder) {
+        long timeUs = sampleHolder.timeUs;
+        if (lastReadTimeUs != UNKNOWN && timeUs > lastReadTimeUs) {
+            frameDurationUs = timeUs - lastReadTimeUs;
+        }
+        lastReadTimeUs = timeUs;
+        long offsetUs = passes == 0 ? 0 : passes * (passEndUs - loopStartUs);
+        if (!passStarted) {
+            long frameEndUs = frameDurationUs > 0 ? timeUs + frameDurationUs : timeUs + 1;
+            if (frameEndUs <= loopStartUs) {
+                //Preroll, given unused times so that the decoder drops exactly these frames
+                sampleHolder.flags |= C.SAMPLE_FLAG_DECODE_ONLY;
+                sampleHolder.timeUs = ++prerollTimeUs;
+                return;
+            }
+            passStarted = true;
+            sampleHolder.flags &= ~C.SAMPLE_FLAG_DECODE_ONLY;
+            if (timeUs < loopStartUs) {
+                addTrim(timeUs + offsetUs, loopStartUs + offsetUs, false, loopStartUs - timeUs);
+            }
+        }
+        long playbackTimeUs = timeUs + offsetUs;
+        sampleHolder.timeUs = playbackTimeUs;
+        lastPlayedTimeUs = playbackTimeUs;
+        if (armed && passEndUs != UNKNOWN && frameDurationUs > 0 && timeUs + frameDurationUs >= passEndUs) {
+            //Last frame of the pass
+            if (timeUs < passEndUs && timeUs + frameDurationUs > passEndUs) {
+                addTrim(playbackTimeUs, passEndUs + offsetUs, true, passEndUs - timeUs);
+            }
+            wrapPending = true;
+        }
+    }
+
+    private void addTrim(long presentationTimeUs, long cutUs, boolean end, long cutOffsetUs) {
+        if (sampleRate <= 0 || channelCount <= 0) {
+            return;
+        }
+        //Decoders output 16 bit PCM
+        int frames = (int) ((cutOffsetUs * sampleRate + 500000) / 1000000);
+        trims.add(new Trim(presentationTimeUs, cutUs, end, frames, 2 * channelCount));
+    }
+
+    private void setFormat(MediaFormat format) {
+        if (format != null) {
+            sampleRate = format.sampleRate;
+            channelCount = format.channelCount;
+        }
+    }
+
+    private long getPrerollStartUs() {
+        return Math.max(0, loopStartUs - PREROLL_US);
+    }
+}
@@ -4,6 +4,7 @@ import android.content.Context;
 import android.media.AudioManager;
 import android.media.MediaPlayer;
 import android.net.Uri;
+import android.os.Handler;
 import android.os.PowerManager;
 import android.util.Log;
 
@@ -15,9 +16,21 @@ import java.io.IOException;
  */
 public class MediaPlayerAudioPlayer implements AudioPlayer {
     private static final String TAG = "MediaPlayerAudioPlayer";
+    private static final int LOOP_CHECK_MIN_DELAY_MS = 10;
     private volatile boolean ready = false;
+    private boolean playWhenPrepared = true;
     private MediaPlayer mediaPlayer;
     private OnDoneListener onDoneListener;
+    //Loop region in milliseconds, start is -1 when not set
+    private int loopStartMsec = -1;
+    private int loopEndMsec = -1;
+    private Handler loopHandler = new Handler();
+    private Runnable loopRunnable = new Runnable() {
+        @Override
+        public void run() {
+            checkLoop();
+        }
+    };
 
     /**
      * Constructor
@@ -29,8 +42,11 @@ public class MediaPlayerAudioPlayer implements AudioPlayer {
         mediaPlayer.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
             @Override
             public void onPrepared(MediaPlayer mp) {
-                start();
+                if (playWhenPrepared) {
+                    start();
+                }
                 ready = true;
+                checkLoop();
             }
         });
         mediaPlayer.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
@@ -62,6 +78,27 @@ public class MediaPlayerAudioPlayer implements AudioPlayer {
 
     @Override
     public void playUri(Context context, Uri uri) {
+        playWhenPrepared = true;
+        loadUri(context, uri);
+    }
+
+    @Override
+    public void prepareUri(Context context, Uri uri) {
+        playWhenPrepared = false;
+        loadUri(context, uri);
+    }
+
+    @Override
+    public void setCuePoints(int[] positionsMsec) {
+        //MediaPlayer cannot prepare a seek
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        //No-op
+    }
+
+    private void loadUri(Context context, Uri uri) {
         mediaPlayer.setWakeMode(context, PowerManager.PARTIAL_WAKE_LOCK);
         try {
             mediaPlayer.setDataSource(context, uri);
@@ -89,12 +126,14 @@ public class MediaPlayerAudioPlayer implements AudioPlayer {
     @Override
     public void reset() {
         ready = false;
+        clearLoopRegion();
         mediaPlayer.reset();
     }
 
     @Override
     public void release() {
         ready = false;
+        clearLoopRegion();
         mediaPlayer.release();
     }
 
@@ -111,6 +150,7 @@ public class MediaPlayerAudioPlayer implements AudioPlayer {
     @Override
     public void seekTo(int msec) {
         mediaPlayer.seekTo(msec);
+        checkLoop();
     }
 
     @Override
@@ -138,6 +178,52 @@ public class MediaPlayerAudioPlayer implements AudioPlayer {
         mediaPlayer.setLooping(looping);
     }
 
+    /**
+     * {@inheritDoc}
+     * MediaPlayer has no loop points, so this seeks back when polling finds the end reached,
+     * which is neither gapless nor exact.
+     */
+    @Override
+    public void setLoopRegion(int startMsec, int endMsec) {
+        loopStartMsec = startMsec;
+        loopEndMsec = endMsec;
+        if (ready) {
+            int position = mediaPlayer.getCurrentPosition();
+            if (position < startMsec || position >= endMsec) {
+                mediaPlayer.seekTo(startMsec);
+            }
+        }
+        checkLoop();
+    }
+
+    @Override
+    public void clearLoopRegion() {
+        loopStartMsec = -1;
+        loopEndMsec = -1;
+        loopHandler.removeCallbacks(loopRunnable);
+    }
+
+    @Override
+    public boolean hasLoopRegion() {
+        return loopStartMsec >= 0;
+    }
+
+    /**
+     * Seek back to the loop start if playback reached the loop end, then check again when the end is due
+     */
+    private void checkLoop() {
+        loopHandler.removeCallbacks(loopRunnable);
+        if (loopStartMsec < 0) {
+            return;
+        }
+        int position = ready ? mediaPlayer.getCurrentPosition() : loopStartMsec;
+        if (position >= loopEndMsec) {
+            mediaPlayer.seekTo(loopStartMsec);
+            position = loopStartMsec;
+        }
+        loopHandler.postDelayed(loopRunnable, Math.max(LOOP_CHECK_MIN_DELAY_MS, loopEndMsec - position));
+    }
+
     @Override
     public void setOnDoneListener(OnDoneListener onDoneListener) {
         this.onDoneListener = onDoneListener;
@@ -0,0 +1,402 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Byte offsets of the frames of an MP3 file at a fixed time granularity, for seeking VBR files
+ * exactly without a table of contents. Built by scanning the frame headers of the whole file once.
+ * <p>
+ * Each entry is the first audio frame starting at or after a multiple of the granularity, with its
+ * exact start time counted in samples from the first audio frame. A Xing, Info, or VBRI header
+ * frame is not counted, the same as the extractor does.
+ * <p>
+ * The stored form starts with the magic bytes "MSIX" and a format version, followed by the size and
+ * modification date of the file it was built from, so that an index of a file that has changed is
+ * not used. Integers are varints and entries are deltas from the previous entry, so an entry takes
+ * three or four bytes.
+ * <p>
+ * <pre>
+ * index = "MSIX" version file-size date-modified duration-us count (position-delta time-delta)*
+ * </pre>
+ * Immutable once built, so it may be read from any thread.
+ */
+final class Mp3SeekIndex {
+    static final byte[] MAGIC = new byte[] {'M', 'S', 'I', 'X'};
+    static final int VERSION = 1;
+    //Sanity limit on the number of entries read, over a day of audio at 100 ms granularity
+    private static final int MAX_ENTRIES = 1 << 20;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HEADER_SIZE = 4;
+    private static final int ID3_HEADER_SIZE = 10;
+    //Header fields that do not change between the frames of a stream: sync, version, layer, and sample rate
+    private static final int CONSTANT_HEADER_MASK = 0xFFFE0C00;
+
+    private static final int VERSION_MPEG_2 = 2;
+    private static final int VERSION_MPEG_1 = 3;
+    private static final int LAYER_3 = 1;
+    private static final int LAYER_2 = 2;
+    private static final int LAYER_1 = 3;
+    private static final int CHANNEL_MODE_MONO = 3;
+
+    //Bitrates in kbit/s by bitrate index
+    private static final int[] BITRATES_V1_L1 = {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448};
+    private static final int[] BITRATES_V1_L2 = {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384};
+    private static final int[] BITRATES_V1_L3 = {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320};
+    private static final int[] BITRATES_V2_L1 = {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256};
+    private static final int[] BITRATES_V2_L2_L3 = {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160};
+    private static final int[] SAMPLE_RATES_V1 = {44100, 48000, 32000};
+
+    private final long[] positions;
+    private final long[] timesUs;
+    private final int count;
+    private final long durationUs;
+
+    private Mp3SeekIndex(long[] positions, long[] timesUs, int count, long durationUs) {
+        this.positions = positions;
+        this.timesUs = timesUs;
+        this.count = count;
+        this.durationUs = durationUs;
+    }
+
+    /**
+     * Build an index by scanning an MP3 file from the start. The stream is not closed.
+     * @param in stream of the whole file
+     * @param granularityUs time between entries in microseconds
+     * @return index, empty if no frames were found
+     * @throws IOException if the stream cannot be read
+     */
+    static Mp3SeekIndex build(InputStream in, long granularityUs) throws IOException {
+        Scanner scanner = new Scanner(in);
+        scanner.skipId3Tags();
+        long[] positions = new long[256];
+        long[] timesUs = new long[256];
+        int count = 0;
+        long nextEntryTimeUs = 0;
+        long samples = 0;
+        int sampleRate = 0;
+        int syncedHeader = 0;
+        boolean synced = false;
+        while (scanner.ensure(HEADER_SIZE)) {
+            int header = scanner.peekInt(0);
+            int frameSize = getFrameSize(header);
+            if (synced) {
+                if (frameSize < 0 || (header & CONSTANT_HEADER_MASK) != (syncedHeader & CONSTANT_HEADER_MASK)) {
+                    scanner.skip(1);
+                    continue;
+                }
+            } else {
+                //Take a header as the start of the stream only if another frame follows it
+                if (frameSize < 0 || !scanner.ensure(frameSize + HEADER_SIZE)) {
+                    scanner.skip(1);
+                    continue;
+                }
+                int nextHeader = scanner.peekInt(frameSize);
+                if (getFrameSize(nextHeader) < 0 || (header & CONSTANT_HEADER_MASK) != (nextHeader & CONSTANT_HEADER_MASK)) {
+                    scanner.skip(1);
+                    continue;
+                }
+                synced = true;
+                syncedHeader = header;
+                sampleRate = getSampleRate(header);
+                if (isVbrHeaderFrame(scanner, header, frameSize)) {
+                    scanner.skip(frameSize);
+                    continue;
+                }
+            }
+            long timeUs = samples * 1000000L / sampleRate;
+            if (timeUs >= nextEntryTimeUs) {
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                    timesUs = Arrays.copyOf(timesUs, count * 2);
+                }
+                positions[count] = scanner.position;
+                timesUs[count] = timeUs;
+                count++;
+                while (nextEntryTimeUs <= timeUs) {
+                    nextEntryTimeUs += granularityUs;
+                }
+            }
+            samples += getSamplesPerFrame(header);
+            scanner.skip(frameSize);
+        }
+        long durationUs = sampleRate == 0 ? 0 : samples * 1000000L / sampleRate;
+        return new Mp3SeekIndex(positions, timesUs, count, durationUs);
+    }
+
+    /**
+     * Read a stored index. The stream is not closed.
+     * @param in stream to read from
+     * @param fileSize size of the file the index is wanted for
+     * @param dateModified modification date of the file the index is wanted for
+     * @return index, or null if it was built from a different version of the file
+     * @throws IOException if the stream cannot be read or is not a valid index
+     */
+    static Mp3SeekIndex read(InputStream in, long fileSize, long dateModified) throws IOException {
+        for (byte b : MAGIC) {
+            if ((byte) readByte(in) != b) {
+                throw new IOException("Not a seek index");
+            }
+        }
+        if (readVarint(in) != VERSION) {
+            throw new IOException("Unsupported seek index version");
+        }
+        if (readVarint(in) != fileSize || readSignedVarint(in) != dateModified) {
+            return null;
+        }
+        long durationUs = readVarint(in);
+        long count = readVarint(in);
+        if (count > MAX_ENTRIES) {
+            throw new IOException("Seek index has too many entries: " + count);
+        }
+        long[] positions = new long[(int) count];
+        long[] timesUs = new long[(int) count];
+        long position = 0;
+        long timeUs = 0;
+        for (int i = 0; i < count; i++) {
+            position += readVarint(in);
+            timeUs += readVarint(in);
+            positions[i] = position;
+            timesUs[i] = timeUs;
+        }
+        return new Mp3SeekIndex(positions, timesUs, (int) count, durationUs);
+    }
+
+    /**
+     * Write the index. The stream is neither buffered nor closed.
+     * @param out stream to write to
+     * @param fileSize size of the file the index was built from
+     * @param dateModified modification date of the file the index was built from
+     * @throws IOException if the stream cannot be written
+     */
+    void write(OutputStream out, long fileSize, long dateModified) throws IOException {
+        out.write(MAGIC);
+        writeVarint(out, VERSION);
+        writeVarint(out, fileSize);
+        writeVarint(out, (dateModified << 1) ^ (dateModified >> 63));
+        writeVarint(out, durationUs);
+        writeVarint(out, count);
+        long position = 0;
+        long timeUs = 0;
+        for (int i = 0; i < count; i++) {
+            writeVarint(out, positions[i] - position);
+            writeVarint(out, timesUs[i] - timeUs);
+            position = positions[i];
+            timeUs = timesUs[i];
+        }
+    }
+
+    /**
+     * @return number of entries
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @return duration of the audio in microseconds
+     */
+    long getDurationUs() {
+        return durationUs;
+    }
+
+    /**
+     * @param timeUs time in microseconds
+     * @return entry of the last frame starting at or before the time, or -1 if the index is empty
+     */
+    int getEntry(long timeUs) {
+        int entry = Arrays.binarySearch(timesUs, 0, count, timeUs);
+        return entry >= 0 ? entry : Math.max(-entry - 2, count > 0 ? 0 : -1);
+    }
+
+    /**
+     * @return byte offset of the frame of an entry
+     */
+    long getPosition(int entry) {
+        return positions[entry];
+    }
+
+    /**
+     * @return start time in microseconds of the frame of an entry
+     */
+    long getTimeUs(int entry) {
+        return timesUs[entry];
+    }
+
+    /**
+     * @param header frame header
+     * @return size in bytes of the frame, or -1 if the header is not valid
+     */
+    static int getFrameSize(int header) {
+        if ((header & 0xFFE00000) != 0xFFE00000) {
+            return -1;
+        }
+        int version = (header >>> 19) & 3;
+        int layer = (header >>> 17) & 3;
+        int bitrateIndex = (header >>> 12) & 15;
+        int sampleRateIndex = (header >>> 10) & 3;
+        //Free format bitrates are not supported
+        if (version == 1 || layer == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+            return -1;
+        }
+        int bitrate;
+        if (version == VERSION_MPEG_1) {
+            bitrate = layer == LAYER_1 ? BITRATES_V1_L1[bitrateIndex]
+                    : layer == LAYER_2 ? BITRATES_V1_L2[bitrateIndex] : BITRATES_V1_L3[bitrateIndex];
+        } else {
+            bitrate = layer == LAYER_1 ? BITRATES_V2_L1[bitrateIndex] : BITRATES_V2_L2_L3[bitrateIndex];
+        }
+        int sampleRate = getSampleRate(header);
+        int padding = (header >>> 9) & 1;
+        if (layer == LAYER_1) {
+            return (12000 * bitrate / sampleRate + padding) * 4;
+        }
+        return getSamplesPerFrame(header) / 8 * 1000 * bitrate / sampleRate + padding;
+    }
+
+    private static int getSampleRate(int header) {
+        int version = (header >>> 19) & 3;
+        int sampleRate = SAMPLE_RATES_V1[(header >>> 10) & 3];
+        return version == VERSION_MPEG_1 ? sampleRate : version == VERSION_MPEG_2 ? sampleRate / 2 : sampleRate / 4;
+    }
+
+    private static int getSamplesPerFrame(int header) {
+        int layer = (header >>> 17) & 3;
+        if (layer == LAYER_1) {
+            return 384;
+        }
+        return layer == LAYER_3 && ((header >>> 19) & 3) != VERSION_MPEG_1 ? 576 : 1152;
+    }
+
+    /**
+     * @return true if the frame holds a Xing, Info, or VBRI header rather than audio
+     */
+    private static boolean isVbrHeaderFrame(Scanner scanner, int header, int frameSize) throws IOException {
+        boolean mpeg1 = ((header >>> 19) & 3) == VERSION_MPEG_1;
+        boolean mono = ((header >>> 6) & 3) == CHANNEL_MODE_MONO;
+        int xingOffset = HEADER_SIZE + (mpeg1 ? (mono ? 17 : 32) : (mono ? 9 : 17));
+        int vbriOffset = HEADER_SIZE + 32;
+        if (xingOffset + 4 <= frameSize && scanner.ensure(xingOffset + 4)) {
+            int tag = scanner.peekInt(xingOffset);
+            if (tag == 0x58696E67 || tag == 0x496E666F) {
+                return true;
+            }
+        }
+        return vbriOffset + 4 <= frameSize && scanner.ensure(vbriOffset + 4) && scanner.peekInt(vbriOffset) == 0x56425249;
+    }
+
+    /**
+     * Buffered forward reader that can look ahead within its buffer
+     */
+    private static final class Scanner {
+        private final InputStream in;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int offset = 0;
+        private int limit = 0;
+        //Position in the file of buffer[offset]
+        long position = 0;
+
+        Scanner(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * @return true if the next length bytes are buffered, false at the end of the stream
+         */
+        boolean ensure(int length) throws IOException {
+            if (limit - offset >= length) {
+                return true;
+            }
+            System.arraycopy(buffer, offset, buffer, 0, limit - offset);
+            limit -= offset;
+            offset = 0;
+            while (limit < length) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    return false;
+                }
+                limit += read;
+            }
+            return true;
+        }
+
+        /**
+         * @return big endian int at an offset from the position, which must be buffered
+         */
+        int peekInt(int at) {
+            int i = offset + at;
+            return (buffer[i] & 0xFF) << 24 | (buffer[i + 1] & 0xFF) << 16 | (buffer[i + 2] & 0xFF) << 8 | (buffer[i + 3] & 0xFF);
+        }
+
+        void skip(long length) throws IOException {
+            position += length;
+            if (length <= limit - offset) {
+                offset += (int) length;
+                return;
+            }
+            length -= limit - offset;
+            offset = 0;
+            limit = 0;
+            while (length > 0) {
+                long skipped = in.skip(length);
+                if (skipped <= 0) {
+                    //Either at the end or a stream that does not skip
+                    if (in.read() < 0) {
+                        return;
+                    }
+                    skipped = 1;
+                }
+                length -= skipped;
+            }
+        }
+
+        /**
+         * Skip ID3v2 tags at the start of the file, which may contain bytes that look like frames
+         */
+        void skipId3Tags() throws IOException {
+            while (ensure(ID3_HEADER_SIZE) && buffer[offset] == 'I' && buffer[offset + 1] == 'D' && buffer[offset + 2] == '3') {
+                int size = (buffer[offset + 6] & 0x7F) << 21 | (buffer[offset + 7] & 0x7F) << 14 |
+                        (buffer[offset + 8] & 0x7F) << 7 | (buffer[offset + 9] & 0x7F);
+                boolean footer = (buffer[offset + 5] & 0x10) != 0;
+                skip(ID3_HEADER_SIZE + size + (footer ? ID3_HEADER_SIZE : 0));
+            }
+        }
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readSignedVarint(InputStream in) throws IOException {
+        long value = readVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Seek index ended early");
+        }
+        return b;
+    }
+}
@@ -0,0 +1,252 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.provider.MediaStore;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Seek indexes of MP3 files, stored in the cache directory in files named by MediaStore id. An index
+ * is loaded, or built by scanning the file if there is none for the current size and modification date,
+ * on a background thread, and handed to the extractors of the track when ready. A track that may never
+ * be played only loads a stored index, and a lookup whose track is replaced is cancelled, so that
+ * speculative tracks do not queue scans of whole files.
+ * <p>
+ * The MediaStore row of a track is queried by the caller with {@link #MEDIA_PROJECTION}, so that
+ * the query can run off the main thread without waiting behind an index being built.
+ */
+final class Mp3SeekIndexStore {
+    private static final String TAG = "Mp3SeekIndexStore";
+    private static final String DIRECTORY = "seek_index";
+    private static final String EXTENSION = ".idx";
+    private static final String MIME_TYPE_MP3 = "audio/mpeg";
+    private static final long GRANULARITY_US = 250000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    //Indexes kept in memory, for switching back and forth between tracks
+    private static final int MEMORY_CACHE_SIZE = 4;
+
+    /**
+     * Columns of the MediaStore row a track is looked up with
+     */
+    static final String[] MEDIA_PROJECTION = new String[] {
+            MediaStore.Audio.Media._ID,
+            MediaStore.Audio.Media.MIME_TYPE,
+            MediaStore.Audio.Media.SIZE,
+            MediaStore.Audio.Media.DATE_MODIFIED
+    };
+    private static final int COLUMN_INDEX_ID = 0;
+    private static final int COLUMN_INDEX_MIME_TYPE = 1;
+    private static final int COLUMN_INDEX_SIZE = 2;
+    private static final int COLUMN_INDEX_DATE_MODIFIED = 3;
+
+    private static Mp3SeekIndexStore instance;
+
+    private final ContentResolver contentResolver;
+    private final File directory;
+    private final Handler handler;
+    //Only used on the handler thread
+    private final LinkedHashMap<String, Mp3SeekIndex> memoryCache =
+            new LinkedHashMap<String, Mp3SeekIndex>(MEMORY_CACHE_SIZE + 1, 1, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Mp3SeekIndex> eldest) {
+                    return size() > MEMORY_CACHE_SIZE;
+                }
+            };
+
+    private Mp3SeekIndexStore(Context context) {
+        contentResolver = context.getContentResolver();
+        directory = new File(context.getCacheDir(), DIRECTORY);
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * @param context context of application
+     * @return store shared by all players
+     */
+    static synchronized Mp3SeekIndexStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new Mp3SeekIndexStore(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * @param uri uri of a track
+     * @return true if the track may have an index, and should be looked up in the MediaStore
+     */
+    static boolean isIndexable(Uri uri) {
+        return ContentResolver.SCHEME_CONTENT.equals(uri.getScheme());
+    }
+
+    /**
+     * Start loading the index of a track, if it is an MP3 file in the MediaStore
+     * @param uri MediaStore uri of the track
+     * @param cursor result of querying the uri for {@link #MEDIA_PROJECTION}, may be null. Not closed.
+     * @param build true to scan the file if it has no stored index, false to only load a stored one
+     * @param extractorCount number of extractors to hand the index to
+     * @return lookup holding the extractors, or null if the track is not indexed
+     */
+    Lookup startLookup(Uri uri, Cursor cursor, boolean build, int extractorCount) {
+        if (cursor == null || !cursor.moveToFirst() || !MIME_TYPE_MP3.equals(cursor.getString(COLUMN_INDEX_MIME_TYPE))) {
+            return null;
+        }
+        Lookup lookup = new Lookup(uri, cursor.getLong(COLUMN_INDEX_ID), cursor.getLong(COLUMN_INDEX_SIZE),
+                cursor.getLong(COLUMN_INDEX_DATE_MODIFIED), build, extractorCount);
+        handler.post(lookup);
+        return lookup;
+    }
+
+    /**
+     * Loads or builds the index of one track, and hands it to the extractors of the track
+     */
+    final class Lookup implements Runnable {
+        private final Uri uri;
+        private final long mediaId;
+        private final long size;
+        private final long dateModified;
+        private final IndexedMp3Extractor[] extractors;
+        private volatile boolean build;
+        private volatile boolean cancelled = false;
+
+        private Lookup(Uri uri, long mediaId, long size, long dateModified, boolean build, int extractorCount) {
+            this.uri = uri;
+            this.mediaId = mediaId;
+            this.size = size;
+            this.dateModified = dateModified;
+            this.build = build;
+            extractors = new IndexedMp3Extractor[extractorCount];
+            for (int i = 0; i < extractorCount; i++) {
+                extractors[i] = new IndexedMp3Extractor();
+            }
+        }
+
+        /**
+         * @param i index of extractor
+         * @return extractor that seeks through the index once loaded
+         */
+        IndexedMp3Extractor getExtractor(int i) {
+            return extractors[i];
+        }
+
+        /**
+         * Build the index if there was no stored one to load, once the track is to be played
+         */
+        void buildIfMissing() {
+            if (!build && !cancelled) {
+                build = true;
+                handler.removeCallbacks(this);
+                handler.post(this);
+            }
+        }
+
+        /**
+         * Drop the lookup once its extractors are no longer used. A scan already running is finished.
+         */
+        void cancel() {
+            cancelled = true;
+            handler.removeCallbacks(this);
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            String key = mediaId + "_" + size + "_" + dateModified;
+            Mp3SeekIndex index = memoryCache.get(key);
+            File file = new File(directory, mediaId + EXTENSION);
+            try {
+                if (index == null) {
+                    index = readIndex(file);
+                }
+                if (index == null) {
+                    if (!build) {
+                        //Looked up again by buildIfMissing()
+                        return;
+                    }
+                    index = buildIndex(file);
+                }
+            } catch (IOException | RuntimeException e) {
+                Log.w(TAG, "Failed to index " + uri, e);
+                return;
+            }
+            memoryCache.put(key, index);
+            for (IndexedMp3Extractor extractor : extractors) {
+                extractor.setIndex(index);
+            }
+        }
+
+        /**
+         * @return stored index, or null if there is none for this version of the file
+         */
+        private Mp3SeekIndex readIndex(File file) throws IOException {
+            InputStream in;
+            try {
+                in = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+            } catch (FileNotFoundException e) {
+                return null;
+            }
+            try {
+                return Mp3SeekIndex.read(in, size, dateModified);
+            } catch (IOException e) {
+                Log.w(TAG, "Discarding corrupt seek index " + file, e);
+                return null;
+            } finally {
+                in.close();
+            }
+        }
+
+        /**
+         * Scan the track and store its index, replacing the index of any previous version of the file
+         */
+        private Mp3SeekIndex buildIndex(File file) throws IOException {
+            long startTime = System.currentTimeMillis();
+            InputStream in = contentResolver.openInputStream(uri);
+            if (in == null) {
+                throw new FileNotFoundException("Cannot open " + uri);
+            }
+            Mp3SeekIndex index;
+            try {
+                index = Mp3SeekIndex.build(in, GRANULARITY_US);
+            } finally {
+                in.close();
+            }
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Cannot create " + directory);
+            }
+            //Written to a temporary file and renamed, so that a partial index is never read
+            File temporaryFile = new File(directory, mediaId + EXTENSION + ".tmp");
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(temporaryFile), BUFFER_SIZE);
+            try {
+                index.write(out, size, dateModified);
+            } finally {
+                out.close();
+            }
+            if (!temporaryFile.renameTo(file)) {
+                throw new IOException("Cannot rename " + temporaryFile);
+            }
+            Log.v(TAG, "Indexed " + index.size() + " frames of " + uri + " in " +
+                    (System.currentTimeMillis() - startTime) + "ms");
+            return index;
+        }
+    }
+}
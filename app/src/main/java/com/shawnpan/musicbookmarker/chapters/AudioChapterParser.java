@@ -0,0 +1,34 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads chapter markers embedded in an audio file: ID3v2 CHAP frames (MP3) or MP4 chapters
+ * (M4A, M4B). The format is recognized from the first bytes of the file, and only the regions
+ * holding chapters are read, never the audio itself.
+ */
+public final class AudioChapterParser {
+    /**
+     * Private constructor - static utility class
+     */
+    private AudioChapterParser() {}
+
+    /**
+     * Read the chapters of an audio file
+     * @param channel channel of the file, its position is not changed
+     * @param listener receives each chapter in file order
+     * @return number of chapters found, 0 if the file has none or is not a supported format
+     * @throws IOException if the file cannot be read or its tags are corrupt
+     */
+    public static int parse(FileChannel channel, ChapterListener listener) throws IOException {
+        SeekableInput input = new SeekableInput(channel);
+        if (Id3ChapterParser.isId3(input)) {
+            return Id3ChapterParser.parse(input, listener);
+        }
+        if (Mp4ChapterParser.isMp4(input)) {
+            return Mp4ChapterParser.parse(input, listener);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+/**
+ * Receives chapters as they are parsed, in the order they appear in the file
+ */
+public interface ChapterListener {
+    /**
+     * @param startMs start of the chapter in milliseconds
+     * @param title title of the chapter, or null if it has none
+     */
+    void onChapter(long startMs, String title);
+}
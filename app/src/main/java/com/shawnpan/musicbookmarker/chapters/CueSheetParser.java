@@ -0,0 +1,280 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads the tracks of a cue sheet as chapters, one line at a time.
+ * <p>
+ * Each TRACK becomes a chapter starting at its INDEX 01 (or INDEX 00 if it has no INDEX 01),
+ * titled by its TITLE. A cue sheet may list several audio files; only tracks of the FILE entries
+ * naming the audio file are returned, compared by name without directory or extension since cue
+ * sheets often name the original WAV or FLAC. A cue sheet with a single FILE entry that does not
+ * match is taken to describe the audio file anyway, as happens when files are renamed or converted.
+ * <p>
+ * Keywords are case insensitive, quotes are optional, and unknown commands are ignored.
+ *
+ * @see <a href="https://wiki.hydrogenaud.io/index.php?title=Cue_sheet">Cue sheet</a>
+ */
+public final class CueSheetParser {
+    private static final long FRAMES_PER_SECOND = 75;
+    //Bytes checked for valid UTF-8 before falling back to Windows-1252
+    private static final int CHARSET_SNIFF_BYTES = 64 * 1024;
+
+    private final String audioFileName;
+    private final ChapterListener listener;
+
+    private int fileCount = 0;
+    private boolean fileMatches = false;
+    private boolean anyFileMatched = false;
+    //Tracks of the first file while it does not match, returned if it turns out to be the only file
+    private List<Long> unmatchedStartMs = new ArrayList<>();
+    private List<String> unmatchedTitles = new ArrayList<>();
+    private int count = 0;
+
+    //Current track
+    private boolean inTrack = false;
+    private String title;
+    private long index0Ms;
+    private long index1Ms;
+
+    private CueSheetParser(String audioFileName, ChapterListener listener) {
+        this.audioFileName = audioFileName == null ? null : baseName(audioFileName);
+        this.listener = listener;
+    }
+
+    /**
+     * Read a cue sheet, detecting its character set: a byte order mark, otherwise UTF-8 if the start
+     * of the file is valid UTF-8, otherwise Windows-1252
+     * @param in cue sheet to read, not closed
+     * @param audioFileName name or path of the audio file to read tracks for, or null for all tracks
+     * @param listener receives each track
+     * @return number of tracks returned
+     * @throws IOException if the cue sheet cannot be read
+     */
+    public static int parse(InputStream in, String audioFileName, ChapterListener listener) throws IOException {
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, CHARSET_SNIFF_BYTES);
+        return parse(new InputStreamReader(bufferedIn, detectCharset(bufferedIn)), audioFileName, listener);
+    }
+
+    /**
+     * Read a cue sheet
+     * @param reader cue sheet to read, not closed
+     * @param audioFileName name or path of the audio file to read tracks for, or null for all tracks
+     * @param listener receives each track
+     * @return number of tracks returned
+     * @throws IOException if the cue sheet cannot be read
+     */
+    public static int parse(Reader reader, String audioFileName, ChapterListener listener) throws IOException {
+        CueSheetParser parser = new CueSheetParser(audioFileName, listener);
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            parser.parseLine(line);
+        }
+        return parser.finish();
+    }
+
+    private void parseLine(String line) {
+        int start = skipSpace(line, 0);
+        //Byte order mark read as a character
+        if (start < line.length() && line.charAt(start) == '\uFEFF') {
+            start = skipSpace(line, start + 1);
+        }
+        int keywordEnd = start;
+        while (keywordEnd < line.length() && !Character.isWhitespace(line.charAt(keywordEnd))) {
+            keywordEnd++;
+        }
+        String keyword = line.substring(start, keywordEnd).toUpperCase(Locale.US);
+        int argumentStart = skipSpace(line, keywordEnd);
+        switch (keyword) {
+            case "FILE":
+                endTrack();
+                startFile(readValue(line, argumentStart));
+                break;
+            case "TRACK":
+                endTrack();
+                inTrack = true;
+                title = null;
+                index0Ms = -1;
+                index1Ms = -1;
+                break;
+            case "TITLE":
+                if (inTrack) {
+                    title = readValue(line, argumentStart);
+                }
+                break;
+            case "INDEX":
+                if (inTrack) {
+                    parseIndex(line, argumentStart);
+                }
+                break;
+        }
+    }
+
+    private void startFile(String name) {
+        fileCount++;
+        fileMatches = audioFileName == null || audioFileName.equalsIgnoreCase(baseName(name));
+        anyFileMatched |= fileMatches;
+        if (fileCount > 1) {
+            unmatchedStartMs = null;
+            unmatchedTitles = null;
+        }
+    }
+
+    private void parseIndex(String line, int start) {
+        int numberEnd = start;
+        while (numberEnd < line.length() && !Character.isWhitespace(line.charAt(numberEnd))) {
+            numberEnd++;
+        }
+        long timeMs = parseTime(line, skipSpace(line, numberEnd));
+        if (timeMs < 0) {
+            return;
+        }
+        try {
+            int number = Integer.parseInt(line.substring(start, numberEnd));
+            if (number == 0) {
+                index0Ms = timeMs;
+            } else if (number == 1) {
+                index1Ms = timeMs;
+            }
+        } catch (NumberFormatException e) {
+            //Ignore malformed index
+        }
+    }
+
+    private void endTrack() {
+        if (!inTrack) {
+            return;
+        }
+        inTrack = false;
+        long startMs = index1Ms >= 0 ? index1Ms : index0Ms;
+        if (startMs < 0) {
+            return;
+        }
+        if (fileMatches) {
+            listener.onChapter(startMs, title);
+            count++;
+        } else if (unmatchedStartMs != null) {
+            unmatchedStartMs.add(startMs);
+            unmatchedTitles.add(title);
+        }
+    }
+
+    private int finish() {
+        endTrack();
+        if (!anyFileMatched && unmatchedStartMs != null) {
+            for (int i = 0; i < unmatchedStartMs.size(); i++) {
+                listener.onChapter(unmatchedStartMs.get(i), unmatchedTitles.get(i));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parse a time in minutes, seconds, and frames (1/75 s), "mm:ss:ff"
+     * @return time in milliseconds, or -1 if malformed
+     */
+    static long parseTime(String line, int start) {
+        long[] parts = new long[3];
+        int part = 0;
+        boolean digits = false;
+        for (int i = start; i < line.length() && !Character.isWhitespace(line.charAt(i)); i++) {
+            char c = line.charAt(i);
+            if (c >= '0' && c <= '9' && parts[part] < Integer.MAX_VALUE) {
+                parts[part] = parts[part] * 10 + (c - '0');
+                digits = true;
+            } else if (c == ':' && digits && part < 2) {
+                part++;
+                digits = false;
+            } else {
+                return -1;
+            }
+        }
+        if (part != 2 || !digits || parts[1] >= 60 || parts[2] >= FRAMES_PER_SECOND) {
+            return -1;
+        }
+        long frames = (parts[0] * 60 + parts[1]) * FRAMES_PER_SECOND + parts[2];
+        return frames * 1000 / FRAMES_PER_SECOND;
+    }
+
+    /**
+     * Read a command argument: a quoted string, or everything up to the next space
+     */
+    private static String readValue(String line, int start) {
+        if (start < line.length() && line.charAt(start) == '"') {
+            int end = line.indexOf('"', start + 1);
+            return line.substring(start + 1, end < 0 ? line.length() : end);
+        }
+        int end = start;
+        while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+            end++;
+        }
+        return line.substring(start, end);
+    }
+
+    private static int skipSpace(String line, int start) {
+        while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return file name without directory or extension
+     */
+    static String baseName(String path) {
+        int start = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1;
+        int end = path.lastIndexOf('.');
+        return path.substring(start, end > start ? end : path.length());
+    }
+
+    /**
+     * Pick the character set of a cue sheet, leaving the stream positioned after any byte order mark
+     */
+    private static Charset detectCharset(BufferedInputStream in) throws IOException {
+        in.mark(CHARSET_SNIFF_BYTES);
+        byte[] start = new byte[CHARSET_SNIFF_BYTES];
+        int length = 0;
+        int read;
+        while (length < start.length && (read = in.read(start, length, start.length - length)) > 0) {
+            length += read;
+        }
+        in.reset();
+        if (length >= 3 && start[0] == (byte) 0xEF && start[1] == (byte) 0xBB && start[2] == (byte) 0xBF) {
+            in.skip(3);
+            return Charset.forName("UTF-8");
+        }
+        if (length >= 2 && ((start[0] == (byte) 0xFE && start[1] == (byte) 0xFF) ||
+                (start[0] == (byte) 0xFF && start[1] == (byte) 0xFE))) {
+            return Charset.forName("UTF-16");
+        }
+        //A multi-byte character cut off at the end of the sample is still valid
+        int checkLength = length;
+        while (length == start.length && checkLength > 0 && length - checkLength < 3 &&
+                (start[checkLength - 1] & 0x80) != 0) {
+            checkLength--;
+        }
+        try {
+            Charset.forName("UTF-8").newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(start, 0, checkLength));
+            return Charset.forName("UTF-8");
+        } catch (CharacterCodingException e) {
+            return Charset.isSupported("windows-1252") ? Charset.forName("windows-1252") : Charset.forName("ISO-8859-1");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * Reads chapters from the CHAP frames of an ID3v2.3 or ID3v2.4 tag at the start of a file.
+ * <p>
+ * Only the tag is read: frames other than CHAP are skipped by seeking, and so are all sub-frames of
+ * a chapter except its title. The audio after the tag is never touched. Tags and frames using
+ * unsynchronisation are read into memory to undo it, since their stored sizes do not match the data.
+ * Compressed and encrypted frames are skipped.
+ *
+ * @see <a href="http://id3.org/id3v2-chapters-1.0">ID3v2 Chapter Frame Addendum</a>
+ */
+final class Id3ChapterParser {
+    private static final int HEADER_SIZE = 10;
+    private static final int FRAME_HEADER_SIZE = 10;
+
+    private static final int TAG_FLAG_UNSYNCHRONISATION = 0x80;
+    private static final int TAG_FLAG_EXTENDED_HEADER = 0x40;
+    //ID3v2.3 frame format flags
+    private static final int V3_FRAME_FLAG_COMPRESSION = 0x80;
+    private static final int V3_FRAME_FLAG_ENCRYPTION = 0x40;
+    private static final int V3_FRAME_FLAG_GROUPING = 0x20;
+    //ID3v2.4 frame format flags
+    private static final int V4_FRAME_FLAG_GROUPING = 0x40;
+    private static final int V4_FRAME_FLAG_COMPRESSION = 0x08;
+    private static final int V4_FRAME_FLAG_ENCRYPTION = 0x04;
+    private static final int V4_FRAME_FLAG_UNSYNCHRONISATION = 0x02;
+    private static final int V4_FRAME_FLAG_DATA_LENGTH = 0x01;
+
+    private static final int FRAME_CHAP = 0x43484150;
+    private static final int FRAME_TIT2 = 0x54495432;
+    //Longest chapter title read, longer titles are cut off
+    private static final int MAX_TITLE_BYTES = 4 * 1024;
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+    private static final Charset UTF_16 = Charset.forName("UTF-16");
+    private static final Charset UTF_16BE = Charset.forName("UTF-16BE");
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Private constructor - static utility class
+     */
+    private Id3ChapterParser() {}
+
+    /**
+     * @param input input positioned anywhere
+     * @return true if the input starts with an ID3v2 tag
+     * @throws IOException if the input cannot be read
+     */
+    static boolean isId3(SeekableInput input) throws IOException {
+        if (input.size() < HEADER_SIZE) {
+            return false;
+        }
+        input.seek(0);
+        return input.readUnsignedByte() == 'I' && input.readUnsignedByte() == 'D' && input.readUnsignedByte() == '3';
+    }
+
+    /**
+     * Read the chapters of the ID3v2 tag at the start of the input
+     * @param input input to read
+     * @param listener receives each chapter
+     * @return number of chapters found, 0 if there is no tag or the version is not supported
+     * @throws IOException if the input cannot be read or the tag is corrupt
+     */
+    static int parse(SeekableInput input, ChapterListener listener) throws IOException {
+        if (!isId3(input)) {
+            return 0;
+        }
+        int version = input.readUnsignedByte();
+        input.readUnsignedByte();
+        int flags = input.readUnsignedByte();
+        int tagSize = readSyncsafeInt(input);
+        //ID3v2.2 predates chapters
+        if (version != 3 && version != 4) {
+            return 0;
+        }
+        long tagEnd = Math.min(HEADER_SIZE + (long) tagSize, input.size());
+
+        if (version == 3 && (flags & TAG_FLAG_UNSYNCHRONISATION) != 0) {
+            //Everything after the header is unsynchronised, frame headers included
+            byte[] tag = new byte[(int) (tagEnd - HEADER_SIZE)];
+            input.readFully(tag, 0, tag.length);
+            int length = removeUnsynchronisation(tag, tag.length);
+            SeekableInput tagInput = new SeekableInput(tag, 0, length);
+            return parseFrames(tagInput, 0, length, version, flags, listener);
+        }
+        return parseFrames(input, HEADER_SIZE, tagEnd, version, flags, listener);
+    }
+
+    private static int parseFrames(SeekableInput input, long start, long end, int version, int tagFlags,
+                                   ChapterListener listener) throws IOException {
+        input.seek(start);
+        if ((tagFlags & TAG_FLAG_EXTENDED_HEADER) != 0) {
+            //The ID3v2.3 size leaves out the size field, the ID3v2.4 size includes it
+            if (version == 3) {
+                input.skip(input.readUnsignedInt());
+            } else {
+                input.skip(readSyncsafeInt(input) - 4);
+            }
+        }
+        boolean tagUnsynchronised = version == 4 && (tagFlags & TAG_FLAG_UNSYNCHRONISATION) != 0;
+        int count = 0;
+        while (input.position() + FRAME_HEADER_SIZE <= end) {
+            int frameId = input.readInt();
+            if (frameId == 0) {
+                //Padding
+                break;
+            }
+            long frameSize = version == 4 ? readSyncsafeInt(input) : input.readUnsignedInt();
+            input.readUnsignedByte();
+            int formatFlags = input.readUnsignedByte();
+            long frameStart = input.position();
+            long frameEnd = frameStart + frameSize;
+            if (frameEnd > end) {
+                throw new IOException("ID3 frame runs past end of tag");
+            }
+            if (frameId == FRAME_CHAP && parseChapterFrame(input, frameEnd, version, formatFlags, tagUnsynchronised, listener)) {
+                count++;
+            }
+            input.seek(frameEnd);
+        }
+        return count;
+    }
+
+    /**
+     * @return true if a chapter was found
+     */
+    private static boolean parseChapterFrame(SeekableInput input, long frameEnd, int version, int formatFlags,
+                                             boolean tagUnsynchronised, ChapterListener listener) throws IOException {
+        if (version == 3) {
+            if ((formatFlags & (V3_FRAME_FLAG_COMPRESSION | V3_FRAME_FLAG_ENCRYPTION)) != 0) {
+                return false;
+            }
+            if ((formatFlags & V3_FRAME_FLAG_GROUPING) != 0) {
+                input.skip(1);
+            }
+            return parseChapter(input, frameEnd, version, listener);
+        }
+        if ((formatFlags & (V4_FRAME_FLAG_COMPRESSION | V4_FRAME_FLAG_ENCRYPTION)) != 0) {
+            return false;
+        }
+        if ((formatFlags & V4_FRAME_FLAG_GROUPING) != 0) {
+            input.skip(1);
+        }
+        if ((formatFlags & V4_FRAME_FLAG_DATA_LENGTH) != 0) {
+            input.skip(4);
+        }
+        if (tagUnsynchronised || (formatFlags & V4_FRAME_FLAG_UNSYNCHRONISATION) != 0) {
+            byte[] frame = new byte[(int) (frameEnd - input.position())];
+            input.readFully(frame, 0, frame.length);
+            int length = removeUnsynchronisation(frame, frame.length);
+            return parseChapter(new SeekableInput(frame, 0, length), length, version, listener);
+        }
+        return parseChapter(input, frameEnd, version, listener);
+    }
+
+    /**
+     * Read the body of a CHAP frame: element id, times, byte offsets, then sub-frames
+     */
+    private static boolean parseChapter(SeekableInput input, long frameEnd, int version, ChapterListener listener)
+            throws IOException {
+        //Skip the element id, a null terminated string
+        boolean terminated = false;
+        while (!terminated && input.position() < frameEnd) {
+            terminated = input.readUnsignedByte() == 0;
+        }
+        if (input.position() + 16 > frameEnd) {
+            return false;
+        }
+        long startMs = input.readUnsignedInt();
+        //End time, start offset, end offset
+        input.skip(12);
+
+        String title = null;
+        while (input.position() + FRAME_HEADER_SIZE <= frameEnd) {
+            int frameId = input.readInt();
+            if (frameId == 0) {
+                break;
+            }
+            long size = version == 4 ? readSyncsafeInt(input) : input.readUnsignedInt();
+            input.skip(2);
+            long subFrameEnd = input.position() + size;
+            if (subFrameEnd > frameEnd) {
+                break;
+            }
+            if (frameId == FRAME_TIT2 && title == null && size > 0) {
+                title = readText(input, (int) Math.min(size, MAX_TITLE_BYTES));
+            }
+            input.seek(subFrameEnd);
+        }
+        listener.onChapter(startMs, title);
+        return true;
+    }
+
+    /**
+     * Read a text frame body: an encoding byte followed by one or more null separated strings
+     * @return first string of the frame
+     */
+    private static String readText(SeekableInput input, int size) throws IOException {
+        int encoding = input.readUnsignedByte();
+        byte[] text = new byte[size - 1];
+        input.readFully(text, 0, text.length);
+        Charset charset;
+        int length;
+        switch (encoding) {
+            case 0:
+                charset = ISO_8859_1;
+                length = singleByteTerminator(text);
+                break;
+            case 1:
+                charset = UTF_16;
+                length = doubleByteTerminator(text);
+                break;
+            case 2:
+                charset = UTF_16BE;
+                length = doubleByteTerminator(text);
+                break;
+            case 3:
+                charset = UTF_8;
+                length = singleByteTerminator(text);
+                break;
+            default:
+                return null;
+        }
+        return new String(text, 0, length, charset);
+    }
+
+    private static int singleByteTerminator(byte[] text) {
+        for (int i = 0; i < text.length; i++) {
+            if (text[i] == 0) {
+                return i;
+            }
+        }
+        return text.length;
+    }
+
+    private static int doubleByteTerminator(byte[] text) {
+        for (int i = 0; i + 1 < text.length; i += 2) {
+            if (text[i] == 0 && text[i + 1] == 0) {
+                return i;
+            }
+        }
+        return text.length & ~1;
+    }
+
+    /**
+     * Undo unsynchronisation in place, turning every 0xFF 0x00 back into 0xFF
+     * @return length of the restored data
+     */
+    static int removeUnsynchronisation(byte[] data, int length) {
+        int out = 0;
+        for (int in = 0; in < length; in++) {
+            data[out++] = data[in];
+            if (data[in] == (byte) 0xFF && in + 1 < length && data[in + 1] == 0) {
+                in++;
+            }
+        }
+        return out;
+    }
+
+    private static int readSyncsafeInt(SeekableInput input) throws IOException {
+        int value = input.readInt();
+        return (value & 0x7F) | ((value >> 1) & 0x3F80) | ((value >> 2) & 0x1FC000) | ((value >> 3) & 0xFE00000);
+    }
+}
@@ -0,0 +1,383 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads chapters from an MP4 (M4A, M4B) file, in either of the two common forms:
+ * <ul>
+ * <li>A QuickTime chapter track: a text track referenced from another track through a "chap"
+ * reference, with one sample per chapter holding its title. Used by iTunes and most audiobooks.</li>
+ * <li>A Nero "chpl" box in moov/udta, holding up to 255 start times and titles.</li>
+ * </ul>
+ * The chapter track is preferred when a file has both, since they usually hold the same chapters.
+ * <p>
+ * Boxes are walked by seeking from header to header, so media data is skipped without being read.
+ * Only the sample tables of the chapter track are loaded, and then only the samples holding titles
+ * are read.
+ */
+final class Mp4ChapterParser {
+    private static final int BOX_FTYP = 0x66747970;
+    private static final int BOX_MOOV = 0x6D6F6F76;
+    private static final int BOX_TRAK = 0x7472616B;
+    private static final int BOX_TKHD = 0x746B6864;
+    private static final int BOX_TREF = 0x74726566;
+    private static final int BOX_CHAP = 0x63686170;
+    private static final int BOX_MDIA = 0x6D646961;
+    private static final int BOX_MDHD = 0x6D646864;
+    private static final int BOX_MINF = 0x6D696E66;
+    private static final int BOX_STBL = 0x7374626C;
+    private static final int BOX_STTS = 0x73747473;
+    private static final int BOX_STSC = 0x73747363;
+    private static final int BOX_STSZ = 0x7374737A;
+    private static final int BOX_STCO = 0x7374636F;
+    private static final int BOX_CO64 = 0x636F3634;
+    private static final int BOX_UDTA = 0x75647461;
+    private static final int BOX_CHPL = 0x6368706C;
+
+    //Nero chapter times are in units of 100ns
+    private static final long CHPL_UNITS_PER_MS = 10000;
+    //Longest chapter title read, longer titles are cut off
+    private static final int MAX_TITLE_BYTES = 4 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Charset UTF_16 = Charset.forName("UTF-16");
+
+    /**
+     * Position of a box in the input
+     */
+    private static final class Box {
+        int type;
+        long contentStart;
+        long end;
+    }
+
+    /**
+     * What is known about a track after reading its headers
+     */
+    private static final class Track {
+        int id;
+        long timescale;
+        final List<Integer> chapterTrackIds = new ArrayList<>();
+        //Sample table, read only for the chapter track
+        long sampleTableStart = -1;
+        long sampleTableEnd;
+    }
+
+    /**
+     * Everything collected from the movie box
+     */
+    private static final class Movie {
+        final List<Track> tracks = new ArrayList<>();
+        final List<Long> neroStartMs = new ArrayList<>();
+        final List<String> neroTitles = new ArrayList<>();
+    }
+
+    /**
+     * Private constructor - static utility class
+     */
+    private Mp4ChapterParser() {}
+
+    /**
+     * @param input input positioned anywhere
+     * @return true if the input starts with an MP4 file type box
+     * @throws IOException if the input cannot be read
+     */
+    static boolean isMp4(SeekableInput input) throws IOException {
+        if (input.size() < 8) {
+            return false;
+        }
+        input.seek(4);
+        return input.readInt() == BOX_FTYP;
+    }
+
+    /**
+     * Read the chapters of an MP4 file
+     * @param input input to read
+     * @param listener receives each chapter
+     * @return number of chapters found
+     * @throws IOException if the input cannot be read or is corrupt
+     */
+    static int parse(SeekableInput input, ChapterListener listener) throws IOException {
+        Movie movie = new Movie();
+        Box box = new Box();
+        long position = 0;
+        while (readBox(input, position, input.size(), box)) {
+            if (box.type == BOX_MOOV) {
+                parseMovie(input, box.contentStart, box.end, movie);
+                break;
+            }
+            position = box.end;
+        }
+
+        Track chapterTrack = findChapterTrack(movie);
+        if (chapterTrack != null) {
+            int count = parseChapterTrack(input, chapterTrack, listener);
+            if (count > 0) {
+                return count;
+            }
+        }
+        for (int i = 0; i < movie.neroStartMs.size(); i++) {
+            listener.onChapter(movie.neroStartMs.get(i), movie.neroTitles.get(i));
+        }
+        return movie.neroStartMs.size();
+    }
+
+    /**
+     * Read a box header
+     * @param input input to read
+     * @param start position of the box
+     * @param parentEnd end of the enclosing box, boxes are cut off there
+     * @param box filled with the box found
+     * @return false if there is no room left for a box
+     * @throws IOException if the input cannot be read or the box size is invalid
+     */
+    private static boolean readBox(SeekableInput input, long start, long parentEnd, Box box) throws IOException {
+        if (start + 8 > parentEnd) {
+            return false;
+        }
+        input.seek(start);
+        long size = input.readUnsignedInt();
+        box.type = input.readInt();
+        long headerSize = 8;
+        if (size == 1) {
+            size = input.readLong();
+            headerSize = 16;
+        } else if (size == 0) {
+            //Box extends to the end of the file
+            size = parentEnd - start;
+        }
+        if (size < headerSize) {
+            throw new IOException("Invalid MP4 box size " + size);
+        }
+        box.contentStart = start + headerSize;
+        box.end = start + size > parentEnd || start + size < start ? parentEnd : start + size;
+        return true;
+    }
+
+    private static void parseMovie(SeekableInput input, long start, long end, Movie movie) throws IOException {
+        Box box = new Box();
+        for (long position = start; readBox(input, position, end, box); position = box.end) {
+            if (box.type == BOX_TRAK) {
+                Track track = new Track();
+                parseTrack(input, box.contentStart, box.end, track);
+                movie.tracks.add(track);
+            } else if (box.type == BOX_UDTA) {
+                parseUserData(input, box.contentStart, box.end, movie);
+            }
+        }
+    }
+
+    private static void parseTrack(SeekableInput input, long start, long end, Track track) throws IOException {
+        Box box = new Box();
+        for (long position = start; readBox(input, position, end, box); position = box.end) {
+            switch (box.type) {
+                case BOX_TKHD:
+                    int version = input.readUnsignedByte();
+                    //Flags, then creation and modification times
+                    input.skip(version == 1 ? 3 + 16 : 3 + 8);
+                    track.id = input.readInt();
+                    break;
+                case BOX_TREF:
+                    Box reference = new Box();
+                    for (long referencePosition = box.contentStart; readBox(input, referencePosition, box.end, reference);
+                         referencePosition = reference.end) {
+                        if (reference.type == BOX_CHAP) {
+                            for (long i = reference.contentStart; i + 4 <= reference.end; i += 4) {
+                                track.chapterTrackIds.add(input.readInt());
+                            }
+                        }
+                    }
+                    break;
+                case BOX_MDIA:
+                    parseMedia(input, box.contentStart, box.end, track);
+                    break;
+            }
+        }
+    }
+
+    private static void parseMedia(SeekableInput input, long start, long end, Track track) throws IOException {
+        Box box = new Box();
+        for (long position = start; readBox(input, position, end, box); position = box.end) {
+            if (box.type == BOX_MDHD) {
+                int version = input.readUnsignedByte();
+                input.skip(version == 1 ? 3 + 16 : 3 + 8);
+                track.timescale = input.readUnsignedInt();
+            } else if (box.type == BOX_MINF) {
+                Box child = new Box();
+                for (long childPosition = box.contentStart; readBox(input, childPosition, box.end, child);
+                     childPosition = child.end) {
+                    if (child.type == BOX_STBL) {
+                        track.sampleTableStart = child.contentStart;
+                        track.sampleTableEnd = child.end;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void parseUserData(SeekableInput input, long start, long end, Movie movie) throws IOException {
+        Box box = new Box();
+        for (long position = start; readBox(input, position, end, box); position = box.end) {
+            if (box.type != BOX_CHPL || box.end - box.contentStart < 5) {
+                continue;
+            }
+            int version = input.readUnsignedByte();
+            input.skip(version == 0 ? 3 : 3 + 4);
+            int count = input.readUnsignedByte();
+            byte[] title = new byte[255];
+            for (int i = 0; i < count && input.position() + 9 <= box.end; i++) {
+                long startMs = input.readLong() / CHPL_UNITS_PER_MS;
+                int length = input.readUnsignedByte();
+                if (input.position() + length > box.end) {
+                    break;
+                }
+                input.readFully(title, 0, length);
+                movie.neroStartMs.add(startMs);
+                movie.neroTitles.add(new String(title, 0, length, UTF_8));
+            }
+        }
+    }
+
+    /**
+     * @return first track referenced as a chapter track that has a sample table, or null
+     */
+    private static Track findChapterTrack(Movie movie) {
+        for (Track track : movie.tracks) {
+            for (int chapterTrackId : track.chapterTrackIds) {
+                for (Track candidate : movie.tracks) {
+                    if (candidate.id == chapterTrackId && candidate.sampleTableStart >= 0 && candidate.timescale > 0) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read the title and start time of every sample in a text track
+     */
+    private static int parseChapterTrack(SeekableInput input, Track track, ChapterListener listener) throws IOException {
+        long[] timeToSample = null;
+        long[] sampleToChunk = null;
+        int[] sampleSizes = null;
+        int constantSampleSize = 0;
+        int sampleCount = 0;
+        long[] chunkOffsets = null;
+
+        Box box = new Box();
+        for (long position = track.sampleTableStart; readBox(input, position, track.sampleTableEnd, box); position = box.end) {
+            switch (box.type) {
+                case BOX_STTS:
+                    //Pairs of sample count and sample duration
+                    timeToSample = readTable(input, box, 2, false);
+                    break;
+                case BOX_STSC:
+                    //First chunk, samples per chunk, and sample description index
+                    sampleToChunk = readTable(input, box, 3, false);
+                    break;
+                case BOX_STSZ:
+                    input.skip(4);
+                    constantSampleSize = input.readInt();
+                    sampleCount = input.readInt();
+                    if (sampleCount < 0 || (constantSampleSize == 0 && input.position() + 4L * sampleCount > box.end)) {
+                        throw new IOException("Invalid MP4 sample size table");
+                    }
+                    if (constantSampleSize == 0) {
+                        sampleSizes = new int[sampleCount];
+                        for (int i = 0; i < sampleCount; i++) {
+                            sampleSizes[i] = input.readInt();
+                        }
+                    }
+                    break;
+                case BOX_STCO:
+                    chunkOffsets = readTable(input, box, 1, false);
+                    break;
+                case BOX_CO64:
+                    chunkOffsets = readTable(input, box, 1, true);
+                    break;
+            }
+        }
+        if (timeToSample == null || sampleToChunk == null || chunkOffsets == null) {
+            return 0;
+        }
+
+        int count = 0;
+        long time = 0;
+        int timeEntry = 0;
+        long timeEntryRemaining = timeToSample.length > 0 ? timeToSample[0] : 0;
+        int chunkEntry = 0;
+        int sample = 0;
+        for (int chunk = 0; chunk < chunkOffsets.length && sample < sampleCount; chunk++) {
+            //Chunks are numbered from 1 in the sample to chunk table
+            while (chunkEntry + 3 < sampleToChunk.length && sampleToChunk[chunkEntry + 3] <= chunk + 1) {
+                chunkEntry += 3;
+            }
+            long samplesInChunk = sampleToChunk.length > 0 ? sampleToChunk[chunkEntry + 1] : 0;
+            long offset = chunkOffsets[chunk];
+            for (long i = 0; i < samplesInChunk && sample < sampleCount; i++, sample++) {
+                int size = sampleSizes != null ? sampleSizes[sample] : constantSampleSize;
+                listener.onChapter(time * 1000 / track.timescale, readSampleText(input, offset, size));
+                count++;
+                offset += size & 0xFFFFFFFFL;
+
+                while (timeEntryRemaining == 0 && timeEntry + 2 < timeToSample.length) {
+                    timeEntry += 2;
+                    timeEntryRemaining = timeToSample[timeEntry];
+                }
+                if (timeEntryRemaining > 0) {
+                    time += timeToSample[timeEntry + 1];
+                    timeEntryRemaining--;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read a full box holding a count followed by that many entries
+     * @param input input positioned at the start of the box content
+     * @param box box to read
+     * @param fields number of fields per entry
+     * @param wide true if fields are 64 bits, otherwise unsigned 32 bits
+     * @return entries flattened into one array
+     * @throws IOException if the input cannot be read or the count does not fit in the box
+     */
+    private static long[] readTable(SeekableInput input, Box box, int fields, boolean wide) throws IOException {
+        //Version and flags
+        input.skip(4);
+        long entryCount = input.readUnsignedInt();
+        long entryBytes = fields * (wide ? 8L : 4L);
+        if (input.position() + entryCount * entryBytes > box.end) {
+            throw new IOException("Invalid MP4 table size " + entryCount);
+        }
+        long[] table = new long[(int) entryCount * fields];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = wide ? input.readLong() : input.readUnsignedInt();
+        }
+        return table;
+    }
+
+    /**
+     * Read a text sample: a 16 bit length, then UTF-8 text or UTF-16 text starting with a byte order mark
+     * @return text of the sample, or null if it is empty
+     */
+    private static String readSampleText(SeekableInput input, long offset, int size) throws IOException {
+        if (size < 2 || offset + size > input.size()) {
+            return null;
+        }
+        input.seek(offset);
+        int length = Math.min(Math.min(input.readUnsignedShort(), size - 2), MAX_TITLE_BYTES);
+        if (length == 0) {
+            return null;
+        }
+        byte[] text = new byte[length];
+        input.readFully(text, 0, length);
+        boolean utf16 = length >= 2 && ((text[0] == (byte) 0xFE && text[1] == (byte) 0xFF) ||
+                (text[0] == (byte) 0xFF && text[1] == (byte) 0xFE));
+        return new String(text, 0, length, utf16 ? UTF_16 : UTF_8);
+    }
+}
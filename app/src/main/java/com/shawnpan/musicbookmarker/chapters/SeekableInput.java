@@ -0,0 +1,132 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Buffered big endian reader over a file channel or a byte array, with cheap seeking.
+ * Reads from a channel use absolute positions, so only the regions actually read are loaded and
+ * the position of the channel itself is left alone.
+ */
+final class SeekableInput {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final ByteBuffer buffer;
+    //Position in the input of the first byte in the buffer
+    private long bufferStart;
+
+    /**
+     * Constructor - read from a file channel
+     * @param channel channel to read
+     * @throws IOException if the size of the channel cannot be read
+     */
+    SeekableInput(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.limit(0);
+    }
+
+    /**
+     * Constructor - read from memory
+     * @param data bytes to read
+     * @param offset start of the input in data
+     * @param length length of the input
+     */
+    SeekableInput(byte[] data, int offset, int length) {
+        this.channel = null;
+        this.size = length;
+        this.buffer = ByteBuffer.wrap(data, offset, length).slice();
+    }
+
+    long size() {
+        return size;
+    }
+
+    long position() {
+        return bufferStart + buffer.position();
+    }
+
+    /**
+     * Move to a position, reusing the buffer if it is already loaded
+     * @param position new position, may be past the end
+     */
+    void seek(long position) {
+        long offset = position - bufferStart;
+        if (offset >= 0 && offset <= buffer.limit()) {
+            buffer.position((int) offset);
+        } else if (channel != null) {
+            bufferStart = position;
+            buffer.limit(0);
+        } else {
+            //Past the end of the data, the next read fails
+            buffer.position(buffer.limit());
+        }
+    }
+
+    void skip(long count) {
+        seek(position() + count);
+    }
+
+    int readUnsignedByte() throws IOException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    int readUnsignedShort() throws IOException {
+        require(2);
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    int readInt() throws IOException {
+        require(4);
+        return buffer.getInt();
+    }
+
+    long readUnsignedInt() throws IOException {
+        return readInt() & 0xFFFFFFFFL;
+    }
+
+    long readLong() throws IOException {
+        require(8);
+        return buffer.getLong();
+    }
+
+    void readFully(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                require(1);
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Make sure the buffer holds at least count bytes from the current position
+     */
+    private void require(int count) throws IOException {
+        if (buffer.remaining() >= count) {
+            return;
+        }
+        if (channel == null || bufferStart + buffer.position() >= size) {
+            throw new EOFException("Read past end of input");
+        }
+        bufferStart += buffer.position();
+        buffer.compact();
+        while (buffer.position() < count) {
+            int read = channel.read(buffer, bufferStart + buffer.position());
+            if (read < 0) {
+                buffer.flip();
+                throw new EOFException("Read past end of input");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -11,6 +11,7 @@ public class Bookmark {
     private long position;
     private String label;
     private int color;
+    private boolean orphaned;
 
     /**
      * Create an instance from current position in cursor matching the schema
@@ -25,6 +26,7 @@ public class Bookmark {
         bookmark.position = cursor.getLong(BookmarkColumns.COLUMN_INDEX_POSITION);
         bookmark.label = cursor.getString(BookmarkColumns.COLUMN_INDEX_LABEL);
         bookmark.color = cursor.getInt(BookmarkColumns.COLUMN_INDEX_COLOR);
+        bookmark.orphaned = cursor.getInt(BookmarkColumns.COLUMN_INDEX_ORPHANED) != 0;
         return bookmark;
     }
 
@@ -47,4 +49,8 @@ public class Bookmark {
     public int getColor() {
         return color;
     }
+
+    public boolean isOrphaned() {
+        return orphaned;
+    }
 }
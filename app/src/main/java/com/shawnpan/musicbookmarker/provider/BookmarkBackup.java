@@ -0,0 +1,454 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentResolver;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.net.Uri;
+import android.provider.MediaStore;
+import android.text.TextUtils;
+import android.util.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Copies the music and bookmark tables to and from the binary backup format of
+ * {@link BookmarkBackupWriter}, one row at a time so that memory use does not depend on the number of rows.
+ * <p>
+ * Imported tracks keep their ids when the id is free or names the same track, by title, album, and
+ * artist, in both the music table and the MediaStore. Tracks already in the music table are left alone,
+ * and bookmarks already present at the same track and position are skipped, so importing the same
+ * backup twice changes nothing. On another device an id usually names an unrelated track, so a track
+ * whose id collides is looked up in the MediaStore by title, album, and artist and imported under the
+ * id found, along with its bookmarks. If it cannot be found it is imported as missing under a negative
+ * placeholder id, with its bookmarks orphaned, and the {@link MusicReconciler} remaps it once the file
+ * appears. Ids that are free everywhere are likewise left for the reconciler to match by metadata.
+ */
+final class BookmarkBackup {
+    private static final String TAG = "BookmarkBackup";
+
+    //Rows per import transaction
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    private static final String[] MUSIC_PROJECTION = new String[] {
+            MusicColumns._ID,
+            MusicColumns.LAST_USED,
+            MusicColumns.FRECENCY,
+            MusicColumns.DATE_MODIFIED,
+            MusicColumns.MISSING,
+            MusicColumns.TITLE,
+            MusicColumns.ALBUM,
+            MusicColumns.ARTIST,
+            MusicColumns.DISPLAY_NAME
+    };
+    private static final int MUSIC_COLUMN_INDEX_ID = 0;
+    private static final int MUSIC_COLUMN_INDEX_LAST_USED = 1;
+    private static final int MUSIC_COLUMN_INDEX_FRECENCY = 2;
+    private static final int MUSIC_COLUMN_INDEX_DATE_MODIFIED = 3;
+    private static final int MUSIC_COLUMN_INDEX_MISSING = 4;
+    private static final int MUSIC_COLUMN_INDEX_TITLE = 5;
+    private static final int MUSIC_COLUMN_INDEX_ALBUM = 6;
+    private static final int MUSIC_COLUMN_INDEX_ARTIST = 7;
+    private static final int MUSIC_COLUMN_INDEX_DISPLAY_NAME = 8;
+    private static final String MUSIC_ORDER_BY = MusicColumns._ID + " ASC";
+
+    private static final String[] BOOKMARK_PROJECTION = new String[] {
+            BookmarkColumns.MUSIC_ID,
+            BookmarkColumns.POSITION,
+            BookmarkColumns.LABEL,
+            BookmarkColumns.COLOR,
+            BookmarkColumns.ORPHANED
+    };
+    private static final int BOOKMARK_COLUMN_INDEX_MUSIC_ID = 0;
+    private static final int BOOKMARK_COLUMN_INDEX_POSITION = 1;
+    private static final int BOOKMARK_COLUMN_INDEX_LABEL = 2;
+    private static final int BOOKMARK_COLUMN_INDEX_COLOR = 3;
+    private static final int BOOKMARK_COLUMN_INDEX_ORPHANED = 4;
+    //Answered from bookmark_music_position_index
+    private static final String BOOKMARK_ORDER_BY = BookmarkColumns.MUSIC_ID + " ASC, " + BookmarkColumns.POSITION + " ASC";
+
+    private static final String INSERT_MUSIC_COMMAND =
+            "INSERT OR IGNORE INTO " + MusicColumns.TABLE + " (" +
+            MusicColumns._ID + ", " + MusicColumns.LAST_USED + ", " + MusicColumns.FRECENCY + ", " +
+            MusicColumns.DATE_MODIFIED + ", " + MusicColumns.MISSING + ", " +
+            MusicColumns.TITLE + ", " + MusicColumns.TITLE_KEY + ", " +
+            MusicColumns.ALBUM + ", " + MusicColumns.ALBUM_KEY + ", " +
+            MusicColumns.ARTIST + ", " + MusicColumns.ARTIST_KEY + ", " +
+            MusicColumns.DISPLAY_NAME + ", " + MusicColumns.DISPLAY_NAME_KEY +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    //?1 music id, ?2 position, ?3 label, ?4 color, ?5 orphaned. Skips bookmarks already at the same position.
+    static final String INSERT_BOOKMARK_COMMAND =
+            "INSERT INTO " + BookmarkColumns.TABLE + " (" +
+            BookmarkColumns.MUSIC_ID + ", " + BookmarkColumns.POSITION + ", " + BookmarkColumns.LABEL + ", " +
+            BookmarkColumns.COLOR + ", " + BookmarkColumns.ORPHANED + ") SELECT ?1, ?2, ?3, ?4, ?5 WHERE NOT EXISTS (" +
+            "SELECT 1 FROM " + BookmarkColumns.TABLE + " WHERE " + BookmarkColumns.MUSIC_ID + " = ?1 AND " +
+            BookmarkColumns.POSITION + " = ?2)";
+
+    private static final String TITLE_ALBUM_ARTIST_FILTER =
+            MusicColumns.IS_MUSIC + " = 1 AND " + MusicColumns.TITLE + " = ? AND " +
+            MusicColumns.ALBUM + " = ? AND " + MusicColumns.ARTIST + " = ?";
+    private static final String ID_DESC_ORDER = MusicColumns._ID + " DESC";
+    private static final String PLACEHOLDER_FILTER =
+            MusicColumns._ID + " < 0 AND " + MusicColumns.TITLE + " = ? AND " +
+            MusicColumns.ALBUM + " = ? AND " + MusicColumns.ARTIST + " = ?";
+    //Below every id in use, MediaStore ids are positive
+    private static final String MIN_ID_QUERY =
+            "SELECT min(0, IFNULL((SELECT min(" + MusicColumns._ID + ") FROM " + MusicColumns.TABLE + "), 0), " +
+            "IFNULL((SELECT min(" + BookmarkColumns.MUSIC_ID + ") FROM " + BookmarkColumns.TABLE + "), 0))";
+
+    /**
+     * Track read from a backup, with the id it is imported under
+     */
+    private static final class MusicRecord {
+        final long backupId;
+        long id;
+        final Long lastUsed;
+        final double frecency;
+        final Long dateModified;
+        boolean missing;
+        final String title;
+        final String album;
+        final String artist;
+        final String displayName;
+
+        MusicRecord(BookmarkBackupReader reader) {
+            backupId = reader.getMusicId();
+            id = backupId;
+            lastUsed = reader.getLastUsed();
+            frecency = reader.getFrecency();
+            dateModified = reader.getDateModified();
+            missing = reader.isMissing();
+            title = reader.getTitle();
+            album = reader.getAlbum();
+            artist = reader.getArtist();
+            displayName = reader.getDisplayName();
+        }
+
+        /**
+         * @return true if a row of {@link MusicColumns#MEDIASTORE_PROJECTION} names the same track
+         */
+        boolean matches(Cursor cursor) {
+            return TextUtils.equals(title, cursor.getString(MusicColumns.COLUMN_INDEX_TITLE)) &&
+                    TextUtils.equals(album, cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM)) &&
+                    TextUtils.equals(artist, cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST));
+        }
+    }
+
+    /**
+     * Bookmark read from a backup
+     */
+    private static final class BookmarkRecord {
+        final long musicId;
+        final long position;
+        final String label;
+        final Integer color;
+        final boolean orphaned;
+
+        BookmarkRecord(BookmarkBackupReader reader) {
+            musicId = reader.getBookmarkMusicId();
+            position = reader.getPosition();
+            label = reader.getLabel();
+            color = reader.getColor();
+            orphaned = reader.isOrphaned();
+        }
+    }
+
+    /**
+     * Number of rows exported or imported
+     */
+    static final class Counts {
+        int musicCount;
+        int bookmarkCount;
+    }
+
+    /**
+     * Private constructor - static utility class
+     */
+    private BookmarkBackup() {}
+
+    /**
+     * Write all tracks and bookmarks to a stream. The stream is closed afterwards.
+     * @param db database to export
+     * @param out stream to write the backup to
+     * @return number of rows written
+     * @throws IOException if the stream cannot be written
+     */
+    static Counts export(SQLiteDatabase db, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Counts counts = new Counts();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        try {
+            Cursor musicCursor = db.query(MusicColumns.TABLE, MUSIC_PROJECTION, null, null, null, null, MUSIC_ORDER_BY);
+            try {
+                while (musicCursor.moveToNext()) {
+                    writer.writeMusic(musicCursor.getLong(MUSIC_COLUMN_INDEX_ID),
+                            getLongOrNull(musicCursor, MUSIC_COLUMN_INDEX_LAST_USED),
+                            musicCursor.getDouble(MUSIC_COLUMN_INDEX_FRECENCY),
+                            getLongOrNull(musicCursor, MUSIC_COLUMN_INDEX_DATE_MODIFIED),
+                            musicCursor.getInt(MUSIC_COLUMN_INDEX_MISSING) != 0,
+                            musicCursor.getString(MUSIC_COLUMN_INDEX_TITLE),
+                            musicCursor.getString(MUSIC_COLUMN_INDEX_ALBUM),
+                            musicCursor.getString(MUSIC_COLUMN_INDEX_ARTIST),
+                            musicCursor.getString(MUSIC_COLUMN_INDEX_DISPLAY_NAME));
+                    counts.musicCount++;
+                }
+            } finally {
+                musicCursor.close();
+            }
+            Cursor bookmarkCursor = db.query(BookmarkColumns.TABLE, BOOKMARK_PROJECTION, null, null, null, null, BOOKMARK_ORDER_BY);
+            try {
+                while (bookmarkCursor.moveToNext()) {
+                    writer.writeBookmark(bookmarkCursor.getLong(BOOKMARK_COLUMN_INDEX_MUSIC_ID),
+                            bookmarkCursor.getLong(BOOKMARK_COLUMN_INDEX_POSITION),
+                            bookmarkCursor.getString(BOOKMARK_COLUMN_INDEX_LABEL),
+                            bookmarkCursor.isNull(BOOKMARK_COLUMN_INDEX_COLOR) ? null : bookmarkCursor.getInt(BOOKMARK_COLUMN_INDEX_COLOR),
+                            bookmarkCursor.getInt(BOOKMARK_COLUMN_INDEX_ORPHANED) != 0);
+                    counts.bookmarkCount++;
+                }
+            } finally {
+                bookmarkCursor.close();
+            }
+            writer.finish();
+        } finally {
+            writer.close();
+        }
+        Log.v(TAG, "Exported " + counts.musicCount + " tracks and " + counts.bookmarkCount + " bookmarks in " +
+                (System.currentTimeMillis() - startTime) + "ms");
+        return counts;
+    }
+
+    /**
+     * Add the tracks and bookmarks of a backup to the database, in batched transactions. The stream is closed afterwards.
+     * The tracks of each batch are checked against the music table and the MediaStore before its transaction opens.
+     * If the backup is corrupt, rows from the batches before the error are kept.
+     * @param db database to import into
+     * @param in stream to read the backup from
+     * @param contentResolver resolver used to read the MediaStore
+     * @param mediaUri MediaStore uri to check track ids against
+     * @return number of rows added, not counting tracks and bookmarks already present
+     * @throws IOException if the stream cannot be read or is not a valid backup
+     */
+    static Counts importBackup(SQLiteDatabase db, InputStream in, ContentResolver contentResolver, Uri mediaUri)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        Counts counts = new Counts();
+        BookmarkBackupReader reader = new BookmarkBackupReader(in);
+        SQLiteStatement insertMusic = db.compileStatement(INSERT_MUSIC_COMMAND);
+        SQLiteStatement insertBookmark = db.compileStatement(INSERT_BOOKMARK_COMMAND);
+        //Backup ids of the tracks imported under another id, only those that collided
+        HashMap<Long, Long> importedIds = new HashMap<>();
+        long placeholderId = DatabaseUtils.longForQuery(db, MIN_ID_QUERY, null);
+        try {
+            List<Object> records = new ArrayList<>(ROWS_PER_TRANSACTION);
+            List<MusicRecord> tracks = new ArrayList<>();
+            boolean ended = false;
+            while (!ended) {
+                records.clear();
+                tracks.clear();
+                while (records.size() < ROWS_PER_TRANSACTION) {
+                    int record = reader.next();
+                    if (record == BookmarkBackupReader.RECORD_END) {
+                        ended = true;
+                        break;
+                    } else if (record == BookmarkBackupReader.RECORD_MUSIC) {
+                        MusicRecord track = new MusicRecord(reader);
+                        records.add(track);
+                        tracks.add(track);
+                    } else {
+                        records.add(new BookmarkRecord(reader));
+                    }
+                }
+                for (MusicRecord track : findCollisions(db, contentResolver, mediaUri, tracks)) {
+                    Long id = findByMetadata(contentResolver, mediaUri, track);
+                    if (id == null) {
+                        //Reuse the placeholder of an earlier import of the same backup
+                        id = findPlaceholder(db, track);
+                        if (id == null) {
+                            id = --placeholderId;
+                        }
+                        track.missing = true;
+                    }
+                    Log.i(TAG, "Importing track " + track.backupId + " as " + id);
+                    track.id = id;
+                    importedIds.put(track.backupId, id);
+                }
+
+                db.beginTransactionNonExclusive();
+                try {
+                    for (Object record : records) {
+                        if (record instanceof MusicRecord) {
+                            bindMusic(insertMusic, (MusicRecord) record);
+                            if (insertMusic.executeInsert() != -1) {
+                                counts.musicCount++;
+                            }
+                        } else {
+                            bindBookmark(insertBookmark, (BookmarkRecord) record, importedIds);
+                            if (insertBookmark.executeInsert() != -1) {
+                                counts.bookmarkCount++;
+                            }
+                        }
+                    }
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+            }
+        } finally {
+            insertMusic.close();
+            insertBookmark.close();
+            reader.close();
+        }
+        Log.v(TAG, "Imported " + counts.musicCount + " tracks and " + counts.bookmarkCount + " bookmarks in " +
+                (System.currentTimeMillis() - startTime) + "ms");
+        return counts;
+    }
+
+    /**
+     * Find the tracks whose backup id names a different track in the music table or the MediaStore
+     * @param db database to import into
+     * @param contentResolver resolver used to read the MediaStore
+     * @param mediaUri MediaStore uri
+     * @param tracks tracks of one batch, at most {@link IdSelection#IDS_PER_QUERY}
+     * @return colliding tracks, empty if the MediaStore is unavailable
+     */
+    private static List<MusicRecord> findCollisions(SQLiteDatabase db, ContentResolver contentResolver, Uri mediaUri,
+                                                    List<MusicRecord> tracks) {
+        List<MusicRecord> collisions = new ArrayList<>();
+        if (tracks.isEmpty()) {
+            return collisions;
+        }
+        HashMap<Long, MusicRecord> tracksById = new HashMap<>();
+        String[] selectionArgs = new String[tracks.size()];
+        for (int i = 0; i < tracks.size(); i++) {
+            tracksById.put(tracks.get(i).backupId, tracks.get(i));
+            selectionArgs[i] = Long.toString(tracks.get(i).backupId);
+        }
+        String selection = IdSelection.in(MusicColumns._ID, tracks.size());
+        Cursor mediaCursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION, selection, selectionArgs, null);
+        if (mediaCursor == null) {
+            //Left for the reconciler, as the ids cannot be checked
+            Log.w(TAG, "MediaStore unavailable, importing ids unchecked");
+            return collisions;
+        }
+        Cursor localCursor = db.query(MusicColumns.TABLE, MusicColumns.MEDIASTORE_PROJECTION, selection, selectionArgs,
+                null, null, null);
+        try {
+            addCollisions(mediaCursor, tracksById, collisions);
+            addCollisions(localCursor, tracksById, collisions);
+        } finally {
+            mediaCursor.close();
+            localCursor.close();
+        }
+        return collisions;
+    }
+
+    /**
+     * Move the tracks named differently by a cursor from the map to the list of collisions
+     */
+    private static void addCollisions(Cursor cursor, HashMap<Long, MusicRecord> tracksById, List<MusicRecord> collisions) {
+        while (cursor.moveToNext()) {
+            MusicRecord track = tracksById.get(cursor.getLong(MusicColumns.COLUMN_INDEX_ID));
+            if (track != null && !track.matches(cursor)) {
+                tracksById.remove(track.backupId);
+                collisions.add(track);
+            }
+        }
+    }
+
+    /**
+     * Find a track in the MediaStore by title, album, and artist, preferring the newest
+     * @return id of the track, or null if not found
+     */
+    private static Long findByMetadata(ContentResolver contentResolver, Uri mediaUri, MusicRecord track) {
+        if (track.title == null || track.album == null || track.artist == null) {
+            return null;
+        }
+        String[] args = new String[] {track.title, track.album, track.artist};
+        Cursor cursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION, TITLE_ALBUM_ARTIST_FILTER,
+                args, ID_DESC_ORDER);
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(MusicColumns.COLUMN_INDEX_ID) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Find a track imported earlier under a placeholder id, by title, album, and artist
+     * @return placeholder id of the track, or null if not found
+     */
+    private static Long findPlaceholder(SQLiteDatabase db, MusicRecord track) {
+        if (track.title == null || track.album == null || track.artist == null) {
+            return null;
+        }
+        String[] args = new String[] {track.title, track.album, track.artist};
+        Cursor cursor = db.query(MusicColumns.TABLE, MusicColumns.MEDIASTORE_PROJECTION, PLACEHOLDER_FILTER, args,
+                null, null, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(MusicColumns.COLUMN_INDEX_ID) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static void bindMusic(SQLiteStatement statement, MusicRecord track) {
+        statement.clearBindings();
+        statement.bindLong(1, track.id);
+        bindLongOrNull(statement, 2, track.lastUsed);
+        statement.bindDouble(3, track.frecency);
+        bindLongOrNull(statement, 4, track.dateModified);
+        statement.bindLong(5, track.missing ? 1 : 0);
+        bindStringAndKey(statement, 6, track.title);
+        bindStringAndKey(statement, 8, track.album);
+        bindStringAndKey(statement, 10, track.artist);
+        bindStringAndKey(statement, 12, track.displayName);
+    }
+
+    /**
+     * @param importedIds ids that tracks were imported under, by backup id. Placeholder ids are negative,
+     *                    and their bookmarks are orphaned.
+     */
+    private static void bindBookmark(SQLiteStatement statement, BookmarkRecord bookmark, HashMap<Long, Long> importedIds) {
+        Long importedId = importedIds.get(bookmark.musicId);
+        long musicId = importedId != null ? importedId : bookmark.musicId;
+        statement.clearBindings();
+        statement.bindLong(1, musicId);
+        statement.bindLong(2, bookmark.position);
+        if (bookmark.label != null) {
+            statement.bindString(3, bookmark.label);
+        }
+        if (bookmark.color != null) {
+            statement.bindLong(4, bookmark.color);
+        }
+        statement.bindLong(5, bookmark.orphaned || musicId < 0 ? 1 : 0);
+    }
+
+    /**
+     * Bind a string and its sorting key to consecutive arguments, both null if the string is null
+     */
+    private static void bindStringAndKey(SQLiteStatement statement, int index, String value) {
+        if (value != null) {
+            statement.bindString(index, value);
+            statement.bindString(index + 1, MediaStore.Audio.keyFor(value));
+        }
+    }
+
+    private static void bindLongOrNull(SQLiteStatement statement, int index, Long value) {
+        if (value != null) {
+            statement.bindLong(index, value);
+        }
+    }
+
+    private static Long getLongOrNull(Cursor cursor, int index) {
+        return cursor.isNull(index) ? null : cursor.getLong(index);
+    }
+}
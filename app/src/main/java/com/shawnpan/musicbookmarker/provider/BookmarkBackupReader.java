@@ -0,0 +1,261 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for the binary bookmark backup format written by {@link BookmarkBackupWriter}.
+ * <p>
+ * Records are read one at a time with {@link #next()}, and the fields of the current record are
+ * available from the getters until the next call. Only the capped string table is kept in memory.
+ * Not thread safe.
+ */
+public class BookmarkBackupReader implements Closeable {
+    /**
+     * Type of the current record
+     */
+    public static final int RECORD_END = BookmarkBackupWriter.TAG_END;
+    public static final int RECORD_MUSIC = BookmarkBackupWriter.TAG_MUSIC;
+    public static final int RECORD_BOOKMARK = BookmarkBackupWriter.TAG_BOOKMARK;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final int version;
+    private final List<String> stringTable = new ArrayList<>();
+    private byte[] stringBuffer = new byte[256];
+    private boolean ended = false;
+
+    //Current music record
+    private long musicId;
+    private Long lastUsed;
+    private double frecency;
+    private Long dateModified;
+    private boolean missing;
+    private String title;
+    private String album;
+    private String artist;
+    private String displayName;
+
+    //Current bookmark record
+    private long bookmarkMusicId;
+    private long position;
+    private String label;
+    private Integer color;
+    private boolean orphaned;
+
+    /**
+     * Constructor - reads and checks the header
+     * @param in stream to read from, closed by {@link #close()}
+     * @throws IOException if the stream is not a backup or has an unsupported version
+     */
+    public BookmarkBackupReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, BUFFER_SIZE);
+        for (byte magicByte : BookmarkBackupWriter.MAGIC) {
+            if (readByte() != (magicByte & 0xFF)) {
+                throw new IOException("Not a bookmark backup");
+            }
+        }
+        version = (int) readVarint();
+        if (version < 1 || version > BookmarkBackupWriter.VERSION) {
+            throw new IOException("Unsupported bookmark backup version " + version);
+        }
+    }
+
+    /**
+     * @return format version of the backup
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Read the next record
+     * @return {@link #RECORD_MUSIC}, {@link #RECORD_BOOKMARK}, or {@link #RECORD_END} at the end of the backup
+     * @throws IOException if the stream ends early or the record is corrupt
+     */
+    public int next() throws IOException {
+        if (ended) {
+            return RECORD_END;
+        }
+        int tag = (int) readVarint();
+        switch (tag) {
+            case BookmarkBackupWriter.TAG_END:
+                ended = true;
+                return RECORD_END;
+            case BookmarkBackupWriter.TAG_MUSIC:
+                readMusic();
+                return RECORD_MUSIC;
+            case BookmarkBackupWriter.TAG_BOOKMARK:
+                readBookmark();
+                return RECORD_BOOKMARK;
+        }
+        throw new IOException("Unknown record type " + tag);
+    }
+
+    private void readMusic() throws IOException {
+        musicId += readSignedVarint();
+        int flags = (int) readVarint();
+        missing = (flags & BookmarkBackupWriter.MUSIC_FLAG_MISSING) != 0;
+        lastUsed = (flags & BookmarkBackupWriter.MUSIC_FLAG_LAST_USED) != 0 ? readSignedVarint() : null;
+        frecency = Double.longBitsToDouble(readFixed64());
+        dateModified = (flags & BookmarkBackupWriter.MUSIC_FLAG_DATE_MODIFIED) != 0 ? readSignedVarint() : null;
+        title = readString(false);
+        album = readString(true);
+        artist = readString(true);
+        displayName = (flags & BookmarkBackupWriter.MUSIC_FLAG_DISPLAY_NAME_IS_TITLE) != 0 ? title : readString(false);
+    }
+
+    private void readBookmark() throws IOException {
+        long musicIdDelta = readSignedVarint();
+        long positionValue = readSignedVarint();
+        bookmarkMusicId += musicIdDelta;
+        position = musicIdDelta == 0 ? position + positionValue : positionValue;
+        int flags = (int) readVarint();
+        orphaned = (flags & BookmarkBackupWriter.BOOKMARK_FLAG_ORPHANED) != 0;
+        color = (flags & BookmarkBackupWriter.BOOKMARK_FLAG_COLOR) != 0 ? (int) readVarint() : null;
+        label = readString(true);
+    }
+
+    public long getMusicId() {
+        return musicId;
+    }
+
+    public Long getLastUsed() {
+        return lastUsed;
+    }
+
+    public double getFrecency() {
+        return frecency;
+    }
+
+    public Long getDateModified() {
+        return dateModified;
+    }
+
+    public boolean isMissing() {
+        return missing;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public long getBookmarkMusicId() {
+        return bookmarkMusicId;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Integer getColor() {
+        return color;
+    }
+
+    public boolean isOrphaned() {
+        return orphaned;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Read a string written by {@link BookmarkBackupWriter}, keeping the string table in step with the writer
+     * @param intern true if the writer added the string to the string table
+     */
+    private String readString(boolean intern) throws IOException {
+        int reference = (int) readVarint();
+        if (reference == BookmarkBackupWriter.STRING_NULL) {
+            return null;
+        }
+        if (reference != BookmarkBackupWriter.STRING_NEW) {
+            int index = reference - BookmarkBackupWriter.STRING_INDEX_OFFSET;
+            if (index < 0 || index >= stringTable.size()) {
+                throw new IOException("Invalid string reference " + reference);
+            }
+            return stringTable.get(index);
+        }
+        int length = (int) readVarint();
+        //Fails fast on a corrupt length instead of allocating it
+        if (length < 0 || length > BookmarkBackupWriter.MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length " + length);
+        }
+        if (length > stringBuffer.length) {
+            stringBuffer = new byte[Math.max(length, stringBuffer.length * 2)];
+        }
+        readFully(stringBuffer, length);
+        String value = new String(stringBuffer, 0, length, BookmarkBackupWriter.UTF_8);
+        if (intern && stringTable.size() < BookmarkBackupWriter.MAX_STRING_TABLE_SIZE) {
+            stringTable.add(value);
+        }
+        return value;
+    }
+
+    private long readSignedVarint() throws IOException {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private long readFixed64() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            value |= (long) readByte() << shift;
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Bookmark backup ended early");
+        }
+        return b;
+    }
+
+    private void readFully(byte[] buffer, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int count = in.read(buffer, offset, length - offset);
+            if (count < 0) {
+                throw new EOFException("Bookmark backup ended early");
+            }
+            offset += count;
+        }
+    }
+}
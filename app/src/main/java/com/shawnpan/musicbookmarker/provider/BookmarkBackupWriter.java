@@ -0,0 +1,202 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+
+/**
+ * Streaming writer for the binary bookmark backup format.
+ * <p>
+ * A backup starts with the magic bytes "MBKB" and a format version, followed by tagged records and
+ * an end tag. Integers are varints, and ids and positions are written as zigzag encoded deltas from
+ * the previous record of the same type, so rows written in id and position order take a byte or two
+ * per number. A bookmark's position is relative to the previous bookmark when it belongs to the same
+ * track. Strings that tend to repeat (albums, artists, and labels) are written once and referred to by
+ * index afterwards, through a string table capped at {@link #MAX_STRING_TABLE_SIZE} entries so that
+ * memory stays constant however large the backup is. Strings seen after the table is full are
+ * written inline every time. Titles are always inline, so they do not crowd repeated strings out of
+ * the table, and a display name equal to the title is only a flag.
+ * <p>
+ * <pre>
+ * backup   = "MBKB" version record* END
+ * MUSIC    = tag id-delta flags [last-used] frecency(8 bytes) [date-modified] title album artist [display-name]
+ * BOOKMARK = tag music-id-delta position-delta flags [color] label
+ * string   = 0 (null) | 1 length utf8-bytes (new) | index + 2 (seen before)
+ * </pre>
+ * Not thread safe.
+ */
+public class BookmarkBackupWriter implements Closeable {
+    static final byte[] MAGIC = new byte[] {'M', 'B', 'K', 'B'};
+    static final int VERSION = 1;
+
+    static final int TAG_END = 0;
+    static final int TAG_MUSIC = 1;
+    static final int TAG_BOOKMARK = 2;
+
+    static final int MUSIC_FLAG_MISSING = 1;
+    static final int MUSIC_FLAG_LAST_USED = 2;
+    static final int MUSIC_FLAG_DATE_MODIFIED = 4;
+    static final int MUSIC_FLAG_DISPLAY_NAME_IS_TITLE = 8;
+    static final int BOOKMARK_FLAG_ORPHANED = 1;
+    static final int BOOKMARK_FLAG_COLOR = 2;
+
+    static final int STRING_NULL = 0;
+    static final int STRING_NEW = 1;
+    static final int STRING_INDEX_OFFSET = 2;
+    static final int MAX_STRING_TABLE_SIZE = 4096;
+    //Longest string in UTF-8, more than a row of a cursor window can hold, so that every exported string fits
+    static final int MAX_STRING_BYTES = 4 * 1024 * 1024;
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final HashMap<String, Integer> stringTable = new HashMap<>();
+    private long previousMusicId;
+    private long previousBookmarkMusicId;
+    private long previousPosition;
+    private boolean finished = false;
+
+    /**
+     * Constructor - writes the header
+     * @param out stream to write to, closed by {@link #close()}
+     * @throws IOException if the header cannot be written
+     */
+    public BookmarkBackupWriter(OutputStream out) throws IOException {
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+        this.out.write(MAGIC);
+        writeVarint(VERSION);
+    }
+
+    /**
+     * Write a track from the music table
+     * @param id id of track
+     * @param lastUsed time the track was last used, may be null
+     * @param frecency frecency score of the track
+     * @param dateModified modification time seen in the MediaStore, may be null
+     * @param missing true if the track can no longer be found
+     * @param title title of track
+     * @param album album of track
+     * @param artist artist of track
+     * @param displayName display name of track
+     * @throws IOException if the record cannot be written
+     */
+    public void writeMusic(long id, Long lastUsed, double frecency, Long dateModified, boolean missing,
+                           String title, String album, String artist, String displayName) throws IOException {
+        int flags = (missing ? MUSIC_FLAG_MISSING : 0) |
+                (lastUsed != null ? MUSIC_FLAG_LAST_USED : 0) |
+                (dateModified != null ? MUSIC_FLAG_DATE_MODIFIED : 0) |
+                (title != null && title.equals(displayName) ? MUSIC_FLAG_DISPLAY_NAME_IS_TITLE : 0);
+        writeVarint(TAG_MUSIC);
+        writeSignedVarint(id - previousMusicId);
+        previousMusicId = id;
+        writeVarint(flags);
+        if (lastUsed != null) {
+            writeSignedVarint(lastUsed);
+        }
+        writeFixed64(Double.doubleToLongBits(frecency));
+        if (dateModified != null) {
+            writeSignedVarint(dateModified);
+        }
+        writeString(title, false);
+        writeString(album, true);
+        writeString(artist, true);
+        if ((flags & MUSIC_FLAG_DISPLAY_NAME_IS_TITLE) == 0) {
+            writeString(displayName, false);
+        }
+    }
+
+    /**
+     * Write a bookmark
+     * @param musicId id of the track of the bookmark
+     * @param position position in milliseconds
+     * @param label label of bookmark, may be null
+     * @param color color of bookmark, may be null
+     * @param orphaned true if the track of the bookmark can no longer be found
+     * @throws IOException if the record cannot be written
+     */
+    public void writeBookmark(long musicId, long position, String label, Integer color, boolean orphaned)
+            throws IOException {
+        int flags = (orphaned ? BOOKMARK_FLAG_ORPHANED : 0) | (color != null ? BOOKMARK_FLAG_COLOR : 0);
+        long musicIdDelta = musicId - previousBookmarkMusicId;
+        writeVarint(TAG_BOOKMARK);
+        writeSignedVarint(musicIdDelta);
+        writeSignedVarint(musicIdDelta == 0 ? position - previousPosition : position);
+        previousBookmarkMusicId = musicId;
+        previousPosition = position;
+        writeVarint(flags);
+        if (color != null) {
+            writeVarint(color & 0xFFFFFFFFL);
+        }
+        writeString(label, true);
+    }
+
+    /**
+     * Write the end tag and flush. The backup is incomplete until this is called.
+     * @throws IOException if the stream cannot be written
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            writeVarint(TAG_END);
+            out.flush();
+            finished = true;
+        }
+    }
+
+    /**
+     * Close the underlying stream, without finishing the backup
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Write a string, inline or as a reference to the string table
+     * @param value string, may be null
+     * @param intern true to look up and add the string in the string table
+     * @throws IOException if the string is longer than {@link #MAX_STRING_BYTES}, which the reader would reject
+     */
+    private void writeString(String value, boolean intern) throws IOException {
+        if (value == null) {
+            writeVarint(STRING_NULL);
+            return;
+        }
+        Integer index = intern ? stringTable.get(value) : null;
+        if (index != null) {
+            writeVarint(index + STRING_INDEX_OFFSET);
+            return;
+        }
+        if (intern && stringTable.size() < MAX_STRING_TABLE_SIZE) {
+            stringTable.put(value, stringTable.size());
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("String of " + bytes.length + " bytes is too long for a backup");
+        }
+        writeVarint(STRING_NEW);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeSignedVarint(long value) throws IOException {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarint(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private void writeFixed64(long value) throws IOException {
+        for (int shift = 0; shift < 64; shift += 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+}
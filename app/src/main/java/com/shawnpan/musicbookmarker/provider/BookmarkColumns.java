@@ -11,6 +11,11 @@ public class BookmarkColumns implements BaseColumns {
      */
     public static final String TABLE = "bookmark";
 
+    /**
+     * Full text search table of bookmark labels, kept in sync by triggers. The docid is the bookmark id.
+     */
+    public static final String SEARCH_TABLE = "bookmark_search";
+
     /**
      * Join column with music table
      */
@@ -31,6 +36,11 @@ public class BookmarkColumns implements BaseColumns {
      */
     public static final String COLOR = "color";
 
+    /**
+     * Set when the track of the bookmark can no longer be found
+     */
+    public static final String ORPHANED = "orphaned";
+
     /**
      * Standard order of columns for queries
      */
@@ -39,11 +49,13 @@ public class BookmarkColumns implements BaseColumns {
             MUSIC_ID,
             POSITION,
             LABEL,
-            COLOR
+            COLOR,
+            ORPHANED
     };
     public static final int COLUMN_INDEX_ID = 0;
     public static final int COLUMN_INDEX_MUSIC_ID = 1;
     public static final int COLUMN_INDEX_POSITION = 2;
     public static final int COLUMN_INDEX_LABEL = 3;
     public static final int COLUMN_INDEX_COLOR = 4;
+    public static final int COLUMN_INDEX_ORPHANED = 5;
 }
@@ -0,0 +1,223 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.database.Cursor;
+
+import java.util.Arrays;
+
+/**
+ * Bookmarks of a single track sorted by position, held in primitive arrays so that the nearest
+ * bookmark to a playback position is found by binary search without querying the database.
+ * <p>
+ * Built once from the cursor returned by a bookmark query for the track, or page by page for tracks
+ * with too many bookmarks for a single cursor window, then kept up to date
+ * with {@link #put(Bookmark)} and {@link #remove(long)} as individual bookmarks change.
+ * Not thread safe - use from a single thread.
+ */
+public class BookmarkIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private final long musicId;
+    private long[] positions;
+    private int[] colors;
+    private long[] ids;
+    private int size;
+
+    /**
+     * Constructor for an empty index
+     * @param musicId id of the track
+     */
+    public BookmarkIndex(long musicId) {
+        this(musicId, MIN_CAPACITY);
+    }
+
+    private BookmarkIndex(long musicId, int capacity) {
+        this.musicId = musicId;
+        capacity = Math.max(capacity, MIN_CAPACITY);
+        positions = new long[capacity];
+        colors = new int[capacity];
+        ids = new long[capacity];
+    }
+
+    /**
+     * Build an index from a cursor matching the schema in {@link BookmarkColumns#PROJECTION}.
+     * The cursor is read from the start and is not closed.
+     * @param musicId id of the track
+     * @param cursor bookmarks of the track, ordered by position so that every row is appended at the end
+     * @return new index
+     */
+    public static BookmarkIndex fromCursor(long musicId, Cursor cursor) {
+        BookmarkIndex index = new BookmarkIndex(musicId, cursor.getCount());
+        cursor.moveToPosition(-1);
+        while (cursor.moveToNext()) {
+            index.insert(cursor.getLong(BookmarkColumns.COLUMN_INDEX_ID),
+                    cursor.getLong(BookmarkColumns.COLUMN_INDEX_POSITION),
+                    cursor.getInt(BookmarkColumns.COLUMN_INDEX_COLOR));
+        }
+        return index;
+    }
+
+    /**
+     * Add a page of bookmarks from a cursor matching the schema in {@link BookmarkColumns#PROJECTION}.
+     * The cursor is read from the start and is not closed.
+     * @param cursor bookmarks of the track, ordered by position and following the bookmarks already in the index
+     * @return number of bookmarks read
+     * @see MusicBookmarksProvider#getBookmarkPageUri(long, long, long, int)
+     */
+    public int appendPage(Cursor cursor) {
+        ensureCapacity(size + cursor.getCount());
+        int count = 0;
+        cursor.moveToPosition(-1);
+        while (cursor.moveToNext()) {
+            insert(cursor.getLong(BookmarkColumns.COLUMN_INDEX_ID),
+                    cursor.getLong(BookmarkColumns.COLUMN_INDEX_POSITION),
+                    cursor.getInt(BookmarkColumns.COLUMN_INDEX_COLOR));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return id of the track
+     */
+    public long getMusicId() {
+        return musicId;
+    }
+
+    /**
+     * @return number of bookmarks
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index between 0 and {@link #size()}
+     * @return position of the bookmark in milliseconds
+     */
+    public long getPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @param index index between 0 and {@link #size()}
+     * @return color of the bookmark
+     */
+    public int getColor(int index) {
+        return colors[index];
+    }
+
+    /**
+     * @param index index between 0 and {@link #size()}
+     * @return id of the bookmark
+     */
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Find the first bookmark after a time
+     * @param time playback position in milliseconds
+     * @return index of the first bookmark with a position greater than the time, or -1 if none
+     */
+    public int nextIndex(long time) {
+        int index = upperBound(time);
+        return index < size ? index : -1;
+    }
+
+    /**
+     * Find the last bookmark before a time
+     * @param time playback position in milliseconds
+     * @return index of the last bookmark with a position less than the time, or -1 if none
+     */
+    public int previousIndex(long time) {
+        return lowerBound(time) - 1;
+    }
+
+    /**
+     * Add a bookmark, or move it if a bookmark with the same id is already in the index.
+     * Bookmarks of other tracks are ignored.
+     * @param bookmark new or changed bookmark
+     */
+    public void put(Bookmark bookmark) {
+        remove(bookmark.getId());
+        if (bookmark.getMusicId() == musicId) {
+            insert(bookmark.getId(), bookmark.getPosition(), bookmark.getColor());
+        }
+    }
+
+    /**
+     * Remove a bookmark by id
+     * @param bookmarkId id of the bookmark
+     * @return true if the bookmark was in the index
+     */
+    public boolean remove(long bookmarkId) {
+        for (int index = 0; index < size; index++) {
+            if (ids[index] == bookmarkId) {
+                System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+                System.arraycopy(colors, index + 1, colors, index, size - index - 1);
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return index of the first position greater than or equal to the time
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of the first position greater than the time
+     */
+    private int upperBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Insert a bookmark after any bookmarks at the same position
+     */
+    private void insert(long id, long position, int color) {
+        ensureCapacity(size + 1);
+        int index = upperBound(position);
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        System.arraycopy(colors, index, colors, index + 1, size - index);
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        positions[index] = position;
+        colors[index] = color;
+        ids[index] = id;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int newCapacity = Math.max(capacity, positions.length * 2);
+            positions = Arrays.copyOf(positions, newCapacity);
+            colors = Arrays.copyOf(colors, newCapacity);
+            ids = Arrays.copyOf(ids, newCapacity);
+        }
+    }
+}
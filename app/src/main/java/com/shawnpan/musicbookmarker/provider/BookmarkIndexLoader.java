@@ -0,0 +1,174 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.AsyncQueryHandler;
+import android.content.ContentResolver;
+import android.content.ContentUris;
+import android.database.Cursor;
+import android.net.Uri;
+import android.util.Log;
+
+/**
+ * Loads the {@link BookmarkIndex} of a track in the background, one page at a time, and keeps it up to date
+ * as bookmarks change. Queries run on the worker thread of {@link AsyncQueryHandler}, results are applied
+ * on the thread that created the loader.
+ * <p>
+ * The previous index stays available while a track is reloaded after a batch change, and is replaced once
+ * the reload completes. Not thread safe - use from the thread that created the loader.
+ */
+public class BookmarkIndexLoader extends AsyncQueryHandler {
+    private static final String TAG = "BookmarkIndexLoader";
+    private static final int TOKEN_PAGE = 1;
+    private static final int TOKEN_BOOKMARK = 2;
+    private static final int PAGE_SIZE = MusicBookmarksProvider.MAX_BOOKMARK_PAGE_SIZE;
+
+    /**
+     * Receives the index when it is loaded or updated
+     */
+    public interface Listener {
+        /**
+         * @param index bookmarks of the track
+         */
+        void onBookmarkIndexChanged(BookmarkIndex index);
+    }
+
+    /**
+     * Query of a single changed bookmark, applied only if the index has not been replaced since
+     */
+    private static final class BookmarkQuery {
+        final BookmarkIndex index;
+        final long bookmarkId;
+
+        BookmarkQuery(BookmarkIndex index, long bookmarkId) {
+            this.index = index;
+            this.bookmarkId = bookmarkId;
+        }
+    }
+
+    private final Listener listener;
+    private long musicId = -1;
+    private BookmarkIndex index;
+    //Index being read, pages of other indexes are discarded
+    private BookmarkIndex loading;
+
+    /**
+     * Constructor
+     * @param contentResolver resolver to query bookmarks with
+     * @param listener receives loaded indexes, may be null
+     */
+    public BookmarkIndexLoader(ContentResolver contentResolver, Listener listener) {
+        super(contentResolver);
+        this.listener = listener;
+    }
+
+    /**
+     * Start loading the bookmarks of a track, dropping the index of the previous track
+     * @param musicId id of the track
+     */
+    public void load(long musicId) {
+        this.musicId = musicId;
+        index = null;
+        reload();
+    }
+
+    /**
+     * Stop loading and drop the index
+     */
+    public void clear() {
+        cancelOperation(TOKEN_PAGE);
+        cancelOperation(TOKEN_BOOKMARK);
+        musicId = -1;
+        index = null;
+        loading = null;
+    }
+
+    /**
+     * @return bookmarks of the track, or null until the first load completes
+     */
+    public BookmarkIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Update the index after a change. A change to a single bookmark only re-reads that bookmark,
+     * anything else (such as a batch) reloads the whole track.
+     * @param uri changed uri, may be null
+     */
+    public void onBookmarksChanged(Uri uri) {
+        if (musicId < 0) {
+            return;
+        }
+        if (uri == null || uri.equals(MusicBookmarksProvider.BOOKMARK_TABLE_URI) || index == null || loading != null) {
+            reload();
+            return;
+        }
+        startQuery(TOKEN_BOOKMARK, new BookmarkQuery(index, ContentUris.parseId(uri)), uri, null, null, null, null);
+    }
+
+    private void reload() {
+        cancelOperation(TOKEN_PAGE);
+        loading = new BookmarkIndex(musicId);
+        queryPage(Long.MIN_VALUE, Long.MIN_VALUE);
+    }
+
+    /**
+     * @param fromPosition position of the last bookmark read
+     * @param afterId id of the last bookmark read
+     */
+    private void queryPage(long fromPosition, long afterId) {
+        Uri pageUri = MusicBookmarksProvider.getBookmarkPageUri(fromPosition, Long.MAX_VALUE, afterId, PAGE_SIZE);
+        startQuery(TOKEN_PAGE, loading, pageUri, null, null, new String[] {Long.toString(musicId)}, null);
+    }
+
+    @Override
+    protected void onQueryComplete(int token, Object cookie, Cursor cursor) {
+        if (cursor == null) {
+            Log.e(TAG, "Failed to query bookmarks of track " + musicId);
+            if (cookie == loading) {
+                loading = null;
+            }
+            return;
+        }
+        try {
+            if (token == TOKEN_PAGE) {
+                onPageComplete((BookmarkIndex) cookie, cursor);
+            } else {
+                onBookmarkComplete((BookmarkQuery) cookie, cursor);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private void onPageComplete(BookmarkIndex pageIndex, Cursor cursor) {
+        if (pageIndex != loading) {
+            return;
+        }
+        if (loading.appendPage(cursor) < PAGE_SIZE) {
+            index = loading;
+            loading = null;
+            notifyListener();
+            return;
+        }
+        //Continue after the last bookmark read
+        int last = loading.size() - 1;
+        queryPage(loading.getPosition(last), loading.getId(last));
+    }
+
+    private void onBookmarkComplete(BookmarkQuery query, Cursor cursor) {
+        if (query.index != index) {
+            return;
+        }
+        if (cursor.moveToFirst()) {
+            index.put(Bookmark.fromCursor(cursor));
+        } else {
+            index.remove(query.bookmarkId);
+        }
+        notifyListener();
+    }
+
+    private void notifyListener() {
+        if (listener != null) {
+            listener.onBookmarkIndexChanged(index);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
+
+import com.shawnpan.musicbookmarker.chapters.AudioChapterParser;
+import com.shawnpan.musicbookmarker.chapters.ChapterListener;
+import com.shawnpan.musicbookmarker.chapters.CueSheetParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
+/**
+ * Turns the chapters of a track into bookmarks labelled with the chapter titles, inserting each
+ * chapter as it is parsed. Chapters already bookmarked at the same position are skipped, so
+ * importing again only adds what is new.
+ */
+final class ChapterImporter implements ChapterListener {
+    private static final String TAG = "ChapterImporter";
+
+    private final SQLiteStatement insertBookmark;
+    private final long musicId;
+    private int count = 0;
+
+    private ChapterImporter(SQLiteDatabase db, long musicId) {
+        this.insertBookmark = db.compileStatement(BookmarkBackup.INSERT_BOOKMARK_COMMAND);
+        this.musicId = musicId;
+    }
+
+    /**
+     * Add bookmarks for the chapters of a track from a cue sheet and from the chapter markers
+     * embedded in the audio file, all in one transaction
+     * @param db database to insert into
+     * @param musicId id of the track
+     * @param cueSheet cue sheet to read, or null
+     * @param audioPath path of the audio file, used to pick its tracks from a cue sheet listing
+     *                  several files. May be null.
+     * @param audio channel of the audio file to read embedded chapters from, or null
+     * @return number of bookmarks added
+     * @throws IOException if either file cannot be read or is corrupt, nothing is added then
+     */
+    static int importChapters(SQLiteDatabase db, long musicId, InputStream cueSheet, String audioPath, FileChannel audio)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        ChapterImporter importer = new ChapterImporter(db, musicId);
+        db.beginTransactionNonExclusive();
+        try {
+            if (cueSheet != null) {
+                CueSheetParser.parse(cueSheet, audioPath, importer);
+            }
+            if (audio != null) {
+                AudioChapterParser.parse(audio, importer);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            importer.insertBookmark.close();
+        }
+        Log.v(TAG, "Imported " + importer.count + " chapters for " + musicId + " in " +
+                (System.currentTimeMillis() - startTime) + "ms");
+        return importer.count;
+    }
+
+    @Override
+    public void onChapter(long startMs, String title) {
+        insertBookmark.clearBindings();
+        insertBookmark.bindLong(1, musicId);
+        insertBookmark.bindLong(2, startMs);
+        if (title != null) {
+            insertBookmark.bindString(3, title);
+        }
+        insertBookmark.bindLong(5, 0);
+        if (insertBookmark.executeInsert() != -1) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.shawnpan.musicbookmarker.provider;
+
+/**
+ * Frecency scores combining how often and how recently a track was used.
+ * <p>
+ * Every use adds a weight that halves every {@link #HALF_LIFE_MS}. Instead of decaying every stored
+ * score as time passes, weights are measured relative to the epoch and kept as a natural logarithm:
+ * a use at time t adds exp(t * decay) to the sum, and the score is the log of the sum. All scores
+ * decay at the same rate, so comparing the stored values gives the same order as comparing the
+ * decayed weights at any later time, and the order never needs recomputing at query time.
+ * Adding a use only needs the previous score.
+ */
+final class Frecency {
+    //Weight of a use halves every week
+    static final long HALF_LIFE_MS = 7L * 24 * 60 * 60 * 1000;
+    static final double DECAY_PER_MS = Math.log(2) / HALF_LIFE_MS;
+
+    /**
+     * Private constructor - static utility class
+     */
+    private Frecency() {}
+
+    /**
+     * @param time time of a single use in milliseconds
+     * @return score of a track used once at that time
+     */
+    static double ofUse(long time) {
+        return time * DECAY_PER_MS;
+    }
+
+    /**
+     * Add a use to a score
+     * @param score previous score of the track
+     * @param time time of the use in milliseconds
+     * @return new score
+     */
+    static double addUse(double score, long time) {
+        return merge(score, ofUse(time));
+    }
+
+    /**
+     * Combine the uses of two scores, for example when two rows of the same track are merged
+     * @param score first score
+     * @param otherScore second score
+     * @return score of all uses of both
+     */
+    static double merge(double score, double otherScore) {
+        //log(exp(a) + exp(b)) without overflowing
+        double high = Math.max(score, otherScore);
+        double low = Math.min(score, otherScore);
+        return high + Math.log1p(Math.exp(low - high));
+    }
+}
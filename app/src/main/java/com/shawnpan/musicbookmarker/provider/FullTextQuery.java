@@ -0,0 +1,106 @@
+package com.shawnpan.musicbookmarker.provider;
+
+/**
+ * Builds prefix MATCH expressions for the full text search tables.
+ * Tokens are split the same way as the SQLite "simple" tokenizer: ASCII letters and digits
+ * and all non-ASCII characters are part of a token, everything else is a separator.
+ */
+public final class FullTextQuery {
+
+    /**
+     * Private constructor - static utility class
+     */
+    private FullTextQuery() {}
+
+    /**
+     * Convert a search keyword into a MATCH expression where every token is a prefix query.
+     * For example "moon sona" becomes "moon* sona*", which matches rows containing words
+     * starting with both "moon" and "sona".
+     * @param keyword search term typed by the user
+     * @return MATCH expression, or null if the keyword contains no searchable tokens
+     */
+    public static String fromKeyword(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(keyword.length() + 4);
+        boolean inToken = false;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (isTokenChar(c)) {
+                if (!inToken && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(foldCase(c));
+                inToken = true;
+            } else if (inToken) {
+                builder.append('*');
+                inToken = false;
+            }
+        }
+        if (inToken) {
+            builder.append('*');
+        }
+        return builder.length() == 0 ? null : builder.toString();
+    }
+
+    /**
+     * Split a search keyword into case folded tokens, the same tokens used by {@link #fromKeyword}
+     * @param keyword search term typed by the user
+     * @return tokens, empty if the keyword contains no searchable tokens
+     */
+    public static String[] tokenize(String keyword) {
+        String matchQuery = fromKeyword(keyword);
+        if (matchQuery == null) {
+            return new String[0];
+        }
+        String[] tokens = matchQuery.split(" ");
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokens[i].substring(0, tokens[i].length() - 1);
+        }
+        return tokens;
+    }
+
+    /**
+     * Evaluate a single prefix token in memory, mirroring a MATCH of "token*" against one column
+     * @param text column text, may be null
+     * @param token case folded token from {@link #tokenize}
+     * @return true if some word in the text starts with the token
+     */
+    public static boolean matchesPrefix(String text, String token) {
+        if (text == null) {
+            return false;
+        }
+        int length = text.length();
+        for (int start = 0; start + token.length() <= length; start++) {
+            if (!isTokenChar(text.charAt(start)) || (start > 0 && isTokenChar(text.charAt(start - 1)))) {
+                continue;
+            }
+            int i = 0;
+            while (i < token.length() && foldCase(text.charAt(start + i)) == token.charAt(i)) {
+                i++;
+            }
+            if (i == token.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param c character
+     * @return true if the simple tokenizer treats the character as part of a token
+     */
+    static boolean isTokenChar(char c) {
+        return c >= 0x80 || (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * The simple tokenizer only folds ASCII case, so non-ASCII characters are left untouched.
+     * @param c character
+     * @return lower case character if ASCII, otherwise the input
+     */
+    static char foldCase(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+}
@@ -0,0 +1,44 @@
+package com.shawnpan.musicbookmarker.provider;
+
+/**
+ * Builds "_id IN (?, ...)" selections for looking up many rows by id in one query.
+ * Lookups are split into chunks of {@link #IDS_PER_QUERY} ids to stay well under the SQLite
+ * limit on bound arguments.
+ */
+final class IdSelection {
+    static final int IDS_PER_QUERY = 500;
+
+    /**
+     * Private constructor - static utility class
+     */
+    private IdSelection() {}
+
+    /**
+     * Build a selection matching any of a number of ids
+     * @param column id column
+     * @param count number of ids, at least one
+     * @return selection with one placeholder per id
+     */
+    static String in(String column, int count) {
+        StringBuilder selection = new StringBuilder(column.length() + 6 + count * 3).append(column).append(" IN (?");
+        for (int i = 1; i < count; i++) {
+            selection.append(", ?");
+        }
+        return selection.append(')').toString();
+    }
+
+    /**
+     * Convert part of an array of ids to selection arguments
+     * @param ids ids
+     * @param start index of the first id
+     * @param end index after the last id
+     * @return one argument per id
+     */
+    static String[] args(long[] ids, int start, int end) {
+        String[] args = new String[end - start];
+        for (int i = start; i < end; i++) {
+            args[i - start] = Long.toString(ids[i]);
+        }
+        return args;
+    }
+}
@@ -0,0 +1,103 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive longs using open addressing with linear probing, to avoid boxing ids.
+ */
+final class LongHashSet {
+    private static final long EMPTY = 0L;
+
+    private long[] slots;
+    private int size;
+    //Zero marks an empty slot, so membership of zero itself is tracked separately
+    private boolean containsZero;
+
+    /**
+     * Constructor
+     * @param expectedSize number of values expected, used to size the table
+     */
+    LongHashSet(int expectedSize) {
+        int capacity = 8;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        slots = new long[capacity];
+    }
+
+    /**
+     * Add a value to the set
+     * @param value value to add
+     * @return true if the value was not already present
+     */
+    boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        if (insert(slots, value)) {
+            if (++size * 2 > slots.length) {
+                grow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param value value to find
+     * @return true if the value is in the set
+     */
+    boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        for (int i = hash(value) & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (slots[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove all values, keeping the allocated table
+     */
+    void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        containsZero = false;
+    }
+
+    private void grow() {
+        long[] newSlots = new long[slots.length * 2];
+        for (long value : slots) {
+            if (value != EMPTY) {
+                insert(newSlots, value);
+            }
+        }
+        slots = newSlots;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int i = hash(value) & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        return true;
+    }
+
+    private static int hash(long value) {
+        long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,29 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.provider.MediaStore;
+
+/**
+ * Columns in the local full text index of MediaStore music metadata.
+ * The docid of each row is the id of the track in the MediaStore.
+ */
+public class MediaSearchColumns implements MediaStore.Audio.AudioColumns {
+    /**
+     * Name of the full text search table
+     */
+    public static final String TABLE = "media_search";
+
+    /**
+     * Row id of the full text search table, equal to the MediaStore id
+     */
+    public static final String DOCID = "docid";
+
+    /**
+     * Columns for queries, in the same order as {@link MusicColumns#MEDIASTORE_PROJECTION}
+     */
+    public static final String[] PROJECTION = new String[] {
+            DOCID + " AS " + _ID,
+            TITLE,
+            ALBUM,
+            ARTIST
+    };
+}
@@ -0,0 +1,163 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentResolver;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+/**
+ * Maintains {@link MediaSearchColumns#TABLE}, a local full text index of MediaStore music metadata.
+ * The index is rebuilt in the background when the provider starts and whenever the MediaStore
+ * changes. While a rebuild is in progress {@link #isReady()} returns false and callers should
+ * query the MediaStore directly.
+ */
+public class MediaSearchIndex {
+    private static final String TAG = "MediaSearchIndex";
+
+    //Wait for a burst of MediaStore changes (e.g. media scanner running) to settle before rebuilding
+    private static final long REBUILD_DELAY_MS = 2000;
+    //Rows per transaction, small enough that readers are not blocked for long
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    private static final String MEDIASTORE_FILTER = MusicColumns.IS_MUSIC + " = 1";
+    private static final String CLEAR_COMMAND = "DELETE FROM " + MediaSearchColumns.TABLE;
+    private static final String INSERT_COMMAND =
+            "INSERT INTO " + MediaSearchColumns.TABLE + "(" + MediaSearchColumns.DOCID + ", " +
+                    MediaSearchColumns.TITLE + ", " + MediaSearchColumns.ALBUM + ", " + MediaSearchColumns.ARTIST +
+                    ") VALUES (?, ?, ?, ?)";
+
+    private final SQLiteOpenHelper openHelper;
+    private final ContentResolver contentResolver;
+    private final Uri mediaUri;
+    private final Handler handler;
+    private final ContentObserver mediaObserver;
+    private volatile boolean ready = false;
+    private volatile int generation = 0;
+
+    /**
+     * Constructor
+     * @param openHelper helper for the database containing the index table
+     * @param contentResolver resolver used to read the MediaStore
+     * @param mediaUri MediaStore uri to index
+     */
+    public MediaSearchIndex(SQLiteOpenHelper openHelper, ContentResolver contentResolver, Uri mediaUri) {
+        this.openHelper = openHelper;
+        this.contentResolver = contentResolver;
+        this.mediaUri = mediaUri;
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+        mediaObserver = new ContentObserver(handler) {
+            @Override
+            public void onChange(boolean selfChange) {
+                scheduleRebuild(REBUILD_DELAY_MS);
+            }
+        };
+    }
+
+    /**
+     * Start watching the MediaStore and build the index in the background
+     */
+    public void start() {
+        contentResolver.registerContentObserver(mediaUri, true, mediaObserver);
+        scheduleRebuild(0);
+    }
+
+    /**
+     * @return true if the index reflects the current MediaStore contents
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return number of completed rebuilds, changes whenever the index contents change
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Schedule a rebuild, replacing any pending rebuild
+     * @param delayMs delay before rebuilding
+     */
+    private void scheduleRebuild(long delayMs) {
+        handler.removeCallbacks(rebuildRunnable);
+        handler.postDelayed(rebuildRunnable, delayMs);
+    }
+
+    private final Runnable rebuildRunnable = new Runnable() {
+        @Override
+        public void run() {
+            ready = false;
+            try {
+                rebuild();
+                generation++;
+                ready = true;
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to rebuild media search index", e);
+            }
+        }
+    };
+
+    /**
+     * Replace the contents of the index with the current MediaStore music tracks
+     */
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Cursor mediaCursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION, MEDIASTORE_FILTER, null, null);
+        if (mediaCursor == null) {
+            throw new IllegalStateException("MediaStore unavailable");
+        }
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        SQLiteStatement insertStatement = db.compileStatement(INSERT_COMMAND);
+        int rowCount = 0;
+        try {
+            db.beginTransactionNonExclusive();
+            try {
+                db.execSQL(CLEAR_COMMAND);
+                int rowsInTransaction = 0;
+                while (mediaCursor.moveToNext()) {
+                    insertStatement.bindLong(1, mediaCursor.getLong(MusicColumns.COLUMN_INDEX_ID));
+                    bindStringOrNull(insertStatement, 2, mediaCursor.getString(MusicColumns.COLUMN_INDEX_TITLE));
+                    bindStringOrNull(insertStatement, 3, mediaCursor.getString(MusicColumns.COLUMN_INDEX_ALBUM));
+                    bindStringOrNull(insertStatement, 4, mediaCursor.getString(MusicColumns.COLUMN_INDEX_ARTIST));
+                    insertStatement.executeInsert();
+                    rowCount++;
+                    if (++rowsInTransaction == ROWS_PER_TRANSACTION) {
+                        db.setTransactionSuccessful();
+                        db.endTransaction();
+                        db.beginTransactionNonExclusive();
+                        rowsInTransaction = 0;
+                    }
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } finally {
+            insertStatement.close();
+            mediaCursor.close();
+        }
+        MusicBookmarksDatabaseHelper.checkpoint(db);
+        Log.v(TAG, "Indexed " + rowCount + " tracks in " + (System.currentTimeMillis() - startTime) + "ms");
+    }
+
+    /**
+     * Bind a possibly null string to a statement
+     */
+    private static void bindStringOrNull(SQLiteStatement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else {
+            statement.bindString(index, value);
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.shawnpan.musicbookmarker.provider;
 
 import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.util.Log;
 
+import com.shawnpan.musicbookmarker.BuildConfig;
+
 /**
  * Database builder
  */
 public class MusicBookmarksDatabaseHelper extends SQLiteOpenHelper {
     private static final String TAG = "MusicBookmarksDatabase";
     private static final String DB_NAME = "MusicBookmarker.db";
-    private static final int DB_VERSION = 4;
+    private static final int DB_VERSION = 9;
+    //Checkpoint the write-ahead log after roughly 1MB of changes (4KB pages), then shrink it back to this size
+    private static final int WAL_AUTOCHECKPOINT_PAGES = 250;
+    private static final long JOURNAL_SIZE_LIMIT_BYTES = 512 * 1024;
+    //Oldest version that can be migrated without losing data, older databases are rebuilt
+    private static final int FIRST_MIGRATABLE_VERSION = 4;
+
+    /*
+     * Version 4 schema, the starting point for migrations
+     */
     private static final String CREATE_MUSIC_TABLE_COMMAND =
             "CREATE TABLE " + MusicColumns.TABLE +
                     " (" +
@@ -25,12 +38,7 @@ public class MusicBookmarksDatabaseHelper extends SQLiteOpenHelper {
                     MusicColumns.ALBUM_KEY + " TEXT, " +
                     MusicColumns.ARTIST + " TEXT, " +
                     MusicColumns.ARTIST_KEY + " TEXT" +
-                    ");" +
-                    "CREATE INDEX last_used_index ON " + MusicColumns.TABLE + "(" + MusicColumns.LAST_USED + ")" +
-                    "CREATE INDEX display_name_key_index ON " + MusicColumns.TABLE + "(" + MusicColumns.DISPLAY_NAME_KEY + ")" +
-                    "CREATE INDEX title_key_index ON " + MusicColumns.TABLE + "(" + MusicColumns.TITLE_KEY + ")" +
-                    "CREATE INDEX album_key_index ON " + MusicColumns.TABLE + "(" + MusicColumns.ALBUM_KEY + ")" +
-                    "CREATE INDEX artist_key_index ON " + MusicColumns.TABLE + "(" + MusicColumns.ARTIST_KEY + ")";
+                    ")";
     private static final String CREATE_BOOKMARK_TABLE_COMMAND =
             "CREATE TABLE " + BookmarkColumns.TABLE +
                     " (" +
@@ -39,31 +47,235 @@ public class MusicBookmarksDatabaseHelper extends SQLiteOpenHelper {
                     BookmarkColumns.POSITION + " INTEGER, " +
                     BookmarkColumns.LABEL + " TEXT, " +
                     BookmarkColumns.COLOR + " INTEGER" +
-                    ");" +
-                    "CREATE INDEX music_id_index ON " + BookmarkColumns.TABLE + "(" + BookmarkColumns.MUSIC_ID + ")";
+                    ")";
+    private static final String MUSIC_SEARCH_COLUMNS =
+            MusicColumns.DISPLAY_NAME + ", " + MusicColumns.TITLE + ", " + MusicColumns.ALBUM + ", " + MusicColumns.ARTIST;
+    private static final String MUSIC_SEARCH_INSERT =
+            "INSERT INTO " + MusicColumns.SEARCH_TABLE + "(docid, " + MUSIC_SEARCH_COLUMNS + ") VALUES (new." +
+                    MusicColumns._ID + ", new." + MusicColumns.DISPLAY_NAME + ", new." + MusicColumns.TITLE +
+                    ", new." + MusicColumns.ALBUM + ", new." + MusicColumns.ARTIST + ");";
+    //Version 5: full text search tables, filled from the existing music rows
+    private static final String[] CREATE_SEARCH_INDEX_COMMANDS = new String[] {
+            "CREATE VIRTUAL TABLE " + MusicColumns.SEARCH_TABLE + " USING fts4(" + MUSIC_SEARCH_COLUMNS + ")",
+            //Replacing a row does not fire delete triggers, so inserts also clear any stale entry for the id
+            "CREATE TRIGGER music_search_insert AFTER INSERT ON " + MusicColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + MusicColumns.SEARCH_TABLE + " WHERE docid = new." + MusicColumns._ID + "; " +
+                    MUSIC_SEARCH_INSERT + " END",
+            "CREATE TRIGGER music_search_update AFTER UPDATE ON " + MusicColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + MusicColumns.SEARCH_TABLE + " WHERE docid = old." + MusicColumns._ID + "; " +
+                    "DELETE FROM " + MusicColumns.SEARCH_TABLE + " WHERE docid = new." + MusicColumns._ID + "; " +
+                    MUSIC_SEARCH_INSERT + " END",
+            "CREATE TRIGGER music_search_delete AFTER DELETE ON " + MusicColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + MusicColumns.SEARCH_TABLE + " WHERE docid = old." + MusicColumns._ID + "; END",
+            "CREATE VIRTUAL TABLE " + MediaSearchColumns.TABLE + " USING fts4(" +
+                    MediaSearchColumns.TITLE + ", " + MediaSearchColumns.ALBUM + ", " + MediaSearchColumns.ARTIST + ")",
+            "INSERT INTO " + MusicColumns.SEARCH_TABLE + "(docid, " + MUSIC_SEARCH_COLUMNS + ") SELECT " +
+                    MusicColumns._ID + ", " + MUSIC_SEARCH_COLUMNS + " FROM " + MusicColumns.TABLE
+    };
+
+    //Version 6: indexes for recency ordering and bookmark lookups. Earlier versions chained these
+    //onto the CREATE TABLE command, where they were silently ignored.
+    private static final String[] CREATE_INDEX_COMMANDS = new String[] {
+            "CREATE INDEX IF NOT EXISTS last_used_index ON " + MusicColumns.TABLE + "(" + MusicColumns.LAST_USED + ")",
+            "CREATE INDEX IF NOT EXISTS bookmark_music_position_index ON " + BookmarkColumns.TABLE +
+                    "(" + BookmarkColumns.MUSIC_ID + ", " + BookmarkColumns.POSITION + ")"
+    };
+
+    //Version 7: state for reconciling the music table with the MediaStore
+    private static final String[] RECONCILE_COLUMN_COMMANDS = new String[] {
+            "ALTER TABLE " + MusicColumns.TABLE + " ADD COLUMN " + MusicColumns.DATE_MODIFIED + " INTEGER",
+            "ALTER TABLE " + MusicColumns.TABLE + " ADD COLUMN " + MusicColumns.MISSING + " INTEGER NOT NULL DEFAULT 0",
+            "ALTER TABLE " + BookmarkColumns.TABLE + " ADD COLUMN " + BookmarkColumns.ORPHANED + " INTEGER NOT NULL DEFAULT 0"
+    };
+
+    //Version 8: frecency ranking, seeded from the last use. Replaces the recency index.
+    private static final String[] FRECENCY_COLUMN_COMMANDS = new String[] {
+            "ALTER TABLE " + MusicColumns.TABLE + " ADD COLUMN " + MusicColumns.FRECENCY + " REAL NOT NULL DEFAULT 0",
+            "UPDATE " + MusicColumns.TABLE + " SET " + MusicColumns.FRECENCY + " = IFNULL(" + MusicColumns.LAST_USED +
+                    ", 0) * " + Frecency.DECAY_PER_MS,
+            "DROP INDEX IF EXISTS last_used_index",
+            "CREATE INDEX IF NOT EXISTS frecency_index ON " + MusicColumns.TABLE + "(" + MusicColumns.FRECENCY + ")"
+    };
+
+    //Version 9: full text search over bookmark labels, filled from the existing bookmarks.
+    //Jumping from a match to its track and position reads the bookmark row by id, and
+    //bookmark_music_position_index from version 6 already covers listing a track's bookmarks.
+    private static final String BOOKMARK_SEARCH_INSERT =
+            "INSERT INTO " + BookmarkColumns.SEARCH_TABLE + "(docid, " + BookmarkColumns.LABEL + ") VALUES (new." +
+                    BookmarkColumns._ID + ", new." + BookmarkColumns.LABEL + ");";
+    private static final String[] CREATE_BOOKMARK_SEARCH_COMMANDS = new String[] {
+            "CREATE VIRTUAL TABLE " + BookmarkColumns.SEARCH_TABLE + " USING fts4(" + BookmarkColumns.LABEL + ")",
+            "CREATE TRIGGER bookmark_search_insert AFTER INSERT ON " + BookmarkColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + BookmarkColumns.SEARCH_TABLE + " WHERE docid = new." + BookmarkColumns._ID + "; " +
+                    BOOKMARK_SEARCH_INSERT + " END",
+            "CREATE TRIGGER bookmark_search_update AFTER UPDATE OF " + BookmarkColumns._ID + ", " + BookmarkColumns.LABEL +
+                    " ON " + BookmarkColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + BookmarkColumns.SEARCH_TABLE + " WHERE docid = old." + BookmarkColumns._ID + "; " +
+                    "DELETE FROM " + BookmarkColumns.SEARCH_TABLE + " WHERE docid = new." + BookmarkColumns._ID + "; " +
+                    BOOKMARK_SEARCH_INSERT + " END",
+            "CREATE TRIGGER bookmark_search_delete AFTER DELETE ON " + BookmarkColumns.TABLE + " BEGIN " +
+                    "DELETE FROM " + BookmarkColumns.SEARCH_TABLE + " WHERE docid = old." + BookmarkColumns._ID + "; END",
+            "INSERT INTO " + BookmarkColumns.SEARCH_TABLE + "(docid, " + BookmarkColumns.LABEL + ") SELECT " +
+                    BookmarkColumns._ID + ", " + BookmarkColumns.LABEL + " FROM " + BookmarkColumns.TABLE
+    };
+
+    //MIGRATIONS[i] upgrades version FIRST_MIGRATABLE_VERSION + i to the next version
+    private static final String[][] MIGRATIONS = new String[][] {
+            CREATE_SEARCH_INDEX_COMMANDS,
+            CREATE_INDEX_COMMANDS,
+            RECONCILE_COLUMN_COMMANDS,
+            FRECENCY_COLUMN_COMMANDS,
+            CREATE_BOOKMARK_SEARCH_COMMANDS
+    };
+
+    /*
+     * Hot queries that must be answered from an index, checked in debug builds
+     */
+    private static final String[] INDEXED_QUERIES = new String[] {
+            //Bookmarks of a track in order
+            "SELECT * FROM " + BookmarkColumns.TABLE + " WHERE " + BookmarkColumns.MUSIC_ID + " = 0 ORDER BY " +
+                    BookmarkColumns.POSITION + " ASC",
+            //Page of the bookmarks of a track
+            "SELECT * FROM " + BookmarkColumns.TABLE + " WHERE " + BookmarkColumns.MUSIC_ID + " = 0 AND " +
+                    BookmarkColumns.POSITION + " >= 0 AND " + BookmarkColumns.POSITION + " < 1 AND (" +
+                    BookmarkColumns.POSITION + " > 0 OR " + BookmarkColumns._ID + " > 0) ORDER BY " +
+                    BookmarkColumns.POSITION + " ASC, " + BookmarkColumns._ID + " ASC LIMIT 1",
+            //Recently used tracks by frecency, also used to trim the history
+            "SELECT " + MusicColumns._ID + " FROM " + MusicColumns.TABLE + " ORDER BY " + MusicColumns.FRECENCY + " DESC",
+            //Track by id
+            "SELECT * FROM " + MusicColumns.TABLE + " WHERE " + MusicColumns._ID + " = 0"
+    };
+    private static final int QUERY_PLAN_COLUMN_INDEX_DETAIL = 3;
     private static final String DROP_MUSIC_TABLE_COMMAND = "DROP TABLE IF EXISTS " + MusicColumns.TABLE;
     private static final String DROP_BOOKMARK_TABLE_COMMAND = "DROP TABLE IF EXISTS " + BookmarkColumns.TABLE;
+    private static final String DROP_MUSIC_SEARCH_TABLE_COMMAND = "DROP TABLE IF EXISTS " + MusicColumns.SEARCH_TABLE;
+    private static final String DROP_MEDIA_SEARCH_TABLE_COMMAND = "DROP TABLE IF EXISTS " + MediaSearchColumns.TABLE;
+    private static final String DROP_BOOKMARK_SEARCH_TABLE_COMMAND = "DROP TABLE IF EXISTS " + BookmarkColumns.SEARCH_TABLE;
+
+    private final boolean writeAheadLogging;
+    private final StatementCache statementCache = new StatementCache(this);
 
     /**
      * Constructor
      * @param context context of application
      */
     public MusicBookmarksDatabaseHelper(Context context) {
-        super(context, DB_NAME, null, DB_VERSION);
+        this(context, DB_NAME, true);
+    }
+
+    /**
+     * Constructor for a database with a custom name and journal mode, used by tests
+     * @param context context of application
+     * @param name file name of the database
+     * @param writeAheadLogging true to use write-ahead logging, false for the rollback journal
+     */
+    MusicBookmarksDatabaseHelper(Context context, String name, boolean writeAheadLogging) {
+        super(context, name, null, DB_VERSION);
+        this.writeAheadLogging = writeAheadLogging;
+        //Readers use their own connections and are never blocked by the background writers
+        setWriteAheadLoggingEnabled(writeAheadLogging);
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        if (writeAheadLogging) {
+            //PRAGMA statements return a row, so they cannot be run with execSQL
+            DatabaseUtils.longForQuery(db, "PRAGMA wal_autocheckpoint = " + WAL_AUTOCHECKPOINT_PAGES, null);
+            DatabaseUtils.longForQuery(db, "PRAGMA journal_size_limit = " + JOURNAL_SIZE_LIMIT_BYTES, null);
+        }
     }
 
     @Override
     public void onCreate(SQLiteDatabase db) {
         db.execSQL(CREATE_MUSIC_TABLE_COMMAND);
         db.execSQL(CREATE_BOOKMARK_TABLE_COMMAND);
+        migrate(db, FIRST_MIGRATABLE_VERSION, DB_VERSION);
     }
 
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        Log.w(TAG, "Upgrading database from version " + oldVersion + " to "
-                + newVersion + ", which will destroy all old data");
-        db.execSQL(DROP_BOOKMARK_TABLE_COMMAND);
-        db.execSQL(DROP_MUSIC_TABLE_COMMAND);
-        onCreate(db);
+        if (oldVersion < FIRST_MIGRATABLE_VERSION) {
+            Log.w(TAG, "Upgrading database from version " + oldVersion + " to "
+                    + newVersion + ", which will destroy all old data");
+            db.execSQL(DROP_BOOKMARK_TABLE_COMMAND);
+            db.execSQL(DROP_MUSIC_TABLE_COMMAND);
+            db.execSQL(DROP_MUSIC_SEARCH_TABLE_COMMAND);
+            db.execSQL(DROP_MEDIA_SEARCH_TABLE_COMMAND);
+            db.execSQL(DROP_BOOKMARK_SEARCH_TABLE_COMMAND);
+            onCreate(db);
+            return;
+        }
+        Log.i(TAG, "Migrating database from version " + oldVersion + " to " + newVersion);
+        migrate(db, oldVersion, newVersion);
+    }
+
+    @Override
+    public void onOpen(SQLiteDatabase db) {
+        super.onOpen(db);
+        //Statements compiled against a previously opened database cannot be used with this one
+        statementCache.invalidate();
+        if (BuildConfig.DEBUG) {
+            verifyQueryPlans(db);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        statementCache.invalidate();
+        super.close();
+    }
+
+    /**
+     * @return cache of compiled statements for this database
+     */
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Copy committed changes from the write-ahead log into the database without waiting for readers.
+     * Called by background writers after large batches, so that the next commit on another thread
+     * does not have to run the checkpoint.
+     * @param db writable database
+     */
+    static void checkpoint(SQLiteDatabase db) {
+        if (db.isWriteAheadLoggingEnabled()) {
+            DatabaseUtils.longForQuery(db, "PRAGMA wal_checkpoint(PASSIVE)", null);
+        }
+    }
+
+    /**
+     * Run the migration steps between two versions, one statement at a time.
+     * Called inside the transaction opened by {@link SQLiteOpenHelper}, so a failed step rolls back the whole upgrade.
+     * @param db database to migrate
+     * @param fromVersion current version, at least {@link #FIRST_MIGRATABLE_VERSION}
+     * @param toVersion target version
+     */
+    private static void migrate(SQLiteDatabase db, int fromVersion, int toVersion) {
+        for (int version = fromVersion; version < toVersion; version++) {
+            for (String command : MIGRATIONS[version - FIRST_MIGRATABLE_VERSION]) {
+                db.execSQL(command);
+            }
+        }
+    }
+
+    /**
+     * Log a warning for every hot query that scans a table or sorts in a temporary b-tree
+     * @param db open database
+     */
+    private static void verifyQueryPlans(SQLiteDatabase db) {
+        for (String query : INDEXED_QUERIES) {
+            Cursor plan = db.rawQuery("EXPLAIN QUERY PLAN " + query, null);
+            try {
+                while (plan.moveToNext()) {
+                    String detail = plan.getString(QUERY_PLAN_COLUMN_INDEX_DETAIL);
+                    if ((detail.startsWith("SCAN") && !detail.contains(" USING ")) || detail.contains("TEMP B-TREE")) {
+                        Log.w(TAG, "Query not using an index: " + query + " -> " + detail);
+                    }
+                }
+            } finally {
+                plan.close();
+            }
+        }
     }
 }
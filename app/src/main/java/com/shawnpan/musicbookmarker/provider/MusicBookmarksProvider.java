@@ -2,20 +2,43 @@ package com.shawnpan.musicbookmarker.provider;
 
 import android.app.SearchManager;
 import android.content.ContentProvider;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
+import android.content.ContentUris;
 import android.content.ContentValues;
-import android.content.Context;
+import android.content.OperationApplicationException;
 import android.content.UriMatcher;
 import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.database.sqlite.SQLiteOpenHelper;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.os.ParcelFileDescriptor;
+import android.provider.BaseColumns;
 import android.provider.MediaStore;
 import android.text.TextUtils;
 import android.util.Log;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Content provider for music bookmarks.
  */
@@ -31,37 +54,112 @@ public class MusicBookmarksProvider extends ContentProvider {
     private static final String GET_INFO = "get_info";
     public static final Uri SUGGESTIONS_URI = Uri.parse(CONTENT_AUTHORITY + SearchManager.SUGGEST_URI_PATH_QUERY);
     public static final Uri GET_INFO_URI = Uri.parse(CONTENT_AUTHORITY + GET_INFO);
+    private static final String BACKUP = "backup";
+    /**
+     * Uri of a backup of all tracks and bookmarks. Opening it for reading streams an export,
+     * and opening it for writing imports whatever is written to it.
+     */
+    public static final Uri BACKUP_URI = Uri.parse(CONTENT_AUTHORITY + BACKUP);
+    //Query parameter of a bookmark uri in a suggestion, holding the position to jump to
+    private static final String PARAMETER_POSITION = "position";
+    private static final String PARAMETER_FROM_POSITION = "from";
+    private static final String PARAMETER_TO_POSITION = "to";
+    private static final String PARAMETER_AFTER_ID = "after_id";
+    private static final String PARAMETER_LIMIT = "limit";
 
     private static final int URI_MATCH_SUGGEST = 1;
     private static final int URI_MATCH_GET = 2;
     private static final int URI_MATCH_BOOKMARK = 3;
+    private static final int URI_MATCH_BOOKMARK_ID = 4;
+    private static final int URI_MATCH_MUSIC = 5;
+    private static final int URI_MATCH_BACKUP = 6;
     private static final UriMatcher URI_MATCHER = new UriMatcher(UriMatcher.NO_MATCH);
     static {
         URI_MATCHER.addURI(AUTHORITY, SearchManager.SUGGEST_URI_PATH_QUERY, URI_MATCH_SUGGEST);
         URI_MATCHER.addURI(AUTHORITY, GET_INFO, URI_MATCH_GET);
         URI_MATCHER.addURI(AUTHORITY, BookmarkColumns.TABLE, URI_MATCH_BOOKMARK);
+        URI_MATCHER.addURI(AUTHORITY, BookmarkColumns.TABLE + "/#", URI_MATCH_BOOKMARK_ID);
+        URI_MATCHER.addURI(AUTHORITY, MusicColumns.TABLE, URI_MATCH_MUSIC);
+        URI_MATCHER.addURI(AUTHORITY, BACKUP, URI_MATCH_BACKUP);
     }
 
-    private SQLiteOpenHelper openHelper;
+    private static final String BOOKMARK_DIR_TYPE =
+            ContentResolver.CURSOR_DIR_BASE_TYPE + "/vnd.com.shawnpan.musicbookmarker." + BookmarkColumns.TABLE;
+    private static final String BOOKMARK_ITEM_TYPE =
+            ContentResolver.CURSOR_ITEM_BASE_TYPE + "/vnd.com.shawnpan.musicbookmarker." + BookmarkColumns.TABLE;
+    private static final String BACKUP_TYPE = "application/vnd.com.shawnpan.musicbookmarker." + BACKUP;
+
+    private MusicBookmarksDatabaseHelper openHelper;
+    private MediaSearchIndex mediaSearchIndex;
+    private SuggestionIndex suggestionIndex;
+    private final SuggestionRefinementCache refinementCache = new SuggestionRefinementCache();
+    private volatile int refinementCacheGeneration;
+    private RecentHistoryWriter historyWriter;
+    private MusicReconciler musicReconciler;
+    static final int MAX_HISTORY_COUNT = 100;
+
+    //Small pool for running suggestion queries in parallel, runs on the caller when saturated
+    private static final int SUGGESTION_THREAD_COUNT = 2;
+    private static final int SUGGESTION_QUEUE_SIZE = 4;
+    private static final long SUGGESTION_THREAD_KEEP_ALIVE_SECONDS = 30;
+    private ThreadPoolExecutor suggestionExecutor;
+
+    //Batch running on the current thread, null when not in a batch
+    private final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
+
+    public MusicBookmarksProvider() {
+    }
+
+    /**
+     * Constructor for a provider on a custom database, used by tests
+     * @param openHelper helper for the database
+     */
+    MusicBookmarksProvider(MusicBookmarksDatabaseHelper openHelper) {
+        this.openHelper = openHelper;
+    }
 
     @Override
     public boolean onCreate() {
-        openHelper = new MusicBookmarksDatabaseHelper(getContext());
+        if (openHelper == null) {
+            openHelper = new MusicBookmarksDatabaseHelper(getContext());
+        }
+        mediaSearchIndex = new MediaSearchIndex(openHelper, getContext().getContentResolver(), SEARCH_URI);
+        mediaSearchIndex.start();
+        suggestionIndex = new SuggestionIndex(openHelper, getContext().getContentResolver(), SEARCH_URI);
+        historyWriter = new RecentHistoryWriter(openHelper, openHelper.getStatementCache(), MAX_HISTORY_COUNT, historyListener);
+        musicReconciler = new MusicReconciler(openHelper, getContext().getContentResolver(), SEARCH_URI, reconcilerListener);
+        musicReconciler.start();
+        suggestionExecutor = new ThreadPoolExecutor(SUGGESTION_THREAD_COUNT, SUGGESTION_THREAD_COUNT,
+                SUGGESTION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(SUGGESTION_QUEUE_SIZE), new ThreadPoolExecutor.CallerRunsPolicy());
+        suggestionExecutor.allowCoreThreadTimeOut(true);
         return true;
     }
 
     @Override
     public Cursor query(Uri uri, String[] projection, String selection, String[] selectionArgs, String sortOrder) {
+        return query(uri, projection, selection, selectionArgs, sortOrder, null);
+    }
+
+    @Override
+    public Cursor query(Uri uri, String[] projection, String selection, String[] selectionArgs, String sortOrder,
+                        CancellationSignal cancellationSignal) {
         switch (URI_MATCHER.match(uri)) {
             case URI_MATCH_SUGGEST:
                 //Query for search suggestions - everything except selectionArgs[0] is ignored
-                return getSuggestions(selectionArgs[0]);
+                return getSuggestions(selectionArgs[0], cancellationSignal);
             case URI_MATCH_GET:
                 //Query by id - everything except selectionArgs[0] is ignored
                 return getById(selectionArgs[0]);
             case URI_MATCH_BOOKMARK:
-                //Query by id - everything except selectionArgs[0] is ignored
+                //Query by id - everything except selectionArgs[0] and the page parameters is ignored
+                if (uri.getQueryParameter(PARAMETER_LIMIT) != null) {
+                    return getBookmarkPage(selectionArgs[0], uri);
+                }
                 return getBookmarks(selectionArgs[0]);
+            case URI_MATCH_BOOKMARK_ID:
+                //Query a single bookmark - everything except the id in the uri is ignored
+                return getBookmark(uri.getLastPathSegment());
         }
         throw new IllegalArgumentException("Invalid query URI: " + uri);
     }
@@ -71,14 +169,35 @@ public class MusicBookmarksProvider extends ContentProvider {
      */
     private static final int SUGGESTION_RESULT_LIMIT = 50;
 
+    //Tracks kept only for their bookmarks have no last use and are not suggested as recent
+    private static final String RECENT_USED_FILTER =
+            MusicColumns.MISSING + " = 0 AND " + MusicColumns.LAST_USED + " IS NOT NULL";
     private static final String RECENT_FILTER =
-            MusicColumns.DISPLAY_NAME_KEY + " LIKE ? OR " +
-            MusicColumns.TITLE_KEY + " LIKE ? OR " +
-            MusicColumns.ALBUM_KEY + " LIKE ? OR " +
-            MusicColumns.ARTIST_KEY + " LIKE ?";
-    private static final String RECENT_ORDER_BY = MusicColumns.LAST_USED + " DESC";
+            RECENT_USED_FILTER + " AND " + MusicColumns._ID + " IN (SELECT docid FROM " + MusicColumns.SEARCH_TABLE +
+            " WHERE " + MusicColumns.SEARCH_TABLE + " MATCH ?)";
+    private static final String RECENT_ORDER_BY = MusicColumns.FRECENCY + " DESC";
     private static final String RECENT_LIMIT = Integer.toString(SUGGESTION_RESULT_LIMIT);
 
+    private static final int BOOKMARK_RESULT_LIMIT = 5;
+    private static final String BOOKMARK_SUGGESTIONS_QUERY =
+            "SELECT b." + BookmarkColumns._ID + ", b." + BookmarkColumns.MUSIC_ID + ", b." + BookmarkColumns.POSITION +
+            ", b." + BookmarkColumns.LABEL + ", m." + MusicColumns.DISPLAY_NAME +
+            " FROM " + BookmarkColumns.TABLE + " b JOIN " + MusicColumns.TABLE + " m ON m." + MusicColumns._ID +
+            " = b." + BookmarkColumns.MUSIC_ID +
+            " WHERE b." + BookmarkColumns._ID + " IN (SELECT docid FROM " + BookmarkColumns.SEARCH_TABLE +
+            " WHERE " + BookmarkColumns.SEARCH_TABLE + " MATCH ?) AND m." + MusicColumns.MISSING + " = 0" +
+            " ORDER BY m." + MusicColumns.FRECENCY + " DESC, b." + BookmarkColumns.POSITION + " ASC" +
+            " LIMIT " + BOOKMARK_RESULT_LIMIT;
+    private static final int BOOKMARK_SUGGESTION_COLUMN_INDEX_ID = 0;
+    private static final int BOOKMARK_SUGGESTION_COLUMN_INDEX_MUSIC_ID = 1;
+    private static final int BOOKMARK_SUGGESTION_COLUMN_INDEX_POSITION = 2;
+    private static final int BOOKMARK_SUGGESTION_COLUMN_INDEX_LABEL = 3;
+    private static final int BOOKMARK_SUGGESTION_COLUMN_INDEX_DISPLAY_NAME = 4;
+
+    private static final String INDEX_FILTER = MediaSearchColumns.TABLE + " MATCH ?";
+    private static final String INDEX_ORDER_BY = MediaSearchColumns.TITLE + " ASC";
+
+    //Fallback used while the local media index is being rebuilt
     private static final String SEARCH_FILTER =
             MusicColumns.IS_MUSIC + " = 1 AND (" +
             MusicColumns.TITLE_KEY + " LIKE ? OR " +
@@ -87,129 +206,534 @@ public class MusicBookmarksProvider extends ContentProvider {
     private static final String SEARCH_ORDER_BY_LIMIT = MusicColumns.TITLE + " ASC LIMIT " + SUGGESTION_RESULT_LIMIT;
 
     /**
-     * Find search suggestions. First looks in the local music table, then in the mediastore.
+     * Find search suggestions. Bookmarks with a label matching the keyword come first, as
+     * "track @ position" rows that jump straight to the bookmark. Tracks are answered from the in-memory {@link SuggestionIndex} once it is loaded.
+     * The in-memory index also fills any remaining room with typo tolerant matches, and so does its
+     * standalone typo tolerant index after database results for a library too large to hold in memory.
+     * Otherwise refines the results of the previous keyword if possible, or queries the local music
+     * table and the local index of the mediastore (or the mediastore itself if the index is not
+     * ready) in parallel. Local music results come first, ranked by {@link MusicColumns#FRECENCY}.
+     * Both local lookups are prefix MATCH queries against full text search tables. The typo tolerant
+     * matches of a large library are looked up alongside them, as they also read the media store.
+     * <p>
+     * Superseded queries are abandoned as soon as the cancellation signal fires, both inside the
+     * database and media store queries and between rows while merging.
      * @param keyword search term
+     * @param cancellationSignal signal to abandon the query, may be null
      * @return cursor of suggestions. See {@link MusicSuggestionsCursor} for schema of cursor output.
+     * @throws OperationCanceledException if the query is canceled
      */
-    private Cursor getSuggestions(String keyword) {
+    private Cursor getSuggestions(final String keyword, final CancellationSignal cancellationSignal) {
+        throwIfCanceled(cancellationSignal);
+        MusicSuggestionsCursor suggestionsCursor = new MusicSuggestionsCursor(SUGGESTION_RESULT_LIMIT);
+        final String matchQuery = FullTextQuery.fromKeyword(keyword);
+        if (matchQuery != null) {
+            addBookmarkSuggestions(matchQuery, suggestionsCursor, cancellationSignal);
+        }
+        if (suggestionIndex.query(keyword, suggestionsCursor, SUGGESTION_RESULT_LIMIT)) {
+            return suggestionsCursor;
+        }
+
+        int generation = mediaSearchIndex.getGeneration();
+        if (generation != refinementCacheGeneration) {
+            refinementCache.clear();
+            refinementCacheGeneration = generation;
+        }
+        SuggestionRows cachedRows = refinementCache.lookup(keyword);
+        if (cachedRows != null) {
+            //Bookmark rows already take part of the room
+            suggestionsCursor.addAll(cachedRows, SUGGESTION_RESULT_LIMIT);
+            if (suggestionsCursor.getCount() < SUGGESTION_RESULT_LIMIT) {
+                //Tracks matched for the previous keywords are usually still cached, so this rarely reads the MediaStore
+                addFuzzyMatches(suggestionsCursor,
+                        suggestionIndex.queryFuzzyMatches(keyword, SUGGESTION_RESULT_LIMIT, cancellationSignal));
+            }
+            return suggestionsCursor;
+        }
+
         SQLiteDatabase db = openHelper.getReadableDatabase();
 
-        String constraint;
-        String recentFilter = null;
-        String searchFilter = null;
-        String[] recentArgs = null;
-        String[] searchArgs = null;
-        if (!TextUtils.isEmpty(keyword)) {
-            constraint  = MediaStore.Audio.keyFor(keyword) + "%";
+        String recentFilter = RECENT_USED_FILTER;
+        String[] matchArgs = null;
+        if (matchQuery != null) {
             recentFilter = RECENT_FILTER;
-            searchFilter = SEARCH_FILTER;
-            recentArgs = new String[] {constraint, constraint, constraint, constraint};
-            searchArgs = new String[] {constraint, constraint, constraint};
+            matchArgs = new String[] {matchQuery};
         }
 
-        MusicSuggestionsCursor suggestionsCursor = new MusicSuggestionsCursor();
+        //Start the media query in the background, it is usually the slower of the two
+        final boolean indexed = mediaSearchIndex.isReady();
+        SearchSuggestionsQuery searchQuery = new SearchSuggestionsQuery(keyword, matchQuery, indexed, cancellationSignal);
+        Future<Cursor> searchFuture = suggestionExecutor.submit(searchQuery);
+        //And the typo tolerant matches, which read their tracks from the media store as well
+        Future<SuggestionRows> fuzzyFuture = null;
+        if (!TextUtils.isEmpty(keyword) && suggestionIndex.hasFuzzyMatches()) {
+            fuzzyFuture = suggestionExecutor.submit(new FuzzyMatchesQuery(keyword, cancellationSignal));
+        }
 
-        //First query local music table
-        Cursor recentCursor = db.query(MusicColumns.TABLE, MusicColumns.PROJECTION, recentFilter, recentArgs, null, null, RECENT_ORDER_BY, RECENT_LIMIT);
+        //Meanwhile query local music table, for the room left after the bookmark rows
+        String recentLimit = Integer.toString(SUGGESTION_RESULT_LIMIT - suggestionsCursor.getCount());
+        Cursor recentCursor;
+        try {
+            recentCursor = db.query(false, MusicColumns.TABLE, MusicColumns.PROJECTION, recentFilter, matchArgs, null, null, RECENT_ORDER_BY, recentLimit, cancellationSignal);
+        } catch (RuntimeException e) {
+            searchQuery.abandon(searchFuture);
+            abandon(fuzzyFuture);
+            throw e;
+        }
         while (recentCursor.moveToNext()) {
-            suggestionsCursor.addUnique(MusicItem.fromMusicTableCursor(recentCursor));
+            if (isCanceled(cancellationSignal)) {
+                recentCursor.close();
+                searchQuery.abandon(searchFuture);
+                abandon(fuzzyFuture);
+                throw new OperationCanceledException();
+            }
+            suggestionsCursor.addUniqueFromMusicTable(recentCursor);
         }
         recentCursor.close();
 
-        //Then query media store
-        Cursor searchCursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION, searchFilter, searchArgs, SEARCH_ORDER_BY_LIMIT);
+        //Then add media results after the recent results
+        Cursor searchCursor;
+        try {
+            searchCursor = awaitResult(searchFuture);
+        } catch (RuntimeException e) {
+            abandon(fuzzyFuture);
+            throw e;
+        }
         while (suggestionsCursor.getCount() < SUGGESTION_RESULT_LIMIT && searchCursor.moveToNext()) {
-            suggestionsCursor.addUnique(MusicItem.fromMediaStoreCursor(searchCursor));
+            if (isCanceled(cancellationSignal)) {
+                searchCursor.close();
+                abandon(fuzzyFuture);
+                throw new OperationCanceledException();
+            }
+            suggestionsCursor.addUniqueFromMediaStore(searchCursor);
         }
         searchCursor.close();
 
+        //Only full text search results can be refined in memory with the same semantics, so typo tolerant
+        //matches are added after caching
+        if (indexed) {
+            refinementCache.put(keyword, suggestionsCursor.getRows().copy(),
+                    suggestionsCursor.getCount() < SUGGESTION_RESULT_LIMIT);
+        }
+        if (fuzzyFuture != null) {
+            if (suggestionsCursor.getCount() < SUGGESTION_RESULT_LIMIT) {
+                addFuzzyMatches(suggestionsCursor, awaitResult(fuzzyFuture));
+            } else {
+                abandon(fuzzyFuture);
+            }
+        }
+
         return suggestionsCursor;
     }
 
+    /**
+     * Add bookmarks with a label matching a keyword, from the tracks used most first
+     * @param matchQuery MATCH expression for the keyword
+     * @param suggestionsCursor cursor to add results to
+     * @param cancellationSignal signal to abandon the query, may be null
+     */
+    private void addBookmarkSuggestions(String matchQuery, MusicSuggestionsCursor suggestionsCursor,
+                                        CancellationSignal cancellationSignal) {
+        SQLiteDatabase db = openHelper.getReadableDatabase();
+        Cursor bookmarkCursor = db.rawQuery(BOOKMARK_SUGGESTIONS_QUERY, new String[] {matchQuery}, cancellationSignal);
+        try {
+            while (bookmarkCursor.moveToNext()) {
+                suggestionsCursor.addBookmark(bookmarkCursor.getLong(BOOKMARK_SUGGESTION_COLUMN_INDEX_ID),
+                        bookmarkCursor.getLong(BOOKMARK_SUGGESTION_COLUMN_INDEX_MUSIC_ID),
+                        bookmarkCursor.getLong(BOOKMARK_SUGGESTION_COLUMN_INDEX_POSITION),
+                        bookmarkCursor.getString(BOOKMARK_SUGGESTION_COLUMN_INDEX_LABEL),
+                        bookmarkCursor.getString(BOOKMARK_SUGGESTION_COLUMN_INDEX_DISPLAY_NAME));
+            }
+        } finally {
+            bookmarkCursor.close();
+        }
+    }
+
+    /**
+     * Build the intent data of a bookmark suggestion, which carries the position so that opening
+     * the suggestion can seek without looking up the bookmark
+     * @param bookmarkId id of bookmark
+     * @param position position of the bookmark in milliseconds
+     * @return bookmark uri with the position as a query parameter
+     */
+    public static Uri getBookmarkJumpUri(long bookmarkId, long position) {
+        return ContentUris.withAppendedId(BOOKMARK_TABLE_URI, bookmarkId).buildUpon()
+                .appendQueryParameter(PARAMETER_POSITION, Long.toString(position))
+                .build();
+    }
+
+    /**
+     * @param uri intent data of a suggestion, may be null
+     * @return position to jump to in milliseconds, or 0 if the uri is not from a bookmark suggestion
+     */
+    public static long getBookmarkJumpPosition(Uri uri) {
+        if (uri == null || URI_MATCHER.match(uri) != URI_MATCH_BOOKMARK_ID) {
+            return 0;
+        }
+        String position = uri.getQueryParameter(PARAMETER_POSITION);
+        try {
+            return position == null ? 0 : Long.parseLong(position);
+        } catch (NumberFormatException e) {
+            Log.w(TAG, "Invalid bookmark position in " + uri);
+            return 0;
+        }
+    }
+
+    /**
+     * Query the media store for suggestions, through the local index if available.
+     * The cursor is filled before returning so that the work happens on the calling thread.
+     * @param keyword search term
+     * @param matchQuery MATCH expression for the keyword, or null to match everything
+     * @param indexed true to use the local index of the media store
+     * @param cancellationSignal signal to abandon the query, may be null
+     * @return cursor matching {@link MusicColumns#MEDIASTORE_PROJECTION}
+     */
+    private Cursor querySearchSuggestions(String keyword, String matchQuery, boolean indexed, CancellationSignal cancellationSignal) {
+        Cursor searchCursor;
+        if (indexed) {
+            String indexFilter = null;
+            String[] indexArgs = null;
+            if (matchQuery != null) {
+                indexFilter = INDEX_FILTER;
+                indexArgs = new String[] {matchQuery};
+            }
+            SQLiteDatabase db = openHelper.getReadableDatabase();
+            searchCursor = db.query(false, MediaSearchColumns.TABLE, MediaSearchColumns.PROJECTION, indexFilter, indexArgs, null, null, INDEX_ORDER_BY, RECENT_LIMIT, cancellationSignal);
+        } else {
+            String searchFilter = null;
+            String[] searchArgs = null;
+            if (!TextUtils.isEmpty(keyword)) {
+                String constraint = MediaStore.Audio.keyFor(keyword) + "%";
+                searchFilter = SEARCH_FILTER;
+                searchArgs = new String[] {constraint, constraint, constraint};
+            }
+            searchCursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION, searchFilter, searchArgs, SEARCH_ORDER_BY_LIMIT, cancellationSignal);
+        }
+        //Fill the cursor window here rather than on the thread that reads the cursor
+        searchCursor.getCount();
+        return searchCursor;
+    }
+
+    /**
+     * Wait for a result queried on {@link #suggestionExecutor}
+     * @param future pending query
+     * @return result
+     */
+    private static <T> T awaitResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for suggestions", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Suggestion query failed", cause);
+        }
+    }
+
+    /**
+     * Give up on a query run on {@link #suggestionExecutor} that holds no cursor
+     * @param future pending query, may be null
+     */
+    private static void abandon(Future<?> future) {
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Add typo tolerant matches to the room left in the suggestions
+     * @param suggestionsCursor cursor holding the other results
+     * @param fuzzyRows matches in rank order, may be null
+     */
+    private static void addFuzzyMatches(MusicSuggestionsCursor suggestionsCursor, SuggestionRows fuzzyRows) {
+        if (fuzzyRows != null) {
+            suggestionsCursor.addAll(fuzzyRows, SUGGESTION_RESULT_LIMIT);
+        }
+    }
+
+    /**
+     * Typo tolerant half of a suggestion query, run on {@link #suggestionExecutor}
+     */
+    private class FuzzyMatchesQuery implements Callable<SuggestionRows> {
+        private final String keyword;
+        private final CancellationSignal cancellationSignal;
+
+        FuzzyMatchesQuery(String keyword, CancellationSignal cancellationSignal) {
+            this.keyword = keyword;
+            this.cancellationSignal = cancellationSignal;
+        }
+
+        @Override
+        public SuggestionRows call() {
+            return suggestionIndex.queryFuzzyMatches(keyword, SUGGESTION_RESULT_LIMIT, cancellationSignal);
+        }
+    }
+
+    /**
+     * Media store half of a suggestion query, run on {@link #suggestionExecutor}
+     */
+    private class SearchSuggestionsQuery implements Callable<Cursor> {
+        private final String keyword;
+        private final String matchQuery;
+        private final boolean indexed;
+        private final CancellationSignal cancellationSignal;
+        //Guarded by this, so that exactly one of call and abandon closes the cursor
+        private boolean abandoned = false;
+        private boolean handedOver = false;
+
+        SearchSuggestionsQuery(String keyword, String matchQuery, boolean indexed, CancellationSignal cancellationSignal) {
+            this.keyword = keyword;
+            this.matchQuery = matchQuery;
+            this.indexed = indexed;
+            this.cancellationSignal = cancellationSignal;
+        }
+
+        @Override
+        public Cursor call() {
+            Cursor cursor = querySearchSuggestions(keyword, matchQuery, indexed, cancellationSignal);
+            synchronized (this) {
+                if (!abandoned) {
+                    handedOver = true;
+                    return cursor;
+                }
+            }
+            cursor.close();
+            return null;
+        }
+
+        /**
+         * Give up on the result of this query, closing its cursor if it has already been handed over
+         * @param future future returned when this query was submitted
+         */
+        void abandon(Future<Cursor> future) {
+            synchronized (this) {
+                abandoned = true;
+                if (!handedOver) {
+                    //The query closes its own cursor when it completes, unless it never starts
+                    future.cancel(false);
+                    return;
+                }
+            }
+            try {
+                Cursor cursor = future.get();
+                if (cursor != null) {
+                    cursor.close();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                //Nothing to close
+            }
+        }
+    }
+
+    /**
+     * @param cancellationSignal signal to check, may be null
+     * @throws OperationCanceledException if the signal has been canceled
+     */
+    private static void throwIfCanceled(CancellationSignal cancellationSignal) {
+        if (cancellationSignal != null) {
+            cancellationSignal.throwIfCanceled();
+        }
+    }
+
+    /**
+     * @param cancellationSignal signal to check, may be null
+     * @return true if the signal has been canceled
+     */
+    private static boolean isCanceled(CancellationSignal cancellationSignal) {
+        return cancellationSignal != null && cancellationSignal.isCanceled();
+    }
+
     /*
      * Query for music item by id
      */
     private static final String ID_FILTER = MusicColumns._ID + " = ?";
-    private static final String TITLE_ALBUM_ARTIST_FILTER =
-            MusicColumns.TITLE + " = ? AND " + MusicColumns.ALBUM + " = ? AND " + MusicColumns.ARTIST + " = ?";
-    private static final String ID_ASC_ORDER = MusicColumns._ID + " ASC";
+    //Built once so that every call hits the compiled statement in the connection's statement cache
+    private static final String GET_BY_ID_QUERY =
+            "SELECT " + TextUtils.join(", ", MusicColumns.PROJECTION) + " FROM " + MusicColumns.TABLE +
+            " WHERE " + ID_FILTER + " AND " + MusicColumns.MISSING + " = 0";
 
     /**
      * Gets information on a music track by id.
      * <p>
-     * Warning: this query method has side effects - it attempts to synchronize the local music table
-     * with the mediastore if necessary, and updates the last used time.
+     * Warning: this query method has side effects - it updates the last used time, creating a new
+     * entry in the local table if the id only exists in the mediastore.
      * <p>
-     * If the id only exists in the local music table, this method attempts to find a matching track
-     * by title, album, and artist (in case the file was moved). If the id only exists in the mediastore,
-     * a new entry in the local table will be created.
-     *
-     * Usually, the cursor will contain one entry corresponding to the input id. A empty cursor may
-     * be returned if no match could be found. In rare cases, a cursor with multiple entries may be
-     * returned if the fallback lookup by title/album/artist does not produce a unique result.
+     * The local music table is kept in step with the mediastore by {@link MusicReconciler}, so a track
+     * found there is returned as is. Otherwise the track is looked up in the mediastore by id. If it
+     * cannot be found at all, an empty cursor is returned and the reconciler is asked to run, in case
+     * the file was moved.
      * See {@link MusicColumns} for schema of cursor.
      *
      * @param id id of music item (corresponding to either the local table OR mediastore)
-     * @return cursor with information on the music track.
+     * @return cursor with information on the music track, or an empty cursor
      */
     private Cursor getById(String id) {
         MatrixCursor result = new MatrixCursor(MusicColumns.PROJECTION);
-
         String[] idArgs = new String[] {id};
 
         //Select from music table by id
-        MusicItem musicTableItem = null;
+        MusicItem musicItem = null;
         SQLiteDatabase db = openHelper.getReadableDatabase();
-        Cursor musicTableCursor = db.query(MusicColumns.TABLE, MusicColumns.PROJECTION, ID_FILTER, idArgs, null, null, null, null);
-        if (musicTableCursor.moveToFirst()) {
-            musicTableItem = MusicItem.fromMusicTableCursor(musicTableCursor);
-        }
-        musicTableCursor.close();
-
-        //Try to select from mediastore first by id, then by title/album/artist
-        Cursor searchCursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION, ID_FILTER, idArgs, null);
-        if (searchCursor.getCount() == 0) {
-            searchCursor.close();
-            if (musicTableItem == null) {
-                Log.w(TAG, "No results found for ID " + id + "in either MediaStore or local table, returning empty cursor");
-                return result;
+        Cursor musicTableCursor = db.rawQuery(GET_BY_ID_QUERY, idArgs);
+        try {
+            if (musicTableCursor.moveToFirst()) {
+                musicItem = MusicItem.fromMusicTableCursor(musicTableCursor);
+            }
+        } finally {
+            musicTableCursor.close();
+        }
+
+        //Not used before, or flagged missing - select from mediastore by id
+        if (musicItem == null) {
+            Cursor searchCursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION, ID_FILTER, idArgs, null);
+            if (searchCursor != null) {
+                try {
+                    if (searchCursor.moveToFirst()) {
+                        musicItem = MusicItem.fromMediaStoreCursor(searchCursor);
+                    }
+                } finally {
+                    searchCursor.close();
+                }
             }
-            Log.w(TAG, "File not found by id, trying to re-sync db entry by title/album/artist");
-            String[] titleAlbumArtistArgs = new String[] {musicTableItem.getTitle(), musicTableItem.getArtist(), musicTableItem.getAlbum()};
-            searchCursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION, TITLE_ALBUM_ARTIST_FILTER, titleAlbumArtistArgs, ID_ASC_ORDER);
         }
-        if (searchCursor.getCount() == 0) {
-            Log.w(TAG, "File possibly deleted? Returning empty cursor");
+
+        if (musicItem == null) {
+            Log.w(TAG, "No results found for ID " + id + ", returning empty cursor");
+            musicReconciler.requestReconcile();
             return result;
         }
-        MusicItem mediaStoreItem = null;
-        while (searchCursor.moveToNext()) {
-            mediaStoreItem = MusicItem.fromMediaStoreCursor(searchCursor);
-            String displayName = mediaStoreItem.getDisplayName();
-            if (musicTableItem != null && !TextUtils.equals(displayName, musicTableItem.getDisplayName())) {
-                displayName = musicTableItem.getDisplayName();
+        result.newRow()
+                .add(musicItem.getId())
+                .add(musicItem.getTitle())
+                .add(musicItem.getAlbum())
+                .add(musicItem.getArtist())
+                .add(musicItem.getDisplayName());
+        //start update to music table
+        historyWriter.touch(musicItem.getId(), musicItem);
+        return result;
+    }
+
+    /*
+     * Batched lookup of music items by id
+     */
+    private static final String LOCAL_BATCH_FILTER = MusicColumns.MISSING + " = 0 AND ";
+
+    /**
+     * Gets information on many music tracks by id in a single call, for restoring lists of tracks.
+     * Each source is queried once per {@link IdSelection#IDS_PER_QUERY} ids: first the local music
+     * table, then the mediastore for the ids not found locally. Unlike {@link #getById(String)}
+     * this does not update the last used time. If any id cannot be found at all, the reconciler is
+     * asked to run, in case the file was moved.
+     * See {@link MusicItem#fromInfoBatch(Bundle)} for reading the result.
+     *
+     * @param ids ids of music items (corresponding to either the local table OR mediastore)
+     * @return parallel arrays in the same order as the ids, with null entries for tracks not found
+     */
+    private Bundle getInfoBatch(long[] ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Missing " + MusicItem.EXTRA_IDS);
+        }
+        String[] titles = new String[ids.length];
+        String[] albums = new String[ids.length];
+        String[] artists = new String[ids.length];
+        String[] displayNames = new String[ids.length];
+        boolean[] found = new boolean[ids.length];
+        boolean[] recent = new boolean[ids.length];
+
+        //Position of every requested id, an id may be requested more than once
+        HashMap<Long, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            List<Integer> idPositions = positions.get(ids[i]);
+            if (idPositions == null) {
+                idPositions = new ArrayList<>(1);
+                positions.put(ids[i], idPositions);
             }
-            result.newRow()
-                    .add(mediaStoreItem.getId())
-                    .add(mediaStoreItem.getTitle())
-                    .add(mediaStoreItem.getAlbum())
-                    .add(mediaStoreItem.getArtist())
-                    .add(displayName);
+            idPositions.add(i);
+        }
+        long[] uniqueIds = new long[positions.size()];
+        int uniqueCount = 0;
+        for (Long id : positions.keySet()) {
+            uniqueIds[uniqueCount++] = id;
         }
-        searchCursor.close();
 
-        if (result.getCount() == 1) {
-            //start update to music table
-            asyncSaveRecentQuery(getContext(), Long.parseLong(id), mediaStoreItem);
-        } else if (result.getCount() == 0) {
-            //TODO label entry as broken if bookmarks still exist
-            db = openHelper.getWritableDatabase();
-            db.delete(MusicColumns.TABLE, ID_FILTER, idArgs);
-        } else {
-            //TODO select correct match, for now assume file has moved and take the highest id (most recent update)
-            asyncSaveRecentQuery(getContext(), Long.parseLong(id), mediaStoreItem);
+        //Select from music table
+        SQLiteDatabase db = openHelper.getReadableDatabase();
+        int remaining = 0;
+        for (int start = 0; start < uniqueCount; start += IdSelection.IDS_PER_QUERY) {
+            int end = Math.min(uniqueCount, start + IdSelection.IDS_PER_QUERY);
+            String selection = LOCAL_BATCH_FILTER + IdSelection.in(MusicColumns._ID, end - start);
+            Cursor cursor = db.query(MusicColumns.TABLE, MusicColumns.PROJECTION, selection,
+                    IdSelection.args(uniqueIds, start, end), null, null, null);
+            try {
+                while (cursor.moveToNext()) {
+                    List<Integer> idPositions = positions.remove(cursor.getLong(MusicColumns.COLUMN_INDEX_ID));
+                    if (idPositions == null) {
+                        continue;
+                    }
+                    for (int i : idPositions) {
+                        titles[i] = cursor.getString(MusicColumns.COLUMN_INDEX_TITLE);
+                        albums[i] = cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM);
+                        artists[i] = cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST);
+                        displayNames[i] = cursor.getString(MusicColumns.COLUMN_INDEX_DISPLAY_NAME);
+                        found[i] = true;
+                        recent[i] = true;
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
         }
 
+        //Not used before, or flagged missing - select the rest from mediastore
+        for (Long id : positions.keySet()) {
+            uniqueIds[remaining++] = id;
+        }
+        for (int start = 0; start < remaining; start += IdSelection.IDS_PER_QUERY) {
+            int end = Math.min(remaining, start + IdSelection.IDS_PER_QUERY);
+            Cursor cursor = getContext().getContentResolver().query(SEARCH_URI, MusicColumns.MEDIASTORE_PROJECTION,
+                    IdSelection.in(MusicColumns._ID, end - start), IdSelection.args(uniqueIds, start, end), null);
+            if (cursor == null) {
+                break;
+            }
+            try {
+                while (cursor.moveToNext()) {
+                    List<Integer> idPositions = positions.remove(cursor.getLong(MusicColumns.COLUMN_INDEX_ID));
+                    if (idPositions == null) {
+                        continue;
+                    }
+                    for (int i : idPositions) {
+                        titles[i] = cursor.getString(MusicColumns.COLUMN_INDEX_TITLE);
+                        albums[i] = cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM);
+                        artists[i] = cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST);
+                        displayNames[i] = titles[i];
+                        found[i] = true;
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+
+        if (!positions.isEmpty()) {
+            Log.w(TAG, "No results found for " + positions.size() + " of " + uniqueCount + " IDs");
+            musicReconciler.requestReconcile();
+        }
+
+        Bundle result = new Bundle();
+        result.putLongArray(MusicItem.EXTRA_IDS, ids);
+        result.putStringArray(MusicItem.EXTRA_TITLES, titles);
+        result.putStringArray(MusicItem.EXTRA_ALBUMS, albums);
+        result.putStringArray(MusicItem.EXTRA_ARTISTS, artists);
+        result.putStringArray(MusicItem.EXTRA_DISPLAY_NAMES, displayNames);
+        result.putBooleanArray(MusicItem.EXTRA_FOUND, found);
+        result.putBooleanArray(MusicItem.EXTRA_RECENT, recent);
         return result;
     }
 
@@ -218,6 +742,9 @@ public class MusicBookmarksProvider extends ContentProvider {
      */
     private static final String MUSIC_ID_FILTER = BookmarkColumns.MUSIC_ID + " = ?";
     private static final String BOOKMARKS_ORDER_BY = BookmarkColumns.POSITION + " ASC";
+    private static final String GET_BOOKMARKS_QUERY =
+            "SELECT " + TextUtils.join(", ", BookmarkColumns.PROJECTION) + " FROM " + BookmarkColumns.TABLE +
+            " WHERE " + MUSIC_ID_FILTER + " ORDER BY " + BOOKMARKS_ORDER_BY;
 
     /**
      * Lookup bookmarks by music id
@@ -227,14 +754,100 @@ public class MusicBookmarksProvider extends ContentProvider {
     private Cursor getBookmarks(String musicId) {
         SQLiteDatabase db = openHelper.getReadableDatabase();
         String[] musicIdArgs = new String[] {musicId};
-        return db.query(BookmarkColumns.TABLE, BookmarkColumns.PROJECTION, MUSIC_ID_FILTER, musicIdArgs, null, null, BOOKMARKS_ORDER_BY, null);
+        return db.rawQuery(GET_BOOKMARKS_QUERY, musicIdArgs);
+    }
+
+    /**
+     * Maximum number of bookmarks in a page, which keeps a page with long labels well within a cursor window
+     */
+    public static final int MAX_BOOKMARK_PAGE_SIZE = 1000;
+    //?1 music id, ?2 from position, ?3 to position, ?4 after id, ?5 limit. Answered from bookmark_music_position_index,
+    //which holds the row id after the position so the order by needs no sort.
+    private static final String GET_BOOKMARK_PAGE_QUERY =
+            "SELECT " + TextUtils.join(", ", BookmarkColumns.PROJECTION) + " FROM " + BookmarkColumns.TABLE +
+            " WHERE " + BookmarkColumns.MUSIC_ID + " = ?1 AND " +
+            BookmarkColumns.POSITION + " >= ?2 AND " + BookmarkColumns.POSITION + " < ?3 AND (" +
+            BookmarkColumns.POSITION + " > ?2 OR " + BookmarkColumns._ID + " > ?4)" +
+            " ORDER BY " + BookmarkColumns.POSITION + " ASC, " + BookmarkColumns._ID + " ASC LIMIT ?5";
+
+    /**
+     * Build a uri for one page of the bookmarks of a track, ordered by position and then by id.
+     * Query it like {@link #BOOKMARK_TABLE_URI}, with the music id as selectionArgs[0].
+     * <p>
+     * A time window, such as the visible part of a seek bar, is a single page from its start to its end.
+     * To read every bookmark, start from {@link Long#MIN_VALUE} and continue from the position and id of
+     * the last row of each page until a page comes back short. Unlike an offset, this stays correct when
+     * bookmarks are added or removed between pages, and each page is a seek in the index.
+     * @param fromPosition start of the page in milliseconds, inclusive
+     * @param toPosition end of the page in milliseconds, exclusive, or {@link Long#MAX_VALUE} for no end
+     * @param afterId only bookmarks at fromPosition with a greater id are included, or {@link Long#MIN_VALUE} for all
+     * @param limit maximum number of bookmarks, capped at {@link #MAX_BOOKMARK_PAGE_SIZE}
+     * @return bookmark table uri with the page as query parameters
+     */
+    public static Uri getBookmarkPageUri(long fromPosition, long toPosition, long afterId, int limit) {
+        return BOOKMARK_TABLE_URI.buildUpon()
+                .appendQueryParameter(PARAMETER_FROM_POSITION, Long.toString(fromPosition))
+                .appendQueryParameter(PARAMETER_TO_POSITION, Long.toString(toPosition))
+                .appendQueryParameter(PARAMETER_AFTER_ID, Long.toString(afterId))
+                .appendQueryParameter(PARAMETER_LIMIT, Integer.toString(limit))
+                .build();
+    }
+
+    /**
+     * Lookup a page of bookmarks by music id
+     * @param musicId id of music
+     * @param uri uri from {@link #getBookmarkPageUri(long, long, long, int)}
+     * @return cursor of at most {@link #MAX_BOOKMARK_PAGE_SIZE} bookmarks
+     */
+    private Cursor getBookmarkPage(String musicId, Uri uri) {
+        long limit = Math.min(Math.max(getLongParameter(uri, PARAMETER_LIMIT, MAX_BOOKMARK_PAGE_SIZE), 0),
+                MAX_BOOKMARK_PAGE_SIZE);
+        String[] pageArgs = new String[] {
+                musicId,
+                Long.toString(getLongParameter(uri, PARAMETER_FROM_POSITION, Long.MIN_VALUE)),
+                Long.toString(getLongParameter(uri, PARAMETER_TO_POSITION, Long.MAX_VALUE)),
+                Long.toString(getLongParameter(uri, PARAMETER_AFTER_ID, Long.MIN_VALUE)),
+                Long.toString(limit)
+        };
+        SQLiteDatabase db = openHelper.getReadableDatabase();
+        return db.rawQuery(GET_BOOKMARK_PAGE_QUERY, pageArgs);
+    }
+
+    private static long getLongParameter(Uri uri, String name, long defaultValue) {
+        String value = uri.getQueryParameter(name);
+        try {
+            return value == null ? defaultValue : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " in " + uri);
+        }
+    }
+
+    private static final String GET_BOOKMARK_QUERY =
+            "SELECT " + TextUtils.join(", ", BookmarkColumns.PROJECTION) + " FROM " + BookmarkColumns.TABLE +
+            " WHERE " + ID_FILTER;
+
+    /**
+     * Lookup a single bookmark
+     * @param id id of bookmark
+     * @return cursor with the bookmark, or empty if it does not exist
+     */
+    private Cursor getBookmark(String id) {
+        SQLiteDatabase db = openHelper.getReadableDatabase();
+        return db.rawQuery(GET_BOOKMARK_QUERY, new String[] {id});
     }
 
 
     @Override
     public String getType(Uri uri) {
-        if (URI_MATCHER.match(uri) == URI_MATCH_SUGGEST) {
-            return SearchManager.SUGGEST_MIME_TYPE;
+        switch (URI_MATCHER.match(uri)) {
+            case URI_MATCH_SUGGEST:
+                return SearchManager.SUGGEST_MIME_TYPE;
+            case URI_MATCH_BOOKMARK:
+                return BOOKMARK_DIR_TYPE;
+            case URI_MATCH_BOOKMARK_ID:
+                return BOOKMARK_ITEM_TYPE;
+            case URI_MATCH_BACKUP:
+                return BACKUP_TYPE;
         }
         throw new IllegalArgumentException("Unknown Uri");
     }
@@ -242,107 +855,488 @@ public class MusicBookmarksProvider extends ContentProvider {
     @Override
     public Uri insert(Uri uri, ContentValues values) {
         SQLiteDatabase db = openHelper.getWritableDatabase();
+        switch (URI_MATCHER.match(uri)) {
+            case URI_MATCH_MUSIC:
+                Long lastUsed = values.getAsLong(MusicColumns.LAST_USED);
+                if (!values.containsKey(MusicColumns.FRECENCY) && lastUsed != null) {
+                    values = new ContentValues(values);
+                    values.put(MusicColumns.FRECENCY, Frecency.ofUse(lastUsed));
+                }
+                long rowID = db.insertWithOnConflict(MusicColumns.TABLE, MusicColumns.LAST_USED, values, SQLiteDatabase.CONFLICT_REPLACE);
+                if (rowID < 0) {
+                    throw new IllegalArgumentException("Error inserting values to suggestions table");
+                }
+                onRecentInserted(values);
+                Uri newUri = Uri.withAppendedPath(MUSIC_TABLE_URI, String.valueOf(rowID));
+                notifyChange(newUri);
+                return newUri;
+            case URI_MATCH_BOOKMARK:
+                long bookmarkId = db.insertOrThrow(BookmarkColumns.TABLE, null, values);
+                onBookmarksChanged();
+                Uri bookmarkUri = ContentUris.withAppendedId(BOOKMARK_TABLE_URI, bookmarkId);
+                notifyChange(bookmarkUri);
+                return bookmarkUri;
+        }
+        throw new IllegalArgumentException("Invalid insert URI: " + uri);
+    }
 
-        //TODO check valid uri?
+    /**
+     * Insert all rows in a single transaction with one change notification
+     */
+    @Override
+    public int bulkInsert(Uri uri, ContentValues[] values) {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        Batch batch = beginBatch();
+        try {
+            db.beginTransactionNonExclusive();
+            try {
+                for (ContentValues rowValues : values) {
+                    insert(uri, rowValues);
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } finally {
+            currentBatch.remove();
+        }
+        //Only reached once the transaction has committed
+        batch.apply();
+        return values.length;
+    }
 
-        long rowID = db.insertWithOnConflict(MusicColumns.TABLE, MusicColumns.LAST_USED, values, SQLiteDatabase.CONFLICT_REPLACE);
-        if (rowID < 0) {
-            throw new IllegalArgumentException("Error inserting values to suggestions table");
+    /**
+     * Apply all operations in a single transaction with one change notification per table
+     */
+    @Override
+    public ContentProviderResult[] applyBatch(ArrayList<ContentProviderOperation> operations)
+            throws OperationApplicationException {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        ContentProviderResult[] results;
+        Batch batch = beginBatch();
+        try {
+            db.beginTransactionNonExclusive();
+            try {
+                results = super.applyBatch(operations);
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } finally {
+            currentBatch.remove();
         }
-        Uri newUri = Uri.withAppendedPath(MUSIC_TABLE_URI, String.valueOf(rowID));
-        getContext().getContentResolver().notifyChange(newUri, null);
-        return newUri;
+        //Only reached once the transaction has committed
+        batch.apply();
+        return results;
     }
 
     @Override
     public int delete(Uri uri, String selection, String[] selectionArgs) {
         SQLiteDatabase db = openHelper.getWritableDatabase();
-
-        int count = db.delete(MusicColumns.TABLE, selection, selectionArgs);
-        getContext().getContentResolver().notifyChange(uri, null);
+        int count;
+        switch (URI_MATCHER.match(uri)) {
+            case URI_MATCH_MUSIC:
+                count = db.delete(MusicColumns.TABLE, selection, selectionArgs);
+                if (count > 0) {
+                    onMusicRowsChanged();
+                }
+                break;
+            case URI_MATCH_BOOKMARK:
+                count = db.delete(BookmarkColumns.TABLE, selection, selectionArgs);
+                onBookmarksChanged();
+                break;
+            case URI_MATCH_BOOKMARK_ID:
+                count = db.delete(BookmarkColumns.TABLE, withIdFilter(uri, selection), selectionArgs);
+                onBookmarksChanged();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid delete URI: " + uri);
+        }
+        if (count > 0) {
+            notifyChange(uri);
+        }
         return count;
     }
 
     @Override
     public int update(Uri uri, ContentValues values, String selection, String[] selectionArgs) {
-        throw new UnsupportedOperationException("Update not supported");
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        int count;
+        switch (URI_MATCHER.match(uri)) {
+            case URI_MATCH_BOOKMARK:
+                count = db.update(BookmarkColumns.TABLE, values, selection, selectionArgs);
+                onBookmarksChanged();
+                break;
+            case URI_MATCH_BOOKMARK_ID:
+                count = db.update(BookmarkColumns.TABLE, values, withIdFilter(uri, selection), selectionArgs);
+                onBookmarksChanged();
+                break;
+            default:
+                throw new UnsupportedOperationException("Update not supported for " + uri);
+        }
+        if (count > 0) {
+            notifyChange(uri);
+        }
+        return count;
     }
 
-    public static final String METHOD_CLEAR_HISTORY = "clearHistory";
-    @Override
-    public Bundle call(String method, String arg, Bundle extras) {
-        switch (method) {
-            case METHOD_CLEAR_HISTORY:
-                truncateHistory(getContext().getContentResolver(), 0);
-                return null;
+    /**
+     * Restrict a selection to the row id at the end of a uri
+     * @param uri uri ending with a row id
+     * @param selection additional selection, may be null
+     * @return combined selection
+     */
+    private static String withIdFilter(Uri uri, String selection) {
+        String idFilter = BaseColumns._ID + " = " + ContentUris.parseId(uri);
+        return TextUtils.isEmpty(selection) ? idFilter : idFilter + " AND (" + selection + ")";
+    }
+
+    /**
+     * Send a change notification, or hold it until the end of the batch running on this thread
+     * @param uri changed uri
+     */
+    private void notifyChange(Uri uri) {
+        Batch batch = currentBatch.get();
+        if (batch != null) {
+            //Observers of the table uri also hear about changes to its rows, so one per table is enough
+            batch.notifications.add(Uri.withAppendedPath(Uri.parse(CONTENT_AUTHORITY), uri.getPathSegments().get(0)));
+        } else {
+            getContext().getContentResolver().notifyChange(uri, null);
         }
-        throw new IllegalArgumentException("Unknown call method " + method);
     }
 
+    /**
+     * Start holding side effects on this thread until the end of a batch
+     * @return the new batch, to be applied once its transaction commits
+     */
+    private Batch beginBatch() {
+        if (currentBatch.get() != null) {
+            throw new IllegalStateException("Nested batch");
+        }
+        Batch batch = new Batch();
+        currentBatch.set(batch);
+        return batch;
+    }
+
+    /**
+     * Side effects of a batch, held until its transaction commits and dropped if it rolls back.
+     * In-memory suggestion state would otherwise reflect rows that were never committed.
+     */
+    private final class Batch {
+        final HashSet<Uri> notifications = new HashSet<>();
+        final ArrayList<ContentValues> insertedRecent = new ArrayList<>();
+        boolean musicRowsChanged;
+        boolean bookmarksChanged;
 
-    /*
-     * Utility methods for updating suggestions
+        void apply() {
+            if (musicRowsChanged) {
+                //Reloading covers the inserted rows as well
+                onMusicRowsChanged();
+            } else if (!insertedRecent.isEmpty()) {
+                for (ContentValues values : insertedRecent) {
+                    suggestionIndex.onRecentInserted(values);
+                }
+                refinementCache.clear();
+            }
+            if (bookmarksChanged) {
+                suggestionIndex.onBookmarksChanged();
+            }
+            for (Uri uri : notifications) {
+                getContext().getContentResolver().notifyChange(uri, null);
+            }
+        }
+    }
+
+    /**
+     * Bring in-memory suggestion state up to date after a row is inserted into the music table,
+     * or at the end of the batch running on this thread
+     * @param values inserted values
+     */
+    private void onRecentInserted(ContentValues values) {
+        Batch batch = currentBatch.get();
+        if (batch != null) {
+            batch.insertedRecent.add(values);
+        } else {
+            suggestionIndex.onRecentInserted(values);
+            refinementCache.clear();
+        }
+    }
+
+    /**
+     * Bring in-memory suggestion state up to date after rows in the music table are deleted or rewritten,
+     * or at the end of the batch running on this thread
+     */
+    private void onMusicRowsChanged() {
+        Batch batch = currentBatch.get();
+        if (batch != null) {
+            batch.musicRowsChanged = true;
+        } else {
+            suggestionIndex.onRecentChanged();
+            refinementCache.clear();
+        }
+    }
+
+    /**
+     * Rebuild in-memory state covering bookmark labels after bookmarks change, or at the end of the
+     * batch running on this thread
+     */
+    private void onBookmarksChanged() {
+        Batch batch = currentBatch.get();
+        if (batch != null) {
+            batch.bookmarksChanged = true;
+        } else {
+            suggestionIndex.onBookmarksChanged();
+        }
+    }
+
+    /**
+     * Keeps in-memory suggestion state in sync with history written in the background
+     */
+    private final RecentHistoryWriter.Listener historyListener = new RecentHistoryWriter.Listener() {
+        @Override
+        public void onHistoryWritten(List<ContentValues> insertedValues) {
+            for (ContentValues values : insertedValues) {
+                suggestionIndex.onRecentInserted(values);
+            }
+            refinementCache.clear();
+            getContext().getContentResolver().notifyChange(MUSIC_TABLE_URI, null);
+        }
+
+        @Override
+        public void onHistoryDeleted() {
+            onMusicRowsChanged();
+            getContext().getContentResolver().notifyChange(MUSIC_TABLE_URI, null);
+        }
+    };
+
+    /**
+     * Keeps in-memory state and observers in sync with tracks remapped or flagged in the background
+     */
+    private final MusicReconciler.Listener reconcilerListener = new MusicReconciler.Listener() {
+        @Override
+        public void onReconciled() {
+            onMusicRowsChanged();
+            suggestionIndex.onBookmarksChanged();
+            getContext().getContentResolver().notifyChange(MUSIC_TABLE_URI, null);
+            getContext().getContentResolver().notifyChange(BOOKMARK_TABLE_URI, null);
+        }
+    };
+
+    /**
+     * Export all tracks and bookmarks to a stream in the format of {@link BookmarkBackupWriter}
+     * @param out stream to write to, closed afterwards
+     * @return bundle with the number of tracks and bookmarks exported
+     * @throws IOException if the stream cannot be written
+     */
+    private Bundle exportBookmarks(OutputStream out) throws IOException {
+        BookmarkBackup.Counts counts = BookmarkBackup.export(openHelper.getReadableDatabase(), out);
+        return toBundle(counts);
+    }
+
+    /**
+     * Import tracks and bookmarks from a backup, then bring in-memory state and observers up to date.
+     * Rows committed before an error are kept and reported the same way.
+     * @param in stream to read from, closed afterwards
+     * @return bundle with the number of tracks and bookmarks added
+     * @throws IOException if the stream cannot be read or is not a valid backup
      */
-    private static final int MAX_HISTORY_COUNT = 100;
+    private Bundle importBookmarks(InputStream in) throws IOException {
+        try {
+            return toBundle(BookmarkBackup.importBackup(openHelper.getWritableDatabase(), in,
+                    getContext().getContentResolver(), SEARCH_URI));
+        } finally {
+            onMusicRowsChanged();
+            suggestionIndex.onBookmarksChanged();
+            getContext().getContentResolver().notifyChange(MUSIC_TABLE_URI, null);
+            getContext().getContentResolver().notifyChange(BOOKMARK_TABLE_URI, null);
+            //Tracks imported as missing are matched to the MediaStore by title, album, and artist once found
+            musicReconciler.requestReconcile();
+        }
+    }
+
+    private static Bundle toBundle(BookmarkBackup.Counts counts) {
+        Bundle result = new Bundle();
+        result.putInt(EXTRA_MUSIC_COUNT, counts.musicCount);
+        result.putInt(EXTRA_BOOKMARK_COUNT, counts.bookmarkCount);
+        return result;
+    }
 
     /**
-     * Add a query to the recent queries list.  Returns immediately, performing the save
-     * in the background.
+     * Open {@link #BACKUP_URI} as a pipe. Reading streams an export, and writing imports the backup
+     * once the writer closes its end. Either runs on its own thread so the caller can stream at its own pace.
      */
-    private static void asyncSaveRecentQuery(final Context context, final long id, final MusicItem musicItem) {
-        new Thread("asyncSaveRecentQuery") {
+    @Override
+    public ParcelFileDescriptor openFile(Uri uri, String mode) throws FileNotFoundException {
+        if (URI_MATCHER.match(uri) != URI_MATCH_BACKUP) {
+            throw new FileNotFoundException("Cannot open " + uri);
+        }
+        final boolean read = "r".equals(mode);
+        if (!read && !"w".equals(mode)) {
+            throw new IllegalArgumentException("Unsupported mode " + mode + " for " + uri);
+        }
+        final ParcelFileDescriptor[] pipe;
+        try {
+            pipe = ParcelFileDescriptor.createPipe();
+        } catch (IOException e) {
+            throw new FileNotFoundException("Cannot create pipe for " + uri + ": " + e.getMessage());
+        }
+        new Thread(new Runnable() {
             @Override
             public void run() {
-                ContentResolver cr = context.getContentResolver();
-                long now = System.currentTimeMillis();
-
                 try {
-                    ContentValues values = new ContentValues();
-                    values.put(MusicColumns._ID, id);
-                    values.put(MusicColumns.LAST_USED, now);
-                    values.put(MusicColumns.DISPLAY_NAME, musicItem.getDisplayName());
-                    values.put(MusicColumns.DISPLAY_NAME_KEY, MediaStore.Audio.keyFor(musicItem.getDisplayName()));
-                    values.put(MusicColumns.TITLE, musicItem.getTitle());
-                    values.put(MusicColumns.TITLE_KEY, MediaStore.Audio.keyFor(musicItem.getTitle()));
-                    values.put(MusicColumns.ALBUM, musicItem.getAlbum());
-                    values.put(MusicColumns.ALBUM_KEY, MediaStore.Audio.keyFor(musicItem.getAlbum()));
-                    values.put(MusicColumns.ARTIST, musicItem.getArtist());
-                    values.put(MusicColumns.ARTIST_KEY, MediaStore.Audio.keyFor(musicItem.getArtist()));
-                    cr.insert(MUSIC_TABLE_URI, values);
-                } catch (RuntimeException e) {
-                    Log.e(TAG, "asyncSaveRecentQuery", e);
+                    if (read) {
+                        exportBookmarks(new ParcelFileDescriptor.AutoCloseOutputStream(pipe[1]));
+                    } else {
+                        importBookmarks(new ParcelFileDescriptor.AutoCloseInputStream(pipe[0]));
+                    }
+                } catch (IOException e) {
+                    Log.e(TAG, "Bookmark backup transfer failed", e);
                 }
-
-                // Shorten the list (if it has become too long)
-                truncateHistory(cr, MAX_HISTORY_COUNT);
             }
-        }.start();
+        }, TAG + " " + BACKUP).start();
+        return read ? pipe[0] : pipe[1];
     }
 
+    private static final String[] AUDIO_PATH_PROJECTION = new String[] {MediaStore.Audio.Media.DATA};
+    private static final String CUE_SHEET_EXTENSION = ".cue";
+
     /**
-     * Reduces the length of the history table, to prevent it from growing too large.
-     *
-     * @param cr Convenience copy of the content resolver.
-     * @param maxEntries Max entries to leave in the table. 0 means remove all entries.
+     * Add bookmarks for the chapters of a track, from a cue sheet and from chapter markers embedded
+     * in the audio file. Without a cue sheet uri, a cue sheet next to the audio file is used if there is one.
+     * @param musicId id of the track
+     * @param cueSheetUri uri of a cue sheet, may be null
+     * @return bundle with the number of bookmarks added
+     * @throws IOException if a file cannot be read or is corrupt
      */
-    private static void truncateHistory(ContentResolver cr, int maxEntries) {
-        if (maxEntries < 0) {
-            throw new IllegalArgumentException();
+    private Bundle importChapters(long musicId, String cueSheetUri) throws IOException {
+        ContentResolver contentResolver = getContext().getContentResolver();
+        Uri audioUri = ContentUris.withAppendedId(SEARCH_URI, musicId);
+        String audioPath = null;
+        Cursor cursor = contentResolver.query(audioUri, AUDIO_PATH_PROJECTION, null, null, null);
+        if (cursor != null) {
+            try {
+                if (cursor.moveToFirst()) {
+                    audioPath = cursor.getString(0);
+                }
+            } finally {
+                cursor.close();
+            }
         }
 
+        InputStream cueSheet = null;
+        FileInputStream audio = null;
         try {
-            // null means "delete all".  otherwise "delete but leave n newest"
-            String selection = null;
-            if (maxEntries > 0) {
-                selection = MusicColumns._ID + " IN " +
-                        "(SELECT " + MusicColumns._ID + " FROM " + MusicColumns.TABLE +
-                        " ORDER BY " + MusicColumns.LAST_USED + " DESC" +
-                        " LIMIT -1 OFFSET " + String.valueOf(maxEntries) + ")";
+            if (cueSheetUri != null) {
+                cueSheet = contentResolver.openInputStream(Uri.parse(cueSheetUri));
+            } else if (audioPath != null) {
+                cueSheet = openSiblingCueSheet(audioPath);
             }
-            cr.delete(MUSIC_TABLE_URI, selection, null);
-        } catch (RuntimeException e) {
-            Log.e(TAG, "truncateHistory", e);
+            try {
+                ParcelFileDescriptor audioDescriptor = contentResolver.openFileDescriptor(audioUri, "r");
+                if (audioDescriptor != null) {
+                    audio = new ParcelFileDescriptor.AutoCloseInputStream(audioDescriptor);
+                }
+            } catch (FileNotFoundException e) {
+                Log.w(TAG, "Cannot open " + audioUri + " to read chapters", e);
+            }
+            int count = ChapterImporter.importChapters(openHelper.getWritableDatabase(), musicId, cueSheet, audioPath,
+                    audio == null ? null : audio.getChannel());
+            if (count > 0) {
+                onBookmarksChanged();
+                notifyChange(BOOKMARK_TABLE_URI);
+            }
+            Bundle result = new Bundle();
+            result.putInt(EXTRA_BOOKMARK_COUNT, count);
+            return result;
+        } finally {
+            if (cueSheet != null) {
+                cueSheet.close();
+            }
+            if (audio != null) {
+                audio.close();
+            }
+        }
+    }
+
+    /**
+     * Open a cue sheet named after an audio file, either "name.cue" or "name.ext.cue"
+     * @return stream of the cue sheet, or null if there is none
+     */
+    private static InputStream openSiblingCueSheet(String audioPath) throws FileNotFoundException {
+        int extensionStart = audioPath.lastIndexOf('.');
+        if (extensionStart > audioPath.lastIndexOf('/')) {
+            File cueSheet = new File(audioPath.substring(0, extensionStart) + CUE_SHEET_EXTENSION);
+            if (cueSheet.isFile()) {
+                return new FileInputStream(cueSheet);
+            }
+        }
+        File cueSheet = new File(audioPath + CUE_SHEET_EXTENSION);
+        return cueSheet.isFile() ? new FileInputStream(cueSheet) : null;
+    }
+
+    public static final String METHOD_CLEAR_HISTORY = "clearHistory";
+    public static final String METHOD_GET_INFO_BATCH = "getInfoBatch";
+    /**
+     * Export all tracks and bookmarks to the uri given as the argument, which must be writable by this app
+     */
+    public static final String METHOD_EXPORT_BOOKMARKS = "exportBookmarks";
+    /**
+     * Import the backup at the uri given as the argument, keeping existing tracks and bookmarks
+     */
+    public static final String METHOD_IMPORT_BOOKMARKS = "importBookmarks";
+    /**
+     * Add bookmarks for the chapters of the track whose id is given as the argument, from its cue
+     * sheet and embedded chapter markers. Extras may hold {@link #EXTRA_CUE_SHEET_URI}.
+     */
+    public static final String METHOD_IMPORT_CHAPTERS = "importChapters";
+    /**
+     * Uri of a cue sheet to import chapters from, used instead of a cue sheet next to the audio file
+     */
+    public static final String EXTRA_CUE_SHEET_URI = "cue_sheet_uri";
+    /**
+     * Number of tracks exported or imported, in the result of a backup call
+     */
+    public static final String EXTRA_MUSIC_COUNT = "music_count";
+    /**
+     * Number of bookmarks exported or imported, in the result of a backup or chapter import call
+     */
+    public static final String EXTRA_BOOKMARK_COUNT = "bookmark_count";
+    @Override
+    public Bundle call(String method, String arg, Bundle extras) {
+        switch (method) {
+            case METHOD_CLEAR_HISTORY:
+                historyWriter.clear();
+                return null;
+            case METHOD_GET_INFO_BATCH:
+                return getInfoBatch(extras == null ? null : extras.getLongArray(MusicItem.EXTRA_IDS));
+            case METHOD_EXPORT_BOOKMARKS:
+                try {
+                    OutputStream out = getContext().getContentResolver().openOutputStream(Uri.parse(arg));
+                    if (out == null) {
+                        throw new IllegalArgumentException("Cannot open " + arg + " for writing");
+                    }
+                    return exportBookmarks(out);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Error exporting bookmarks to " + arg, e);
+                }
+            case METHOD_IMPORT_BOOKMARKS:
+                try {
+                    InputStream in = getContext().getContentResolver().openInputStream(Uri.parse(arg));
+                    if (in == null) {
+                        throw new IllegalArgumentException("Cannot open " + arg + " for reading");
+                    }
+                    return importBookmarks(in);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Error importing bookmarks from " + arg, e);
+                }
+            case METHOD_IMPORT_CHAPTERS:
+                try {
+                    return importChapters(Long.parseLong(arg), extras == null ? null : extras.getString(EXTRA_CUE_SHEET_URI));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Error importing chapters of " + arg, e);
+                }
         }
+        throw new IllegalArgumentException("Unknown call method " + method);
     }
 
 
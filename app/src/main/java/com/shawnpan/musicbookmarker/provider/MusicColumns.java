@@ -16,10 +16,22 @@ public class MusicColumns implements MediaStore.Audio.AudioColumns {
     public static final String TABLE = "music";
 
     /**
-     * Timestamp of last time a music track was used
+     * Full text search table mirroring the music table, kept in sync by triggers
+     */
+    public static final String SEARCH_TABLE = "music_search";
+
+    /**
+     * Timestamp of last time a music track was used. Null for tracks kept only for their bookmarks,
+     * which are not shown as recently used.
      */
     public static final String LAST_USED = "last_used";
 
+    /**
+     * Score of how often and how recently the track was used, see {@link Frecency}.
+     * Higher scores rank first.
+     */
+    public static final String FRECENCY = "frecency";
+
     /**
      * Name to display for the track (default is the title of the track)
      */
@@ -30,6 +42,12 @@ public class MusicColumns implements MediaStore.Audio.AudioColumns {
      */
     public static final String DISPLAY_NAME_KEY = "display_name_key";
 
+    /**
+     * Set when the track can no longer be found in the MediaStore, neither by id nor by
+     * title/album/artist. Bookmarks of missing tracks are kept and flagged as orphaned.
+     */
+    public static final String MISSING = "missing";
+
     /**
      * Standard order of columns for queries
      */
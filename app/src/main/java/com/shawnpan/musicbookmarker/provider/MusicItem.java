@@ -2,6 +2,7 @@ package com.shawnpan.musicbookmarker.provider;
 
 import android.content.ContentResolver;
 import android.database.Cursor;
+import android.os.Bundle;
 import android.provider.MediaStore;
 import android.text.TextUtils;
 
@@ -13,10 +14,20 @@ import com.shawnpan.musicbookmarker.R;
  */
 public class MusicItem {
     private static final String DRAWABLE_PREFIX = ContentResolver.SCHEME_ANDROID_RESOURCE + "://com.shawnpan.musicbookmarker/";
-    private static final String DRAWABLE_ACCESS_TIME = DRAWABLE_PREFIX + R.drawable.ic_access_time_white_48dp;
-    private static final String DRAWABLE_ALBUM = DRAWABLE_PREFIX + R.drawable.ic_album_white_48dp;
+    static final String DRAWABLE_ACCESS_TIME = DRAWABLE_PREFIX + R.drawable.ic_access_time_white_48dp;
+    static final String DRAWABLE_ALBUM = DRAWABLE_PREFIX + R.drawable.ic_album_white_48dp;
+    static final String DRAWABLE_BOOKMARK = DRAWABLE_PREFIX + R.drawable.ic_star_white_48dp;
     private static final String SEPARATOR = " - ";
 
+    //Bundle keys of the getInfoBatch call, each holding an array with one entry per requested id
+    public static final String EXTRA_IDS = "ids";
+    public static final String EXTRA_TITLES = "titles";
+    public static final String EXTRA_ALBUMS = "albums";
+    public static final String EXTRA_ARTISTS = "artists";
+    public static final String EXTRA_DISPLAY_NAMES = "display_names";
+    public static final String EXTRA_FOUND = "found";
+    public static final String EXTRA_RECENT = "recent";
+
     private long id;
     private String title;
     private String album;
@@ -55,6 +66,49 @@ public class MusicItem {
         return item;
     }
 
+    /**
+     * Create an instance from individual fields
+     * @param id id of track
+     * @param title title of track
+     * @param album album of track
+     * @param artist artist of track
+     * @param displayName display name of track
+     * @param recent true if the track comes from the local music table rather than the MediaStore
+     * @return new MusicItem
+     */
+    static MusicItem fromFields(long id, String title, String album, String artist, String displayName, boolean recent) {
+        MusicItem item = new MusicItem();
+        item.id = id;
+        item.title = title;
+        item.album = album;
+        item.artist = artist;
+        item.displayName = displayName;
+        item.icon = recent ? DRAWABLE_ACCESS_TIME : DRAWABLE_ALBUM;
+        return item;
+    }
+
+    /**
+     * Create instances from the result of a {@link MusicBookmarksProvider#METHOD_GET_INFO_BATCH} call
+     * @param result bundle returned by the call
+     * @return one item per requested id in the same order, null where the track was not found
+     */
+    public static MusicItem[] fromInfoBatch(Bundle result) {
+        long[] ids = result.getLongArray(EXTRA_IDS);
+        String[] titles = result.getStringArray(EXTRA_TITLES);
+        String[] albums = result.getStringArray(EXTRA_ALBUMS);
+        String[] artists = result.getStringArray(EXTRA_ARTISTS);
+        String[] displayNames = result.getStringArray(EXTRA_DISPLAY_NAMES);
+        boolean[] found = result.getBooleanArray(EXTRA_FOUND);
+        boolean[] recent = result.getBooleanArray(EXTRA_RECENT);
+        MusicItem[] items = new MusicItem[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            if (found[i]) {
+                items[i] = fromFields(ids[i], titles[i], albums[i], artists[i], displayNames[i], recent[i]);
+            }
+        }
+        return items;
+    }
+
     /**
      * Load fields common to both cursor schemas
      * @param cursor input cursor
@@ -111,30 +165,51 @@ public class MusicItem {
         return icon;
     }
 
+    /**
+     * @return true if the track comes from the local music table rather than the MediaStore
+     */
+    boolean isRecent() {
+        return DRAWABLE_ACCESS_TIME.equals(icon);
+    }
+
     /**
      * @return description string of track
      */
     public String getDescription() {
-        if (TextUtils.equals(title, displayName)) {
-            return concatNonEmpty(album, artist);
-        } else {
-            return concatNonEmpty(title, album, artist);
+        return describe(new StringBuilder(), title, album, artist, displayName);
+    }
+
+    /**
+     * Build the description of a track: the title (if different from the display name), album,
+     * and artist, skipping empty or unknown fields.
+     * @param builder builder to use, cleared before use so that it can be reused between calls
+     * @param title title of track
+     * @param album album of track
+     * @param artist artist of track
+     * @param displayName display name of track
+     * @return fields separated by {@link MusicItem#SEPARATOR}
+     */
+    static String describe(StringBuilder builder, String title, String album, String artist, String displayName) {
+        builder.setLength(0);
+        if (!TextUtils.equals(title, displayName)) {
+            appendNonEmpty(builder, title);
         }
+        appendNonEmpty(builder, album);
+        appendNonEmpty(builder, artist);
+        return builder.toString();
     }
 
     /**
-     * Helper method to concatenate non empty fields associated with a track
-     * @param parts to concatenate
-     * @return concatenated parts separated by {@link MusicItem#SEPARATOR}
+     * Helper method to append a non empty field associated with a track
+     * @param builder builder to append to
+     * @param part field to append, preceded by {@link MusicItem#SEPARATOR} if not the first
      */
-    private static String concatNonEmpty(String... parts) {
-        StringBuilder builder = new StringBuilder();
-        for (String part : parts) {
-            if (!TextUtils.isEmpty(part) && !MediaStore.UNKNOWN_STRING.equals(part)) {
-                builder.append(part);
+    private static void appendNonEmpty(StringBuilder builder, String part) {
+        if (!TextUtils.isEmpty(part) && !MediaStore.UNKNOWN_STRING.equals(part)) {
+            if (builder.length() > 0) {
                 builder.append(SEPARATOR);
             }
+            builder.append(part);
         }
-        return builder.substring(0, builder.length() - SEPARATOR.length());
     }
 }
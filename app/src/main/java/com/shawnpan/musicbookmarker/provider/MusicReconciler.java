@@ -0,0 +1,470 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentResolver;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.provider.MediaStore;
+import android.text.TextUtils;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Keeps the local music and bookmark tables in step with the MediaStore in the background, so that
+ * opening a track only needs a lookup by id.
+ * <p>
+ * Whenever the MediaStore changes, the tracks in the music table (and tracks only referenced by
+ * bookmarks) are looked up by id and their modification times compared:
+ * <ul>
+ * <li>Tracks that still exist have their metadata refreshed if they were modified.</li>
+ * <li>Tracks that disappeared, or whose id now names a track with another title, album, or artist,
+ * are searched for by title, album, and artist, in case the file was moved and given a new id, or the
+ * row was imported from another device. The music row and its bookmarks are remapped to the new id.
+ * A track whose id is still in use and has no other match is taken to have had its tags edited.</li>
+ * <li>Tracks that cannot be found are flagged as missing and their bookmarks as orphaned.
+ * Nothing is deleted, so the bookmarks come back if the file reappears.</li>
+ * </ul>
+ * Changes are computed first and then written in batched transactions, so no MediaStore query runs
+ * while a transaction is open.
+ */
+public class MusicReconciler {
+    private static final String TAG = "MusicReconciler";
+
+    //Wait for a burst of MediaStore changes to settle before reconciling
+    private static final long RECONCILE_DELAY_MS = 2000;
+    //Changes per transaction
+    private static final int CHANGES_PER_TRANSACTION = 100;
+
+    private static final String[] LOCAL_PROJECTION = new String[] {
+            MusicColumns._ID,
+            MusicColumns.TITLE,
+            MusicColumns.ALBUM,
+            MusicColumns.ARTIST,
+            MusicColumns.DATE_MODIFIED,
+            MusicColumns.MISSING
+    };
+    private static final String[] MEDIASTORE_PROJECTION = new String[] {
+            MusicColumns._ID,
+            MusicColumns.TITLE,
+            MusicColumns.ALBUM,
+            MusicColumns.ARTIST,
+            MusicColumns.DATE_MODIFIED
+    };
+    private static final int COLUMN_INDEX_ID = 0;
+    private static final int COLUMN_INDEX_TITLE = 1;
+    private static final int COLUMN_INDEX_ALBUM = 2;
+    private static final int COLUMN_INDEX_ARTIST = 3;
+    private static final int COLUMN_INDEX_DATE_MODIFIED = 4;
+    private static final int COLUMN_INDEX_MISSING = 5;
+
+    private static final String BOOKMARK_ONLY_QUERY =
+            "SELECT " + BookmarkColumns.MUSIC_ID + ", min(" + BookmarkColumns.ORPHANED + "), max(" +
+            BookmarkColumns.ORPHANED + ") FROM " + BookmarkColumns.TABLE + " WHERE " + BookmarkColumns.MUSIC_ID +
+            " NOT IN (SELECT " + MusicColumns._ID + " FROM " + MusicColumns.TABLE + ") GROUP BY " +
+            BookmarkColumns.MUSIC_ID;
+    private static final String TITLE_ALBUM_ARTIST_FILTER =
+            MusicColumns.IS_MUSIC + " = 1 AND " + MusicColumns.TITLE + " = ? AND " +
+            MusicColumns.ALBUM + " = ? AND " + MusicColumns.ARTIST + " = ?";
+    private static final String ID_DESC_ORDER = MusicColumns._ID + " DESC";
+
+    //Only follow the title of an uncustomized display name
+    private static final String REFRESH_COMMAND =
+            "UPDATE " + MusicColumns.TABLE + " SET " +
+            MusicColumns.DISPLAY_NAME + " = CASE WHEN " + MusicColumns.DISPLAY_NAME + " IS " + MusicColumns.TITLE +
+            " THEN ?1 ELSE " + MusicColumns.DISPLAY_NAME + " END, " +
+            MusicColumns.DISPLAY_NAME_KEY + " = CASE WHEN " + MusicColumns.DISPLAY_NAME + " IS " + MusicColumns.TITLE +
+            " THEN ?2 ELSE " + MusicColumns.DISPLAY_NAME_KEY + " END, " +
+            MusicColumns.TITLE + " = ?1, " + MusicColumns.TITLE_KEY + " = ?2, " +
+            MusicColumns.ALBUM + " = ?3, " + MusicColumns.ALBUM_KEY + " = ?4, " +
+            MusicColumns.ARTIST + " = ?5, " + MusicColumns.ARTIST_KEY + " = ?6, " +
+            MusicColumns.DATE_MODIFIED + " = ?7, " + MusicColumns.MISSING + " = 0 " +
+            "WHERE " + MusicColumns._ID + " = ?8";
+    private static final String PREVIOUS_LAST_USED =
+            "(SELECT " + MusicColumns.LAST_USED + " FROM " + MusicColumns.TABLE + " WHERE " + MusicColumns._ID + " = ?1)";
+    //Either last use may be null, which max() would return
+    private static final String MERGE_HISTORY_COMMAND =
+            "UPDATE " + MusicColumns.TABLE + " SET " + MusicColumns.LAST_USED + " = max(IFNULL(" + MusicColumns.LAST_USED +
+            ", " + PREVIOUS_LAST_USED + "), IFNULL(" + PREVIOUS_LAST_USED + ", " + MusicColumns.LAST_USED + ")), " +
+            MusicColumns.FRECENCY + " = ?2 WHERE " + MusicColumns._ID + " = ?3";
+    private static final String FRECENCY_QUERY =
+            "SELECT " + MusicColumns.FRECENCY + " FROM " + MusicColumns.TABLE + " WHERE " + MusicColumns._ID + " = ?";
+    private static final String DELETE_MUSIC_COMMAND =
+            "DELETE FROM " + MusicColumns.TABLE + " WHERE " + MusicColumns._ID + " = ?";
+    private static final String CHANGE_MUSIC_ID_COMMAND =
+            "UPDATE " + MusicColumns.TABLE + " SET " + MusicColumns._ID + " = ?1 WHERE " + MusicColumns._ID + " = ?2";
+    private static final String REMAP_BOOKMARKS_COMMAND =
+            "UPDATE " + BookmarkColumns.TABLE + " SET " + BookmarkColumns.MUSIC_ID + " = ?1, " +
+            BookmarkColumns.ORPHANED + " = 0 WHERE " + BookmarkColumns.MUSIC_ID + " = ?2";
+    private static final String MARK_MISSING_COMMAND =
+            "UPDATE " + MusicColumns.TABLE + " SET " + MusicColumns.MISSING + " = 1 WHERE " + MusicColumns._ID + " = ?";
+    private static final String SET_ORPHANED_COMMAND =
+            "UPDATE " + BookmarkColumns.TABLE + " SET " + BookmarkColumns.ORPHANED + " = ?1 WHERE " +
+            BookmarkColumns.MUSIC_ID + " = ?2 AND " + BookmarkColumns.ORPHANED + " != ?1";
+
+    /**
+     * Receives notice of committed changes, on the reconciler thread
+     */
+    public interface Listener {
+        /**
+         * Called after rows in the music or bookmark tables were changed
+         */
+        void onReconciled();
+    }
+
+    /**
+     * Metadata of a track, from either the music table or the MediaStore
+     */
+    private static final class Track {
+        final long id;
+        final String title;
+        final String album;
+        final String artist;
+        final Long dateModified;
+        final boolean missing;
+
+        Track(Cursor cursor, boolean local) {
+            id = cursor.getLong(COLUMN_INDEX_ID);
+            title = cursor.getString(COLUMN_INDEX_TITLE);
+            album = cursor.getString(COLUMN_INDEX_ALBUM);
+            artist = cursor.getString(COLUMN_INDEX_ARTIST);
+            dateModified = cursor.isNull(COLUMN_INDEX_DATE_MODIFIED) ? null : cursor.getLong(COLUMN_INDEX_DATE_MODIFIED);
+            missing = local && cursor.getInt(COLUMN_INDEX_MISSING) != 0;
+        }
+
+        /**
+         * @return true if the metadata stored locally no longer matches the MediaStore
+         */
+        boolean isStale(Track current) {
+            return missing || dateModified == null || !dateModified.equals(current.dateModified) ||
+                    !isSameTrack(current);
+        }
+
+        /**
+         * @return true if the title, album, and artist match
+         */
+        boolean isSameTrack(Track current) {
+            return TextUtils.equals(title, current.title) && TextUtils.equals(album, current.album) &&
+                    TextUtils.equals(artist, current.artist);
+        }
+    }
+
+    /**
+     * A single change to write
+     */
+    private static final class Change {
+        static final int REFRESH = 0;
+        static final int REMAP = 1;
+        static final int MISSING = 2;
+        static final int SET_ORPHANED = 3;
+        static final int CLEAR_ORPHANED = 4;
+
+        final int type;
+        final long id;
+        final Track current;
+
+        Change(int type, long id, Track current) {
+            this.type = type;
+            this.id = id;
+            this.current = current;
+        }
+    }
+
+    private final SQLiteOpenHelper openHelper;
+    private final ContentResolver contentResolver;
+    private final Uri mediaUri;
+    private final Listener listener;
+    private final Handler handler;
+    private final ContentObserver mediaObserver;
+
+    /**
+     * Constructor
+     * @param openHelper helper for the database containing the music and bookmark tables
+     * @param contentResolver resolver used to read the MediaStore
+     * @param mediaUri MediaStore uri to reconcile against
+     * @param listener receives notice of committed changes
+     */
+    public MusicReconciler(SQLiteOpenHelper openHelper, ContentResolver contentResolver, Uri mediaUri, Listener listener) {
+        this.openHelper = openHelper;
+        this.contentResolver = contentResolver;
+        this.mediaUri = mediaUri;
+        this.listener = listener;
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+        mediaObserver = new ContentObserver(handler) {
+            @Override
+            public void onChange(boolean selfChange) {
+                schedule(RECONCILE_DELAY_MS);
+            }
+        };
+    }
+
+    /**
+     * Start watching the MediaStore and reconcile in the background
+     */
+    public void start() {
+        contentResolver.registerContentObserver(mediaUri, true, mediaObserver);
+        schedule(0);
+    }
+
+    /**
+     * Reconcile soon, for example after a track could not be opened
+     */
+    public void requestReconcile() {
+        schedule(0);
+    }
+
+    /**
+     * Schedule a pass, replacing any pending pass
+     * @param delayMs delay before reconciling
+     */
+    private void schedule(long delayMs) {
+        handler.removeCallbacks(reconcileRunnable);
+        handler.postDelayed(reconcileRunnable, delayMs);
+    }
+
+    private final Runnable reconcileRunnable = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to reconcile with MediaStore", e);
+            }
+        }
+    };
+
+    /**
+     * Compare the local tables with the MediaStore and write any changes
+     */
+    private void reconcile() {
+        long startTime = System.currentTimeMillis();
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+
+        HashMap<Long, Track> localTracks = new HashMap<>();
+        Cursor localCursor = db.query(MusicColumns.TABLE, LOCAL_PROJECTION, null, null, null, null, null);
+        try {
+            while (localCursor.moveToNext()) {
+                Track track = new Track(localCursor, true);
+                localTracks.put(track.id, track);
+            }
+        } finally {
+            localCursor.close();
+        }
+        //Tracks only referenced by bookmarks, mapped to {any bookmark not orphaned, any bookmark orphaned}
+        HashMap<Long, boolean[]> bookmarkOnlyIds = new HashMap<>();
+        Cursor bookmarkCursor = db.rawQuery(BOOKMARK_ONLY_QUERY, null);
+        try {
+            while (bookmarkCursor.moveToNext()) {
+                bookmarkOnlyIds.put(bookmarkCursor.getLong(0), new boolean[] {
+                        bookmarkCursor.getInt(1) == 0, bookmarkCursor.getInt(2) != 0});
+            }
+        } finally {
+            bookmarkCursor.close();
+        }
+
+        List<Long> ids = new ArrayList<>(localTracks.size() + bookmarkOnlyIds.size());
+        ids.addAll(localTracks.keySet());
+        ids.addAll(bookmarkOnlyIds.keySet());
+        HashMap<Long, Track> currentTracks = queryMediaStore(ids);
+        if (currentTracks == null) {
+            return;
+        }
+
+        List<Change> changes = new ArrayList<>();
+        for (Track local : localTracks.values()) {
+            Track current = currentTracks.get(local.id);
+            if (current != null && local.isSameTrack(current)) {
+                if (local.isStale(current)) {
+                    changes.add(new Change(Change.REFRESH, local.id, current));
+                }
+                continue;
+            }
+            //The id now names another track, either after a move or an import from another device
+            Track moved = findMoved(local, localTracks);
+            if (current != null && moved == null) {
+                //Nothing else matches, so the tags of the track were edited
+                changes.add(new Change(Change.REFRESH, local.id, current));
+                continue;
+            }
+            if (moved != null) {
+                changes.add(new Change(Change.REMAP, local.id, moved));
+            } else if (!local.missing) {
+                changes.add(new Change(Change.MISSING, local.id, null));
+            }
+        }
+        for (Long musicId : bookmarkOnlyIds.keySet()) {
+            boolean[] flags = bookmarkOnlyIds.get(musicId);
+            if (currentTracks.containsKey(musicId)) {
+                if (flags[1]) {
+                    changes.add(new Change(Change.CLEAR_ORPHANED, musicId, null));
+                }
+            } else if (flags[0]) {
+                changes.add(new Change(Change.SET_ORPHANED, musicId, null));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            apply(db, changes);
+            listener.onReconciled();
+        }
+        Log.v(TAG, "Reconciled " + ids.size() + " tracks with " + changes.size() + " changes in " +
+                (System.currentTimeMillis() - startTime) + "ms");
+    }
+
+    /**
+     * Look up tracks in the MediaStore by id
+     * @param ids ids to look up
+     * @return tracks found by id, or null if the MediaStore is unavailable
+     */
+    private HashMap<Long, Track> queryMediaStore(List<Long> ids) {
+        HashMap<Long, Track> tracks = new HashMap<>();
+        for (int start = 0; start < ids.size(); start += IdSelection.IDS_PER_QUERY) {
+            int end = Math.min(ids.size(), start + IdSelection.IDS_PER_QUERY);
+            String[] selectionArgs = new String[end - start];
+            for (int i = start; i < end; i++) {
+                selectionArgs[i - start] = Long.toString(ids.get(i));
+            }
+            String selection = IdSelection.in(MusicColumns._ID, end - start);
+            Cursor cursor = contentResolver.query(mediaUri, MEDIASTORE_PROJECTION, selection, selectionArgs, null);
+            if (cursor == null) {
+                Log.w(TAG, "MediaStore unavailable");
+                return null;
+            }
+            try {
+                while (cursor.moveToNext()) {
+                    Track track = new Track(cursor, false);
+                    tracks.put(track.id, track);
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+        return tracks;
+    }
+
+    /**
+     * Find a track that disappeared by its metadata, in case the file was moved.
+     * If several tracks match, prefer one that is not already in the music table, then the newest.
+     * @param local track that is no longer in the MediaStore
+     * @param localTracks all tracks in the music table
+     * @return matching track, or null if none
+     */
+    private Track findMoved(Track local, HashMap<Long, Track> localTracks) {
+        if (local.title == null || local.album == null || local.artist == null) {
+            return null;
+        }
+        String[] args = new String[] {local.title, local.album, local.artist};
+        Cursor cursor = contentResolver.query(mediaUri, MEDIASTORE_PROJECTION, TITLE_ALBUM_ARTIST_FILTER, args, ID_DESC_ORDER);
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            Track match = null;
+            while (cursor.moveToNext()) {
+                Track candidate = new Track(cursor, false);
+                if (match == null) {
+                    match = candidate;
+                }
+                if (!localTracks.containsKey(candidate.id)) {
+                    match = candidate;
+                    break;
+                }
+            }
+            if (cursor.getCount() > 1) {
+                Log.w(TAG, cursor.getCount() + " matches for moved track " + local.id + ", using " + match.id);
+            }
+            return match;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Write changes in batched transactions
+     * @param db writable database
+     * @param changes changes to write
+     */
+    private static void apply(SQLiteDatabase db, List<Change> changes) {
+        for (int start = 0; start < changes.size(); start += CHANGES_PER_TRANSACTION) {
+            int end = Math.min(changes.size(), start + CHANGES_PER_TRANSACTION);
+            db.beginTransactionNonExclusive();
+            try {
+                for (int i = start; i < end; i++) {
+                    apply(db, changes.get(i));
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        }
+    }
+
+    /**
+     * @param db database containing the music table
+     * @param id id of a track in the music table
+     * @return frecency score of the track
+     */
+    private static double queryFrecency(SQLiteDatabase db, long id) {
+        return Double.parseDouble(DatabaseUtils.stringForQuery(db, FRECENCY_QUERY, new String[] {Long.toString(id)}));
+    }
+
+    private static void apply(SQLiteDatabase db, Change change) {
+        switch (change.type) {
+            case Change.REFRESH:
+                refresh(db, change.id, change.current);
+                db.execSQL(SET_ORPHANED_COMMAND, new Object[] {0, change.id});
+                break;
+            case Change.REMAP:
+                long newId = change.current.id;
+                Log.i(TAG, "Track " + change.id + " moved to " + newId);
+                if (DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE, MusicColumns._ID + " = " + newId) > 0) {
+                    //The new id was opened before the move was noticed, keep that row
+                    double frecency = Frecency.merge(queryFrecency(db, change.id), queryFrecency(db, newId));
+                    db.execSQL(MERGE_HISTORY_COMMAND, new Object[] {change.id, frecency, newId});
+                    db.execSQL(DELETE_MUSIC_COMMAND, new Object[] {change.id});
+                } else {
+                    db.execSQL(CHANGE_MUSIC_ID_COMMAND, new Object[] {newId, change.id});
+                }
+                refresh(db, newId, change.current);
+                db.execSQL(REMAP_BOOKMARKS_COMMAND, new Object[] {newId, change.id});
+                break;
+            case Change.MISSING:
+                Log.i(TAG, "Track " + change.id + " is missing");
+                db.execSQL(MARK_MISSING_COMMAND, new Object[] {change.id});
+                db.execSQL(SET_ORPHANED_COMMAND, new Object[] {1, change.id});
+                break;
+            case Change.SET_ORPHANED:
+                db.execSQL(SET_ORPHANED_COMMAND, new Object[] {1, change.id});
+                break;
+            case Change.CLEAR_ORPHANED:
+                db.execSQL(SET_ORPHANED_COMMAND, new Object[] {0, change.id});
+                break;
+        }
+    }
+
+    /**
+     * Copy current MediaStore metadata into a music row
+     */
+    private static void refresh(SQLiteDatabase db, long id, Track current) {
+        db.execSQL(REFRESH_COMMAND, new Object[] {
+                current.title, keyFor(current.title),
+                current.album, keyFor(current.album),
+                current.artist, keyFor(current.artist),
+                current.dateModified, id
+        });
+    }
+
+    private static String keyFor(String name) {
+        return name == null ? null : MediaStore.Audio.keyFor(name);
+    }
+}
@@ -1,14 +1,21 @@
 package com.shawnpan.musicbookmarker.provider;
 
 import android.app.SearchManager;
+import android.database.Cursor;
 import android.database.MatrixCursor;
 import android.provider.BaseColumns;
-
-import java.util.HashSet;
-import java.util.Set;
+import android.text.format.DateUtils;
 
 /**
  * Convenience subclass of MatrixCursor for building music search suggestions.
+ * <p>
+ * Rows can be copied straight from a music table or MediaStore cursor without creating a
+ * {@link MusicItem}. Ids are deduplicated with a primitive set, and the row buffer and the
+ * description builder are reused between rows, so the only allocations per row are the column
+ * strings themselves.
+ * <p>
+ * Bookmark rows open the track of the bookmark and carry the bookmark uri, including its position,
+ * as intent data. They are not deduplicated against tracks and are not kept in {@link #getRows()}.
  */
 public class MusicSuggestionsCursor extends MatrixCursor {
     private static final String[] SUGGESTION_COLUMNS = new String[]{
@@ -17,30 +24,146 @@ public class MusicSuggestionsCursor extends MatrixCursor {
             SearchManager.SUGGEST_COLUMN_TEXT_2,
             SearchManager.SUGGEST_COLUMN_QUERY,
             SearchManager.SUGGEST_COLUMN_ICON_1,
-            SearchManager.SUGGEST_COLUMN_INTENT_EXTRA_DATA
+            SearchManager.SUGGEST_COLUMN_INTENT_EXTRA_DATA,
+            SearchManager.SUGGEST_COLUMN_INTENT_DATA
     };
-    private Set<Long> addedIds = new HashSet<>();
+    private static final String BOOKMARK_SEPARATOR = " @ ";
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final LongHashSet addedIds;
+    private final SuggestionRows rows;
+    private final Object[] rowBuffer = new Object[SUGGESTION_COLUMNS.length];
+    private final StringBuilder descriptionBuilder = new StringBuilder();
 
     /**
      * Constructor - creates MatrixCursor for suggestions
      */
     public MusicSuggestionsCursor() {
-        super(SUGGESTION_COLUMNS);
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor - creates MatrixCursor for suggestions
+     * @param capacity expected number of rows
+     */
+    public MusicSuggestionsCursor(int capacity) {
+        super(SUGGESTION_COLUMNS, capacity);
+        addedIds = new LongHashSet(capacity);
+        rows = new SuggestionRows(capacity);
     }
 
     /**
      * Adds an entry to this cursor iff the id is unique
      * @param item item to add
+     * @return true if the item was added
+     */
+    public boolean addUnique(MusicItem item) {
+        return addUnique(item.getId(), item.getTitle(), item.getAlbum(), item.getArtist(), item.getDisplayName(),
+                item.isRecent());
+    }
+
+    /**
+     * Adds the current row of a cursor matching {@link MusicColumns#PROJECTION} iff the id is unique
+     * @param cursor music table cursor
+     * @return true if the row was added
      */
-    public void addUnique(MusicItem item) {
-        if (addedIds.add(item.getId())) {
-            newRow()
-                .add(item.getId())
-                .add(item.getDisplayName())
-                .add(item.getDescription())
-                .add(item.getTitle())
-                .add(item.getIcon())
-                .add(Long.toString(item.getId()));
+    public boolean addUniqueFromMusicTable(Cursor cursor) {
+        long id = cursor.getLong(MusicColumns.COLUMN_INDEX_ID);
+        if (addedIds.contains(id)) {
+            return false;
         }
+        return addUnique(id,
+                cursor.getString(MusicColumns.COLUMN_INDEX_TITLE),
+                cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM),
+                cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST),
+                cursor.getString(MusicColumns.COLUMN_INDEX_DISPLAY_NAME),
+                true);
+    }
+
+    /**
+     * Adds the current row of a cursor matching {@link MusicColumns#MEDIASTORE_PROJECTION} iff the id is unique
+     * @param cursor MediaStore (or media index) cursor
+     * @return true if the row was added
+     */
+    public boolean addUniqueFromMediaStore(Cursor cursor) {
+        long id = cursor.getLong(MusicColumns.COLUMN_INDEX_ID);
+        if (addedIds.contains(id)) {
+            return false;
+        }
+        String title = cursor.getString(MusicColumns.COLUMN_INDEX_TITLE);
+        return addUnique(id, title,
+                cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM),
+                cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST),
+                title,
+                false);
+    }
+
+    /**
+     * Adds rows from another set of results in order, skipping duplicate ids
+     * @param source rows to add
+     * @param limit maximum number of rows in this cursor, including rows already added
+     */
+    void addAll(SuggestionRows source, int limit) {
+        for (int row = 0; row < source.getCount() && getCount() < limit; row++) {
+            addUnique(source.getId(row), source.getTitle(row), source.getAlbum(row), source.getArtist(row),
+                    source.getDisplayName(row), source.isRecent(row));
+        }
+    }
+
+    /**
+     * Adds an entry to this cursor iff the id is unique
+     * @param id id of track
+     * @param title title of track
+     * @param album album of track
+     * @param artist artist of track
+     * @param displayName display name of track
+     * @param recent true if the track comes from the local music table
+     * @return true if the entry was added
+     */
+    public boolean addUnique(long id, String title, String album, String artist, String displayName, boolean recent) {
+        if (!addedIds.add(id)) {
+            return false;
+        }
+        //The id column accepts a string, which lets the id and intent data share one object
+        String idString = Long.toString(id);
+        rowBuffer[0] = idString;
+        rowBuffer[1] = displayName;
+        rowBuffer[2] = MusicItem.describe(descriptionBuilder, title, album, artist, displayName);
+        rowBuffer[3] = title;
+        rowBuffer[4] = recent ? MusicItem.DRAWABLE_ACCESS_TIME : MusicItem.DRAWABLE_ALBUM;
+        rowBuffer[5] = idString;
+        rowBuffer[6] = null;
+        addRow(rowBuffer);
+        rows.add(id, title, album, artist, displayName, recent);
+        return true;
+    }
+
+    /**
+     * Adds a bookmark, shown as "track @ position" with the label below
+     * @param bookmarkId id of bookmark
+     * @param musicId id of the track of the bookmark
+     * @param position position of the bookmark in milliseconds
+     * @param label label of the bookmark
+     * @param displayName display name of the track
+     */
+    public void addBookmark(long bookmarkId, long musicId, long position, String label, String displayName) {
+        descriptionBuilder.setLength(0);
+        descriptionBuilder.append(displayName).append(BOOKMARK_SEPARATOR).append(DateUtils.formatElapsedTime(position / 1000));
+        //Negative ids keep bookmark rows apart from track rows
+        rowBuffer[0] = Long.toString(-bookmarkId);
+        rowBuffer[1] = descriptionBuilder.toString();
+        rowBuffer[2] = label;
+        rowBuffer[3] = displayName;
+        rowBuffer[4] = MusicItem.DRAWABLE_BOOKMARK;
+        rowBuffer[5] = Long.toString(musicId);
+        rowBuffer[6] = MusicBookmarksProvider.getBookmarkJumpUri(bookmarkId, position).toString();
+        addRow(rowBuffer);
+    }
+
+    /**
+     * @return fields of the rows added so far, in order
+     */
+    SuggestionRows getRows() {
+        return rows;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,292 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentValues;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.provider.MediaStore;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write-behind queue for the recently used tracks in the local music table.
+ * <p>
+ * Touches are collected in memory and written by a single background thread after a short delay,
+ * so switching quickly between tracks produces one transaction instead of one thread and one write
+ * per track. Repeated touches of the same track are coalesced into a single row, keeping the latest
+ * time. Each write adds one use to the {@link Frecency} score of the track, reading only the previous
+ * score of that row. The table is only trimmed back to the history limit, keeping the highest scores,
+ * once it has grown past the limit by {@link #TRIM_SLACK} rows, rather than after every write.
+ * Tracks with bookmarks are never trimmed. Clearing the history also keeps them, and only forgets
+ * their use, so that they drop out of the recently used tracks.
+ * <p>
+ * Pending touches are lost if the process dies before they are flushed, which only affects the order
+ * of the history.
+ */
+public class RecentHistoryWriter {
+    private static final String TAG = "RecentHistoryWriter";
+
+    //Collect touches for this long before writing them out
+    static final long FLUSH_DELAY_MS = 1000;
+    //Rows allowed above the history limit before trimming
+    static final int TRIM_SLACK = 20;
+
+
+    /**
+     * Receives changes to the music table after they are committed, on the writer thread
+     */
+    public interface Listener {
+        /**
+         * @param insertedValues values of the rows inserted or replaced, in the order written
+         */
+        void onHistoryWritten(List<ContentValues> insertedValues);
+
+        /**
+         * Called after rows are removed by trimming or clearing
+         */
+        void onHistoryDeleted();
+    }
+
+    /**
+     * Latest touch of a track waiting to be written
+     */
+    private static final class PendingTouch {
+        final MusicItem item;
+        final long time;
+
+        PendingTouch(MusicItem item, long time) {
+            this.item = item;
+            this.time = time;
+        }
+    }
+
+    private static final String UPSERT_COMMAND =
+            "INSERT OR REPLACE INTO " + MusicColumns.TABLE + "(" +
+                    MusicColumns._ID + ", " + MusicColumns.LAST_USED + ", " +
+                    MusicColumns.DISPLAY_NAME + ", " + MusicColumns.DISPLAY_NAME_KEY + ", " +
+                    MusicColumns.TITLE + ", " + MusicColumns.TITLE_KEY + ", " +
+                    MusicColumns.ALBUM + ", " + MusicColumns.ALBUM_KEY + ", " +
+                    MusicColumns.ARTIST + ", " + MusicColumns.ARTIST_KEY + ", " + MusicColumns.FRECENCY + ", " +
+                    MusicColumns.DATE_MODIFIED +
+                    ") VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9, ?10, ?11, " +
+                    //Replacing the row would reset the modification time seen by the reconciler
+                    "(SELECT " + MusicColumns.DATE_MODIFIED + " FROM " + MusicColumns.TABLE +
+                    " WHERE " + MusicColumns._ID + " = ?1))";
+    //Order of the bound columns in UPSERT_COMMAND
+    private static final String[] UPSERT_COLUMNS = new String[] {
+            MusicColumns._ID,
+            MusicColumns.LAST_USED,
+            MusicColumns.DISPLAY_NAME,
+            MusicColumns.DISPLAY_NAME_KEY,
+            MusicColumns.TITLE,
+            MusicColumns.TITLE_KEY,
+            MusicColumns.ALBUM,
+            MusicColumns.ALBUM_KEY,
+            MusicColumns.ARTIST,
+            MusicColumns.ARTIST_KEY,
+            MusicColumns.FRECENCY
+    };
+    //Scalar subquery so that a track without a row yields NULL instead of no result
+    private static final String FRECENCY_QUERY =
+            "SELECT (SELECT " + MusicColumns.FRECENCY + " FROM " + MusicColumns.TABLE +
+                    " WHERE " + MusicColumns._ID + " = ?)";
+
+    private final SQLiteOpenHelper openHelper;
+    private final StatementCache statementCache;
+    private final Listener listener;
+    private final int maxHistoryCount;
+    private final String trimFilter;
+    private final Handler handler;
+
+    //Guarded by this, insertion order is the order of the latest touch of each track
+    private LinkedHashMap<Long, PendingTouch> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    //Tracks with bookmarks are kept regardless of age, they are needed to reconcile moved files.
+    //Not NOT IN, which matches nothing once any bookmark has a null music id.
+    static final String TRIMMABLE_FILTER =
+            "NOT EXISTS (SELECT 1 FROM " + BookmarkColumns.TABLE + " WHERE " + BookmarkColumns.TABLE + "." +
+            BookmarkColumns.MUSIC_ID + " = " + MusicColumns.TABLE + "." + MusicColumns._ID + ")";
+
+    //Forgets the use of tracks kept for their bookmarks when the history is cleared
+    private static final String FORGET_USE_COMMAND =
+            "UPDATE " + MusicColumns.TABLE + " SET " + MusicColumns.LAST_USED + " = NULL, " +
+                    MusicColumns.FRECENCY + " = 0";
+
+    //Upper bound on the number of trimmable rows in the table, only used on the writer thread, -1 if unknown
+    private long rowCountEstimate = -1;
+
+    /**
+     * Constructor
+     * @param openHelper helper for the database containing the music table
+     * @param statementCache compiled statements for the same database, only used on the writer thread
+     * @param maxHistoryCount number of recently used tracks to keep
+     * @param listener receives committed changes
+     */
+    public RecentHistoryWriter(SQLiteOpenHelper openHelper, StatementCache statementCache, int maxHistoryCount,
+                               Listener listener) {
+        this.openHelper = openHelper;
+        this.statementCache = statementCache;
+        this.maxHistoryCount = maxHistoryCount;
+        trimFilter = MusicColumns._ID + " IN " +
+                "(SELECT " + MusicColumns._ID + " FROM " + MusicColumns.TABLE + " WHERE " + TRIMMABLE_FILTER +
+                " ORDER BY " + MusicColumns.FRECENCY + " DESC LIMIT -1 OFFSET " + maxHistoryCount + ")";
+        this.listener = listener;
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Mark a track as used now. Returns immediately, the write happens in the background.
+     * @param id id of the track in the local music table
+     * @param item metadata of the track
+     */
+    public synchronized void touch(long id, MusicItem item) {
+        //Remove first so that the entry moves to the end of the insertion order
+        pending.remove(id);
+        pending.put(id, new PendingTouch(item, System.currentTimeMillis()));
+        if (!flushScheduled) {
+            flushScheduled = true;
+            handler.postDelayed(flushRunnable, FLUSH_DELAY_MS);
+        }
+    }
+
+    /**
+     * Discard pending touches and remove all rows from the music table, except tracks with bookmarks which
+     * are only marked as unused. Returns immediately, the delete happens in the background after any write
+     * already in progress.
+     */
+    public synchronized void clear() {
+        pending.clear();
+        handler.post(clearRunnable);
+    }
+
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            LinkedHashMap<Long, PendingTouch> batch;
+            synchronized (RecentHistoryWriter.this) {
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                flushScheduled = false;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to write recent history", e);
+                    rowCountEstimate = -1;
+                }
+            }
+        }
+    };
+
+    private final Runnable clearRunnable = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                SQLiteDatabase db = openHelper.getWritableDatabase();
+                db.beginTransactionNonExclusive();
+                try {
+                    db.delete(MusicColumns.TABLE, TRIMMABLE_FILTER, null);
+                    db.execSQL(FORGET_USE_COMMAND);
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+                rowCountEstimate = 0;
+                listener.onHistoryDeleted();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to clear recent history", e);
+                rowCountEstimate = -1;
+            }
+        }
+    };
+
+    /**
+     * Write a batch of touches in one transaction, then trim the table if it has grown too large
+     * @param batch touches by track id
+     */
+    private void flush(LinkedHashMap<Long, PendingTouch> batch) {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        SQLiteStatement upsertStatement = statementCache.get(UPSERT_COMMAND);
+        SQLiteStatement frecencyStatement = statementCache.get(FRECENCY_QUERY);
+        List<ContentValues> insertedValues = new ArrayList<>(batch.size());
+        db.beginTransactionNonExclusive();
+        try {
+            for (Map.Entry<Long, PendingTouch> entry : batch.entrySet()) {
+                long id = entry.getKey();
+                PendingTouch touch = entry.getValue();
+                frecencyStatement.bindLong(1, id);
+                String previousScore = frecencyStatement.simpleQueryForString();
+                double score = previousScore == null ? Frecency.ofUse(touch.time) :
+                        Frecency.addUse(Double.parseDouble(previousScore), touch.time);
+                ContentValues values = toValues(id, touch, score);
+                upsertStatement.clearBindings();
+                for (int i = 0; i < UPSERT_COLUMNS.length; i++) {
+                    DatabaseUtils.bindObjectToProgram(upsertStatement, i + 1, values.get(UPSERT_COLUMNS[i]));
+                }
+                upsertStatement.executeInsert();
+                insertedValues.add(values);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        if (!insertedValues.isEmpty()) {
+            listener.onHistoryWritten(insertedValues);
+        }
+
+        //Replaced rows are counted as new, so the estimate only ever overshoots
+        if (rowCountEstimate < 0) {
+            rowCountEstimate = DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE, TRIMMABLE_FILTER);
+        } else {
+            rowCountEstimate += insertedValues.size();
+        }
+        if (rowCountEstimate > maxHistoryCount + TRIM_SLACK) {
+            trim(db);
+        }
+    }
+
+    /**
+     * Remove all but the rows with the highest frecency, keeping tracks with bookmarks
+     * @param db writable database
+     */
+    private void trim(SQLiteDatabase db) {
+        int count = db.delete(MusicColumns.TABLE, trimFilter, null);
+        rowCountEstimate = DatabaseUtils.queryNumEntries(db, MusicColumns.TABLE, TRIMMABLE_FILTER);
+        Log.v(TAG, "Trimmed " + count + " tracks from history");
+        if (count > 0) {
+            listener.onHistoryDeleted();
+        }
+    }
+
+    /**
+     * @return row values for the music table, including sort keys and the new frecency score
+     */
+    private static ContentValues toValues(long id, PendingTouch touch, double score) {
+        MusicItem item = touch.item;
+        ContentValues values = new ContentValues();
+        values.put(MusicColumns._ID, id);
+        values.put(MusicColumns.LAST_USED, touch.time);
+        values.put(MusicColumns.DISPLAY_NAME, item.getDisplayName());
+        values.put(MusicColumns.DISPLAY_NAME_KEY, MediaStore.Audio.keyFor(item.getDisplayName()));
+        values.put(MusicColumns.TITLE, item.getTitle());
+        values.put(MusicColumns.TITLE_KEY, MediaStore.Audio.keyFor(item.getTitle()));
+        values.put(MusicColumns.ALBUM, item.getAlbum());
+        values.put(MusicColumns.ALBUM_KEY, MediaStore.Audio.keyFor(item.getAlbum()));
+        values.put(MusicColumns.ARTIST, item.getArtist());
+        values.put(MusicColumns.ARTIST_KEY, MediaStore.Audio.keyFor(item.getArtist()));
+        values.put(MusicColumns.FRECENCY, score);
+        return values;
+    }
+}
@@ -0,0 +1,65 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.HashMap;
+
+/**
+ * Compiled statements for writes that run on every track open, reused across calls.
+ * <p>
+ * Statements belong to the database object they were compiled against. The cache is emptied
+ * when the helper opens or closes the database, and a statement is recompiled if the helper
+ * hands out a different database object.
+ * <p>
+ * A {@link SQLiteStatement} keeps its bindings between calls and is not safe to share between
+ * threads, so each statement should only be used from a single thread (or under a lock), and
+ * the bindings should be cleared or overwritten before every execution.
+ */
+final class StatementCache {
+    private final SQLiteOpenHelper openHelper;
+    private final HashMap<String, SQLiteStatement> statements = new HashMap<>();
+    private SQLiteDatabase database;
+
+    /**
+     * Constructor
+     * @param openHelper helper for the database to compile statements against
+     */
+    StatementCache(SQLiteOpenHelper openHelper) {
+        this.openHelper = openHelper;
+    }
+
+    /**
+     * Get a compiled statement, compiling it on first use
+     * @param sql statement text, used as the cache key
+     * @return compiled statement for the current writable database
+     */
+    SQLiteStatement get(String sql) {
+        //Opening the database may call back into invalidate(), so do it before taking the lock
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        synchronized (this) {
+            if (db != database) {
+                invalidate();
+                database = db;
+            }
+            SQLiteStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = db.compileStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+    }
+
+    /**
+     * Release all compiled statements
+     */
+    synchronized void invalidate() {
+        for (SQLiteStatement statement : statements.values()) {
+            statement.close();
+        }
+        statements.clear();
+        database = null;
+    }
+}
@@ -0,0 +1,799 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.net.Uri;
+import android.os.CancellationSignal;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.text.TextUtils;
+import android.util.Log;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory word prefix index for type-ahead suggestions, matching in the same way as the prefix
+ * MATCH queries of the database: every token of {@link FullTextQuery#tokenize} must start a word
+ * of some field.
+ * <p>
+ * MediaStore tracks are held in a {@link Snapshot} of primitive arrays with a bounded footprint:
+ * text is packed into a single char array and every word is listed by its offset, sorted by the
+ * full case folded word, so the words starting with a token are found by a binary search followed
+ * by a range scan. If the library exceeds the budget, the index stays unloaded and {@link #query}
+ * returns false so that callers fall back to the database.
+ * <p>
+ * When prefix matching leaves room for more suggestions, the rest are filled from a
+ * {@link TrigramIndex} over the same tracks, which finds words in the middle of the text and
+ * tolerates typos. It also covers the display names of local tracks and the labels of their
+ * bookmarks, and is rebuilt on its own when bookmarks change. The trigram index has a larger
+ * budget of its own and is still built for a library too large for a snapshot, in which case
+ * {@link #queryFuzzyMatches} fills the room left by the database results.
+ * <p>
+ * The local music table (at most a few hundred recently used tracks) is held separately and
+ * updated incrementally by the provider on insert and delete.
+ */
+public class SuggestionIndex {
+    private static final String TAG = "SuggestionIndex";
+
+    //Footprint limits - roughly 4MB for a library at the limit
+    private static final int MAX_ENTRIES = 20000;
+    private static final int MAX_TEXT_CHARS = 1 << 20;
+    //Roughly 5MB of posting lists for a library at the limit
+    private static final int MAX_FUZZY_ENTRIES = 100000;
+    //MediaStore rows of typo tolerant matches kept, as successive keywords mostly match the same tracks
+    private static final int FUZZY_ROW_CACHE_SIZE = 256;
+
+    //Wait for a burst of MediaStore changes to settle before reloading
+    private static final long RELOAD_DELAY_MS = 2000;
+    //Wait for a burst of bookmark changes to settle before rebuilding the typo tolerant index
+    private static final long FUZZY_REBUILD_DELAY_MS = 1000;
+
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_ALBUM = 1;
+    private static final int FIELD_ARTIST = 2;
+    private static final int FIELD_COUNT = 3;
+
+    private static final String MEDIASTORE_FILTER = MusicColumns.IS_MUSIC + " = 1";
+    private static final String MEDIASTORE_ORDER_BY = MusicColumns.TITLE + " ASC";
+
+    private static final String[] RECENT_PROJECTION = new String[] {
+            MusicColumns._ID,
+            MusicColumns.TITLE,
+            MusicColumns.ALBUM,
+            MusicColumns.ARTIST,
+            MusicColumns.DISPLAY_NAME,
+            MusicColumns.FRECENCY
+    };
+    private static final int RECENT_COLUMN_INDEX_FRECENCY = 5;
+    private static final String RECENT_FILTER = MusicColumns.MISSING + " = 0 AND " + MusicColumns.LAST_USED + " IS NOT NULL";
+    private static final String RECENT_ORDER_BY = MusicColumns.FRECENCY + " DESC";
+
+    private static final String[] LABEL_PROJECTION = new String[] {BookmarkColumns.MUSIC_ID, BookmarkColumns.LABEL};
+    private static final int LABEL_COLUMN_INDEX_MUSIC_ID = 0;
+    private static final int LABEL_COLUMN_INDEX_LABEL = 1;
+    private static final String LABEL_FILTER = BookmarkColumns.LABEL + " IS NOT NULL";
+
+    private final SQLiteOpenHelper openHelper;
+    private final ContentResolver contentResolver;
+    private final Uri mediaUri;
+    private Handler handler;
+    private volatile Snapshot snapshot;
+    private volatile RecentEntries recent;
+    //Typo tolerant index of a library too large for a snapshot
+    private volatile FuzzyTracks fuzzyTracks;
+    private volatile boolean overBudget = false;
+
+    /**
+     * Constructor - the index is not loaded until the first query
+     * @param openHelper helper for the database containing the music table
+     * @param contentResolver resolver used to read the MediaStore
+     * @param mediaUri MediaStore uri to index
+     */
+    public SuggestionIndex(SQLiteOpenHelper openHelper, ContentResolver contentResolver, Uri mediaUri) {
+        this.openHelper = openHelper;
+        this.contentResolver = contentResolver;
+        this.mediaUri = mediaUri;
+    }
+
+    /**
+     * Find suggestions in memory, recently used tracks first, then MediaStore tracks by title.
+     * Starts loading the index in the background if it has not been loaded yet.
+     * @param keyword search term
+     * @param suggestionsCursor cursor to add results to
+     * @param limit maximum number of results
+     * @return true if the index answered the query, false if the caller should query the database
+     */
+    public boolean query(String keyword, MusicSuggestionsCursor suggestionsCursor, int limit) {
+        Snapshot currentSnapshot = snapshot;
+        RecentEntries currentRecent = recent;
+        if (currentSnapshot == null || currentRecent == null) {
+            ensureLoading();
+            return false;
+        }
+
+        String[] tokens = FullTextQuery.tokenize(keyword);
+        for (int i = 0; i < currentRecent.items.length && suggestionsCursor.getCount() < limit; i++) {
+            if (currentRecent.matches(i, tokens)) {
+                suggestionsCursor.addUnique(currentRecent.items[i]);
+            }
+        }
+        if (suggestionsCursor.getCount() < limit) {
+            currentSnapshot.query(tokens, suggestionsCursor, limit);
+        }
+        TrigramIndex fuzzyIndex = currentSnapshot.fuzzyIndex;
+        if (suggestionsCursor.getCount() < limit && tokens.length > 0 && fuzzyIndex != null) {
+            for (int entry : fuzzyIndex.query(keyword, limit)) {
+                if (suggestionsCursor.getCount() >= limit) {
+                    break;
+                }
+                currentSnapshot.addEntry(entry, suggestionsCursor);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if typo tolerant matches can be queried with {@link #queryFuzzyMatches}
+     */
+    public boolean hasFuzzyMatches() {
+        return fuzzyTracks != null;
+    }
+
+    /**
+     * Find typo tolerant matches when the library is too large for the in-memory index and
+     * suggestions come from the database. Matched tracks are read from the MediaStore by id, except
+     * those already read for a recent keyword. May be called on any thread.
+     * @param keyword search term
+     * @param limit maximum number of results
+     * @param cancellationSignal signal to abandon the lookup, may be null
+     * @return matching tracks in rank order, or null if there are none
+     */
+    public SuggestionRows queryFuzzyMatches(String keyword, int limit, CancellationSignal cancellationSignal) {
+        FuzzyTracks currentFuzzyTracks = fuzzyTracks;
+        if (currentFuzzyTracks == null || TextUtils.isEmpty(keyword)) {
+            return null;
+        }
+        int[] documents = currentFuzzyTracks.index.query(keyword, limit);
+        if (documents.length == 0) {
+            return null;
+        }
+        long[] ids = new long[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            ids[i] = currentFuzzyTracks.ids[documents[i]];
+        }
+        MusicItem[] items = currentFuzzyTracks.getRows(ids);
+        int missingCount = 0;
+        long[] missingIds = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            if (items[i] == null) {
+                missingIds[missingCount++] = ids[i];
+            }
+        }
+        if (missingCount > 0) {
+            Cursor cursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION,
+                    IdSelection.in(MusicColumns._ID, missingCount), IdSelection.args(missingIds, 0, missingCount), null,
+                    cancellationSignal);
+            if (cursor != null) {
+                try {
+                    while (cursor.moveToNext()) {
+                        long id = cursor.getLong(MusicColumns.COLUMN_INDEX_ID);
+                        String title = cursor.getString(MusicColumns.COLUMN_INDEX_TITLE);
+                        MusicItem item = MusicItem.fromFields(id, title, cursor.getString(MusicColumns.COLUMN_INDEX_ALBUM),
+                                cursor.getString(MusicColumns.COLUMN_INDEX_ARTIST), title, false);
+                        for (int i = 0; i < ids.length; i++) {
+                            if (ids[i] == id) {
+                                items[i] = item;
+                            }
+                        }
+                        currentFuzzyTracks.putRow(item);
+                    }
+                } finally {
+                    cursor.close();
+                }
+            }
+        }
+        SuggestionRows rows = new SuggestionRows(items.length);
+        for (MusicItem item : items) {
+            if (item != null) {
+                rows.add(item.getId(), item.getTitle(), item.getAlbum(), item.getArtist(), item.getDisplayName(), false);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Update the recently used tracks after a row is inserted into the music table
+     * @param values inserted values
+     */
+    public synchronized void onRecentInserted(ContentValues values) {
+        if (recent == null) {
+            return;
+        }
+        Long id = values.getAsLong(MusicColumns._ID);
+        Double frecency = values.getAsDouble(MusicColumns.FRECENCY);
+        if (id == null || frecency == null) {
+            recent = null;
+            return;
+        }
+        if (values.getAsLong(MusicColumns.LAST_USED) == null) {
+            //Not a recent track, but may replace one
+            recent = loadRecent(openHelper.getReadableDatabase());
+            return;
+        }
+        MusicItem item = MusicItem.fromFields(id,
+                values.getAsString(MusicColumns.TITLE),
+                values.getAsString(MusicColumns.ALBUM),
+                values.getAsString(MusicColumns.ARTIST),
+                values.getAsString(MusicColumns.DISPLAY_NAME),
+                true);
+        recent = recent.withInserted(item, frecency);
+    }
+
+    /**
+     * Rebuild the typo tolerant index in the background after bookmarks are added, changed or removed,
+     * so that it covers their labels
+     */
+    public synchronized void onBookmarksChanged() {
+        if (handler != null) {
+            handler.removeCallbacks(fuzzyRebuildRunnable);
+            handler.postDelayed(fuzzyRebuildRunnable, FUZZY_REBUILD_DELAY_MS);
+        }
+    }
+
+    /**
+     * Reload the recently used tracks after rows are deleted from or rewritten in the music table
+     */
+    public synchronized void onRecentChanged() {
+        if (recent != null) {
+            recent = loadRecent(openHelper.getReadableDatabase());
+        }
+    }
+
+    /**
+     * Start loading on the background thread if not already started
+     */
+    private synchronized void ensureLoading() {
+        if (handler != null || overBudget) {
+            return;
+        }
+        HandlerThread thread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+        contentResolver.registerContentObserver(mediaUri, true, new ContentObserver(handler) {
+            @Override
+            public void onChange(boolean selfChange) {
+                handler.removeCallbacks(loadRunnable);
+                handler.postDelayed(loadRunnable, RELOAD_DELAY_MS);
+            }
+        });
+        handler.post(loadRunnable);
+    }
+
+    private final Runnable fuzzyRebuildRunnable = new Runnable() {
+        @Override
+        public void run() {
+            Snapshot currentSnapshot = snapshot;
+            try {
+                if (currentSnapshot != null) {
+                    buildFuzzyIndex(currentSnapshot, recent);
+                } else if (fuzzyTracks != null) {
+                    reloadFuzzyTracks();
+                }
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to rebuild typo tolerant index", e);
+            }
+        }
+    };
+
+    private final Runnable loadRunnable = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to load suggestion index", e);
+            }
+        }
+    };
+
+    /**
+     * Load both the MediaStore snapshot and the recently used tracks
+     */
+    private void load() {
+        long startTime = System.currentTimeMillis();
+        Cursor mediaCursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION, MEDIASTORE_FILTER, null,
+                MEDIASTORE_ORDER_BY);
+        if (mediaCursor == null) {
+            return;
+        }
+        Snapshot newSnapshot;
+        FuzzyTracks newFuzzyTracks = null;
+        try {
+            newSnapshot = Snapshot.build(mediaCursor);
+            if (newSnapshot == null) {
+                mediaCursor.moveToPosition(-1);
+                newFuzzyTracks = buildFuzzyTracks(mediaCursor);
+            }
+        } finally {
+            mediaCursor.close();
+        }
+        RecentEntries newRecent;
+        synchronized (this) {
+            overBudget = newSnapshot == null;
+            snapshot = newSnapshot;
+            fuzzyTracks = newFuzzyTracks;
+            newRecent = recent = newSnapshot == null ? null : loadRecent(openHelper.getReadableDatabase());
+        }
+        if (newSnapshot == null) {
+            Log.w(TAG, "Library too large for suggestion index, using database queries " +
+                    (newFuzzyTracks == null ? "without" : "with") + " typo tolerance");
+            return;
+        }
+        Log.v(TAG, "Loaded " + newSnapshot.size + " tracks in " + (System.currentTimeMillis() - startTime) + "ms");
+        //Prefix suggestions are available while the typo tolerant index is built
+        buildFuzzyIndex(newSnapshot, newRecent);
+    }
+
+    /**
+     * Build the typo tolerant index over the text of a snapshot, the display names of the recently
+     * used tracks and the labels of bookmarks, then attach it to the snapshot
+     * @param target snapshot to index
+     * @param recentEntries recently used tracks, may be null
+     */
+    private void buildFuzzyIndex(Snapshot target, RecentEntries recentEntries) {
+        long startTime = System.currentTimeMillis();
+        TrigramIndex.Builder builder = new TrigramIndex.Builder(target.size);
+        for (int entry = 0; entry < target.size; entry++) {
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                builder.add(entry, target.getText(entry * FIELD_COUNT + f));
+            }
+        }
+        addLocalText(builder, target.ids, target.size, recentEntries);
+        TrigramIndex fuzzyIndex = builder.build();
+        target.fuzzyIndex = fuzzyIndex;
+        Log.v(TAG, "Built typo tolerant index of " + fuzzyIndex.getWordCount() + " words, " +
+                fuzzyIndex.getFootprintBytes() / 1024 + "KB in " + (System.currentTimeMillis() - startTime) + "ms");
+    }
+
+    /**
+     * Build the typo tolerant index on its own, for a library too large for a snapshot
+     * @param cursor MediaStore cursor matching {@link MusicColumns#MEDIASTORE_PROJECTION}, before its first row
+     * @return new index, or null if the library exceeds {@link #MAX_FUZZY_ENTRIES}
+     */
+    private FuzzyTracks buildFuzzyTracks(Cursor cursor) {
+        long startTime = System.currentTimeMillis();
+        int size = cursor.getCount();
+        if (size > MAX_FUZZY_ENTRIES) {
+            return null;
+        }
+        long[] ids = new long[size];
+        TrigramIndex.Builder builder = new TrigramIndex.Builder(size);
+        int count = 0;
+        while (count < size && cursor.moveToNext()) {
+            ids[count] = cursor.getLong(MusicColumns.COLUMN_INDEX_ID);
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                builder.add(count, cursor.getString(MusicColumns.COLUMN_INDEX_TITLE + f));
+            }
+            count++;
+        }
+        addLocalText(builder, ids, count, loadRecent(openHelper.getReadableDatabase()));
+        TrigramIndex index = builder.build();
+        Log.v(TAG, "Built standalone typo tolerant index of " + index.getWordCount() + " words, " +
+                index.getFootprintBytes() / 1024 + "KB in " + (System.currentTimeMillis() - startTime) + "ms");
+        return new FuzzyTracks(index, ids);
+    }
+
+    /**
+     * Rebuild the standalone typo tolerant index from the MediaStore
+     */
+    private void reloadFuzzyTracks() {
+        Cursor mediaCursor = contentResolver.query(mediaUri, MusicColumns.MEDIASTORE_PROJECTION, MEDIASTORE_FILTER, null, null);
+        if (mediaCursor == null) {
+            return;
+        }
+        try {
+            fuzzyTracks = buildFuzzyTracks(mediaCursor);
+        } finally {
+            mediaCursor.close();
+        }
+    }
+
+    /**
+     * Add the display names of the recently used tracks and the labels of bookmarks to a typo tolerant index
+     * @param builder index being built
+     * @param ids track id of each document
+     * @param count number of documents
+     * @param recentEntries recently used tracks, may be null
+     */
+    private void addLocalText(TrigramIndex.Builder builder, long[] ids, int count, RecentEntries recentEntries) {
+        HashMap<Long, Integer> documents = new HashMap<>(count * 2);
+        for (int document = 0; document < count; document++) {
+            documents.put(ids[document], document);
+        }
+        if (recentEntries != null) {
+            for (MusicItem item : recentEntries.items) {
+                Integer document = documents.get(item.getId());
+                if (document != null && !TextUtils.equals(item.getDisplayName(), item.getTitle())) {
+                    builder.add(document, item.getDisplayName());
+                }
+            }
+        }
+        Cursor labelCursor = openHelper.getReadableDatabase().query(BookmarkColumns.TABLE, LABEL_PROJECTION,
+                LABEL_FILTER, null, null, null, null);
+        try {
+            while (labelCursor.moveToNext()) {
+                Integer document = documents.get(labelCursor.getLong(LABEL_COLUMN_INDEX_MUSIC_ID));
+                if (document != null) {
+                    builder.add(document, labelCursor.getString(LABEL_COLUMN_INDEX_LABEL));
+                }
+            }
+        } finally {
+            labelCursor.close();
+        }
+    }
+
+    /**
+     * @param db database containing the music table
+     * @return recently used tracks ordered by frecency
+     */
+    private static RecentEntries loadRecent(SQLiteDatabase db) {
+        Cursor cursor = db.query(MusicColumns.TABLE, RECENT_PROJECTION, RECENT_FILTER, null, null, null, RECENT_ORDER_BY);
+        try {
+            int count = cursor.getCount();
+            MusicItem[] items = new MusicItem[count];
+            double[] frecency = new double[count];
+            for (int i = 0; cursor.moveToNext(); i++) {
+                items[i] = MusicItem.fromMusicTableCursor(cursor);
+                frecency[i] = cursor.getDouble(RECENT_COLUMN_INDEX_FRECENCY);
+            }
+            return new RecentEntries(items, frecency);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Typo tolerant index held without a snapshot, document i being the track with id ids[i]
+     */
+    private static final class FuzzyTracks {
+        final TrigramIndex index;
+        final long[] ids;
+        //MediaStore rows of recent matches by id, guarded by itself
+        private final LinkedHashMap<Long, MusicItem> rowCache =
+                new LinkedHashMap<Long, MusicItem>(FUZZY_ROW_CACHE_SIZE + 1, 1, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, MusicItem> eldest) {
+                        return size() > FUZZY_ROW_CACHE_SIZE;
+                    }
+                };
+
+        FuzzyTracks(TrigramIndex index, long[] ids) {
+            this.index = index;
+            this.ids = ids;
+        }
+
+        /**
+         * @param ids ids of tracks
+         * @return cached row of each track, null where not cached
+         */
+        MusicItem[] getRows(long[] ids) {
+            MusicItem[] items = new MusicItem[ids.length];
+            synchronized (rowCache) {
+                for (int i = 0; i < ids.length; i++) {
+                    items[i] = rowCache.get(ids[i]);
+                }
+            }
+            return items;
+        }
+
+        void putRow(MusicItem item) {
+            synchronized (rowCache) {
+                rowCache.put(item.getId(), item);
+            }
+        }
+    }
+
+    /**
+     * Immutable list of recently used tracks, ordered by frecency descending
+     */
+    private static final class RecentEntries {
+        final MusicItem[] items;
+        final double[] frecency;
+
+        RecentEntries(MusicItem[] items, double[] frecency) {
+            this.items = items;
+            this.frecency = frecency;
+        }
+
+        /**
+         * @return true if every token starts a word of the display name, title, album or artist of the item
+         */
+        boolean matches(int index, String[] tokens) {
+            MusicItem item = items[index];
+            for (String token : tokens) {
+                if (!FullTextQuery.matchesPrefix(item.getDisplayName(), token) &&
+                        !FullTextQuery.matchesPrefix(item.getTitle(), token) &&
+                        !FullTextQuery.matchesPrefix(item.getAlbum(), token) &&
+                        !FullTextQuery.matchesPrefix(item.getArtist(), token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return copy of this list with the item moved or added to its position by frecency
+         */
+        RecentEntries withInserted(MusicItem item, double itemFrecency) {
+            int existing = -1;
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].getId() == item.getId()) {
+                    existing = i;
+                    break;
+                }
+            }
+            int count = existing < 0 ? items.length + 1 : items.length;
+            MusicItem[] newItems = new MusicItem[count];
+            double[] newFrecency = new double[count];
+            int j = 0;
+            boolean placed = false;
+            for (int i = 0; i < items.length; i++) {
+                if (i == existing) {
+                    continue;
+                }
+                if (!placed && itemFrecency >= frecency[i]) {
+                    newItems[j] = item;
+                    newFrecency[j++] = itemFrecency;
+                    placed = true;
+                }
+                newItems[j] = items[i];
+                newFrecency[j++] = frecency[i];
+            }
+            if (!placed) {
+                newItems[j] = item;
+                newFrecency[j] = itemFrecency;
+            }
+            return new RecentEntries(newItems, newFrecency);
+        }
+    }
+
+    /**
+     * Immutable word prefix index over MediaStore tracks, stored in primitive arrays.
+     * Entry i has fields i * FIELD_COUNT + f for f in title, album, artist, and the text of a field is
+     * text[textOffsets[field], textOffsets[field + 1]). Word w starts at text[wordStarts[w]] in field
+     * wordFields[w], and words are sorted by their full case folded text. Entries are ordered by title.
+     */
+    static final class Snapshot {
+        final int size;
+        final long[] ids;
+        final char[] text;
+        final int[] textOffsets;
+        final int[] wordStarts;
+        final int[] wordFields;
+        //Typo tolerant index over the entries, built after the snapshot and replaced when bookmarks change
+        volatile TrigramIndex fuzzyIndex;
+
+        private Snapshot(int size, long[] ids, char[] text, int[] textOffsets, int[] wordStarts, int[] wordFields) {
+            this.size = size;
+            this.ids = ids;
+            this.text = text;
+            this.textOffsets = textOffsets;
+            this.wordStarts = wordStarts;
+            this.wordFields = wordFields;
+        }
+
+        /**
+         * Build a snapshot from a cursor matching {@link MusicColumns#MEDIASTORE_PROJECTION}
+         * @param cursor input cursor
+         * @return new snapshot, or null if the cursor exceeds the footprint limits
+         */
+        static Snapshot build(Cursor cursor) {
+            int size = cursor.getCount();
+            if (size > MAX_ENTRIES) {
+                return null;
+            }
+            int fieldCount = size * FIELD_COUNT;
+            long[] ids = new long[size];
+            char[] text = new char[Math.min(MAX_TEXT_CHARS, Math.max(16, fieldCount * 16))];
+            int[] textOffsets = new int[fieldCount + 1];
+            int textLength = 0;
+            for (int i = 0; i < size && cursor.moveToNext(); i++) {
+                ids[i] = cursor.getLong(MusicColumns.COLUMN_INDEX_ID);
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    int field = i * FIELD_COUNT + f;
+                    String value = cursor.getString(MusicColumns.COLUMN_INDEX_TITLE + f);
+                    if (value != null) {
+                        if (textLength + value.length() > text.length) {
+                            if (textLength + value.length() > MAX_TEXT_CHARS) {
+                                return null;
+                            }
+                            text = Arrays.copyOf(text, Math.min(MAX_TEXT_CHARS, Math.max(text.length * 2, textLength + value.length())));
+                        }
+                        value.getChars(0, value.length(), text, textLength);
+                        textLength += value.length();
+                    }
+                    textOffsets[field + 1] = textLength;
+                }
+            }
+            text = Arrays.copyOf(text, textLength);
+
+            int wordCount = 0;
+            for (int field = 0; field < fieldCount; field++) {
+                for (int c = textOffsets[field]; c < textOffsets[field + 1]; c++) {
+                    if (isWordStart(text, textOffsets[field], c)) {
+                        wordCount++;
+                    }
+                }
+            }
+            int[] wordStarts = new int[wordCount];
+            int[] wordFields = new int[wordCount];
+            int word = 0;
+            for (int field = 0; field < fieldCount; field++) {
+                for (int c = textOffsets[field]; c < textOffsets[field + 1]; c++) {
+                    if (isWordStart(text, textOffsets[field], c)) {
+                        wordStarts[word] = c;
+                        wordFields[word++] = field;
+                    }
+                }
+            }
+            Snapshot snapshot = new Snapshot(size, ids, text, textOffsets, wordStarts, wordFields);
+            snapshot.sortWords(new int[wordCount], new int[wordCount], 0, wordCount);
+            return snapshot;
+        }
+
+        private static boolean isWordStart(char[] text, int fieldStart, int position) {
+            return FullTextQuery.isTokenChar(text[position]) &&
+                    (position == fieldStart || !FullTextQuery.isTokenChar(text[position - 1]));
+        }
+
+        /**
+         * Merge sort a range of words by their folded text
+         */
+        private void sortWords(int[] scratchStarts, int[] scratchFields, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            sortWords(scratchStarts, scratchFields, from, middle);
+            sortWords(scratchStarts, scratchFields, middle, to);
+            if (compareWords(wordStarts[middle - 1], wordFields[middle - 1], wordStarts[middle], wordFields[middle]) <= 0) {
+                return;
+            }
+            System.arraycopy(wordStarts, from, scratchStarts, from, to - from);
+            System.arraycopy(wordFields, from, scratchFields, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < middle &&
+                        compareWords(scratchStarts[left], scratchFields[left], scratchStarts[right], scratchFields[right]) <= 0)) {
+                    wordStarts[i] = scratchStarts[left];
+                    wordFields[i] = scratchFields[left++];
+                } else {
+                    wordStarts[i] = scratchStarts[right];
+                    wordFields[i] = scratchFields[right++];
+                }
+            }
+        }
+
+        /**
+         * @return folded character i of the word starting at start in a field, or -1 past the end of the word
+         */
+        private int foldedCharAt(int start, int field, int i) {
+            int position = start + i;
+            if (position >= textOffsets[field + 1] || !FullTextQuery.isTokenChar(text[position])) {
+                return -1;
+            }
+            return FullTextQuery.foldCase(text[position]);
+        }
+
+        private int compareWords(int startA, int fieldA, int startB, int fieldB) {
+            for (int i = 0; ; i++) {
+                int a = foldedCharAt(startA, fieldA, i);
+                int b = foldedCharAt(startB, fieldB, i);
+                if (a != b) {
+                    return a - b;
+                }
+                if (a < 0) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Compare a sorted word with a token
+         * @return 0 if the word starts with the token, otherwise the ordering of the word relative to the token
+         */
+        private int compareWordToPrefix(int word, String token) {
+            for (int i = 0; i < token.length(); i++) {
+                int difference = foldedCharAt(wordStarts[word], wordFields[word], i) - token.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return 0;
+        }
+
+        private String getText(int field) {
+            return new String(text, textOffsets[field], textOffsets[field + 1] - textOffsets[field]);
+        }
+
+        /**
+         * Set the bits of the entries with a word starting with a token
+         */
+        private void markEntries(String token, long[] matched) {
+            //Binary search for the first word not less than the token
+            int low = 0;
+            int high = wordStarts.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareWordToPrefix(middle, token) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int word = low; word < wordStarts.length && compareWordToPrefix(word, token) == 0; word++) {
+                int entry = wordFields[word] / FIELD_COUNT;
+                matched[entry >>> 6] |= 1L << entry;
+            }
+        }
+
+        /**
+         * Add tracks with a word starting with every token to the cursor, in title order
+         */
+        void query(String[] tokens, MusicSuggestionsCursor suggestionsCursor, int limit) {
+            long[] matched = match(tokens);
+            for (int word = 0; word < matched.length && suggestionsCursor.getCount() < limit; word++) {
+                long bits = matched[word];
+                while (bits != 0 && suggestionsCursor.getCount() < limit) {
+                    int entry = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (entry >= size) {
+                        break;
+                    }
+                    addEntry(entry, suggestionsCursor);
+                }
+            }
+        }
+
+        /**
+         * @param tokens case folded tokens from {@link FullTextQuery#tokenize}
+         * @return bit set of the entries with a word starting with every token, all bits set if there are none
+         */
+        long[] match(String[] tokens) {
+            long[] matched = new long[(size + 63) >>> 6];
+            if (tokens.length == 0) {
+                Arrays.fill(matched, -1L);
+            } else {
+                markEntries(tokens[0], matched);
+                long[] tokenMatched = new long[matched.length];
+                for (int t = 1; t < tokens.length; t++) {
+                    Arrays.fill(tokenMatched, 0L);
+                    markEntries(tokens[t], tokenMatched);
+                    for (int word = 0; word < matched.length; word++) {
+                        matched[word] &= tokenMatched[word];
+                    }
+                }
+            }
+            return matched;
+        }
+
+        /**
+         * Add an entry to the cursor unless the track is already in it
+         */
+        void addEntry(int entry, MusicSuggestionsCursor suggestionsCursor) {
+            int field = entry * FIELD_COUNT;
+            String title = getText(field + FIELD_TITLE);
+            suggestionsCursor.addUnique(ids[entry], title, getText(field + FIELD_ALBUM),
+                    getText(field + FIELD_ARTIST), title, false);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.util.ArrayList;
+
+/**
+ * Cache of suggestion results for the keywords typed during a search session.
+ * <p>
+ * Each level holds the results for one keyword. When a new keyword refines a cached keyword
+ * (every cached token is a prefix of the corresponding new token, and more tokens may follow),
+ * the new results are a subset of the cached ones. If the cached results were complete (not cut
+ * off at the result limit), they are filtered in memory instead of querying again. Backspacing
+ * back to an earlier keyword reuses its level directly.
+ * <p>
+ * The filter mirrors the full text search MATCH semantics, so only results produced by the
+ * full text search tables should be cached. Call {@link #clear()} whenever the data changes.
+ */
+public class SuggestionRefinementCache {
+    private static final int MAX_LEVELS = 32;
+
+    /**
+     * Results for a single keyword
+     */
+    private static final class Level {
+        final String[] tokens;
+        final SuggestionRows rows;
+        final boolean complete;
+
+        Level(String[] tokens, SuggestionRows rows, boolean complete) {
+            this.tokens = tokens;
+            this.rows = rows;
+            this.complete = complete;
+        }
+    }
+
+    //Levels from the shortest keyword to the longest
+    private final ArrayList<Level> levels = new ArrayList<>();
+
+    /**
+     * Find results for a keyword from the cache
+     * @param keyword search term
+     * @return matching rows in result order, or null if the keyword cannot be answered from the cache
+     */
+    public synchronized SuggestionRows lookup(String keyword) {
+        String[] tokens = FullTextQuery.tokenize(keyword);
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            Level level = levels.get(i);
+            if (!refines(tokens, level.tokens)) {
+                continue;
+            }
+            if (tokens.length == level.tokens.length && isEqual(tokens, level.tokens)) {
+                truncate(i + 1);
+                return level.rows;
+            }
+            if (!level.complete) {
+                return null;
+            }
+            SuggestionRows refined = new SuggestionRows(level.rows.getCount());
+            for (int row = 0; row < level.rows.getCount(); row++) {
+                if (matches(level.rows, row, tokens)) {
+                    refined.add(level.rows.getId(row), level.rows.getTitle(row), level.rows.getAlbum(row),
+                            level.rows.getArtist(row), level.rows.getDisplayName(row), level.rows.isRecent(row));
+                }
+            }
+            truncate(i + 1);
+            push(new Level(tokens, refined, true));
+            return refined;
+        }
+        return null;
+    }
+
+    /**
+     * Add results queried from the database for a keyword
+     * @param keyword search term
+     * @param rows results in order, not modified afterwards
+     * @param complete true if the results were not cut off at the result limit
+     */
+    public synchronized void put(String keyword, SuggestionRows rows, boolean complete) {
+        String[] tokens = FullTextQuery.tokenize(keyword);
+        //Drop levels that do not lead to this keyword, they belong to a different search
+        int keep = levels.size();
+        while (keep > 0 && !refines(tokens, levels.get(keep - 1).tokens)) {
+            keep--;
+        }
+        truncate(keep);
+        push(new Level(tokens, rows, complete));
+    }
+
+    /**
+     * Discard all cached results
+     */
+    public synchronized void clear() {
+        levels.clear();
+    }
+
+    private void push(Level level) {
+        if (levels.size() == MAX_LEVELS) {
+            levels.remove(0);
+        }
+        levels.add(level);
+    }
+
+    private void truncate(int size) {
+        while (levels.size() > size) {
+            levels.remove(levels.size() - 1);
+        }
+    }
+
+    /**
+     * @return true if every result for the new tokens is also a result for the old tokens
+     */
+    private static boolean refines(String[] newTokens, String[] oldTokens) {
+        if (newTokens.length < oldTokens.length) {
+            return false;
+        }
+        for (int i = 0; i < oldTokens.length; i++) {
+            if (!newTokens[i].startsWith(oldTokens[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqual(String[] a, String[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (!a[i].equals(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if every token matches a word prefix in one of the searchable fields
+     */
+    private static boolean matches(SuggestionRows rows, int row, String[] tokens) {
+        for (String token : tokens) {
+            if (!FullTextQuery.matchesPrefix(rows.getDisplayName(row), token) &&
+                    !FullTextQuery.matchesPrefix(rows.getTitle(row), token) &&
+                    !FullTextQuery.matchesPrefix(rows.getAlbum(row), token) &&
+                    !FullTextQuery.matchesPrefix(rows.getArtist(row), token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
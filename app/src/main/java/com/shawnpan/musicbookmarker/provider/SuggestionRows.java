@@ -0,0 +1,92 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.util.Arrays;
+
+/**
+ * Fields of the tracks added to a {@link MusicSuggestionsCursor}, kept in parallel arrays so
+ * that results can be cached and filtered without creating an object per row.
+ */
+final class SuggestionRows {
+    private int count;
+    private long[] ids;
+    private String[] titles;
+    private String[] albums;
+    private String[] artists;
+    private String[] displayNames;
+    private boolean[] recent;
+
+    /**
+     * Constructor
+     * @param capacity expected number of rows
+     */
+    SuggestionRows(int capacity) {
+        ids = new long[capacity];
+        titles = new String[capacity];
+        albums = new String[capacity];
+        artists = new String[capacity];
+        displayNames = new String[capacity];
+        recent = new boolean[capacity];
+    }
+
+    void add(long id, String title, String album, String artist, String displayName, boolean isRecent) {
+        if (count == ids.length) {
+            int capacity = Math.max(8, count * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            albums = Arrays.copyOf(albums, capacity);
+            artists = Arrays.copyOf(artists, capacity);
+            displayNames = Arrays.copyOf(displayNames, capacity);
+            recent = Arrays.copyOf(recent, capacity);
+        }
+        ids[count] = id;
+        titles[count] = title;
+        albums[count] = album;
+        artists[count] = artist;
+        displayNames[count] = displayName;
+        recent[count] = isRecent;
+        count++;
+    }
+
+    /**
+     * @return copy of the rows added so far, unaffected by rows added later
+     */
+    SuggestionRows copy() {
+        SuggestionRows copy = new SuggestionRows(count);
+        System.arraycopy(ids, 0, copy.ids, 0, count);
+        System.arraycopy(titles, 0, copy.titles, 0, count);
+        System.arraycopy(albums, 0, copy.albums, 0, count);
+        System.arraycopy(artists, 0, copy.artists, 0, count);
+        System.arraycopy(displayNames, 0, copy.displayNames, 0, count);
+        System.arraycopy(recent, 0, copy.recent, 0, count);
+        copy.count = count;
+        return copy;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getId(int row) {
+        return ids[row];
+    }
+
+    String getTitle(int row) {
+        return titles[row];
+    }
+
+    String getAlbum(int row) {
+        return albums[row];
+    }
+
+    String getArtist(int row) {
+        return artists[row];
+    }
+
+    String getDisplayName(int row) {
+        return displayNames[row];
+    }
+
+    boolean isRecent(int row) {
+        return recent[row];
+    }
+}
@@ -0,0 +1,493 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Typo tolerant word index for suggestions, finding documents whose words start with each query
+ * token within a small edit distance, wherever the word appears in the text.
+ * <p>
+ * Text is split into the same case folded tokens as {@link FullTextQuery#tokenize}. Every distinct
+ * word gets an id, and the index is two posting list tables stored in flat arrays: trigram to word
+ * ids, and word id to document ids. Trigrams are padded at the start only, so the trigrams of a
+ * prefix are a subset of the trigrams of the word. A token within edit distance k of a word prefix
+ * shares at least (distinct trigrams of the token - 3k) trigrams with the word, since one edit
+ * destroys at most three trigrams. A query counts shared trigrams per word in one pass over the
+ * posting lists, verifies the words that reach that count with a bounded edit distance, and adds
+ * the score of each word to its documents in the same pass.
+ * <p>
+ * Immutable once built, and safe to query from several threads.
+ */
+final class TrigramIndex {
+    //Edit distance allowed for a token: none below 4 characters, one below 7, then two
+    private static final int ONE_EDIT_MIN_LENGTH = 4;
+    private static final int TWO_EDITS_MIN_LENGTH = 7;
+    static final int MAX_EDITS = 2;
+    //Score of a token matched with no edits, each edit costs one point
+    private static final int EXACT_TOKEN_SCORE = MAX_EDITS + 1;
+    //Longest token worth matching, longer tokens are truncated
+    private static final int MAX_TOKEN_LENGTH = 32;
+
+    private final int documentCount;
+    //Sorted trigrams, the words containing grams[i] are gramWords[gramOffsets[i], gramOffsets[i + 1])
+    private final long[] grams;
+    private final int[] gramOffsets;
+    private final int[] gramWords;
+    //Text of word w is wordText[wordTextOffsets[w], wordTextOffsets[w + 1])
+    private final char[] wordText;
+    private final int[] wordTextOffsets;
+    //Documents containing word w are wordDocuments[wordOffsets[w], wordOffsets[w + 1]), ascending
+    private final int[] wordOffsets;
+    private final int[] wordDocuments;
+
+    //Per thread counters sized for this index, reset after every query
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch(wordTextOffsets.length - 1, documentCount);
+        }
+    };
+
+    private TrigramIndex(int documentCount, long[] grams, int[] gramOffsets, int[] gramWords,
+                         char[] wordText, int[] wordTextOffsets, int[] wordOffsets, int[] wordDocuments) {
+        this.documentCount = documentCount;
+        this.grams = grams;
+        this.gramOffsets = gramOffsets;
+        this.gramWords = gramWords;
+        this.wordText = wordText;
+        this.wordTextOffsets = wordTextOffsets;
+        this.wordOffsets = wordOffsets;
+        this.wordDocuments = wordDocuments;
+    }
+
+    /**
+     * @return number of documents, document numbers are between 0 and this count
+     */
+    int getDocumentCount() {
+        return documentCount;
+    }
+
+    /**
+     * @return number of distinct words
+     */
+    int getWordCount() {
+        return wordTextOffsets.length - 1;
+    }
+
+    /**
+     * @return approximate size of the posting tables in bytes
+     */
+    long getFootprintBytes() {
+        return grams.length * 8L + (gramOffsets.length + gramWords.length + wordTextOffsets.length +
+                wordOffsets.length + wordDocuments.length) * 4L + wordText.length * 2L;
+    }
+
+    /**
+     * Find the documents matching every token of a query, best matches first
+     * @param query search term typed by the user
+     * @param limit maximum number of documents
+     * @return document numbers ordered by score, then by document number
+     */
+    int[] query(String query, int limit) {
+        String[] tokens = FullTextQuery.tokenize(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return new int[0];
+        }
+        Scratch state = scratch.get();
+        try {
+            for (int t = 0; t < tokens.length; t++) {
+                if (!matchToken(truncate(tokens[t]), t, state)) {
+                    return new int[0];
+                }
+            }
+            return rank(tokens.length, limit, state);
+        } finally {
+            state.reset();
+        }
+    }
+
+    /**
+     * Score the documents containing a word within the allowed edit distance of a token
+     * @param token case folded token
+     * @param tokenIndex position of the token in the query
+     * @param state counters for this query
+     * @return false if no document has matched every token so far
+     */
+    private boolean matchToken(String token, int tokenIndex, Scratch state) {
+        int maxEdits = maxEdits(token.length());
+        long[] tokenGrams = distinctGrams(token);
+        //Tokens with many repeated trigrams would make every word a candidate, so require at least one
+        int required = Math.max(1, tokenGrams.length - 3 * maxEdits);
+
+        //Count the trigrams each word shares with the token
+        state.clearWordCounts();
+        for (long gram : tokenGrams) {
+            int gramIndex = Arrays.binarySearch(grams, gram);
+            if (gramIndex < 0) {
+                continue;
+            }
+            for (int i = gramOffsets[gramIndex]; i < gramOffsets[gramIndex + 1]; i++) {
+                state.countWord(gramWords[i]);
+            }
+        }
+
+        //Verify words reaching the count and add their score to each document, keeping the best word per document
+        boolean anyComplete = false;
+        for (int w = 0; w < state.touchedWordCount; w++) {
+            int word = state.touchedWords[w];
+            if (state.wordCounts[word] < required) {
+                continue;
+            }
+            int edits = prefixEditDistance(token, word, maxEdits, state);
+            if (edits > maxEdits) {
+                continue;
+            }
+            int score = EXACT_TOKEN_SCORE - edits;
+            for (int i = wordOffsets[word]; i < wordOffsets[word + 1]; i++) {
+                anyComplete |= state.scoreDocument(wordDocuments[i], tokenIndex, score);
+            }
+        }
+        state.commitToken(tokenIndex);
+        return anyComplete;
+    }
+
+    /**
+     * Order the documents that matched every token
+     */
+    private int[] rank(int tokenCount, int limit, Scratch state) {
+        int matchedCount = 0;
+        long[] ranked = new long[state.touchedDocumentCount];
+        for (int i = 0; i < state.touchedDocumentCount; i++) {
+            int document = state.touchedDocuments[i];
+            if (state.documentTokens[document] == tokenCount) {
+                //Higher scores first, then lower document numbers
+                long inverseScore = Integer.MAX_VALUE - state.documentScores[document];
+                ranked[matchedCount++] = (inverseScore << 32) | document;
+            }
+        }
+        Arrays.sort(ranked, 0, matchedCount);
+        int[] results = new int[Math.min(limit, matchedCount)];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = (int) ranked[i];
+        }
+        return results;
+    }
+
+    /**
+     * Edit distance between a token and the closest prefix of a word, giving up as soon as every
+     * entry of a row of the dynamic programming table exceeds the allowed distance
+     * @return distance, or a value greater than maxEdits if the distance exceeds it
+     */
+    private int prefixEditDistance(String token, int word, int maxEdits, Scratch state) {
+        int wordStart = wordTextOffsets[word];
+        //A prefix longer than this is always more than maxEdits away
+        int wordLength = Math.min(wordTextOffsets[word + 1] - wordStart, token.length() + maxEdits);
+        int[] previous = state.editRow(0, wordLength + 1);
+        int[] current = state.editRow(1, wordLength + 1);
+        for (int j = 0; j <= wordLength; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= token.length(); i++) {
+            char tokenChar = token.charAt(i - 1);
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= wordLength; j++) {
+                int substitute = previous[j - 1] + (wordText[wordStart + j - 1] == tokenChar ? 0 : 1);
+                int value = Math.min(substitute, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        //The token may end anywhere in the word
+        int best = previous[0];
+        for (int j = 1; j <= wordLength; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    /**
+     * @param length length of a token
+     * @return edits allowed when matching the token
+     */
+    static int maxEdits(int length) {
+        if (length >= TWO_EDITS_MIN_LENGTH) {
+            return 2;
+        }
+        return length >= ONE_EDIT_MIN_LENGTH ? 1 : 0;
+    }
+
+    private static String truncate(String token) {
+        return token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token;
+    }
+
+    /**
+     * Trigram ending at a position of a word, padded with zero characters before the start
+     */
+    private static long gramAt(CharSequence word, int end) {
+        long first = end >= 2 ? word.charAt(end - 2) : 0;
+        long second = end >= 1 ? word.charAt(end - 1) : 0;
+        return (first << 32) | (second << 16) | word.charAt(end);
+    }
+
+    /**
+     * @return sorted distinct trigrams of a word, one per character before removing duplicates
+     */
+    private static long[] distinctGrams(CharSequence word) {
+        long[] wordGrams = new long[word.length()];
+        for (int i = 0; i < wordGrams.length; i++) {
+            wordGrams[i] = gramAt(word, i);
+        }
+        Arrays.sort(wordGrams);
+        int count = 0;
+        for (int i = 0; i < wordGrams.length; i++) {
+            if (i == 0 || wordGrams[i] != wordGrams[i - 1]) {
+                wordGrams[count++] = wordGrams[i];
+            }
+        }
+        return Arrays.copyOf(wordGrams, count);
+    }
+
+    /**
+     * Counters for a single query, kept per thread and reset through the lists of touched entries
+     * so that a query only pays for the words and documents it reaches
+     */
+    private static final class Scratch {
+        final byte[] wordCounts;
+        int[] touchedWords = new int[64];
+        int touchedWordCount;
+
+        final int[] documentScores;
+        //Number of tokens matched so far by each document
+        final int[] documentTokens;
+        //Best score of the current token for each document, -1 if the current token has not matched
+        final int[] tokenScores;
+        int[] touchedDocuments = new int[64];
+        int touchedDocumentCount;
+        int[] tokenDocuments = new int[64];
+        int tokenDocumentCount;
+
+        final int[][] editRows = new int[2][MAX_TOKEN_LENGTH + MAX_EDITS + 1];
+
+        Scratch(int wordCount, int documentCount) {
+            wordCounts = new byte[wordCount];
+            documentScores = new int[documentCount];
+            documentTokens = new int[documentCount];
+            tokenScores = new int[documentCount];
+            Arrays.fill(tokenScores, -1);
+        }
+
+        void countWord(int word) {
+            if (wordCounts[word] == 0) {
+                if (touchedWordCount == touchedWords.length) {
+                    touchedWords = Arrays.copyOf(touchedWords, touchedWordCount * 2);
+                }
+                touchedWords[touchedWordCount++] = word;
+            }
+            wordCounts[word]++;
+        }
+
+        void clearWordCounts() {
+            for (int i = 0; i < touchedWordCount; i++) {
+                wordCounts[touchedWords[i]] = 0;
+            }
+            touchedWordCount = 0;
+        }
+
+        /**
+         * Record a matching word of a document for the current token
+         * @return true if the document has matched every token so far
+         */
+        boolean scoreDocument(int document, int tokenIndex, int score) {
+            if (documentTokens[document] != tokenIndex) {
+                return false;
+            }
+            if (tokenIndex == 0 && tokenScores[document] < 0) {
+                if (touchedDocumentCount == touchedDocuments.length) {
+                    touchedDocuments = Arrays.copyOf(touchedDocuments, touchedDocumentCount * 2);
+                }
+                touchedDocuments[touchedDocumentCount++] = document;
+            }
+            if (tokenScores[document] < 0) {
+                if (tokenDocumentCount == tokenDocuments.length) {
+                    tokenDocuments = Arrays.copyOf(tokenDocuments, tokenDocumentCount * 2);
+                }
+                tokenDocuments[tokenDocumentCount++] = document;
+            }
+            tokenScores[document] = Math.max(tokenScores[document], score);
+            return true;
+        }
+
+        /**
+         * Add the best score of the current token to every document it matched
+         */
+        void commitToken(int tokenIndex) {
+            for (int i = 0; i < tokenDocumentCount; i++) {
+                int document = tokenDocuments[i];
+                documentScores[document] += tokenScores[document];
+                documentTokens[document] = tokenIndex + 1;
+                tokenScores[document] = -1;
+            }
+            tokenDocumentCount = 0;
+        }
+
+        int[] editRow(int row, int length) {
+            if (editRows[row].length < length) {
+                editRows[row] = new int[length];
+            }
+            return editRows[row];
+        }
+
+        void reset() {
+            clearWordCounts();
+            for (int i = 0; i < tokenDocumentCount; i++) {
+                tokenScores[tokenDocuments[i]] = -1;
+            }
+            tokenDocumentCount = 0;
+            for (int i = 0; i < touchedDocumentCount; i++) {
+                documentScores[touchedDocuments[i]] = 0;
+                documentTokens[touchedDocuments[i]] = 0;
+            }
+            touchedDocumentCount = 0;
+        }
+    }
+
+    /**
+     * Collects the text of each document, then builds the posting tables
+     */
+    static final class Builder {
+        private final int documentCount;
+        private final HashMap<String, Integer> wordIds = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private final List<int[]> wordDocuments = new ArrayList<>();
+        private final List<Integer> wordDocumentCounts = new ArrayList<>();
+
+        /**
+         * Constructor
+         * @param documentCount number of documents, numbered from zero
+         */
+        Builder(int documentCount) {
+            this.documentCount = documentCount;
+        }
+
+        /**
+         * Add text to a document. A document can have any number of texts, such as one per field.
+         * @param document document number
+         * @param text text to index, may be null
+         * @return this builder
+         */
+        Builder add(int document, String text) {
+            if (document < 0 || document >= documentCount) {
+                throw new IndexOutOfBoundsException("Document " + document + " of " + documentCount);
+            }
+            for (String token : FullTextQuery.tokenize(text)) {
+                String word = truncate(token);
+                Integer wordId = wordIds.get(word);
+                if (wordId == null) {
+                    wordId = words.size();
+                    wordIds.put(word, wordId);
+                    words.add(word);
+                    wordDocuments.add(new int[2]);
+                    wordDocumentCounts.add(0);
+                }
+                int count = wordDocumentCounts.get(wordId);
+                int[] documents = wordDocuments.get(wordId);
+                if (count > 0 && documents[count - 1] == document) {
+                    continue;
+                }
+                if (count == documents.length) {
+                    documents = Arrays.copyOf(documents, count * 2);
+                    wordDocuments.set(wordId, documents);
+                }
+                documents[count] = document;
+                wordDocumentCounts.set(wordId, count + 1);
+            }
+            return this;
+        }
+
+        /**
+         * @return new index of the text added so far
+         */
+        TrigramIndex build() {
+            int wordCount = words.size();
+
+            //Word text and documents, sorted and without duplicates from documents added out of order
+            int textLength = 0;
+            int postingCount = 0;
+            for (int w = 0; w < wordCount; w++) {
+                textLength += words.get(w).length();
+                postingCount += wordDocumentCounts.get(w);
+            }
+            char[] wordText = new char[textLength];
+            int[] wordTextOffsets = new int[wordCount + 1];
+            int[] wordOffsets = new int[wordCount + 1];
+            int[] documents = new int[postingCount];
+            int textOffset = 0;
+            int postingOffset = 0;
+            for (int w = 0; w < wordCount; w++) {
+                String word = words.get(w);
+                word.getChars(0, word.length(), wordText, textOffset);
+                textOffset += word.length();
+                wordTextOffsets[w + 1] = textOffset;
+
+                int count = wordDocumentCounts.get(w);
+                int[] wordDocs = wordDocuments.get(w);
+                Arrays.sort(wordDocs, 0, count);
+                for (int i = 0; i < count; i++) {
+                    if (i == 0 || wordDocs[i] != wordDocs[i - 1]) {
+                        documents[postingOffset++] = wordDocs[i];
+                    }
+                }
+                wordOffsets[w + 1] = postingOffset;
+            }
+            documents = Arrays.copyOf(documents, postingOffset);
+
+            //Trigram postings, words are visited in order so every list is ascending
+            HashMap<Long, int[]> gramPostings = new HashMap<>();
+            HashMap<Long, Integer> gramCounts = new HashMap<>();
+            int gramPostingCount = 0;
+            for (int w = 0; w < wordCount; w++) {
+                for (long gram : distinctGrams(words.get(w))) {
+                    int[] postings = gramPostings.get(gram);
+                    Integer boxedCount = gramCounts.get(gram);
+                    int count = boxedCount == null ? 0 : boxedCount;
+                    if (postings == null) {
+                        postings = new int[4];
+                    } else if (count == postings.length) {
+                        postings = Arrays.copyOf(postings, count * 2);
+                    }
+                    postings[count] = w;
+                    gramPostings.put(gram, postings);
+                    gramCounts.put(gram, count + 1);
+                    gramPostingCount++;
+                }
+            }
+            long[] grams = new long[gramPostings.size()];
+            int g = 0;
+            for (Long gram : gramPostings.keySet()) {
+                grams[g++] = gram;
+            }
+            Arrays.sort(grams);
+            int[] gramOffsets = new int[grams.length + 1];
+            int[] gramWords = new int[gramPostingCount];
+            int gramOffset = 0;
+            for (int i = 0; i < grams.length; i++) {
+                int count = gramCounts.get(grams[i]);
+                System.arraycopy(gramPostings.get(grams[i]), 0, gramWords, gramOffset, count);
+                gramOffset += count;
+                gramOffsets[i + 1] = gramOffset;
+            }
+
+            return new TrigramIndex(documentCount, grams, gramOffsets, gramWords, wordText, wordTextOffsets,
+                    wordOffsets, documents);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import android.content.ComponentCallbacks2;
+
+import com.google.android.exoplayer.upstream.Allocation;
+import com.google.android.exoplayer.upstream.Allocator;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BufferPoolTest {
+    private static final int SEGMENT_COUNT = 8;
+    //Time for a waiting loader to wake
+    private static final long WAIT_MS = 200;
+
+    private final BufferPool pool = new BufferPool(SEGMENT_COUNT * BufferPool.SEGMENT_SIZE);
+
+    private static Allocation[] allocate(Allocator allocator, int count) {
+        Allocation[] allocations = new Allocation[count];
+        for (int i = 0; i < count; i++) {
+            allocations[i] = allocator.allocate();
+        }
+        return allocations;
+    }
+
+    @Test
+    public void testReuseAcrossAllocators() {
+        Allocator first = pool.createAllocator();
+        Allocation[] allocations = allocate(first, SEGMENT_COUNT);
+        Set<byte[]> segments = new HashSet<>();
+        for (Allocation allocation : allocations) {
+            assertEquals(BufferPool.SEGMENT_SIZE, allocation.data.length);
+            segments.add(allocation.data);
+        }
+        first.release(allocations);
+        //A source trims when disabled, which must not empty the pool
+        first.trim(0);
+        assertEquals(SEGMENT_COUNT * BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+
+        Allocator second = pool.createAllocator();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            assertTrue(segments.contains(second.allocate().data));
+        }
+        assertEquals(0, pool.getFreeBytes());
+    }
+
+    @Test
+    public void testAllocatorsCountSeparately() throws InterruptedException {
+        Allocator first = pool.createAllocator();
+        Allocator second = pool.createAllocator();
+        Allocation[] allocations = allocate(first, 3);
+        allocate(second, 2);
+        assertEquals(3 * BufferPool.SEGMENT_SIZE, first.getTotalBytesAllocated());
+        assertEquals(2 * BufferPool.SEGMENT_SIZE, second.getTotalBytesAllocated());
+        //Returns at once as the other allocator does not count
+        second.blockWhileTotalBytesAllocatedExceeds(2 * BufferPool.SEGMENT_SIZE);
+        first.release(allocations[0]);
+        assertEquals(2 * BufferPool.SEGMENT_SIZE, first.getTotalBytesAllocated());
+        assertEquals(BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+    }
+
+    @Test
+    public void testBlocksOnTotalBudget() throws InterruptedException {
+        final Allocator first = pool.createAllocator();
+        Allocator second = pool.createAllocator();
+        allocate(first, 2);
+        Allocation[] allocations = allocate(second, SEGMENT_COUNT - 1);
+        //Within its own limit, but the pool is over its budget
+        Thread loader = startLoader(first, 4 * BufferPool.SEGMENT_SIZE);
+        loader.join(WAIT_MS);
+        assertTrue(loader.isAlive());
+        second.release(allocations);
+        loader.join(WAIT_MS);
+        assertFalse(loader.isAlive());
+    }
+
+    @Test
+    public void testPreloadShare() throws InterruptedException {
+        BufferPool.Share share = pool.createShare();
+        Allocator allocator = share.createAllocator();
+        share.setPreloading(true);
+        //A quarter of the pool may be filled while preloading
+        allocate(allocator, SEGMENT_COUNT / 4);
+        allocator.blockWhileTotalBytesAllocatedExceeds(SEGMENT_COUNT * BufferPool.SEGMENT_SIZE);
+        allocate(allocator, 1);
+        Thread loader = startLoader(allocator, SEGMENT_COUNT * BufferPool.SEGMENT_SIZE);
+        loader.join(WAIT_MS);
+        assertTrue(loader.isAlive());
+        //Starting playback lets the track fill the rest
+        share.setPreloading(false);
+        loader.join(WAIT_MS);
+        assertFalse(loader.isAlive());
+        assertEquals((SEGMENT_COUNT / 4 + 1) * BufferPool.SEGMENT_SIZE, pool.getAllocatedBytes());
+    }
+
+    /**
+     * @return started thread that waits like a loader until the allocator may allocate beyond limit
+     */
+    private static Thread startLoader(final Allocator allocator, final int limit) {
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    allocator.blockWhileTotalBytesAllocatedExceeds(limit);
+                } catch (InterruptedException e) {
+                    //Ends the wait
+                }
+            }
+        };
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void testKeepsAtMostOneBuffer() {
+        Allocator first = pool.createAllocator();
+        Allocator second = pool.createAllocator();
+        Allocation[] firstAllocations = allocate(first, SEGMENT_COUNT);
+        Allocation[] secondAllocations = allocate(second, SEGMENT_COUNT);
+        first.release(firstAllocations);
+        second.release(secondAllocations);
+        assertEquals(SEGMENT_COUNT * BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+    }
+
+    @Test
+    public void testTrimMemory() {
+        Allocator allocator = pool.createAllocator();
+        allocator.release(allocate(allocator, SEGMENT_COUNT));
+        pool.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+        assertEquals(SEGMENT_COUNT * BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+        pool.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+        assertEquals(SEGMENT_COUNT / 2 * BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+        pool.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, pool.getFreeBytes());
+        //Segments in use are unaffected, and return to the pool when released
+        Allocation[] allocations = allocate(allocator, 2);
+        pool.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        allocator.release(allocations);
+        assertEquals(2 * BufferPool.SEGMENT_SIZE, pool.getFreeBytes());
+    }
+
+    @Test
+    public void testBufferSizeInSegments() {
+        assertEquals(2 * BufferPool.SEGMENT_SIZE, new BufferPool(2 * BufferPool.SEGMENT_SIZE + 100).getBufferSize());
+    }
+}
@@ -0,0 +1,178 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CueSampleCacheTest {
+    private static final long FRAME_US = FrameSource.FRAME_US;
+    //30 seconds
+    private static final int FRAME_COUNT = 1500;
+    //Frames in a window starting 100 ms before the cue and ending at the first frame 5 s after it
+    private static final int WINDOW_FRAMES = 256;
+
+    private final FrameSource fillFrames = new FrameSource(FRAME_COUNT);
+    private final FrameSource playFrames = new FrameSource(FRAME_COUNT);
+    private final SampleHolder sampleHolder = new SampleHolder(SampleHolder.BUFFER_REPLACEMENT_MODE_NORMAL);
+
+    private CueSampleCache createCache(int maxBytes, long... cuesUs) {
+        CueSampleCache cache = new CueSampleCache(maxBytes);
+        cache.setSource(fillFrames);
+        cache.setCuePoints(cuesUs);
+        fill(cache);
+        return cache;
+    }
+
+    private static void fill(CueSampleCache cache) {
+        for (int i = 0; i < 1000; i++) {
+            if (cache.fill() == CueSampleCache.FILL_DONE) {
+                return;
+            }
+        }
+        throw new AssertionError("Filling did not finish");
+    }
+
+    private static void assertEntry(CueSampleCache cache, long cueUs) {
+        CueSampleCache.Entry entry = cache.find(cueUs);
+        assertNotNull(entry);
+        assertEquals(cueUs, entry.cueUs);
+        assertEquals(cueUs - 100000, entry.samples.get(0).timeUs);
+        assertEquals(cueUs + CueSampleCache.WINDOW_US, entry.getEndUs());
+        assertEquals(WINDOW_FRAMES, entry.samples.size());
+    }
+
+    /**
+     * Read the next sample
+     * @return frame number of the sample
+     */
+    private int read(SampleSource.SampleSourceReader reader) {
+        sampleHolder.clearData();
+        int result;
+        do {
+            assertEquals(SampleSource.NO_DISCONTINUITY, reader.readDiscontinuity(0));
+            result = reader.readData(0, 0, new MediaFormatHolder(), sampleHolder);
+        } while (result == SampleSource.NOTHING_READ);
+        assertEquals(SampleSource.SAMPLE_READ, result);
+        return sampleHolder.data.get(sampleHolder.data.position() - 1) & 0xFF;
+    }
+
+    private void assertSample(SampleSource.SampleSourceReader reader, int frame, boolean decodeOnly) {
+        assertEquals(frame & 0xFF, read(reader));
+        assertEquals(frame * FRAME_US, sampleHolder.timeUs);
+        assertEquals(decodeOnly, sampleHolder.isDecodeOnly());
+    }
+
+    @Test
+    public void testFill() {
+        CueSampleCache cache = createCache(1024 * 1024, 500000, 8000000, 500000);
+        assertEquals(2, cache.size());
+        assertEquals(2 * WINDOW_FRAMES, cache.getCachedBytes());
+        assertEntry(cache, 500000);
+        assertEntry(cache, 8000000);
+        //Anywhere within a window plays from it
+        assertEquals(500000, cache.find(3000000).cueUs);
+        assertNull(cache.find(6000000));
+        assertNull(cache.find(300000));
+    }
+
+    @Test
+    public void testCuePointsChanged() {
+        CueSampleCache cache = createCache(1024 * 1024, 500000, 8000000);
+        CueSampleCache.Entry kept = cache.find(8000000);
+        cache.setCuePoints(new long[] {8000000, 16000000});
+        fill(cache);
+        //Only the new cue point is read
+        assertSame(kept, cache.find(8000000));
+        assertNull(cache.find(500000));
+        assertEntry(cache, 16000000);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        CueSampleCache cache = createCache(2 * WINDOW_FRAMES + 100, 500000, 8000000, 16000000);
+        assertEquals(2, cache.size());
+        assertNull(cache.find(500000));
+        assertEntry(cache, 8000000);
+        assertEntry(cache, 16000000);
+        //Most recently played is kept
+        cache.find(8000000);
+        cache.setMaxBytes(WINDOW_FRAMES);
+        assertEntry(cache, 8000000);
+        assertNull(cache.find(16000000));
+    }
+
+    @Test
+    public void testTrimToSize() {
+        CueSampleCache cache = createCache(1024 * 1024, 500000, 8000000);
+        cache.setCuePoints(new long[] {500000, 8000000, 16000000});
+        cache.trimToSize(0);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getCachedBytes());
+        //Not filled again until the cue points are set
+        assertEquals(CueSampleCache.FILL_DONE, cache.fill());
+        cache.setCuePoints(new long[] {16000000});
+        fill(cache);
+        assertEntry(cache, 16000000);
+    }
+
+    @Test
+    public void testRetryLateSeek() {
+        fillFrames.seekErrorUs = 200000;
+        CueSampleCache cache = createCache(1024 * 1024, 2000000);
+        CueSampleCache.Entry entry = cache.find(2000000);
+        assertNotNull(entry);
+        //Second attempt started a second earlier, and landed 200 ms later than that
+        assertEquals(1100000, entry.samples.get(0).timeUs);
+        assertEquals(2000000 + CueSampleCache.WINDOW_US, entry.getEndUs());
+    }
+
+    @Test
+    public void testPlayFromCache() {
+        CueSampleCache cache = createCache(1024 * 1024, 500000);
+        CueCachingSampleSource source = new CueCachingSampleSource(playFrames, cache);
+        SampleSource.SampleSourceReader reader = source.register();
+        reader.prepare(0);
+        reader.enable(0, 0);
+        assertSample(reader, 0, false);
+        reader.seekToUs(510000);
+        //Wrapped source loads from the end of the window meanwhile
+        assertEquals(1, playFrames.seekCount);
+        assertEquals(275, playFrames.next);
+        assertEquals(510000, reader.readDiscontinuity(0));
+        for (int frame = 20; frame < 25; frame++) {
+            assertSample(reader, frame, true);
+        }
+        //Frame containing the position is dropped, as the wrapped source would
+        assertSample(reader, 25, true);
+        for (int frame = 26; frame < 300; frame++) {
+            assertSample(reader, frame, false);
+        }
+        assertEquals(300, playFrames.next);
+    }
+
+    @Test
+    public void testSeekOutsideCache() {
+        CueSampleCache cache = createCache(1024 * 1024, 500000);
+        CueCachingSampleSource source = new CueCachingSampleSource(playFrames, cache);
+        SampleSource.SampleSourceReader reader = source.register();
+        reader.prepare(0);
+        reader.enable(0, 0);
+        reader.seekToUs(300000);
+        assertEquals(300000, reader.readDiscontinuity(0));
+        assertSample(reader, 15, false);
+        //Seeking into the window replays it
+        reader.seekToUs(600000);
+        assertEquals(600000, reader.readDiscontinuity(0));
+        assertSample(reader, 20, true);
+        reader.seekToUs(12000000);
+        assertEquals(12000000, reader.readDiscontinuity(0));
+        assertSample(reader, 600, false);
+    }
+}
@@ -0,0 +1,111 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.C;
+import com.google.android.exoplayer.MediaFormat;
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+
+import java.io.IOException;
+
+/**
+ * Source of one byte samples, each holding its frame number. Mono at 50 kHz in 20 ms frames,
+ * so a millisecond is 50 PCM frames.
+ */
+class FrameSource implements SampleSource, SampleSource.SampleSourceReader {
+    static final int SAMPLE_RATE = 50000;
+    static final long FRAME_US = 20000;
+
+    final int frameCount;
+    int next = 0;
+    int seekCount = 0;
+    //Added to seek positions, to land after the position as an inexact seek can
+    long seekErrorUs = 0;
+    boolean pendingDiscontinuity = false;
+
+    FrameSource(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    @Override
+    public SampleSourceReader register() {
+        return this;
+    }
+
+    @Override
+    public void maybeThrowError() throws IOException {
+    }
+
+    @Override
+    public boolean prepare(long positionUs) {
+        return true;
+    }
+
+    @Override
+    public int getTrackCount() {
+        return 1;
+    }
+
+    @Override
+    public MediaFormat getFormat(int track) {
+        return MediaFormat.createAudioFormat("1", "audio/mpeg", 128000, 4096, frameCount * FRAME_US, 1, SAMPLE_RATE,
+                null, null);
+    }
+
+    @Override
+    public void enable(int track, long positionUs) {
+        next = (int) ((positionUs + seekErrorUs) / FRAME_US);
+    }
+
+    @Override
+    public boolean continueBuffering(int track, long positionUs) {
+        return true;
+    }
+
+    @Override
+    public long readDiscontinuity(int track) {
+        if (pendingDiscontinuity) {
+            pendingDiscontinuity = false;
+            return next * FRAME_US;
+        }
+        return NO_DISCONTINUITY;
+    }
+
+    @Override
+    public int readData(int track, long positionUs, MediaFormatHolder formatHolder, SampleHolder sampleHolder) {
+        if (pendingDiscontinuity) {
+            return NOTHING_READ;
+        }
+        if (next == frameCount) {
+            return END_OF_STREAM;
+        }
+        sampleHolder.ensureSpaceForWrite(1);
+        sampleHolder.data.put((byte) next);
+        sampleHolder.size = 1;
+        sampleHolder.flags = C.SAMPLE_FLAG_SYNC;
+        sampleHolder.timeUs = next * FRAME_US;
+        next++;
+        return SAMPLE_READ;
+    }
+
+    @Override
+    public void seekToUs(long positionUs) {
+        //Lands on the frame containing the position
+        next = (int) ((positionUs + seekErrorUs) / FRAME_US);
+        seekCount++;
+        pendingDiscontinuity = true;
+    }
+
+    @Override
+    public long getBufferedPositionUs() {
+        return next * FRAME_US;
+    }
+
+    @Override
+    public void disable(int track) {
+    }
+
+    @Override
+    public void release() {
+    }
+}
@@ -0,0 +1,188 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import com.google.android.exoplayer.MediaFormatHolder;
+import com.google.android.exoplayer.SampleHolder;
+import com.google.android.exoplayer.SampleSource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LoopingSampleSourceTest {
+    private static final long FRAME_US = FrameSource.FRAME_US;
+    private static final int FRAME_COUNT = 100;
+
+    private final FrameSource frames = new FrameSource(FRAME_COUNT);
+    private final LoopingSampleSource source = new LoopingSampleSource(frames);
+    private final SampleHolder sampleHolder = new SampleHolder(SampleHolder.BUFFER_REPLACEMENT_MODE_NORMAL);
+
+    private void start(long positionUs) {
+        source.register();
+        source.prepare(positionUs);
+        source.enable(0, positionUs);
+    }
+
+    /**
+     * Read the next sample
+     * @return frame number of the sample
+     */
+    private int read() {
+        sampleHolder.clearData();
+        int result;
+        do {
+            //As the renderer does before each read
+            assertEquals(SampleSource.NO_DISCONTINUITY, source.readDiscontinuity(0));
+            result = source.readData(0, 0, new MediaFormatHolder(), sampleHolder);
+        } while (result == SampleSource.NOTHING_READ);
+        assertEquals(SampleSource.SAMPLE_READ, result);
+        assertEquals(1, sampleHolder.size);
+        return sampleHolder.data.get(sampleHolder.data.position() - 1);
+    }
+
+    private void assertSample(int frame, long timeUs, boolean decodeOnly) {
+        assertEquals(frame, read());
+        assertEquals(timeUs, sampleHolder.timeUs);
+        assertEquals(decodeOnly, sampleHolder.isDecodeOnly());
+    }
+
+    private void assertTrim(long presentationTimeUs, long cutUs, boolean end, int pcmFrames) {
+        LoopingSampleSource.Trim trim = source.pollTrim(presentationTimeUs);
+        assertNotNull(trim);
+        assertEquals(cutUs, trim.cutUs);
+        assertEquals(end, trim.end);
+        assertEquals(pcmFrames, trim.frames);
+        assertEquals(2, trim.bytesPerFrame);
+    }
+
+    /**
+     * Read a pass of the loop from 205 ms to 610 ms after the first, which is 405 ms long
+     * @param pass number of the pass, from 1
+     */
+    private void assertPass(int pass) {
+        long offsetUs = pass * 405000L;
+        long lastPlayedUs = 600000 + (pass - 1) * 405000L;
+        //Preroll of the frames ending before the start, decoded but not played
+        for (int frame = 6; frame <= 9; frame++) {
+            assertSample(frame, lastPlayedUs + frame - 5, true);
+        }
+        //Frame containing the start, cut to 205 ms
+        assertSample(10, 200000 + offsetUs, false);
+        assertTrim(200000 + offsetUs, 205000 + offsetUs, false, 250);
+        for (int frame = 11; frame <= 30; frame++) {
+            assertSample(frame, frame * FRAME_US + offsetUs, false);
+        }
+        //Frame containing the end, cut to 610 ms
+        assertTrim(600000 + offsetUs, 610000 + offsetUs, true, 500);
+    }
+
+    @Test
+    public void testGaplessPasses() {
+        start(0);
+        assertFalse(source.setLoop(205000, 610000));
+        for (int frame = 0; frame <= 30; frame++) {
+            assertSample(frame, frame * FRAME_US, false);
+        }
+        assertTrim(600000, 610000, true, 500);
+        for (int pass = 1; pass <= 50; pass++) {
+            assertPass(pass);
+        }
+        //Replayed from memory without seeking
+        assertEquals(0, frames.seekCount);
+        assertNull(source.pollTrim(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testTrackTime() {
+        start(0);
+        source.setLoop(205000, 610000);
+        assertEquals(609999, source.toTrackTimeUs(609999));
+        assertEquals(205000, source.toTrackTimeUs(610000));
+        assertEquals(206000, source.toTrackTimeUs(1016000));
+        assertEquals(205000 + 17, source.toTrackTimeUs(610000 + 50 * 405000 + 17));
+        source.setLoop(-1, -1);
+        assertEquals(1016000, source.toTrackTimeUs(1016000));
+    }
+
+    @Test
+    public void testStartInsideLoop() {
+        start(300000);
+        source.setLoop(205000, 610000);
+        for (int frame = 15; frame <= 30; frame++) {
+            assertSample(frame, frame * FRAME_US, false);
+        }
+        assertTrim(600000, 610000, true, 500);
+        //First pass seeks back and records the loop
+        assertPass(1);
+        assertEquals(1, frames.seekCount);
+        assertPass(2);
+        assertPass(3);
+        assertEquals(1, frames.seekCount);
+    }
+
+    @Test
+    public void testLoopToEndOfTrack() {
+        start(0);
+        source.setLoop(0, LoopingSampleSource.END_OF_TRACK);
+        for (int pass = 0; pass < 3; pass++) {
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                assertSample(frame, frame * FRAME_US + pass * FRAME_COUNT * FRAME_US, false);
+            }
+        }
+        assertEquals(0, frames.seekCount);
+        assertEquals(FRAME_US, source.toTrackTimeUs(3 * FRAME_COUNT * FRAME_US + FRAME_US));
+    }
+
+    @Test
+    public void testChangeLoop() {
+        start(0);
+        source.setLoop(205000, 610000);
+        for (int frame = 0; frame <= 10; frame++) {
+            read();
+        }
+        //Not reached yet, continues without a seek
+        assertFalse(source.setLoop(405000, 810000));
+        //Already read past the end
+        assertTrue(source.setLoop(0, 100000));
+        source.seekToUs(0);
+        assertEquals(0, source.readDiscontinuity(0));
+        for (int frame = 0; frame <= 4; frame++) {
+            assertSample(frame, frame * FRAME_US, false);
+        }
+        assertSample(0, 100000, false);
+        //Stopping a loop that has wrapped restarts the timeline
+        assertTrue(source.setLoop(-1, -1));
+        source.seekToUs(20000);
+        assertEquals(20000, source.readDiscontinuity(0));
+        assertEquals(1, read());
+        assertEquals(FRAME_US, sampleHolder.timeUs);
+    }
+
+    @Test
+    public void testSeekPastLoop() {
+        start(0);
+        source.setLoop(205000, 610000);
+        source.seekToUs(800000);
+        assertEquals(800000, source.readDiscontinuity(0));
+        for (int frame = 40; frame < FRAME_COUNT; frame++) {
+            assertSample(frame, frame * FRAME_US, false);
+        }
+        sampleHolder.clearData();
+        assertEquals(SampleSource.END_OF_STREAM, source.readData(0, 0, new MediaFormatHolder(), sampleHolder));
+    }
+
+    @Test
+    public void testStaleTrims() {
+        start(0);
+        source.setLoop(205000, 610000);
+        for (int frame = 0; frame <= 30; frame++) {
+            read();
+        }
+        //Frame with the cut was never played
+        assertNull(source.pollTrim(620000));
+        assertNull(source.pollTrim(600000));
+    }
+}
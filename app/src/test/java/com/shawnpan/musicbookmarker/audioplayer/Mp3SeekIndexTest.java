@@ -0,0 +1,183 @@
+package com.shawnpan.musicbookmarker.audioplayer;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class Mp3SeekIndexTest {
+    private static final long GRANULARITY_US = 250000;
+    //MPEG 1 layer III at 44.1 kHz, stereo, with the bitrate index in bits 12 to 15
+    private static final int HEADER = 0xFFFB0000;
+    private static final int[] BITRATE_INDEXES = {9, 5, 14, 1, 11};
+    private static final int[] FRAME_SIZES = {417, 208, 1044, 104, 626};
+    private static final int SAMPLES_PER_FRAME = 1152;
+    private static final int SAMPLE_RATE = 44100;
+    private static final int FRAME_COUNT = 500;
+
+    private final ByteArrayOutputStream file = new ByteArrayOutputStream();
+    //Offsets of the audio frames
+    private final ArrayList<Long> frameOffsets = new ArrayList<>();
+
+    private void writeInt(int value) {
+        file.write(value >>> 24);
+        file.write(value >>> 16);
+        file.write(value >>> 8);
+        file.write(value);
+    }
+
+    private void writeFrame(int variant) {
+        writeInt(HEADER | BITRATE_INDEXES[variant] << 12);
+        for (int i = 4; i < FRAME_SIZES[variant]; i++) {
+            file.write(0);
+        }
+    }
+
+    /**
+     * Write an ID3 tag holding bytes that look like a frame header, a Xing frame, and audio frames
+     * of varying bitrates with junk between some of them
+     */
+    private byte[] buildVbrFile() {
+        file.write('I');
+        file.write('D');
+        file.write('3');
+        file.write(4);
+        file.write(0);
+        file.write(0);
+        //Size 200 as a syncsafe integer
+        writeInt(0x00000148);
+        for (int i = 0; i < 50; i++) {
+            writeInt(HEADER | 9 << 12);
+        }
+        int xingStart = file.size();
+        writeFrame(0);
+        byte[] xing = file.toByteArray();
+        xing[xingStart + 36] = 'X';
+        xing[xingStart + 37] = 'i';
+        xing[xingStart + 38] = 'n';
+        xing[xingStart + 39] = 'g';
+        file.reset();
+        file.write(xing, 0, xing.length);
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            if (frame % 97 == 50) {
+                file.write(0x12);
+                file.write(0xFF);
+                file.write(0x34);
+            }
+            frameOffsets.add((long) file.size());
+            writeFrame(frame * 7 % BITRATE_INDEXES.length);
+        }
+        //ID3v1 tag
+        file.write('T');
+        file.write('A');
+        file.write('G');
+        for (int i = 3; i < 128; i++) {
+            file.write(' ');
+        }
+        return file.toByteArray();
+    }
+
+    private static long getFrameTimeUs(int frame) {
+        return (long) frame * SAMPLES_PER_FRAME * 1000000L / SAMPLE_RATE;
+    }
+
+    /**
+     * Stream returning a byte at a time, as a slow source might
+     */
+    private static InputStream trickle(byte[] data) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                return 0;
+            }
+        };
+    }
+
+    private void assertIndex(Mp3SeekIndex index) {
+        assertEquals(getFrameTimeUs(FRAME_COUNT), index.getDurationUs());
+        int frame = 0;
+        for (int entry = 0; entry < index.size(); entry++) {
+            while (getFrameTimeUs(frame) < entry * GRANULARITY_US) {
+                frame++;
+            }
+            assertEquals(frameOffsets.get(frame).longValue(), index.getPosition(entry));
+            assertEquals(getFrameTimeUs(frame), index.getTimeUs(entry));
+        }
+        assertEquals(getFrameTimeUs(FRAME_COUNT - 1) / GRANULARITY_US + 1, index.size());
+    }
+
+    @Test
+    public void testBuildVbr() throws IOException {
+        byte[] data = buildVbrFile();
+        assertIndex(Mp3SeekIndex.build(new ByteArrayInputStream(data), GRANULARITY_US));
+        assertIndex(Mp3SeekIndex.build(trickle(data), GRANULARITY_US));
+    }
+
+    @Test
+    public void testGetEntry() throws IOException {
+        Mp3SeekIndex index = Mp3SeekIndex.build(new ByteArrayInputStream(buildVbrFile()), GRANULARITY_US);
+        assertEquals(0, index.getEntry(0));
+        assertEquals(0, index.getEntry(GRANULARITY_US - 1));
+        //Last entry at or before the time
+        int entry = index.getEntry(5000000);
+        assertTrue(index.getTimeUs(entry) <= 5000000);
+        assertTrue(index.getTimeUs(entry + 1) > 5000000);
+        assertEquals(entry, index.getEntry(index.getTimeUs(entry)));
+        assertEquals(entry + 1, index.getEntry(index.getTimeUs(entry + 1)));
+        assertEquals(index.size() - 1, index.getEntry(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        Mp3SeekIndex index = Mp3SeekIndex.build(new ByteArrayInputStream(new byte[1000]), GRANULARITY_US);
+        assertEquals(0, index.size());
+        assertEquals(0, index.getDurationUs());
+        assertEquals(-1, index.getEntry(0));
+    }
+
+    @Test
+    public void testReadWrite() throws IOException {
+        Mp3SeekIndex index = Mp3SeekIndex.build(new ByteArrayInputStream(buildVbrFile()), GRANULARITY_US);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out, 123456789L, -42);
+        byte[] stored = out.toByteArray();
+        //A few bytes per entry
+        assertTrue(stored.length < index.size() * 5 + 32);
+        assertIndex(Mp3SeekIndex.read(new ByteArrayInputStream(stored), 123456789L, -42));
+        //Built from another version of the file
+        assertNull(Mp3SeekIndex.read(new ByteArrayInputStream(stored), 123456789L, 1000));
+        assertNull(Mp3SeekIndex.read(new ByteArrayInputStream(stored), 123456788L, -42));
+    }
+
+    @Test
+    public void testReadCorrupt() {
+        byte[] notIndex = new byte[] {'M', 'B', 'K', 'B', 1};
+        try {
+            Mp3SeekIndex.read(new ByteArrayInputStream(notIndex), 0, 0);
+            fail("Read an index with the wrong magic");
+        } catch (IOException e) {
+            //Expected
+        }
+        byte[] truncated = new byte[] {'M', 'S', 'I', 'X', 1, 0, 0, 10, 5, 1};
+        try {
+            Mp3SeekIndex.read(new ByteArrayInputStream(truncated), 0, 0);
+            fail("Read a truncated index");
+        } catch (IOException e) {
+            //Expected
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class AudioChapterParserTest {
+
+    private static RecordingChapterListener parse(String resource) throws IOException {
+        RecordingChapterListener listener = new RecordingChapterListener();
+        RandomAccessFile file = new RandomAccessFile(open(resource), "r");
+        try {
+            file.seek(7);
+            int count = AudioChapterParser.parse(file.getChannel(), listener);
+            assertEquals(listener.startMs.size(), count);
+            //Reads do not move the channel
+            assertEquals(7, file.getChannel().position());
+        } finally {
+            file.close();
+        }
+        return listener;
+    }
+
+    private static File open(String resource) throws IOException {
+        try {
+            return new File(AudioChapterParserTest.class.getResource("/chapters/" + resource).toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Test
+    public void testId3v23() throws IOException {
+        RecordingChapterListener chapters = parse("chapters_v23.mp3");
+        assertArrayEquals(new long[] {0, 60000, 125500, 200000}, chapters.getStartMs());
+        //Untitled chapter with only a picture
+        assertArrayEquals(new String[] {"Opening", "Caf\u00E9 \u266B", null, "Title after picture"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testId3v24() throws IOException {
+        RecordingChapterListener chapters = parse("chapters_v24.mp3");
+        assertArrayEquals(new long[] {0, 1000, 0xFF00, 0x1FF00}, chapters.getStartMs());
+        //Only the first value of a multi-value title
+        assertArrayEquals(new String[] {"\u65E5\u672C\u8A9E\u306E\u7AE0", "UTF-16 big endian", "Unsynchronised \u00FF",
+                "First"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testId3TagUnsynchronisation() throws IOException {
+        RecordingChapterListener chapters = parse("unsync_v23.mp3");
+        assertArrayEquals(new long[] {0xFF, 0xFFE0}, chapters.getStartMs());
+        assertArrayEquals(new String[] {"\u00FFirst", "Second"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testId3ManyChapters() throws IOException {
+        assertManyChapters(parse("many_chapters.mp3"));
+    }
+
+    @Test
+    public void testId3WithoutChapters() throws IOException {
+        assertEquals(0, parse("no_chapters.mp3").startMs.size());
+    }
+
+    @Test
+    public void testId3Truncated() throws IOException {
+        try {
+            parse("truncated_v23.mp3");
+            fail("Accepted a truncated tag");
+        } catch (IOException expected) {
+            //Expected
+        }
+    }
+
+    @Test
+    public void testNeroChapters() throws IOException {
+        RecordingChapterListener chapters = parse("nero_chpl.m4a");
+        assertArrayEquals(new long[] {0, 90500, 301000}, chapters.getStartMs());
+        assertArrayEquals(new String[] {"Intro", "Allegro", "Caf\u00E9"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testQuickTimeChapterTrack() throws IOException {
+        //The chapter track wins over the chpl box in the same file
+        RecordingChapterListener chapters = parse("qt_chapters.m4b");
+        assertArrayEquals(new long[] {0, 61000, 122500, 3600000}, chapters.getStartMs());
+        assertArrayEquals(new String[] {"Chapter One", "Chapter Two", "\u7B2C\u4E09\u7AE0", "Epilogue"},
+                chapters.getTitles());
+    }
+
+    @Test
+    public void testQuickTimeManyChapters() throws IOException {
+        assertManyChapters(parse("qt_many_chapters.m4b"));
+    }
+
+    @Test
+    public void testOtherFiles() throws IOException {
+        assertEquals(0, parse("album.cue").startMs.size());
+    }
+
+    @Test
+    public void testRemoveUnsynchronisation() {
+        byte[] data = new byte[] {1, (byte) 0xFF, 0, 2, (byte) 0xFF, 0, 0, (byte) 0xFF};
+        int length = Id3ChapterParser.removeUnsynchronisation(data, data.length);
+        assertEquals(6, length);
+        assertArrayEquals(new byte[] {1, (byte) 0xFF, 2, (byte) 0xFF, 0, (byte) 0xFF},
+                Arrays.copyOf(data, length));
+    }
+
+    private static void assertManyChapters(RecordingChapterListener chapters) {
+        assertEquals(3000, chapters.startMs.size());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i * 37000L, (long) chapters.startMs.get(i));
+            assertEquals("Part " + (i + 1), chapters.titles.get(i));
+        }
+    }
+}
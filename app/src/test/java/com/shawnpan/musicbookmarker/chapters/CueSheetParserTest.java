@@ -0,0 +1,108 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CueSheetParserTest {
+
+    private static RecordingChapterListener parse(String resource, String audioFileName) throws IOException {
+        RecordingChapterListener listener = new RecordingChapterListener();
+        InputStream in = CueSheetParserTest.class.getResourceAsStream("/chapters/" + resource);
+        try {
+            int count = CueSheetParser.parse(in, audioFileName, listener);
+            assertEquals(listener.startMs.size(), count);
+        } finally {
+            in.close();
+        }
+        return listener;
+    }
+
+    @Test
+    public void testAlbum() throws IOException {
+        RecordingChapterListener chapters = parse("album.cue", "/sdcard/Music/Goldberg Variations.mp3");
+        //INDEX 01 wins over the INDEX 00 pregap, frames are 1/75 s
+        assertArrayEquals(new long[] {0, 185000, 290493, 362986}, chapters.getStartMs());
+        assertArrayEquals(new String[] {"Aria", "Variatio 1. a 1 Clav.", "Variatio 2. a 1 Clav.",
+                "Variatio 3. Canone all'Unisuono"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testSingleFileWithOtherName() throws IOException {
+        RecordingChapterListener chapters = parse("album.cue", "Renamed.m4a");
+        assertEquals(4, chapters.startMs.size());
+    }
+
+    @Test
+    public void testMultipleFiles() throws IOException {
+        RecordingChapterListener fugue = parse("multi_file.cue", "/storage/emulated/0/Music/02 Fugue.mp3");
+        assertArrayEquals(new long[] {0, 90000}, fugue.getStartMs());
+        assertArrayEquals(new String[] {"Fugue - Exposition", "Fugue - Stretto"}, fugue.getTitles());
+
+        RecordingChapterListener prelude = parse("multi_file.cue", "01 prelude.MP3");
+        assertArrayEquals(new String[] {"Prelude"}, prelude.getTitles());
+
+        //Several files and none of them match
+        assertEquals(0, parse("multi_file.cue", "Toccata.mp3").startMs.size());
+        assertEquals(3, parse("multi_file.cue", null).startMs.size());
+    }
+
+    @Test
+    public void testQuirks() throws IOException {
+        RecordingChapterListener chapters = parse("quirky.cue", "lecture.mp3");
+        assertArrayEquals(new long[] {0, 754746, 1200000, 7500200, 7800000}, chapters.getStartMs());
+        assertArrayEquals(new String[] {"Introduction", "Title after index", "Pregap only", "Past 99 minutes", null},
+                chapters.getTitles());
+    }
+
+    @Test
+    public void testWindows1252() throws IOException {
+        RecordingChapterListener chapters = parse("windows1252.cue", "Klavierstuecke.flac");
+        assertArrayEquals(new String[] {"F\u00FCr Elise", "Caf\u00E9 \u2013 Nocturne"}, chapters.getTitles());
+    }
+
+    @Test
+    public void testManyTracks() throws IOException {
+        RecordingChapterListener chapters = parse("many_tracks.cue", "Lectures.mp3");
+        assertEquals(3000, chapters.startMs.size());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i * 37000L, (long) chapters.startMs.get(i));
+            assertEquals("Part " + (i + 1), chapters.titles.get(i));
+        }
+    }
+
+    @Test
+    public void testReader() throws IOException {
+        RecordingChapterListener listener = new RecordingChapterListener();
+        String cue = "FILE a.wav WAVE\nTRACK 01 AUDIO\nINDEX 01 01:02:03\nTRACK 02 AUDIO\n";
+        assertEquals(1, CueSheetParser.parse(new StringReader(cue), "a.mp3", listener));
+        //Track 2 has no index
+        assertArrayEquals(new long[] {62040}, listener.getStartMs());
+    }
+
+    @Test
+    public void testParseTime() {
+        assertEquals(0, CueSheetParser.parseTime("00:00:00", 0));
+        assertEquals(1000, CueSheetParser.parseTime("0:01:00", 0));
+        assertEquals(6000000 + 986, CueSheetParser.parseTime("100:00:74", 0));
+        assertEquals(-1, CueSheetParser.parseTime("00:00:75", 0));
+        assertEquals(-1, CueSheetParser.parseTime("00:60:00", 0));
+        assertEquals(-1, CueSheetParser.parseTime("00:00", 0));
+        assertEquals(-1, CueSheetParser.parseTime("00::00", 0));
+        assertEquals(-1, CueSheetParser.parseTime("1:2:3:4", 0));
+        assertEquals(-1, CueSheetParser.parseTime("", 0));
+    }
+
+    @Test
+    public void testBaseName() {
+        assertEquals("Track", CueSheetParser.baseName("C:\\Rips\\Track.wav"));
+        assertEquals("02 Fugue", CueSheetParser.baseName("/sdcard/Music/02 Fugue.flac"));
+        assertEquals("noextension", CueSheetParser.baseName("noextension"));
+        assertEquals(".hidden", CueSheetParser.baseName(".hidden"));
+    }
+}
@@ -0,0 +1,30 @@
+package com.shawnpan.musicbookmarker.chapters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps every chapter received, for checking in tests
+ */
+class RecordingChapterListener implements ChapterListener {
+    final List<Long> startMs = new ArrayList<>();
+    final List<String> titles = new ArrayList<>();
+
+    @Override
+    public void onChapter(long startMs, String title) {
+        this.startMs.add(startMs);
+        titles.add(title);
+    }
+
+    long[] getStartMs() {
+        long[] result = new long[startMs.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = startMs.get(i);
+        }
+        return result;
+    }
+
+    String[] getTitles() {
+        return titles.toArray(new String[titles.size()]);
+    }
+}
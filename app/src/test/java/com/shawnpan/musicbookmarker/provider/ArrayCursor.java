@@ -0,0 +1,52 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.database.Cursor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Cursor over rows held in arrays, for reading code that takes a cursor without the Android runtime.
+ * Supports moving forwards and getting values by column index only.
+ */
+final class ArrayCursor implements InvocationHandler {
+    private final Object[][] rows;
+    private int position = -1;
+
+    private ArrayCursor(Object[][] rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * @param rows values of each row by column index, numbers for numeric columns
+     * @return cursor before the first row
+     */
+    static Cursor create(Object[]... rows) {
+        return (Cursor) Proxy.newProxyInstance(Cursor.class.getClassLoader(), new Class<?>[] {Cursor.class},
+                new ArrayCursor(rows));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getCount":
+                return rows.length;
+            case "moveToPosition":
+                position = (Integer) args[0];
+                return position >= 0 && position < rows.length;
+            case "moveToNext":
+                return ++position < rows.length;
+            case "isNull":
+                return rows[position][(Integer) args[0]] == null;
+            case "getLong":
+                return ((Number) rows[position][(Integer) args[0]]).longValue();
+            case "getInt":
+                return ((Number) rows[position][(Integer) args[0]]).intValue();
+            case "getString":
+                return rows[position][(Integer) args[0]];
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+}
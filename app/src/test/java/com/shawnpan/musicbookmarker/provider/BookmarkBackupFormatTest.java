@@ -0,0 +1,308 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BookmarkBackupFormatTest {
+    private static final int LARGE_BOOKMARK_COUNT = 100000;
+    private static final int BOOKMARKS_PER_TRACK = 20;
+    private static final long EXPORT_BUDGET_MS = 1000;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeMusic(42, 1500000000000L, 12.5, 1400000000L, false, "Moonlight Sonata", "Sonatas", "Beethoven", "Moonlight");
+        writer.writeMusic(17, null, 0, null, true, null, null, null, null);
+        writer.writeBookmark(42, 60000, "Adagio", 0xFFFF0000, false);
+        writer.writeBookmark(42, 30000, null, null, true);
+        writer.writeBookmark(7, 1000, "Adagio", 5, false);
+        writer.finish();
+        writer.close();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(BookmarkBackupWriter.VERSION, reader.getVersion());
+        assertEquals(BookmarkBackupReader.RECORD_MUSIC, reader.next());
+        assertEquals(42, reader.getMusicId());
+        assertEquals(Long.valueOf(1500000000000L), reader.getLastUsed());
+        assertEquals(12.5, reader.getFrecency(), 0);
+        assertEquals(Long.valueOf(1400000000L), reader.getDateModified());
+        assertFalse(reader.isMissing());
+        assertEquals("Moonlight Sonata", reader.getTitle());
+        assertEquals("Sonatas", reader.getAlbum());
+        assertEquals("Beethoven", reader.getArtist());
+        assertEquals("Moonlight", reader.getDisplayName());
+
+        //Ids going down are negative deltas
+        assertEquals(BookmarkBackupReader.RECORD_MUSIC, reader.next());
+        assertEquals(17, reader.getMusicId());
+        assertNull(reader.getLastUsed());
+        assertNull(reader.getDateModified());
+        assertTrue(reader.isMissing());
+        assertNull(reader.getTitle());
+        assertNull(reader.getDisplayName());
+
+        assertEquals(BookmarkBackupReader.RECORD_BOOKMARK, reader.next());
+        assertEquals(42, reader.getBookmarkMusicId());
+        assertEquals(60000, reader.getPosition());
+        assertEquals("Adagio", reader.getLabel());
+        assertEquals(Integer.valueOf(0xFFFF0000), reader.getColor());
+        assertFalse(reader.isOrphaned());
+
+        //Same track, position relative to the previous bookmark
+        assertEquals(BookmarkBackupReader.RECORD_BOOKMARK, reader.next());
+        assertEquals(42, reader.getBookmarkMusicId());
+        assertEquals(30000, reader.getPosition());
+        assertNull(reader.getLabel());
+        assertNull(reader.getColor());
+        assertTrue(reader.isOrphaned());
+
+        //Label read back from the string table
+        assertEquals(BookmarkBackupReader.RECORD_BOOKMARK, reader.next());
+        assertEquals(7, reader.getBookmarkMusicId());
+        assertEquals(1000, reader.getPosition());
+        assertEquals("Adagio", reader.getLabel());
+        assertEquals(Integer.valueOf(5), reader.getColor());
+
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testUnicodeAndLongStrings() throws IOException {
+        char[] longLabel = new char[10000];
+        Arrays.fill(longLabel, '\u266B');
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeBookmark(1, 0, "Fr\u00FChlingsnacht \uD83C\uDFB5", null, false);
+        writer.writeBookmark(1, 5, new String(longLabel), null, false);
+        writer.writeBookmark(1, 10, "", null, false);
+        writer.finish();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        reader.next();
+        assertEquals("Fr\u00FChlingsnacht \uD83C\uDFB5", reader.getLabel());
+        reader.next();
+        assertEquals(new String(longLabel), reader.getLabel());
+        reader.next();
+        assertEquals("", reader.getLabel());
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+    }
+
+    @Test
+    public void testStringLengthLimit() throws IOException {
+        //Three bytes per character in UTF-8
+        char[] label = new char[BookmarkBackupWriter.MAX_STRING_BYTES / 3];
+        Arrays.fill(label, '\u266B');
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeBookmark(1, 0, new String(label), null, false);
+        writer.finish();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        reader.next();
+        assertEquals(new String(label), reader.getLabel());
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+
+        writer = new BookmarkBackupWriter(new ByteArrayOutputStream());
+        try {
+            writer.writeBookmark(1, 0, new String(label) + "\u266B", null, false);
+            fail("Wrote a string the reader rejects");
+        } catch (IOException e) {
+            //Expected
+        }
+    }
+
+    @Test
+    public void testDisplayNameSameAsTitle() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeMusic(1, null, 0, null, false, "Clair de Lune", "Suite", "Debussy", "Clair de Lune");
+        writer.writeMusic(2, null, 0, null, false, "Clair de Lune", "Suite", "Debussy", null);
+        writer.finish();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        reader.next();
+        assertEquals("Clair de Lune", reader.getDisplayName());
+        reader.next();
+        assertEquals("Clair de Lune", reader.getTitle());
+        assertEquals("Debussy", reader.getArtist());
+        assertNull(reader.getDisplayName());
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+    }
+
+    @Test
+    public void testStringTableOverflow() throws IOException {
+        int labelCount = BookmarkBackupWriter.MAX_STRING_TABLE_SIZE * 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        //Every label twice, once while the table has room and again once it is full
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < labelCount; i++) {
+                writer.writeBookmark(i, i, "label " + i, null, false);
+            }
+        }
+        writer.finish();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < labelCount; i++) {
+                assertEquals(BookmarkBackupReader.RECORD_BOOKMARK, reader.next());
+                assertEquals(i, reader.getBookmarkMusicId());
+                assertEquals(i, reader.getPosition());
+                assertEquals("label " + i, reader.getLabel());
+            }
+        }
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+    }
+
+    @Test
+    public void testExtremeValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeMusic(Long.MAX_VALUE, Long.MIN_VALUE, -Double.MAX_VALUE, -1L, false, null, null, null, null);
+        writer.writeMusic(Long.MIN_VALUE, 0L, Double.NaN, 0L, false, null, null, null, null);
+        writer.writeBookmark(-1, Long.MAX_VALUE, null, -1, false);
+        writer.writeBookmark(-1, Long.MIN_VALUE, null, Integer.MIN_VALUE, false);
+        writer.finish();
+
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(out.toByteArray()));
+        reader.next();
+        assertEquals(Long.MAX_VALUE, reader.getMusicId());
+        assertEquals(Long.valueOf(Long.MIN_VALUE), reader.getLastUsed());
+        assertEquals(-Double.MAX_VALUE, reader.getFrecency(), 0);
+        assertEquals(Long.valueOf(-1), reader.getDateModified());
+        reader.next();
+        assertEquals(Long.MIN_VALUE, reader.getMusicId());
+        assertTrue(Double.isNaN(reader.getFrecency()));
+        reader.next();
+        assertEquals(-1, reader.getBookmarkMusicId());
+        assertEquals(Long.MAX_VALUE, reader.getPosition());
+        assertEquals(Integer.valueOf(-1), reader.getColor());
+        reader.next();
+        assertEquals(Long.MIN_VALUE, reader.getPosition());
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), reader.getColor());
+        assertEquals(BookmarkBackupReader.RECORD_END, reader.next());
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        try {
+            new BookmarkBackupReader(new ByteArrayInputStream("ID3\u0004 not a backup".getBytes("UTF-8")));
+            fail("Accepted a file without the magic bytes");
+        } catch (IOException expected) {
+            //Expected
+        }
+        try {
+            new BookmarkBackupReader(new ByteArrayInputStream(new byte[] {'M', 'B', 'K', 'B', 99}));
+            fail("Accepted a newer version");
+        } catch (IOException expected) {
+            //Expected
+        }
+    }
+
+    @Test
+    public void testRejectsTruncatedBackup() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.writeMusic(1, 2L, 3, 4L, false, "title", "album", "artist", "name");
+        writer.writeBookmark(1, 1000, "label", null, false);
+        writer.finish();
+        byte[] backup = out.toByteArray();
+
+        //Every cut short of the end tag must fail rather than look like a complete backup
+        for (int length = 0; length < backup.length; length++) {
+            try {
+                BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(backup, 0, length));
+                while (reader.next() != BookmarkBackupReader.RECORD_END) {
+                    //Read until the end or an error
+                }
+                fail("Accepted backup cut to " + length + " of " + backup.length + " bytes");
+            } catch (EOFException expected) {
+                //Expected
+            }
+        }
+    }
+
+    @Test
+    public void testRejectsCorruptRecords() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        writer.finish();
+        byte[] backup = out.toByteArray();
+        //Replace the end tag with an unknown record type
+        backup[backup.length - 1] = 9;
+        BookmarkBackupReader reader = new BookmarkBackupReader(new ByteArrayInputStream(backup));
+        try {
+            reader.next();
+            fail("Accepted an unknown record type");
+        } catch (IOException expected) {
+            //Expected
+        }
+
+        //A string reference past the end of the table
+        backup = new byte[] {'M', 'B', 'K', 'B', 1, BookmarkBackupWriter.TAG_BOOKMARK, 2, 0, 0, 40};
+        reader = new BookmarkBackupReader(new ByteArrayInputStream(backup));
+        try {
+            reader.next();
+            fail("Accepted an invalid string reference");
+        } catch (IOException expected) {
+            //Expected
+        }
+    }
+
+    @Test
+    public void testLargeExport() throws IOException {
+        String[] labels = new String[] {"intro", "verse", "chorus", "bridge", "solo", "outro"};
+        CountingOutputStream out = new CountingOutputStream();
+        long start = System.nanoTime();
+        BookmarkBackupWriter writer = new BookmarkBackupWriter(out);
+        int trackCount = LARGE_BOOKMARK_COUNT / BOOKMARKS_PER_TRACK;
+        for (int track = 0; track < trackCount; track++) {
+            writer.writeMusic(1000 + track * 3, 1500000000000L + track, track * 0.01, 1400000000L + track, false,
+                    "Title " + track, "Album " + track / 12, "Artist " + track / 100, "Title " + track);
+        }
+        for (int track = 0; track < trackCount; track++) {
+            for (int i = 0; i < BOOKMARKS_PER_TRACK; i++) {
+                writer.writeBookmark(1000 + track * 3, i * 15000 + track % 1000, labels[i % labels.length], null, false);
+            }
+        }
+        writer.finish();
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        System.out.println("Wrote " + LARGE_BOOKMARK_COUNT + " bookmarks in " + elapsedMs + "ms, " +
+                out.count / 1024 + "KB");
+        assertTrue("Export took " + elapsedMs + "ms", elapsedMs < EXPORT_BUDGET_MS);
+        //Deltas and the string table keep a bookmark to a few bytes
+        assertTrue("Bookmarks took " + out.count + " bytes", out.count < LARGE_BOOKMARK_COUNT * 8 + trackCount * 64);
+    }
+
+    /**
+     * Discards output, keeping only the size, so the timing does not include growing a buffer
+     */
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import android.database.Cursor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BookmarkIndexTest {
+    private static final long MUSIC_ID = 7;
+    private static final long OTHER_MUSIC_ID = 8;
+
+    private BookmarkIndex index;
+
+    @Before
+    public void setUp() {
+        //Two bookmarks share a position
+        index = BookmarkIndex.fromCursor(MUSIC_ID, ArrayCursor.create(
+                row(1, MUSIC_ID, 1000),
+                row(2, MUSIC_ID, 5000),
+                row(3, MUSIC_ID, 5000),
+                row(4, MUSIC_ID, 9000)));
+    }
+
+    @Test
+    public void testNextIndex() {
+        assertEquals(0, index.nextIndex(0));
+        assertEquals(1, index.nextIndex(1000));
+        //A bookmark at the time itself is skipped, along with any others at the same position
+        assertEquals(3, index.nextIndex(5000));
+        assertEquals(1, index.nextIndex(4999));
+        assertEquals(-1, index.nextIndex(9000));
+    }
+
+    @Test
+    public void testPreviousIndex() {
+        assertEquals(-1, index.previousIndex(1000));
+        assertEquals(0, index.previousIndex(5000));
+        assertEquals(2, index.previousIndex(5001));
+        assertEquals(3, index.previousIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPutAfterEqualPositions() {
+        index.put(bookmark(5, MUSIC_ID, 5000));
+        assertEquals(5, index.size());
+        assertEquals(2, index.getId(1));
+        assertEquals(3, index.getId(2));
+        assertEquals(5, index.getId(3));
+    }
+
+    @Test
+    public void testPutMovesWithinTrack() {
+        index.put(bookmark(1, MUSIC_ID, 7000));
+        assertEquals(4, index.size());
+        assertEquals(2, index.getId(0));
+        assertEquals(1, index.getId(2));
+        assertEquals(7000, index.getPosition(2));
+    }
+
+    @Test
+    public void testPutMovesToOtherTrack() {
+        index.put(bookmark(3, OTHER_MUSIC_ID, 5000));
+        assertEquals(3, index.size());
+        for (int i = 0; i < index.size(); i++) {
+            assertTrue(index.getId(i) != 3);
+        }
+        assertEquals(4, index.getId(index.nextIndex(5000)));
+        //Bookmarks of other tracks are not added
+        index.put(bookmark(6, OTHER_MUSIC_ID, 2000));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testRemove() {
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertEquals(3, index.size());
+        assertEquals(3, index.getId(1));
+    }
+
+    @Test
+    public void testAppendPageGrows() {
+        BookmarkIndex pagedIndex = new BookmarkIndex(MUSIC_ID);
+        int count = 100;
+        for (int page = 0; page < 4; page++) {
+            Object[][] rows = new Object[count][];
+            for (int i = 0; i < count; i++) {
+                long id = page * count + i;
+                rows[i] = row(id, MUSIC_ID, id * 1000);
+            }
+            assertEquals(count, pagedIndex.appendPage(ArrayCursor.create(rows)));
+        }
+        assertEquals(4 * count, pagedIndex.size());
+        assertEquals(250, pagedIndex.nextIndex(249500));
+    }
+
+    private static Object[] row(long id, long musicId, long position) {
+        return new Object[] {id, musicId, position, null, 0, 0};
+    }
+
+    private static Bookmark bookmark(long id, long musicId, long position) {
+        Cursor cursor = ArrayCursor.create(row(id, musicId, position));
+        cursor.moveToNext();
+        return Bookmark.fromCursor(cursor);
+    }
+}
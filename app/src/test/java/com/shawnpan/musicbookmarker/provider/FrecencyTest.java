@@ -0,0 +1,56 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FrecencyTest {
+    private static final double DELTA = 1e-9;
+    //A recent time, so that scores are large as in use
+    private static final long NOW = 1500000000000L;
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+
+    @Test
+    public void testHalfLife() {
+        //A use one half life later weighs twice as much
+        double difference = Frecency.ofUse(NOW + Frecency.HALF_LIFE_MS) - Frecency.ofUse(NOW);
+        assertEquals(Math.log(2), difference, DELTA);
+    }
+
+    @Test
+    public void testTwoUsesAtOnce() {
+        //Two uses at the same time weigh the same as one use a half life later
+        assertEquals(Frecency.ofUse(NOW + Frecency.HALF_LIFE_MS), Frecency.addUse(Frecency.ofUse(NOW), NOW), DELTA);
+    }
+
+    @Test
+    public void testMergeIsSymmetric() {
+        double old = Frecency.ofUse(NOW - 30 * DAY_MS);
+        double recent = Frecency.ofUse(NOW);
+        assertEquals(Frecency.merge(old, recent), Frecency.merge(recent, old), DELTA);
+        assertEquals(Frecency.addUse(old, NOW), Frecency.merge(old, recent), DELTA);
+        //Merging never lowers a score
+        assertTrue(Frecency.merge(old, recent) > recent);
+    }
+
+    @Test
+    public void testMergeFarApartScores() {
+        //Weights far too large for a double are still combined
+        double recent = Frecency.ofUse(NOW);
+        double ancient = Frecency.ofUse(0);
+        assertFalse(Double.isInfinite(Frecency.merge(recent, ancient)));
+        assertEquals(recent, Frecency.merge(recent, ancient), DELTA);
+    }
+
+    @Test
+    public void testFrequentBeatsSingleRecentUse() {
+        //Daily use over the last week outweighs a single use today
+        double frequent = Frecency.ofUse(NOW - 7 * DAY_MS);
+        for (int day = 6; day >= 1; day--) {
+            frequent = Frecency.addUse(frequent, NOW - day * DAY_MS);
+        }
+        assertTrue(frequent > Frecency.ofUse(NOW));
+    }
+}
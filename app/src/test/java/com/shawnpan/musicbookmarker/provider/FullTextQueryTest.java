@@ -0,0 +1,69 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FullTextQueryTest {
+
+    @Test
+    public void testFromKeyword() {
+        assertEquals("moon* sona*", FullTextQuery.fromKeyword("Moon Sona"));
+        assertEquals("op* 10*", FullTextQuery.fromKeyword("  Op. 10!"));
+        assertNull(FullTextQuery.fromKeyword(null));
+        assertNull(FullTextQuery.fromKeyword(""));
+    }
+
+    @Test
+    public void testTokenize() {
+        assertArrayEquals(new String[] {"moon", "sona"}, FullTextQuery.tokenize("Moon Sona"));
+        assertArrayEquals(new String[] {"don", "t", "stop"}, FullTextQuery.tokenize("Don't-stop"));
+        assertArrayEquals(new String[] {"love", "love"}, FullTextQuery.tokenize("love love"));
+        assertArrayEquals(new String[0], FullTextQuery.tokenize(null));
+    }
+
+    @Test
+    public void testPunctuationOnlyKeyword() {
+        assertNull(FullTextQuery.fromKeyword("...?! -"));
+        assertArrayEquals(new String[0], FullTextQuery.tokenize("...?! -"));
+    }
+
+    @Test
+    public void testNonAsciiTokens() {
+        //Non-ASCII characters are part of tokens and keep their case, as in the simple tokenizer
+        assertArrayEquals(new String[] {"caf\u00C9", "m\u00FCller"}, FullTextQuery.tokenize("CAF\u00C9 M\u00FCller"));
+        assertArrayEquals(new String[] {"\u5149\u306E"}, FullTextQuery.tokenize("\u5149\u306E"));
+    }
+
+    @Test
+    public void testMatchesPrefix() {
+        assertTrue(FullTextQuery.matchesPrefix("Moonlight Sonata", "moon"));
+        assertTrue(FullTextQuery.matchesPrefix("Moonlight Sonata", "sona"));
+        assertTrue(FullTextQuery.matchesPrefix("Etude Op. 10", "10"));
+        assertTrue(FullTextQuery.matchesPrefix("Don't Stop", "t"));
+        //Only the start of a word matches
+        assertFalse(FullTextQuery.matchesPrefix("Moonlight Sonata", "light"));
+        assertFalse(FullTextQuery.matchesPrefix(null, "moon"));
+    }
+
+    @Test
+    public void testMatchesPrefixLongerThanWord() {
+        assertFalse(FullTextQuery.matchesPrefix("Moon Sonata", "moonso"));
+        assertFalse(FullTextQuery.matchesPrefix("Moon", "moonlight"));
+        assertTrue(FullTextQuery.matchesPrefix("Moon", "moon"));
+    }
+
+    @Test
+    public void testMatchesPrefixNonAscii() {
+        assertTrue(FullTextQuery.matchesPrefix("Caf\u00E9 M\u00FCller", "m\u00FCl"));
+        assertTrue(FullTextQuery.matchesPrefix("CAF\u00C9", "caf\u00C9"));
+        //Non-ASCII case is not folded
+        assertFalse(FullTextQuery.matchesPrefix("CAF\u00C9", "caf\u00E9"));
+        //A non-ASCII character joins the words around it
+        assertFalse(FullTextQuery.matchesPrefix("Caf\u00E9bar", "bar"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongHashSetTest {
+
+    @Test
+    public void testZero() {
+        LongHashSet set = new LongHashSet(4);
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertFalse(set.contains(1));
+        set.clear();
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    public void testNegativeAndExtremeValues() {
+        LongHashSet set = new LongHashSet(4);
+        long[] values = new long[] {-1, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 32, 1};
+        for (long value : values) {
+            assertTrue(set.add(value));
+        }
+        for (long value : values) {
+            assertTrue(set.contains(value));
+            assertFalse(set.add(value));
+        }
+        assertFalse(set.contains(2));
+    }
+
+    @Test
+    public void testGrowth() {
+        //Far beyond the expected size, so the table grows several times
+        int count = 10000;
+        LongHashSet set = new LongHashSet(1);
+        for (long value = 0; value < count; value++) {
+            assertTrue(set.add(value * 1024));
+        }
+        for (long value = 0; value < count; value++) {
+            assertTrue(set.contains(value * 1024));
+            assertFalse(set.contains(value * 1024 + 1));
+            assertFalse(set.add(value * 1024));
+        }
+    }
+
+    @Test
+    public void testClearKeepsWorking() {
+        LongHashSet set = new LongHashSet(2);
+        for (long value = 1; value <= 100; value++) {
+            set.add(value);
+        }
+        set.clear();
+        for (long value = 1; value <= 100; value++) {
+            assertFalse(set.contains(value));
+        }
+        assertTrue(set.add(50));
+        assertTrue(set.contains(50));
+        assertFalse(set.contains(51));
+    }
+}
@@ -0,0 +1,97 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SuggestionRefinementCacheTest {
+    private SuggestionRefinementCache cache;
+    private SuggestionRows loveRows;
+
+    @Before
+    public void setUp() {
+        cache = new SuggestionRefinementCache();
+        loveRows = new SuggestionRows(4);
+        loveRows.add(1, "All You Need Is Love", "Magical Mystery Tour", "The Beatles", "all_you_need", false);
+        loveRows.add(2, "Lovely Day", "Menagerie", "Bill Withers", "lovely_day", true);
+        loveRows.add(3, "Love Love Love", "All Eternals Deck", "The Mountain Goats", "love_love_love", false);
+        loveRows.add(4, "Song", "Lovesongs", "X", "song", false);
+    }
+
+    @Test
+    public void testRefine() {
+        cache.put("lo", loveRows, true);
+        assertIds(cache.lookup("love"), 1, 2, 3, 4);
+        assertIds(cache.lookup("lovel"), 2);
+        //More tokens narrow the results, in any field
+        assertIds(cache.lookup("love the"), 1, 3);
+        assertIds(cache.lookup("love the mou"), 3);
+        assertIds(cache.lookup("lovez"));
+    }
+
+    @Test
+    public void testRefineKeepsRowValues() {
+        cache.put("lo", loveRows, true);
+        SuggestionRows rows = cache.lookup("lovel");
+        assertArrayEquals(new String[] {"Lovely Day", "Menagerie", "Bill Withers", "lovely_day"},
+                new String[] {rows.getTitle(0), rows.getAlbum(0), rows.getArtist(0), rows.getDisplayName(0)});
+        assertTrue(rows.isRecent(0));
+    }
+
+    @Test
+    public void testIncompleteLevelIsNotRefined() {
+        cache.put("lo", loveRows, false);
+        assertSame(loveRows, cache.lookup("lo"));
+        assertNull(cache.lookup("love"));
+    }
+
+    @Test
+    public void testBackspace() {
+        cache.put("lo", loveRows, true);
+        SuggestionRows loveLevel = cache.lookup("love");
+        SuggestionRows lovelLevel = cache.lookup("lovel");
+        //Backspacing returns the same levels without filtering again
+        assertSame(loveLevel, cache.lookup("love"));
+        assertSame(loveRows, cache.lookup("lo"));
+        //Punctuation and case do not change the tokens
+        assertSame(loveRows, cache.lookup("LO!"));
+        //Typing forward again refines anew, as the longer levels were dropped
+        SuggestionRows refined = cache.lookup("lovel");
+        assertIds(refined, 2);
+        assertNotSame(lovelLevel, refined);
+    }
+
+    @Test
+    public void testUnrelatedKeyword() {
+        cache.put("lo", loveRows, true);
+        assertNull(cache.lookup("so"));
+        assertNull(cache.lookup("l"));
+        //A new search drops the levels of the old one
+        SuggestionRows songRows = new SuggestionRows(1);
+        songRows.add(4, "Song", "Lovesongs", "X", "song", false);
+        cache.put("so", songRows, true);
+        assertNull(cache.lookup("lov"));
+        assertSame(songRows, cache.lookup("so"));
+    }
+
+    @Test
+    public void testClear() {
+        cache.put("lo", loveRows, true);
+        cache.clear();
+        assertNull(cache.lookup("lo"));
+        assertNull(cache.lookup("love"));
+    }
+
+    private static void assertIds(SuggestionRows rows, long... ids) {
+        long[] rowIds = new long[rows.getCount()];
+        for (int i = 0; i < rowIds.length; i++) {
+            rowIds[i] = rows.getId(i);
+        }
+        assertArrayEquals(ids, rowIds);
+    }
+}
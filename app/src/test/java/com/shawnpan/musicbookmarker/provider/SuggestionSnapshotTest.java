@@ -0,0 +1,83 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Word prefix matching of the MediaStore snapshot of {@link SuggestionIndex}
+ */
+public class SuggestionSnapshotTest {
+    //Id, title, album, and artist of each track, in title order
+    private static final Object[][] TRACKS = new Object[][] {
+            {1L, "All You Need Is Love", "Magical Mystery Tour", "The Beatles"},
+            {2L, "Caf\u00E9 M\u00FCller", "Tanztheater", null},
+            {3L, "Don't Stop", "Rumours", "Fleetwood Mac"},
+            {4L, "Glove", "Lovesongs", "X"},
+            {5L, "Lovely Day", "Menagerie", "Bill Withers"},
+            {6L, "Love Love Love", "...", "The Mountain Goats"},
+            {7L, "\u5149\u306E\u4E2D\u3067", "", "Artist"}
+    };
+
+    private SuggestionIndex.Snapshot snapshot;
+
+    @Before
+    public void setUp() {
+        snapshot = SuggestionIndex.Snapshot.build(ArrayCursor.create(TRACKS));
+        assertNotNull(snapshot);
+    }
+
+    @Test
+    public void testWordPrefix() {
+        assertMatches("love", 1, 4, 5, 6);
+        assertMatches("lov bea", 1);
+        assertMatches("beatles love", 1);
+        //Only the start of a word matches
+        assertMatches("ove");
+        assertMatches("zz");
+    }
+
+    @Test
+    public void testNonAscii() {
+        assertMatches("caf\u00E9", 2);
+        assertMatches("m\u00FCl", 2);
+        assertMatches("\u5149", 7);
+        //Non-ASCII case is not folded
+        assertMatches("CAF\u00C9");
+    }
+
+    @Test
+    public void testPunctuationOnlyKeyword() {
+        //No tokens match every track
+        assertMatches("...", 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    public void testRepeatedTokens() {
+        assertMatches("love love", 1, 4, 5, 6);
+        assertMatches("don't t", 3);
+    }
+
+    @Test
+    public void testTokenLongerThanWord() {
+        assertMatches("lovelove");
+        assertMatches("stopped");
+        assertMatches("lovely", 5);
+    }
+
+    private void assertMatches(String keyword, long... ids) {
+        long[] matched = snapshot.match(FullTextQuery.tokenize(keyword));
+        long[] matchedIds = new long[snapshot.size];
+        int count = 0;
+        for (int entry = 0; entry < snapshot.size; entry++) {
+            if ((matched[entry >>> 6] & (1L << entry)) != 0) {
+                matchedIds[count++] = snapshot.ids[entry];
+            }
+        }
+        long[] result = new long[count];
+        System.arraycopy(matchedIds, 0, result, 0, count);
+        assertArrayEquals(keyword, ids, result);
+    }
+}
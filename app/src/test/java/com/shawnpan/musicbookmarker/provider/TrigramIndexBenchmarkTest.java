@@ -0,0 +1,147 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Query latency of {@link TrigramIndex} over a synthetic library of 50k tracks, checked against
+ * the 20ms budget for a suggestion query.
+ */
+public class TrigramIndexBenchmarkTest {
+    private static final int TRACK_COUNT = 50000;
+    private static final int BOOKMARK_LABEL_COUNT = 10000;
+    private static final int VOCABULARY_SIZE = 20000;
+    private static final int QUERIES_PER_KIND = 200;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int LIMIT = 50;
+    private static final long BUDGET_NANOS = 20 * 1000 * 1000;
+
+    private static final String[] SYLLABLES = new String[] {
+            "ka", "lo", "mi", "ne", "ru", "sa", "ti", "vo", "ze", "an", "bel", "cor", "dan", "fel", "gor",
+            "hin", "jas", "ler", "mon", "nat", "pra", "qui", "ros", "son", "tre", "ul", "ven", "wil", "xa", "yor"
+    };
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void testQueryLatency() {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = randomWord();
+        }
+        String[] titles = new String[TRACK_COUNT];
+        TrigramIndex.Builder builder = new TrigramIndex.Builder(TRACK_COUNT);
+        for (int track = 0; track < TRACK_COUNT; track++) {
+            titles[track] = randomText(vocabulary, 1 + random.nextInt(5));
+            builder.add(track, titles[track]);
+            //Albums and artists are shared between tracks
+            builder.add(track, "Album " + (track / 12) + " " + vocabulary[(track / 12) % vocabulary.length]);
+            builder.add(track, vocabulary[(track / 100 * 7) % vocabulary.length] + " Artist");
+        }
+        for (int i = 0; i < BOOKMARK_LABEL_COUNT; i++) {
+            builder.add(random.nextInt(TRACK_COUNT), randomText(vocabulary, 1 + random.nextInt(3)));
+        }
+        long buildStart = System.nanoTime();
+        TrigramIndex index = builder.build();
+        System.out.println("Built index of " + index.getWordCount() + " words in " +
+                (System.nanoTime() - buildStart) / 1000000 + "ms, " + index.getFootprintBytes() / 1024 + "KB");
+
+        String[][] queries = new String[][] {
+                prefixQueries(titles, 1),
+                prefixQueries(titles, 3),
+                wordQueries(titles, false),
+                wordQueries(titles, true),
+                twoWordQueries(titles)
+        };
+        String[] kinds = new String[] {"1 char prefix", "3 char prefix", "word", "word with typo", "two words"};
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            for (String[] kindQueries : queries) {
+                for (String query : kindQueries) {
+                    index.query(query, LIMIT);
+                }
+            }
+        }
+
+        long worstP95 = 0;
+        for (int kind = 0; kind < queries.length; kind++) {
+            long[] latencies = new long[queries[kind].length];
+            for (int i = 0; i < latencies.length; i++) {
+                long start = System.nanoTime();
+                index.query(queries[kind][i], LIMIT);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            long p50 = latencies[latencies.length / 2];
+            long p95 = latencies[latencies.length * 95 / 100];
+            worstP95 = Math.max(worstP95, p95);
+            System.out.println(kinds[kind] + ": p50 " + p50 / 1000 + "us, p95 " + p95 / 1000 + "us, max " +
+                    latencies[latencies.length - 1] / 1000 + "us");
+        }
+        assertTrue("p95 latency " + worstP95 / 1000 + "us over budget", worstP95 < BUDGET_NANOS);
+    }
+
+    private String randomWord() {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private String randomText(String[] vocabulary, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            String word = vocabulary[random.nextInt(vocabulary.length)];
+            text.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+        return text.toString();
+    }
+
+    private String randomTitleWord(String[] titles) {
+        String[] words = titles[random.nextInt(titles.length)].split(" ");
+        return words[random.nextInt(words.length)];
+    }
+
+    private String[] prefixQueries(String[] titles, int length) {
+        String[] queries = new String[QUERIES_PER_KIND];
+        for (int i = 0; i < queries.length; i++) {
+            String word = randomTitleWord(titles);
+            queries[i] = word.substring(0, Math.min(length, word.length()));
+        }
+        return queries;
+    }
+
+    private String[] wordQueries(String[] titles, boolean typo) {
+        String[] queries = new String[QUERIES_PER_KIND];
+        for (int i = 0; i < queries.length; i++) {
+            String word = randomTitleWord(titles);
+            if (typo) {
+                char[] chars = word.toCharArray();
+                chars[1 + random.nextInt(chars.length - 1)] = (char) ('a' + random.nextInt(26));
+                word = new String(chars);
+            }
+            queries[i] = word;
+        }
+        return queries;
+    }
+
+    private String[] twoWordQueries(String[] titles) {
+        String[] queries = new String[QUERIES_PER_KIND];
+        for (int i = 0; i < queries.length; i++) {
+            String title = titles[random.nextInt(titles.length)];
+            String[] words = title.split(" ");
+            String second = words[words.length - 1];
+            queries[i] = words[0] + " " + second.substring(0, Math.min(3, second.length()));
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,123 @@
+package com.shawnpan.musicbookmarker.provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TrigramIndexTest {
+    private static final int LIMIT = 10;
+
+    private TrigramIndex index;
+
+    @Before
+    public void setUp() {
+        index = new TrigramIndex.Builder(5)
+                .add(0, "Moonlight Sonata")
+                .add(0, "Beethoven")
+                .add(1, "Clair de Lune")
+                .add(1, "Debussy")
+                .add(2, "Gymnopedie No. 1")
+                .add(2, "Satie")
+                .add(3, "Sonatine")
+                .add(3, "Ravel")
+                .add(4, "Etude Op. 10")
+                .add(4, "Chopin")
+                //Bookmark label added after other documents
+                .add(1, "tricky arpeggios")
+                .build();
+    }
+
+    @Test
+    public void testPrefix() {
+        assertArrayEquals(new int[] {0}, index.query("moon", LIMIT));
+        assertArrayEquals(new int[] {0, 3}, index.query("sona", LIMIT));
+    }
+
+    @Test
+    public void testWordInMiddleOfTitle() {
+        assertArrayEquals(new int[] {1}, index.query("lune", LIMIT));
+        //"sonati" is one edit from "sonata", but the exact match comes first
+        assertArrayEquals(new int[] {0, 3}, index.query("sonata", LIMIT));
+    }
+
+    @Test
+    public void testOneTypo() {
+        assertArrayEquals(new int[] {0}, index.query("moonlihgt", LIMIT));
+        assertArrayEquals(new int[] {2}, index.query("gymnopedia", LIMIT));
+        assertArrayEquals(new int[] {1}, index.query("debusy", LIMIT));
+    }
+
+    @Test
+    public void testTwoTyposInLongToken() {
+        assertArrayEquals(new int[] {0}, index.query("beetoven", LIMIT));
+        assertArrayEquals(new int[] {0}, index.query("bethovan", LIMIT));
+    }
+
+    @Test
+    public void testShortTokensMustMatchExactly() {
+        assertArrayEquals(new int[] {4}, index.query("op", LIMIT));
+        assertArrayEquals(new int[0], index.query("oq", LIMIT));
+    }
+
+    @Test
+    public void testEveryTokenMustMatch() {
+        assertArrayEquals(new int[] {0}, index.query("sonata beethoven", LIMIT));
+        assertArrayEquals(new int[0], index.query("sonata debussy", LIMIT));
+    }
+
+    @Test
+    public void testExactMatchesRankFirst() {
+        //"sonatine" is one edit from "sonatina", "sonata" is two edits from a prefix
+        assertArrayEquals(new int[] {3, 0}, index.query("sonatina", LIMIT));
+    }
+
+    @Test
+    public void testBookmarkLabel() {
+        assertArrayEquals(new int[] {1}, index.query("arpegios", LIMIT));
+    }
+
+    @Test
+    public void testCaseAndPunctuation() {
+        assertArrayEquals(new int[] {4}, index.query("ETUDE, op.", LIMIT));
+    }
+
+    @Test
+    public void testLimit() {
+        assertArrayEquals(new int[] {0}, index.query("sona", 1));
+    }
+
+    @Test
+    public void testEmptyQuery() {
+        assertArrayEquals(new int[0], index.query("", LIMIT));
+        assertArrayEquals(new int[0], index.query("...", LIMIT));
+    }
+
+    @Test
+    public void testRepeatedQueriesReuseCounters() {
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(new int[] {0}, index.query("sonata beethoven", LIMIT));
+            assertArrayEquals(new int[0], index.query("sonata debussy", LIMIT));
+        }
+    }
+
+    @Test
+    public void testDuplicateWordsInDocument() {
+        TrigramIndex duplicates = new TrigramIndex.Builder(2)
+                .add(1, "Rondo Rondo")
+                .add(0, "Rondo")
+                .add(1, "rondo")
+                .build();
+        assertEquals(1, duplicates.getWordCount());
+        assertArrayEquals(new int[] {0, 1}, duplicates.query("rondo", LIMIT));
+    }
+
+    @Test
+    public void testMaxEdits() {
+        assertEquals(0, TrigramIndex.maxEdits(3));
+        assertEquals(1, TrigramIndex.maxEdits(4));
+        assertEquals(1, TrigramIndex.maxEdits(6));
+        assertEquals(2, TrigramIndex.maxEdits(7));
+    }
+}
@@ -0,0 +1,19 @@
+REM GENRE Classical
+REM DATE 1998
+PERFORMER "Glenn Gould"
+TITLE "Goldberg Variations"
+FILE "Goldberg Variations.wav" WAVE
+  TRACK 01 AUDIO
+    TITLE "Aria"
+    PERFORMER "Glenn Gould"
+    INDEX 01 00:00:00
+  TRACK 02 AUDIO
+    TITLE "Variatio 1. a 1 Clav."
+    INDEX 00 03:04:70
+    INDEX 01 03:05:00
+  TRACK 03 AUDIO
+    TITLE "Variatio 2. a 1 Clav."
+    INDEX 01 04:50:37
+  TRACK 04 AUDIO
+    TITLE "Variatio 3. Canone all'Unisuono"
+    INDEX 01 06:02:74
@@ -0,0 +1,9002 @@
+TITLE "Lecture series"
+FILE "Lectures.mp3" MP3
+  TRACK 01 AUDIO
+    TITLE "Part 1"
+    INDEX 01 00:00:00
+  TRACK 02 AUDIO
+    TITLE "Part 2"
+    INDEX 01 00:37:00
+  TRACK 03 AUDIO
+    TITLE "Part 3"
+    INDEX 01 01:14:00
+  TRACK 04 AUDIO
+    TITLE "Part 4"
+    INDEX 01 01:51:00
+  TRACK 05 AUDIO
+    TITLE "Part 5"
+    INDEX 01 02:28:00
+  TRACK 06 AUDIO
+    TITLE "Part 6"
+    INDEX 01 03:05:00
+  TRACK 07 AUDIO
+    TITLE "Part 7"
+    INDEX 01 03:42:00
+  TRACK 08 AUDIO
+    TITLE "Part 8"
+    INDEX 01 04:19:00
+  TRACK 09 AUDIO
+    TITLE "Part 9"
+    INDEX 01 04:56:00
+  TRACK 10 AUDIO
+    TITLE "Part 10"
+    INDEX 01 05:33:00
+  TRACK 11 AUDIO
+    TITLE "Part 11"
+    INDEX 01 06:10:00
+  TRACK 12 AUDIO
+    TITLE "Part 12"
+    INDEX 01 06:47:00
+  TRACK 13 AUDIO
+    TITLE "Part 13"
+    INDEX 01 07:24:00
+  TRACK 14 AUDIO
+    TITLE "Part 14"
+    INDEX 01 08:01:00
+  TRACK 15 AUDIO
+    TITLE "Part 15"
+    INDEX 01 08:38:00
+  TRACK 16 AUDIO
+    TITLE "Part 16"
+    INDEX 01 09:15:00
+  TRACK 17 AUDIO
+    TITLE "Part 17"
+    INDEX 01 09:52:00
+  TRACK 18 AUDIO
+    TITLE "Part 18"
+    INDEX 01 10:29:00
+  TRACK 19 AUDIO
+    TITLE "Part 19"
+    INDEX 01 11:06:00
+  TRACK 20 AUDIO
+    TITLE "Part 20"
+    INDEX 01 11:43:00
+  TRACK 21 AUDIO
+    TITLE "Part 21"
+    INDEX 01 12:20:00
+  TRACK 22 AUDIO
+    TITLE "Part 22"
+    INDEX 01 12:57:00
+  TRACK 23 AUDIO
+    TITLE "Part 23"
+    INDEX 01 13:34:00
+  TRACK 24 AUDIO
+    TITLE "Part 24"
+    INDEX 01 14:11:00
+  TRACK 25 AUDIO
+    TITLE "Part 25"
+    INDEX 01 14:48:00
+  TRACK 26 AUDIO
+    TITLE "Part 26"
+    INDEX 01 15:25:00
+  TRACK 27 AUDIO
+    TITLE "Part 27"
+    INDEX 01 16:02:00
+  TRACK 28 AUDIO
+    TITLE "Part 28"
+    INDEX 01 16:39:00
+  TRACK 29 AUDIO
+    TITLE "Part 29"
+    INDEX 01 17:16:00
+  TRACK 30 AUDIO
+    TITLE "Part 30"
+    INDEX 01 17:53:00
+  TRACK 31 AUDIO
+    TITLE "Part 31"
+    INDEX 01 18:30:00
+  TRACK 32 AUDIO
+    TITLE "Part 32"
+    INDEX 01 19:07:00
+  TRACK 33 AUDIO
+    TITLE "Part 33"
+    INDEX 01 19:44:00
+  TRACK 34 AUDIO
+    TITLE "Part 34"
+    INDEX 01 20:21:00
+  TRACK 35 AUDIO
+    TITLE "Part 35"
+    INDEX 01 20:58:00
+  TRACK 36 AUDIO
+    TITLE "Part 36"
+    INDEX 01 21:35:00
+  TRACK 37 AUDIO
+    TITLE "Part 37"
+    INDEX 01 22:12:00
+  TRACK 38 AUDIO
+    TITLE "Part 38"
+    INDEX 01 22:49:00
+  TRACK 39 AUDIO
+    TITLE "Part 39"
+    INDEX 01 23:26:00
+  TRACK 40 AUDIO
+    TITLE "Part 40"
+    INDEX 01 24:03:00
+  TRACK 41 AUDIO
+    TITLE "Part 41"
+    INDEX 01 24:40:00
+  TRACK 42 AUDIO
+    TITLE "Part 42"
+    INDEX 01 25:17:00
+  TRACK 43 AUDIO
+    TITLE "Part 43"
+    INDEX 01 25:54:00
+  TRACK 44 AUDIO
+    TITLE "Part 44"
+    INDEX 01 26:31:00
+  TRACK 45 AUDIO
+    TITLE "Part 45"
+    INDEX 01 27:08:00
+  TRACK 46 AUDIO
+    TITLE "Part 46"
+    INDEX 01 27:45:00
+  TRACK 47 AUDIO
+    TITLE "Part 47"
+    INDEX 01 28:22:00
+  TRACK 48 AUDIO
+    TITLE "Part 48"
+    INDEX 01 28:59:00
+  TRACK 49 AUDIO
+    TITLE "Part 49"
+    INDEX 01 29:36:00
+  TRACK 50 AUDIO
+    TITLE "Part 50"
+    INDEX 01 30:13:00
+  TRACK 51 AUDIO
+    TITLE "Part 51"
+    INDEX 01 30:50:00
+  TRACK 52 AUDIO
+    TITLE "Part 52"
+    INDEX 01 31:27:00
+  TRACK 53 AUDIO
+    TITLE "Part 53"
+    INDEX 01 32:04:00
+  TRACK 54 AUDIO
+    TITLE "Part 54"
+    INDEX 01 32:41:00
+  TRACK 55 AUDIO
+    TITLE "Part 55"
+    INDEX 01 33:18:00
+  TRACK 56 AUDIO
+    TITLE "Part 56"
+    INDEX 01 33:55:00
+  TRACK 57 AUDIO
+    TITLE "Part 57"
+    INDEX 01 34:32:00
+  TRACK 58 AUDIO
+    TITLE "Part 58"
+    INDEX 01 35:09:00
+  TRACK 59 AUDIO
+    TITLE "Part 59"
+    INDEX 01 35:46:00
+  TRACK 60 AUDIO
+    TITLE "Part 60"
+    INDEX 01 36:23:00
+  TRACK 61 AUDIO
+    TITLE "Part 61"
+    INDEX 01 37:00:00
+  TRACK 62 AUDIO
+    TITLE "Part 62"
+    INDEX 01 37:37:00
+  TRACK 63 AUDIO
+    TITLE "Part 63"
+    INDEX 01 38:14:00
+  TRACK 64 AUDIO
+    TITLE "Part 64"
+    INDEX 01 38:51:00
+  TRACK 65 AUDIO
+    TITLE "Part 65"
+    INDEX 01 39:28:00
+  TRACK 66 AUDIO
+    TITLE "Part 66"
+    INDEX 01 40:05:00
+  TRACK 67 AUDIO
+    TITLE "Part 67"
+    INDEX 01 40:42:00
+  TRACK 68 AUDIO
+    TITLE "Part 68"
+    INDEX 01 41:19:00
+  TRACK 69 AUDIO
+    TITLE "Part 69"
+    INDEX 01 41:56:00
+  TRACK 70 AUDIO
+    TITLE "Part 70"
+    INDEX 01 42:33:00
+  TRACK 71 AUDIO
+    TITLE "Part 71"
+    INDEX 01 43:10:00
+  TRACK 72 AUDIO
+    TITLE "Part 72"
+    INDEX 01 43:47:00
+  TRACK 73 AUDIO
+    TITLE "Part 73"
+    INDEX 01 44:24:00
+  TRACK 74 AUDIO
+    TITLE "Part 74"
+    INDEX 01 45:01:00
+  TRACK 75 AUDIO
+    TITLE "Part 75"
+    INDEX 01 45:38:00
+  TRACK 76 AUDIO
+    TITLE "Part 76"
+    INDEX 01 46:15:00
+  TRACK 77 AUDIO
+    TITLE "Part 77"
+    INDEX 01 46:52:00
+  TRACK 78 AUDIO
+    TITLE "Part 78"
+    INDEX 01 47:29:00
+  TRACK 79 AUDIO
+    TITLE "Part 79"
+    INDEX 01 48:06:00
+  TRACK 80 AUDIO
+    TITLE "Part 80"
+    INDEX 01 48:43:00
+  TRACK 81 AUDIO
+    TITLE "Part 81"
+    INDEX 01 49:20:00
+  TRACK 82 AUDIO
+    TITLE "Part 82"
+    INDEX 01 49:57:00
+  TRACK 83 AUDIO
+    TITLE "Part 83"
+    INDEX 01 50:34:00
+  TRACK 84 AUDIO
+    TITLE "Part 84"
+    INDEX 01 51:11:00
+  TRACK 85 AUDIO
+    TITLE "Part 85"
+    INDEX 01 51:48:00
+  TRACK 86 AUDIO
+    TITLE "Part 86"
+    INDEX 01 52:25:00
+  TRACK 87 AUDIO
+    TITLE "Part 87"
+    INDEX 01 53:02:00
+  TRACK 88 AUDIO
+    TITLE "Part 88"
+    INDEX 01 53:39:00
+  TRACK 89 AUDIO
+    TITLE "Part 89"
+    INDEX 01 54:16:00
+  TRACK 90 AUDIO
+    TITLE "Part 90"
+    INDEX 01 54:53:00
+  TRACK 91 AUDIO
+    TITLE "Part 91"
+    INDEX 01 55:30:00
+  TRACK 92 AUDIO
+    TITLE "Part 92"
+    INDEX 01 56:07:00
+  TRACK 93 AUDIO
+    TITLE "Part 93"
+    INDEX 01 56:44:00
+  TRACK 94 AUDIO
+    TITLE "Part 94"
+    INDEX 01 57:21:00
+  TRACK 95 AUDIO
+    TITLE "Part 95"
+    INDEX 01 57:58:00
+  TRACK 96 AUDIO
+    TITLE "Part 96"
+    INDEX 01 58:35:00
+  TRACK 97 AUDIO
+    TITLE "Part 97"
+    INDEX 01 59:12:00
+  TRACK 98 AUDIO
+    TITLE "Part 98"
+    INDEX 01 59:49:00
+  TRACK 99 AUDIO
+    TITLE "Part 99"
+    INDEX 01 60:26:00
+  TRACK 100 AUDIO
+    TITLE "Part 100"
+    INDEX 01 61:03:00
+  TRACK 101 AUDIO
+    TITLE "Part 101"
+    INDEX 01 61:40:00
+  TRACK 102 AUDIO
+    TITLE "Part 102"
+    INDEX 01 62:17:00
+  TRACK 103 AUDIO
+    TITLE "Part 103"
+    INDEX 01 62:54:00
+  TRACK 104 AUDIO
+    TITLE "Part 104"
+    INDEX 01 63:31:00
+  TRACK 105 AUDIO
+    TITLE "Part 105"
+    INDEX 01 64:08:00
+  TRACK 106 AUDIO
+    TITLE "Part 106"
+    INDEX 01 64:45:00
+  TRACK 107 AUDIO
+    TITLE "Part 107"
+    INDEX 01 65:22:00
+  TRACK 108 AUDIO
+    TITLE "Part 108"
+    INDEX 01 65:59:00
+  TRACK 109 AUDIO
+    TITLE "Part 109"
+    INDEX 01 66:36:00
+  TRACK 110 AUDIO
+    TITLE "Part 110"
+    INDEX 01 67:13:00
+  TRACK 111 AUDIO
+    TITLE "Part 111"
+    INDEX 01 67:50:00
+  TRACK 112 AUDIO
+    TITLE "Part 112"
+    INDEX 01 68:27:00
+  TRACK 113 AUDIO
+    TITLE "Part 113"
+    INDEX 01 69:04:00
+  TRACK 114 AUDIO
+    TITLE "Part 114"
+    INDEX 01 69:41:00
+  TRACK 115 AUDIO
+    TITLE "Part 115"
+    INDEX 01 70:18:00
+  TRACK 116 AUDIO
+    TITLE "Part 116"
+    INDEX 01 70:55:00
+  TRACK 117 AUDIO
+    TITLE "Part 117"
+    INDEX 01 71:32:00
+  TRACK 118 AUDIO
+    TITLE "Part 118"
+    INDEX 01 72:09:00
+  TRACK 119 AUDIO
+    TITLE "Part 119"
+    INDEX 01 72:46:00
+  TRACK 120 AUDIO
+    TITLE "Part 120"
+    INDEX 01 73:23:00
+  TRACK 121 AUDIO
+    TITLE "Part 121"
+    INDEX 01 74:00:00
+  TRACK 122 AUDIO
+    TITLE "Part 122"
+    INDEX 01 74:37:00
+  TRACK 123 AUDIO
+    TITLE "Part 123"
+    INDEX 01 75:14:00
+  TRACK 124 AUDIO
+    TITLE "Part 124"
+    INDEX 01 75:51:00
+  TRACK 125 AUDIO
+    TITLE "Part 125"
+    INDEX 01 76:28:00
+  TRACK 126 AUDIO
+    TITLE "Part 126"
+    INDEX 01 77:05:00
+  TRACK 127 AUDIO
+    TITLE "Part 127"
+    INDEX 01 77:42:00
+  TRACK 128 AUDIO
+    TITLE "Part 128"
+    INDEX 01 78:19:00
+  TRACK 129 AUDIO
+    TITLE "Part 129"
+    INDEX 01 78:56:00
+  TRACK 130 AUDIO
+    TITLE "Part 130"
+    INDEX 01 79:33:00
+  TRACK 131 AUDIO
+    TITLE "Part 131"
+    INDEX 01 80:10:00
+  TRACK 132 AUDIO
+    TITLE "Part 132"
+    INDEX 01 80:47:00
+  TRACK 133 AUDIO
+    TITLE "Part 133"
+    INDEX 01 81:24:00
+  TRACK 134 AUDIO
+    TITLE "Part 134"
+    INDEX 01 82:01:00
+  TRACK 135 AUDIO
+    TITLE "Part 135"
+    INDEX 01 82:38:00
+  TRACK 136 AUDIO
+    TITLE "Part 136"
+    INDEX 01 83:15:00
+  TRACK 137 AUDIO
+    TITLE "Part 137"
+    INDEX 01 83:52:00
+  TRACK 138 AUDIO
+    TITLE "Part 138"
+    INDEX 01 84:29:00
+  TRACK 139 AUDIO
+    TITLE "Part 139"
+    INDEX 01 85:06:00
+  TRACK 140 AUDIO
+    TITLE "Part 140"
+    INDEX 01 85:43:00
+  TRACK 141 AUDIO
+    TITLE "Part 141"
+    INDEX 01 86:20:00
+  TRACK 142 AUDIO
+    TITLE "Part 142"
+    INDEX 01 86:57:00
+  TRACK 143 AUDIO
+    TITLE "Part 143"
+    INDEX 01 87:34:00
+  TRACK 144 AUDIO
+    TITLE "Part 144"
+    INDEX 01 88:11:00
+  TRACK 145 AUDIO
+    TITLE "Part 145"
+    INDEX 01 88:48:00
+  TRACK 146 AUDIO
+    TITLE "Part 146"
+    INDEX 01 89:25:00
+  TRACK 147 AUDIO
+    TITLE "Part 147"
+    INDEX 01 90:02:00
+  TRACK 148 AUDIO
+    TITLE "Part 148"
+    INDEX 01 90:39:00
+  TRACK 149 AUDIO
+    TITLE "Part 149"
+    INDEX 01 91:16:00
+  TRACK 150 AUDIO
+    TITLE "Part 150"
+    INDEX 01 91:53:00
+  TRACK 151 AUDIO
+    TITLE "Part 151"
+    INDEX 01 92:30:00
+  TRACK 152 AUDIO
+    TITLE "Part 152"
+    INDEX 01 93:07:00
+  TRACK 153 AUDIO
+    TITLE "Part 153"
+    INDEX 01 93:44:00
+  TRACK 154 AUDIO
+    TITLE "Part 154"
+    INDEX 01 94:21:00
+  TRACK 155 AUDIO
+    TITLE "Part 155"
+    INDEX 01 94:58:00
+  TRACK 156 AUDIO
+    TITLE "Part 156"
+    INDEX 01 95:35:00
+  TRACK 157 AUDIO
+    TITLE "Part 157"
+    INDEX 01 96:12:00
+  TRACK 158 AUDIO
+    TITLE "Part 158"
+    INDEX 01 96:49:00
+  TRACK 159 AUDIO
+    TITLE "Part 159"
+    INDEX 01 97:26:00
+  TRACK 160 AUDIO
+    TITLE "Part 160"
+    INDEX 01 98:03:00
+  TRACK 161 AUDIO
+    TITLE "Part 161"
+    INDEX 01 98:40:00
+  TRACK 162 AUDIO
+    TITLE "Part 162"
+    INDEX 01 99:17:00
+  TRACK 163 AUDIO
+    TITLE "Part 163"
+    INDEX 01 99:54:00
+  TRACK 164 AUDIO
+    TITLE "Part 164"
+    INDEX 01 100:31:00
+  TRACK 165 AUDIO
+    TITLE "Part 165"
+    INDEX 01 101:08:00
+  TRACK 166 AUDIO
+    TITLE "Part 166"
+    INDEX 01 101:45:00
+  TRACK 167 AUDIO
+    TITLE "Part 167"
+    INDEX 01 102:22:00
+  TRACK 168 AUDIO
+    TITLE "Part 168"
+    INDEX 01 102:59:00
+  TRACK 169 AUDIO
+    TITLE "Part 169"
+    INDEX 01 103:36:00
+  TRACK 170 AUDIO
+    TITLE "Part 170"
+    INDEX 01 104:13:00
+  TRACK 171 AUDIO
+    TITLE "Part 171"
+    INDEX 01 104:50:00
+  TRACK 172 AUDIO
+    TITLE "Part 172"
+    INDEX 01 105:27:00
+  TRACK 173 AUDIO
+    TITLE "Part 173"
+    INDEX 01 106:04:00
+  TRACK 174 AUDIO
+    TITLE "Part 174"
+    INDEX 01 106:41:00
+  TRACK 175 AUDIO
+    TITLE "Part 175"
+    INDEX 01 107:18:00
+  TRACK 176 AUDIO
+    TITLE "Part 176"
+    INDEX 01 107:55:00
+  TRACK 177 AUDIO
+    TITLE "Part 177"
+    INDEX 01 108:32:00
+  TRACK 178 AUDIO
+    TITLE "Part 178"
+    INDEX 01 109:09:00
+  TRACK 179 AUDIO
+    TITLE "Part 179"
+    INDEX 01 109:46:00
+  TRACK 180 AUDIO
+    TITLE "Part 180"
+    INDEX 01 110:23:00
+  TRACK 181 AUDIO
+    TITLE "Part 181"
+    INDEX 01 111:00:00
+  TRACK 182 AUDIO
+    TITLE "Part 182"
+    INDEX 01 111:37:00
+  TRACK 183 AUDIO
+    TITLE "Part 183"
+    INDEX 01 112:14:00
+  TRACK 184 AUDIO
+    TITLE "Part 184"
+    INDEX 01 112:51:00
+  TRACK 185 AUDIO
+    TITLE "Part 185"
+    INDEX 01 113:28:00
+  TRACK 186 AUDIO
+    TITLE "Part 186"
+    INDEX 01 114:05:00
+  TRACK 187 AUDIO
+    TITLE "Part 187"
+    INDEX 01 114:42:00
+  TRACK 188 AUDIO
+    TITLE "Part 188"
+    INDEX 01 115:19:00
+  TRACK 189 AUDIO
+    TITLE "Part 189"
+    INDEX 01 115:56:00
+  TRACK 190 AUDIO
+    TITLE "Part 190"
+    INDEX 01 116:33:00
+  TRACK 191 AUDIO
+    TITLE "Part 191"
+    INDEX 01 117:10:00
+  TRACK 192 AUDIO
+    TITLE "Part 192"
+    INDEX 01 117:47:00
+  TRACK 193 AUDIO
+    TITLE "Part 193"
+    INDEX 01 118:24:00
+  TRACK 194 AUDIO
+    TITLE "Part 194"
+    INDEX 01 119:01:00
+  TRACK 195 AUDIO
+    TITLE "Part 195"
+    INDEX 01 119:38:00
+  TRACK 196 AUDIO
+    TITLE "Part 196"
+    INDEX 01 120:15:00
+  TRACK 197 AUDIO
+    TITLE "Part 197"
+    INDEX 01 120:52:00
+  TRACK 198 AUDIO
+    TITLE "Part 198"
+    INDEX 01 121:29:00
+  TRACK 199 AUDIO
+    TITLE "Part 199"
+    INDEX 01 122:06:00
+  TRACK 200 AUDIO
+    TITLE "Part 200"
+    INDEX 01 122:43:00
+  TRACK 201 AUDIO
+    TITLE "Part 201"
+    INDEX 01 123:20:00
+  TRACK 202 AUDIO
+    TITLE "Part 202"
+    INDEX 01 123:57:00
+  TRACK 203 AUDIO
+    TITLE "Part 203"
+    INDEX 01 124:34:00
+  TRACK 204 AUDIO
+    TITLE "Part 204"
+    INDEX 01 125:11:00
+  TRACK 205 AUDIO
+    TITLE "Part 205"
+    INDEX 01 125:48:00
+  TRACK 206 AUDIO
+    TITLE "Part 206"
+    INDEX 01 126:25:00
+  TRACK 207 AUDIO
+    TITLE "Part 207"
+    INDEX 01 127:02:00
+  TRACK 208 AUDIO
+    TITLE "Part 208"
+    INDEX 01 127:39:00
+  TRACK 209 AUDIO
+    TITLE "Part 209"
+    INDEX 01 128:16:00
+  TRACK 210 AUDIO
+    TITLE "Part 210"
+    INDEX 01 128:53:00
+  TRACK 211 AUDIO
+    TITLE "Part 211"
+    INDEX 01 129:30:00
+  TRACK 212 AUDIO
+    TITLE "Part 212"
+    INDEX 01 130:07:00
+  TRACK 213 AUDIO
+    TITLE "Part 213"
+    INDEX 01 130:44:00
+  TRACK 214 AUDIO
+    TITLE "Part 214"
+    INDEX 01 131:21:00
+  TRACK 215 AUDIO
+    TITLE "Part 215"
+    INDEX 01 131:58:00
+  TRACK 216 AUDIO
+    TITLE "Part 216"
+    INDEX 01 132:35:00
+  TRACK 217 AUDIO
+    TITLE "Part 217"
+    INDEX 01 133:12:00
+  TRACK 218 AUDIO
+    TITLE "Part 218"
+    INDEX 01 133:49:00
+  TRACK 219 AUDIO
+    TITLE "Part 219"
+    INDEX 01 134:26:00
+  TRACK 220 AUDIO
+    TITLE "Part 220"
+    INDEX 01 135:03:00
+  TRACK 221 AUDIO
+    TITLE "Part 221"
+    INDEX 01 135:40:00
+  TRACK 222 AUDIO
+    TITLE "Part 222"
+    INDEX 01 136:17:00
+  TRACK 223 AUDIO
+    TITLE "Part 223"
+    INDEX 01 136:54:00
+  TRACK 224 AUDIO
+    TITLE "Part 224"
+    INDEX 01 137:31:00
+  TRACK 225 AUDIO
+    TITLE "Part 225"
+    INDEX 01 138:08:00
+  TRACK 226 AUDIO
+    TITLE "Part 226"
+    INDEX 01 138:45:00
+  TRACK 227 AUDIO
+    TITLE "Part 227"
+    INDEX 01 139:22:00
+  TRACK 228 AUDIO
+    TITLE "Part 228"
+    INDEX 01 139:59:00
+  TRACK 229 AUDIO
+    TITLE "Part 229"
+    INDEX 01 140:36:00
+  TRACK 230 AUDIO
+    TITLE "Part 230"
+    INDEX 01 141:13:00
+  TRACK 231 AUDIO
+    TITLE "Part 231"
+    INDEX 01 141:50:00
+  TRACK 232 AUDIO
+    TITLE "Part 232"
+    INDEX 01 142:27:00
+  TRACK 233 AUDIO
+    TITLE "Part 233"
+    INDEX 01 143:04:00
+  TRACK 234 AUDIO
+    TITLE "Part 234"
+    INDEX 01 143:41:00
+  TRACK 235 AUDIO
+    TITLE "Part 235"
+    INDEX 01 144:18:00
+  TRACK 236 AUDIO
+    TITLE "Part 236"
+    INDEX 01 144:55:00
+  TRACK 237 AUDIO
+    TITLE "Part 237"
+    INDEX 01 145:32:00
+  TRACK 238 AUDIO
+    TITLE "Part 238"
+    INDEX 01 146:09:00
+  TRACK 239 AUDIO
+    TITLE "Part 239"
+    INDEX 01 146:46:00
+  TRACK 240 AUDIO
+    TITLE "Part 240"
+    INDEX 01 147:23:00
+  TRACK 241 AUDIO
+    TITLE "Part 241"
+    INDEX 01 148:00:00
+  TRACK 242 AUDIO
+    TITLE "Part 242"
+    INDEX 01 148:37:00
+  TRACK 243 AUDIO
+    TITLE "Part 243"
+    INDEX 01 149:14:00
+  TRACK 244 AUDIO
+    TITLE "Part 244"
+    INDEX 01 149:51:00
+  TRACK 245 AUDIO
+    TITLE "Part 245"
+    INDEX 01 150:28:00
+  TRACK 246 AUDIO
+    TITLE "Part 246"
+    INDEX 01 151:05:00
+  TRACK 247 AUDIO
+    TITLE "Part 247"
+    INDEX 01 151:42:00
+  TRACK 248 AUDIO
+    TITLE "Part 248"
+    INDEX 01 152:19:00
+  TRACK 249 AUDIO
+    TITLE "Part 249"
+    INDEX 01 152:56:00
+  TRACK 250 AUDIO
+    TITLE "Part 250"
+    INDEX 01 153:33:00
+  TRACK 251 AUDIO
+    TITLE "Part 251"
+    INDEX 01 154:10:00
+  TRACK 252 AUDIO
+    TITLE "Part 252"
+    INDEX 01 154:47:00
+  TRACK 253 AUDIO
+    TITLE "Part 253"
+    INDEX 01 155:24:00
+  TRACK 254 AUDIO
+    TITLE "Part 254"
+    INDEX 01 156:01:00
+  TRACK 255 AUDIO
+    TITLE "Part 255"
+    INDEX 01 156:38:00
+  TRACK 256 AUDIO
+    TITLE "Part 256"
+    INDEX 01 157:15:00
+  TRACK 257 AUDIO
+    TITLE "Part 257"
+    INDEX 01 157:52:00
+  TRACK 258 AUDIO
+    TITLE "Part 258"
+    INDEX 01 158:29:00
+  TRACK 259 AUDIO
+    TITLE "Part 259"
+    INDEX 01 159:06:00
+  TRACK 260 AUDIO
+    TITLE "Part 260"
+    INDEX 01 159:43:00
+  TRACK 261 AUDIO
+    TITLE "Part 261"
+    INDEX 01 160:20:00
+  TRACK 262 AUDIO
+    TITLE "Part 262"
+    INDEX 01 160:57:00
+  TRACK 263 AUDIO
+    TITLE "Part 263"
+    INDEX 01 161:34:00
+  TRACK 264 AUDIO
+    TITLE "Part 264"
+    INDEX 01 162:11:00
+  TRACK 265 AUDIO
+    TITLE "Part 265"
+    INDEX 01 162:48:00
+  TRACK 266 AUDIO
+    TITLE "Part 266"
+    INDEX 01 163:25:00
+  TRACK 267 AUDIO
+    TITLE "Part 267"
+    INDEX 01 164:02:00
+  TRACK 268 AUDIO
+    TITLE "Part 268"
+    INDEX 01 164:39:00
+  TRACK 269 AUDIO
+    TITLE "Part 269"
+    INDEX 01 165:16:00
+  TRACK 270 AUDIO
+    TITLE "Part 270"
+    INDEX 01 165:53:00
+  TRACK 271 AUDIO
+    TITLE "Part 271"
+    INDEX 01 166:30:00
+  TRACK 272 AUDIO
+    TITLE "Part 272"
+    INDEX 01 167:07:00
+  TRACK 273 AUDIO
+    TITLE "Part 273"
+    INDEX 01 167:44:00
+  TRACK 274 AUDIO
+    TITLE "Part 274"
+    INDEX 01 168:21:00
+  TRACK 275 AUDIO
+    TITLE "Part 275"
+    INDEX 01 168:58:00
+  TRACK 276 AUDIO
+    TITLE "Part 276"
+    INDEX 01 169:35:00
+  TRACK 277 AUDIO
+    TITLE "Part 277"
+    INDEX 01 170:12:00
+  TRACK 278 AUDIO
+    TITLE "Part 278"
+    INDEX 01 170:49:00
+  TRACK 279 AUDIO
+    TITLE "Part 279"
+    INDEX 01 171:26:00
+  TRACK 280 AUDIO
+    TITLE "Part 280"
+    INDEX 01 172:03:00
+  TRACK 281 AUDIO
+    TITLE "Part 281"
+    INDEX 01 172:40:00
+  TRACK 282 AUDIO
+    TITLE "Part 282"
+    INDEX 01 173:17:00
+  TRACK 283 AUDIO
+    TITLE "Part 283"
+    INDEX 01 173:54:00
+  TRACK 284 AUDIO
+    TITLE "Part 284"
+    INDEX 01 174:31:00
+  TRACK 285 AUDIO
+    TITLE "Part 285"
+    INDEX 01 175:08:00
+  TRACK 286 AUDIO
+    TITLE "Part 286"
+    INDEX 01 175:45:00
+  TRACK 287 AUDIO
+    TITLE "Part 287"
+    INDEX 01 176:22:00
+  TRACK 288 AUDIO
+    TITLE "Part 288"
+    INDEX 01 176:59:00
+  TRACK 289 AUDIO
+    TITLE "Part 289"
+    INDEX 01 177:36:00
+  TRACK 290 AUDIO
+    TITLE "Part 290"
+    INDEX 01 178:13:00
+  TRACK 291 AUDIO
+    TITLE "Part 291"
+    INDEX 01 178:50:00
+  TRACK 292 AUDIO
+    TITLE "Part 292"
+    INDEX 01 179:27:00
+  TRACK 293 AUDIO
+    TITLE "Part 293"
+    INDEX 01 180:04:00
+  TRACK 294 AUDIO
+    TITLE "Part 294"
+    INDEX 01 180:41:00
+  TRACK 295 AUDIO
+    TITLE "Part 295"
+    INDEX 01 181:18:00
+  TRACK 296 AUDIO
+    TITLE "Part 296"
+    INDEX 01 181:55:00
+  TRACK 297 AUDIO
+    TITLE "Part 297"
+    INDEX 01 182:32:00
+  TRACK 298 AUDIO
+    TITLE "Part 298"
+    INDEX 01 183:09:00
+  TRACK 299 AUDIO
+    TITLE "Part 299"
+    INDEX 01 183:46:00
+  TRACK 300 AUDIO
+    TITLE "Part 300"
+    INDEX 01 184:23:00
+  TRACK 301 AUDIO
+    TITLE "Part 301"
+    INDEX 01 185:00:00
+  TRACK 302 AUDIO
+    TITLE "Part 302"
+    INDEX 01 185:37:00
+  TRACK 303 AUDIO
+    TITLE "Part 303"
+    INDEX 01 186:14:00
+  TRACK 304 AUDIO
+    TITLE "Part 304"
+    INDEX 01 186:51:00
+  TRACK 305 AUDIO
+    TITLE "Part 305"
+    INDEX 01 187:28:00
+  TRACK 306 AUDIO
+    TITLE "Part 306"
+    INDEX 01 188:05:00
+  TRACK 307 AUDIO
+    TITLE "Part 307"
+    INDEX 01 188:42:00
+  TRACK 308 AUDIO
+    TITLE "Part 308"
+    INDEX 01 189:19:00
+  TRACK 309 AUDIO
+    TITLE "Part 309"
+    INDEX 01 189:56:00
+  TRACK 310 AUDIO
+    TITLE "Part 310"
+    INDEX 01 190:33:00
+  TRACK 311 AUDIO
+    TITLE "Part 311"
+    INDEX 01 191:10:00
+  TRACK 312 AUDIO
+    TITLE "Part 312"
+    INDEX 01 191:47:00
+  TRACK 313 AUDIO
+    TITLE "Part 313"
+    INDEX 01 192:24:00
+  TRACK 314 AUDIO
+    TITLE "Part 314"
+    INDEX 01 193:01:00
+  TRACK 315 AUDIO
+    TITLE "Part 315"
+    INDEX 01 193:38:00
+  TRACK 316 AUDIO
+    TITLE "Part 316"
+    INDEX 01 194:15:00
+  TRACK 317 AUDIO
+    TITLE "Part 317"
+    INDEX 01 194:52:00
+  TRACK 318 AUDIO
+    TITLE "Part 318"
+    INDEX 01 195:29:00
+  TRACK 319 AUDIO
+    TITLE "Part 319"
+    INDEX 01 196:06:00
+  TRACK 320 AUDIO
+    TITLE "Part 320"
+    INDEX 01 196:43:00
+  TRACK 321 AUDIO
+    TITLE "Part 321"
+    INDEX 01 197:20:00
+  TRACK 322 AUDIO
+    TITLE "Part 322"
+    INDEX 01 197:57:00
+  TRACK 323 AUDIO
+    TITLE "Part 323"
+    INDEX 01 198:34:00
+  TRACK 324 AUDIO
+    TITLE "Part 324"
+    INDEX 01 199:11:00
+  TRACK 325 AUDIO
+    TITLE "Part 325"
+    INDEX 01 199:48:00
+  TRACK 326 AUDIO
+    TITLE "Part 326"
+    INDEX 01 200:25:00
+  TRACK 327 AUDIO
+    TITLE "Part 327"
+    INDEX 01 201:02:00
+  TRACK 328 AUDIO
+    TITLE "Part 328"
+    INDEX 01 201:39:00
+  TRACK 329 AUDIO
+    TITLE "Part 329"
+    INDEX 01 202:16:00
+  TRACK 330 AUDIO
+    TITLE "Part 330"
+    INDEX 01 202:53:00
+  TRACK 331 AUDIO
+    TITLE "Part 331"
+    INDEX 01 203:30:00
+  TRACK 332 AUDIO
+    TITLE "Part 332"
+    INDEX 01 204:07:00
+  TRACK 333 AUDIO
+    TITLE "Part 333"
+    INDEX 01 204:44:00
+  TRACK 334 AUDIO
+    TITLE "Part 334"
+    INDEX 01 205:21:00
+  TRACK 335 AUDIO
+    TITLE "Part 335"
+    INDEX 01 205:58:00
+  TRACK 336 AUDIO
+    TITLE "Part 336"
+    INDEX 01 206:35:00
+  TRACK 337 AUDIO
+    TITLE "Part 337"
+    INDEX 01 207:12:00
+  TRACK 338 AUDIO
+    TITLE "Part 338"
+    INDEX 01 207:49:00
+  TRACK 339 AUDIO
+    TITLE "Part 339"
+    INDEX 01 208:26:00
+  TRACK 340 AUDIO
+    TITLE "Part 340"
+    INDEX 01 209:03:00
+  TRACK 341 AUDIO
+    TITLE "Part 341"
+    INDEX 01 209:40:00
+  TRACK 342 AUDIO
+    TITLE "Part 342"
+    INDEX 01 210:17:00
+  TRACK 343 AUDIO
+    TITLE "Part 343"
+    INDEX 01 210:54:00
+  TRACK 344 AUDIO
+    TITLE "Part 344"
+    INDEX 01 211:31:00
+  TRACK 345 AUDIO
+    TITLE "Part 345"
+    INDEX 01 212:08:00
+  TRACK 346 AUDIO
+    TITLE "Part 346"
+    INDEX 01 212:45:00
+  TRACK 347 AUDIO
+    TITLE "Part 347"
+    INDEX 01 213:22:00
+  TRACK 348 AUDIO
+    TITLE "Part 348"
+    INDEX 01 213:59:00
+  TRACK 349 AUDIO
+    TITLE "Part 349"
+    INDEX 01 214:36:00
+  TRACK 350 AUDIO
+    TITLE "Part 350"
+    INDEX 01 215:13:00
+  TRACK 351 AUDIO
+    TITLE "Part 351"
+    INDEX 01 215:50:00
+  TRACK 352 AUDIO
+    TITLE "Part 352"
+    INDEX 01 216:27:00
+  TRACK 353 AUDIO
+    TITLE "Part 353"
+    INDEX 01 217:04:00
+  TRACK 354 AUDIO
+    TITLE "Part 354"
+    INDEX 01 217:41:00
+  TRACK 355 AUDIO
+    TITLE "Part 355"
+    INDEX 01 218:18:00
+  TRACK 356 AUDIO
+    TITLE "Part 356"
+    INDEX 01 218:55:00
+  TRACK 357 AUDIO
+    TITLE "Part 357"
+    INDEX 01 219:32:00
+  TRACK 358 AUDIO
+    TITLE "Part 358"
+    INDEX 01 220:09:00
+  TRACK 359 AUDIO
+    TITLE "Part 359"
+    INDEX 01 220:46:00
+  TRACK 360 AUDIO
+    TITLE "Part 360"
+    INDEX 01 221:23:00
+  TRACK 361 AUDIO
+    TITLE "Part 361"
+    INDEX 01 222:00:00
+  TRACK 362 AUDIO
+    TITLE "Part 362"
+    INDEX 01 222:37:00
+  TRACK 363 AUDIO
+    TITLE "Part 363"
+    INDEX 01 223:14:00
+  TRACK 364 AUDIO
+    TITLE "Part 364"
+    INDEX 01 223:51:00
+  TRACK 365 AUDIO
+    TITLE "Part 365"
+    INDEX 01 224:28:00
+  TRACK 366 AUDIO
+    TITLE "Part 366"
+    INDEX 01 225:05:00
+  TRACK 367 AUDIO
+    TITLE "Part 367"
+    INDEX 01 225:42:00
+  TRACK 368 AUDIO
+    TITLE "Part 368"
+    INDEX 01 226:19:00
+  TRACK 369 AUDIO
+    TITLE "Part 369"
+    INDEX 01 226:56:00
+  TRACK 370 AUDIO
+    TITLE "Part 370"
+    INDEX 01 227:33:00
+  TRACK 371 AUDIO
+    TITLE "Part 371"
+    INDEX 01 228:10:00
+  TRACK 372 AUDIO
+    TITLE "Part 372"
+    INDEX 01 228:47:00
+  TRACK 373 AUDIO
+    TITLE "Part 373"
+    INDEX 01 229:24:00
+  TRACK 374 AUDIO
+    TITLE "Part 374"
+    INDEX 01 230:01:00
+  TRACK 375 AUDIO
+    TITLE "Part 375"
+    INDEX 01 230:38:00
+  TRACK 376 AUDIO
+    TITLE "Part 376"
+    INDEX 01 231:15:00
+  TRACK 377 AUDIO
+    TITLE "Part 377"
+    INDEX 01 231:52:00
+  TRACK 378 AUDIO
+    TITLE "Part 378"
+    INDEX 01 232:29:00
+  TRACK 379 AUDIO
+    TITLE "Part 379"
+    INDEX 01 233:06:00
+  TRACK 380 AUDIO
+    TITLE "Part 380"
+    INDEX 01 233:43:00
+  TRACK 381 AUDIO
+    TITLE "Part 381"
+    INDEX 01 234:20:00
+  TRACK 382 AUDIO
+    TITLE "Part 382"
+    INDEX 01 234:57:00
+  TRACK 383 AUDIO
+    TITLE "Part 383"
+    INDEX 01 235:34:00
+  TRACK 384 AUDIO
+    TITLE "Part 384"
+    INDEX 01 236:11:00
+  TRACK 385 AUDIO
+    TITLE "Part 385"
+    INDEX 01 236:48:00
+  TRACK 386 AUDIO
+    TITLE "Part 386"
+    INDEX 01 237:25:00
+  TRACK 387 AUDIO
+    TITLE "Part 387"
+    INDEX 01 238:02:00
+  TRACK 388 AUDIO
+    TITLE "Part 388"
+    INDEX 01 238:39:00
+  TRACK 389 AUDIO
+    TITLE "Part 389"
+    INDEX 01 239:16:00
+  TRACK 390 AUDIO
+    TITLE "Part 390"
+    INDEX 01 239:53:00
+  TRACK 391 AUDIO
+    TITLE "Part 391"
+    INDEX 01 240:30:00
+  TRACK 392 AUDIO
+    TITLE "Part 392"
+    INDEX 01 241:07:00
+  TRACK 393 AUDIO
+    TITLE "Part 393"
+    INDEX 01 241:44:00
+  TRACK 394 AUDIO
+    TITLE "Part 394"
+    INDEX 01 242:21:00
+  TRACK 395 AUDIO
+    TITLE "Part 395"
+    INDEX 01 242:58:00
+  TRACK 396 AUDIO
+    TITLE "Part 396"
+    INDEX 01 243:35:00
+  TRACK 397 AUDIO
+    TITLE "Part 397"
+    INDEX 01 244:12:00
+  TRACK 398 AUDIO
+    TITLE "Part 398"
+    INDEX 01 244:49:00
+  TRACK 399 AUDIO
+    TITLE "Part 399"
+    INDEX 01 245:26:00
+  TRACK 400 AUDIO
+    TITLE "Part 400"
+    INDEX 01 246:03:00
+  TRACK 401 AUDIO
+    TITLE "Part 401"
+    INDEX 01 246:40:00
+  TRACK 402 AUDIO
+    TITLE "Part 402"
+    INDEX 01 247:17:00
+  TRACK 403 AUDIO
+    TITLE "Part 403"
+    INDEX 01 247:54:00
+  TRACK 404 AUDIO
+    TITLE "Part 404"
+    INDEX 01 248:31:00
+  TRACK 405 AUDIO
+    TITLE "Part 405"
+    INDEX 01 249:08:00
+  TRACK 406 AUDIO
+    TITLE "Part 406"
+    INDEX 01 249:45:00
+  TRACK 407 AUDIO
+    TITLE "Part 407"
+    INDEX 01 250:22:00
+  TRACK 408 AUDIO
+    TITLE "Part 408"
+    INDEX 01 250:59:00
+  TRACK 409 AUDIO
+    TITLE "Part 409"
+    INDEX 01 251:36:00
+  TRACK 410 AUDIO
+    TITLE "Part 410"
+    INDEX 01 252:13:00
+  TRACK 411 AUDIO
+    TITLE "Part 411"
+    INDEX 01 252:50:00
+  TRACK 412 AUDIO
+    TITLE "Part 412"
+    INDEX 01 253:27:00
+  TRACK 413 AUDIO
+    TITLE "Part 413"
+    INDEX 01 254:04:00
+  TRACK 414 AUDIO
+    TITLE "Part 414"
+    INDEX 01 254:41:00
+  TRACK 415 AUDIO
+    TITLE "Part 415"
+    INDEX 01 255:18:00
+  TRACK 416 AUDIO
+    TITLE "Part 416"
+    INDEX 01 255:55:00
+  TRACK 417 AUDIO
+    TITLE "Part 417"
+    INDEX 01 256:32:00
+  TRACK 418 AUDIO
+    TITLE "Part 418"
+    INDEX 01 257:09:00
+  TRACK 419 AUDIO
+    TITLE "Part 419"
+    INDEX 01 257:46:00
+  TRACK 420 AUDIO
+    TITLE "Part 420"
+    INDEX 01 258:23:00
+  TRACK 421 AUDIO
+    TITLE "Part 421"
+    INDEX 01 259:00:00
+  TRACK 422 AUDIO
+    TITLE "Part 422"
+    INDEX 01 259:37:00
+  TRACK 423 AUDIO
+    TITLE "Part 423"
+    INDEX 01 260:14:00
+  TRACK 424 AUDIO
+    TITLE "Part 424"
+    INDEX 01 260:51:00
+  TRACK 425 AUDIO
+    TITLE "Part 425"
+    INDEX 01 261:28:00
+  TRACK 426 AUDIO
+    TITLE "Part 426"
+    INDEX 01 262:05:00
+  TRACK 427 AUDIO
+    TITLE "Part 427"
+    INDEX 01 262:42:00
+  TRACK 428 AUDIO
+    TITLE "Part 428"
+    INDEX 01 263:19:00
+  TRACK 429 AUDIO
+    TITLE "Part 429"
+    INDEX 01 263:56:00
+  TRACK 430 AUDIO
+    TITLE "Part 430"
+    INDEX 01 264:33:00
+  TRACK 431 AUDIO
+    TITLE "Part 431"
+    INDEX 01 265:10:00
+  TRACK 432 AUDIO
+    TITLE "Part 432"
+    INDEX 01 265:47:00
+  TRACK 433 AUDIO
+    TITLE "Part 433"
+    INDEX 01 266:24:00
+  TRACK 434 AUDIO
+    TITLE "Part 434"
+    INDEX 01 267:01:00
+  TRACK 435 AUDIO
+    TITLE "Part 435"
+    INDEX 01 267:38:00
+  TRACK 436 AUDIO
+    TITLE "Part 436"
+    INDEX 01 268:15:00
+  TRACK 437 AUDIO
+    TITLE "Part 437"
+    INDEX 01 268:52:00
+  TRACK 438 AUDIO
+    TITLE "Part 438"
+    INDEX 01 269:29:00
+  TRACK 439 AUDIO
+    TITLE "Part 439"
+    INDEX 01 270:06:00
+  TRACK 440 AUDIO
+    TITLE "Part 440"
+    INDEX 01 270:43:00
+  TRACK 441 AUDIO
+    TITLE "Part 441"
+    INDEX 01 271:20:00
+  TRACK 442 AUDIO
+    TITLE "Part 442"
+    INDEX 01 271:57:00
+  TRACK 443 AUDIO
+    TITLE "Part 443"
+    INDEX 01 272:34:00
+  TRACK 444 AUDIO
+    TITLE "Part 444"
+    INDEX 01 273:11:00
+  TRACK 445 AUDIO
+    TITLE "Part 445"
+    INDEX 01 273:48:00
+  TRACK 446 AUDIO
+    TITLE "Part 446"
+    INDEX 01 274:25:00
+  TRACK 447 AUDIO
+    TITLE "Part 447"
+    INDEX 01 275:02:00
+  TRACK 448 AUDIO
+    TITLE "Part 448"
+    INDEX 01 275:39:00
+  TRACK 449 AUDIO
+    TITLE "Part 449"
+    INDEX 01 276:16:00
+  TRACK 450 AUDIO
+    TITLE "Part 450"
+    INDEX 01 276:53:00
+  TRACK 451 AUDIO
+    TITLE "Part 451"
+    INDEX 01 277:30:00
+  TRACK 452 AUDIO
+    TITLE "Part 452"
+    INDEX 01 278:07:00
+  TRACK 453 AUDIO
+    TITLE "Part 453"
+    INDEX 01 278:44:00
+  TRACK 454 AUDIO
+    TITLE "Part 454"
+    INDEX 01 279:21:00
+  TRACK 455 AUDIO
+    TITLE "Part 455"
+    INDEX 01 279:58:00
+  TRACK 456 AUDIO
+    TITLE "Part 456"
+    INDEX 01 280:35:00
+  TRACK 457 AUDIO
+    TITLE "Part 457"
+    INDEX 01 281:12:00
+  TRACK 458 AUDIO
+    TITLE "Part 458"
+    INDEX 01 281:49:00
+  TRACK 459 AUDIO
+    TITLE "Part 459"
+    INDEX 01 282:26:00
+  TRACK 460 AUDIO
+    TITLE "Part 460"
+    INDEX 01 283:03:00
+  TRACK 461 AUDIO
+    TITLE "Part 461"
+    INDEX 01 283:40:00
+  TRACK 462 AUDIO
+    TITLE "Part 462"
+    INDEX 01 284:17:00
+  TRACK 463 AUDIO
+    TITLE "Part 463"
+    INDEX 01 284:54:00
+  TRACK 464 AUDIO
+    TITLE "Part 464"
+    INDEX 01 285:31:00
+  TRACK 465 AUDIO
+    TITLE "Part 465"
+    INDEX 01 286:08:00
+  TRACK 466 AUDIO
+    TITLE "Part 466"
+    INDEX 01 286:45:00
+  TRACK 467 AUDIO
+    TITLE "Part 467"
+    INDEX 01 287:22:00
+  TRACK 468 AUDIO
+    TITLE "Part 468"
+    INDEX 01 287:59:00
+  TRACK 469 AUDIO
+    TITLE "Part 469"
+    INDEX 01 288:36:00
+  TRACK 470 AUDIO
+    TITLE "Part 470"
+    INDEX 01 289:13:00
+  TRACK 471 AUDIO
+    TITLE "Part 471"
+    INDEX 01 289:50:00
+  TRACK 472 AUDIO
+    TITLE "Part 472"
+    INDEX 01 290:27:00
+  TRACK 473 AUDIO
+    TITLE "Part 473"
+    INDEX 01 291:04:00
+  TRACK 474 AUDIO
+    TITLE "Part 474"
+    INDEX 01 291:41:00
+  TRACK 475 AUDIO
+    TITLE "Part 475"
+    INDEX 01 292:18:00
+  TRACK 476 AUDIO
+    TITLE "Part 476"
+    INDEX 01 292:55:00
+  TRACK 477 AUDIO
+    TITLE "Part 477"
+    INDEX 01 293:32:00
+  TRACK 478 AUDIO
+    TITLE "Part 478"
+    INDEX 01 294:09:00
+  TRACK 479 AUDIO
+    TITLE "Part 479"
+    INDEX 01 294:46:00
+  TRACK 480 AUDIO
+    TITLE "Part 480"
+    INDEX 01 295:23:00
+  TRACK 481 AUDIO
+    TITLE "Part 481"
+    INDEX 01 296:00:00
+  TRACK 482 AUDIO
+    TITLE "Part 482"
+    INDEX 01 296:37:00
+  TRACK 483 AUDIO
+    TITLE "Part 483"
+    INDEX 01 297:14:00
+  TRACK 484 AUDIO
+    TITLE "Part 484"
+    INDEX 01 297:51:00
+  TRACK 485 AUDIO
+    TITLE "Part 485"
+    INDEX 01 298:28:00
+  TRACK 486 AUDIO
+    TITLE "Part 486"
+    INDEX 01 299:05:00
+  TRACK 487 AUDIO
+    TITLE "Part 487"
+    INDEX 01 299:42:00
+  TRACK 488 AUDIO
+    TITLE "Part 488"
+    INDEX 01 300:19:00
+  TRACK 489 AUDIO
+    TITLE "Part 489"
+    INDEX 01 300:56:00
+  TRACK 490 AUDIO
+    TITLE "Part 490"
+    INDEX 01 301:33:00
+  TRACK 491 AUDIO
+    TITLE "Part 491"
+    INDEX 01 302:10:00
+  TRACK 492 AUDIO
+    TITLE "Part 492"
+    INDEX 01 302:47:00
+  TRACK 493 AUDIO
+    TITLE "Part 493"
+    INDEX 01 303:24:00
+  TRACK 494 AUDIO
+    TITLE "Part 494"
+    INDEX 01 304:01:00
+  TRACK 495 AUDIO
+    TITLE "Part 495"
+    INDEX 01 304:38:00
+  TRACK 496 AUDIO
+    TITLE "Part 496"
+    INDEX 01 305:15:00
+  TRACK 497 AUDIO
+    TITLE "Part 497"
+    INDEX 01 305:52:00
+  TRACK 498 AUDIO
+    TITLE "Part 498"
+    INDEX 01 306:29:00
+  TRACK 499 AUDIO
+    TITLE "Part 499"
+    INDEX 01 307:06:00
+  TRACK 500 AUDIO
+    TITLE "Part 500"
+    INDEX 01 307:43:00
+  TRACK 501 AUDIO
+    TITLE "Part 501"
+    INDEX 01 308:20:00
+  TRACK 502 AUDIO
+    TITLE "Part 502"
+    INDEX 01 308:57:00
+  TRACK 503 AUDIO
+    TITLE "Part 503"
+    INDEX 01 309:34:00
+  TRACK 504 AUDIO
+    TITLE "Part 504"
+    INDEX 01 310:11:00
+  TRACK 505 AUDIO
+    TITLE "Part 505"
+    INDEX 01 310:48:00
+  TRACK 506 AUDIO
+    TITLE "Part 506"
+    INDEX 01 311:25:00
+  TRACK 507 AUDIO
+    TITLE "Part 507"
+    INDEX 01 312:02:00
+  TRACK 508 AUDIO
+    TITLE "Part 508"
+    INDEX 01 312:39:00
+  TRACK 509 AUDIO
+    TITLE "Part 509"
+    INDEX 01 313:16:00
+  TRACK 510 AUDIO
+    TITLE "Part 510"
+    INDEX 01 313:53:00
+  TRACK 511 AUDIO
+    TITLE "Part 511"
+    INDEX 01 314:30:00
+  TRACK 512 AUDIO
+    TITLE "Part 512"
+    INDEX 01 315:07:00
+  TRACK 513 AUDIO
+    TITLE "Part 513"
+    INDEX 01 315:44:00
+  TRACK 514 AUDIO
+    TITLE "Part 514"
+    INDEX 01 316:21:00
+  TRACK 515 AUDIO
+    TITLE "Part 515"
+    INDEX 01 316:58:00
+  TRACK 516 AUDIO
+    TITLE "Part 516"
+    INDEX 01 317:35:00
+  TRACK 517 AUDIO
+    TITLE "Part 517"
+    INDEX 01 318:12:00
+  TRACK 518 AUDIO
+    TITLE "Part 518"
+    INDEX 01 318:49:00
+  TRACK 519 AUDIO
+    TITLE "Part 519"
+    INDEX 01 319:26:00
+  TRACK 520 AUDIO
+    TITLE "Part 520"
+    INDEX 01 320:03:00
+  TRACK 521 AUDIO
+    TITLE "Part 521"
+    INDEX 01 320:40:00
+  TRACK 522 AUDIO
+    TITLE "Part 522"
+    INDEX 01 321:17:00
+  TRACK 523 AUDIO
+    TITLE "Part 523"
+    INDEX 01 321:54:00
+  TRACK 524 AUDIO
+    TITLE "Part 524"
+    INDEX 01 322:31:00
+  TRACK 525 AUDIO
+    TITLE "Part 525"
+    INDEX 01 323:08:00
+  TRACK 526 AUDIO
+    TITLE "Part 526"
+    INDEX 01 323:45:00
+  TRACK 527 AUDIO
+    TITLE "Part 527"
+    INDEX 01 324:22:00
+  TRACK 528 AUDIO
+    TITLE "Part 528"
+    INDEX 01 324:59:00
+  TRACK 529 AUDIO
+    TITLE "Part 529"
+    INDEX 01 325:36:00
+  TRACK 530 AUDIO
+    TITLE "Part 530"
+    INDEX 01 326:13:00
+  TRACK 531 AUDIO
+    TITLE "Part 531"
+    INDEX 01 326:50:00
+  TRACK 532 AUDIO
+    TITLE "Part 532"
+    INDEX 01 327:27:00
+  TRACK 533 AUDIO
+    TITLE "Part 533"
+    INDEX 01 328:04:00
+  TRACK 534 AUDIO
+    TITLE "Part 534"
+    INDEX 01 328:41:00
+  TRACK 535 AUDIO
+    TITLE "Part 535"
+    INDEX 01 329:18:00
+  TRACK 536 AUDIO
+    TITLE "Part 536"
+    INDEX 01 329:55:00
+  TRACK 537 AUDIO
+    TITLE "Part 537"
+    INDEX 01 330:32:00
+  TRACK 538 AUDIO
+    TITLE "Part 538"
+    INDEX 01 331:09:00
+  TRACK 539 AUDIO
+    TITLE "Part 539"
+    INDEX 01 331:46:00
+  TRACK 540 AUDIO
+    TITLE "Part 540"
+    INDEX 01 332:23:00
+  TRACK 541 AUDIO
+    TITLE "Part 541"
+    INDEX 01 333:00:00
+  TRACK 542 AUDIO
+    TITLE "Part 542"
+    INDEX 01 333:37:00
+  TRACK 543 AUDIO
+    TITLE "Part 543"
+    INDEX 01 334:14:00
+  TRACK 544 AUDIO
+    TITLE "Part 544"
+    INDEX 01 334:51:00
+  TRACK 545 AUDIO
+    TITLE "Part 545"
+    INDEX 01 335:28:00
+  TRACK 546 AUDIO
+    TITLE "Part 546"
+    INDEX 01 336:05:00
+  TRACK 547 AUDIO
+    TITLE "Part 547"
+    INDEX 01 336:42:00
+  TRACK 548 AUDIO
+    TITLE "Part 548"
+    INDEX 01 337:19:00
+  TRACK 549 AUDIO
+    TITLE "Part 549"
+    INDEX 01 337:56:00
+  TRACK 550 AUDIO
+    TITLE "Part 550"
+    INDEX 01 338:33:00
+  TRACK 551 AUDIO
+    TITLE "Part 551"
+    INDEX 01 339:10:00
+  TRACK 552 AUDIO
+    TITLE "Part 552"
+    INDEX 01 339:47:00
+  TRACK 553 AUDIO
+    TITLE "Part 553"
+    INDEX 01 340:24:00
+  TRACK 554 AUDIO
+    TITLE "Part 554"
+    INDEX 01 341:01:00
+  TRACK 555 AUDIO
+    TITLE "Part 555"
+    INDEX 01 341:38:00
+  TRACK 556 AUDIO
+    TITLE "Part 556"
+    INDEX 01 342:15:00
+  TRACK 557 AUDIO
+    TITLE "Part 557"
+    INDEX 01 342:52:00
+  TRACK 558 AUDIO
+    TITLE "Part 558"
+    INDEX 01 343:29:00
+  TRACK 559 AUDIO
+    TITLE "Part 559"
+    INDEX 01 344:06:00
+  TRACK 560 AUDIO
+    TITLE "Part 560"
+    INDEX 01 344:43:00
+  TRACK 561 AUDIO
+    TITLE "Part 561"
+    INDEX 01 345:20:00
+  TRACK 562 AUDIO
+    TITLE "Part 562"
+    INDEX 01 345:57:00
+  TRACK 563 AUDIO
+    TITLE "Part 563"
+    INDEX 01 346:34:00
+  TRACK 564 AUDIO
+    TITLE "Part 564"
+    INDEX 01 347:11:00
+  TRACK 565 AUDIO
+    TITLE "Part 565"
+    INDEX 01 347:48:00
+  TRACK 566 AUDIO
+    TITLE "Part 566"
+    INDEX 01 348:25:00
+  TRACK 567 AUDIO
+    TITLE "Part 567"
+    INDEX 01 349:02:00
+  TRACK 568 AUDIO
+    TITLE "Part 568"
+    INDEX 01 349:39:00
+  TRACK 569 AUDIO
+    TITLE "Part 569"
+    INDEX 01 350:16:00
+  TRACK 570 AUDIO
+    TITLE "Part 570"
+    INDEX 01 350:53:00
+  TRACK 571 AUDIO
+    TITLE "Part 571"
+    INDEX 01 351:30:00
+  TRACK 572 AUDIO
+    TITLE "Part 572"
+    INDEX 01 352:07:00
+  TRACK 573 AUDIO
+    TITLE "Part 573"
+    INDEX 01 352:44:00
+  TRACK 574 AUDIO
+    TITLE "Part 574"
+    INDEX 01 353:21:00
+  TRACK 575 AUDIO
+    TITLE "Part 575"
+    INDEX 01 353:58:00
+  TRACK 576 AUDIO
+    TITLE "Part 576"
+    INDEX 01 354:35:00
+  TRACK 577 AUDIO
+    TITLE "Part 577"
+    INDEX 01 355:12:00
+  TRACK 578 AUDIO
+    TITLE "Part 578"
+    INDEX 01 355:49:00
+  TRACK 579 AUDIO
+    TITLE "Part 579"
+    INDEX 01 356:26:00
+  TRACK 580 AUDIO
+    TITLE "Part 580"
+    INDEX 01 357:03:00
+  TRACK 581 AUDIO
+    TITLE "Part 581"
+    INDEX 01 357:40:00
+  TRACK 582 AUDIO
+    TITLE "Part 582"
+    INDEX 01 358:17:00
+  TRACK 583 AUDIO
+    TITLE "Part 583"
+    INDEX 01 358:54:00
+  TRACK 584 AUDIO
+    TITLE "Part 584"
+    INDEX 01 359:31:00
+  TRACK 585 AUDIO
+    TITLE "Part 585"
+    INDEX 01 360:08:00
+  TRACK 586 AUDIO
+    TITLE "Part 586"
+    INDEX 01 360:45:00
+  TRACK 587 AUDIO
+    TITLE "Part 587"
+    INDEX 01 361:22:00
+  TRACK 588 AUDIO
+    TITLE "Part 588"
+    INDEX 01 361:59:00
+  TRACK 589 AUDIO
+    TITLE "Part 589"
+    INDEX 01 362:36:00
+  TRACK 590 AUDIO
+    TITLE "Part 590"
+    INDEX 01 363:13:00
+  TRACK 591 AUDIO
+    TITLE "Part 591"
+    INDEX 01 363:50:00
+  TRACK 592 AUDIO
+    TITLE "Part 592"
+    INDEX 01 364:27:00
+  TRACK 593 AUDIO
+    TITLE "Part 593"
+    INDEX 01 365:04:00
+  TRACK 594 AUDIO
+    TITLE "Part 594"
+    INDEX 01 365:41:00
+  TRACK 595 AUDIO
+    TITLE "Part 595"
+    INDEX 01 366:18:00
+  TRACK 596 AUDIO
+    TITLE "Part 596"
+    INDEX 01 366:55:00
+  TRACK 597 AUDIO
+    TITLE "Part 597"
+    INDEX 01 367:32:00
+  TRACK 598 AUDIO
+    TITLE "Part 598"
+    INDEX 01 368:09:00
+  TRACK 599 AUDIO
+    TITLE "Part 599"
+    INDEX 01 368:46:00
+  TRACK 600 AUDIO
+    TITLE "Part 600"
+    INDEX 01 369:23:00
+  TRACK 601 AUDIO
+    TITLE "Part 601"
+    INDEX 01 370:00:00
+  TRACK 602 AUDIO
+    TITLE "Part 602"
+    INDEX 01 370:37:00
+  TRACK 603 AUDIO
+    TITLE "Part 603"
+    INDEX 01 371:14:00
+  TRACK 604 AUDIO
+    TITLE "Part 604"
+    INDEX 01 371:51:00
+  TRACK 605 AUDIO
+    TITLE "Part 605"
+    INDEX 01 372:28:00
+  TRACK 606 AUDIO
+    TITLE "Part 606"
+    INDEX 01 373:05:00
+  TRACK 607 AUDIO
+    TITLE "Part 607"
+    INDEX 01 373:42:00
+  TRACK 608 AUDIO
+    TITLE "Part 608"
+    INDEX 01 374:19:00
+  TRACK 609 AUDIO
+    TITLE "Part 609"
+    INDEX 01 374:56:00
+  TRACK 610 AUDIO
+    TITLE "Part 610"
+    INDEX 01 375:33:00
+  TRACK 611 AUDIO
+    TITLE "Part 611"
+    INDEX 01 376:10:00
+  TRACK 612 AUDIO
+    TITLE "Part 612"
+    INDEX 01 376:47:00
+  TRACK 613 AUDIO
+    TITLE "Part 613"
+    INDEX 01 377:24:00
+  TRACK 614 AUDIO
+    TITLE "Part 614"
+    INDEX 01 378:01:00
+  TRACK 615 AUDIO
+    TITLE "Part 615"
+    INDEX 01 378:38:00
+  TRACK 616 AUDIO
+    TITLE "Part 616"
+    INDEX 01 379:15:00
+  TRACK 617 AUDIO
+    TITLE "Part 617"
+    INDEX 01 379:52:00
+  TRACK 618 AUDIO
+    TITLE "Part 618"
+    INDEX 01 380:29:00
+  TRACK 619 AUDIO
+    TITLE "Part 619"
+    INDEX 01 381:06:00
+  TRACK 620 AUDIO
+    TITLE "Part 620"
+    INDEX 01 381:43:00
+  TRACK 621 AUDIO
+    TITLE "Part 621"
+    INDEX 01 382:20:00
+  TRACK 622 AUDIO
+    TITLE "Part 622"
+    INDEX 01 382:57:00
+  TRACK 623 AUDIO
+    TITLE "Part 623"
+    INDEX 01 383:34:00
+  TRACK 624 AUDIO
+    TITLE "Part 624"
+    INDEX 01 384:11:00
+  TRACK 625 AUDIO
+    TITLE "Part 625"
+    INDEX 01 384:48:00
+  TRACK 626 AUDIO
+    TITLE "Part 626"
+    INDEX 01 385:25:00
+  TRACK 627 AUDIO
+    TITLE "Part 627"
+    INDEX 01 386:02:00
+  TRACK 628 AUDIO
+    TITLE "Part 628"
+    INDEX 01 386:39:00
+  TRACK 629 AUDIO
+    TITLE "Part 629"
+    INDEX 01 387:16:00
+  TRACK 630 AUDIO
+    TITLE "Part 630"
+    INDEX 01 387:53:00
+  TRACK 631 AUDIO
+    TITLE "Part 631"
+    INDEX 01 388:30:00
+  TRACK 632 AUDIO
+    TITLE "Part 632"
+    INDEX 01 389:07:00
+  TRACK 633 AUDIO
+    TITLE "Part 633"
+    INDEX 01 389:44:00
+  TRACK 634 AUDIO
+    TITLE "Part 634"
+    INDEX 01 390:21:00
+  TRACK 635 AUDIO
+    TITLE "Part 635"
+    INDEX 01 390:58:00
+  TRACK 636 AUDIO
+    TITLE "Part 636"
+    INDEX 01 391:35:00
+  TRACK 637 AUDIO
+    TITLE "Part 637"
+    INDEX 01 392:12:00
+  TRACK 638 AUDIO
+    TITLE "Part 638"
+    INDEX 01 392:49:00
+  TRACK 639 AUDIO
+    TITLE "Part 639"
+    INDEX 01 393:26:00
+  TRACK 640 AUDIO
+    TITLE "Part 640"
+    INDEX 01 394:03:00
+  TRACK 641 AUDIO
+    TITLE "Part 641"
+    INDEX 01 394:40:00
+  TRACK 642 AUDIO
+    TITLE "Part 642"
+    INDEX 01 395:17:00
+  TRACK 643 AUDIO
+    TITLE "Part 643"
+    INDEX 01 395:54:00
+  TRACK 644 AUDIO
+    TITLE "Part 644"
+    INDEX 01 396:31:00
+  TRACK 645 AUDIO
+    TITLE "Part 645"
+    INDEX 01 397:08:00
+  TRACK 646 AUDIO
+    TITLE "Part 646"
+    INDEX 01 397:45:00
+  TRACK 647 AUDIO
+    TITLE "Part 647"
+    INDEX 01 398:22:00
+  TRACK 648 AUDIO
+    TITLE "Part 648"
+    INDEX 01 398:59:00
+  TRACK 649 AUDIO
+    TITLE "Part 649"
+    INDEX 01 399:36:00
+  TRACK 650 AUDIO
+    TITLE "Part 650"
+    INDEX 01 400:13:00
+  TRACK 651 AUDIO
+    TITLE "Part 651"
+    INDEX 01 400:50:00
+  TRACK 652 AUDIO
+    TITLE "Part 652"
+    INDEX 01 401:27:00
+  TRACK 653 AUDIO
+    TITLE "Part 653"
+    INDEX 01 402:04:00
+  TRACK 654 AUDIO
+    TITLE "Part 654"
+    INDEX 01 402:41:00
+  TRACK 655 AUDIO
+    TITLE "Part 655"
+    INDEX 01 403:18:00
+  TRACK 656 AUDIO
+    TITLE "Part 656"
+    INDEX 01 403:55:00
+  TRACK 657 AUDIO
+    TITLE "Part 657"
+    INDEX 01 404:32:00
+  TRACK 658 AUDIO
+    TITLE "Part 658"
+    INDEX 01 405:09:00
+  TRACK 659 AUDIO
+    TITLE "Part 659"
+    INDEX 01 405:46:00
+  TRACK 660 AUDIO
+    TITLE "Part 660"
+    INDEX 01 406:23:00
+  TRACK 661 AUDIO
+    TITLE "Part 661"
+    INDEX 01 407:00:00
+  TRACK 662 AUDIO
+    TITLE "Part 662"
+    INDEX 01 407:37:00
+  TRACK 663 AUDIO
+    TITLE "Part 663"
+    INDEX 01 408:14:00
+  TRACK 664 AUDIO
+    TITLE "Part 664"
+    INDEX 01 408:51:00
+  TRACK 665 AUDIO
+    TITLE "Part 665"
+    INDEX 01 409:28:00
+  TRACK 666 AUDIO
+    TITLE "Part 666"
+    INDEX 01 410:05:00
+  TRACK 667 AUDIO
+    TITLE "Part 667"
+    INDEX 01 410:42:00
+  TRACK 668 AUDIO
+    TITLE "Part 668"
+    INDEX 01 411:19:00
+  TRACK 669 AUDIO
+    TITLE "Part 669"
+    INDEX 01 411:56:00
+  TRACK 670 AUDIO
+    TITLE "Part 670"
+    INDEX 01 412:33:00
+  TRACK 671 AUDIO
+    TITLE "Part 671"
+    INDEX 01 413:10:00
+  TRACK 672 AUDIO
+    TITLE "Part 672"
+    INDEX 01 413:47:00
+  TRACK 673 AUDIO
+    TITLE "Part 673"
+    INDEX 01 414:24:00
+  TRACK 674 AUDIO
+    TITLE "Part 674"
+    INDEX 01 415:01:00
+  TRACK 675 AUDIO
+    TITLE "Part 675"
+    INDEX 01 415:38:00
+  TRACK 676 AUDIO
+    TITLE "Part 676"
+    INDEX 01 416:15:00
+  TRACK 677 AUDIO
+    TITLE "Part 677"
+    INDEX 01 416:52:00
+  TRACK 678 AUDIO
+    TITLE "Part 678"
+    INDEX 01 417:29:00
+  TRACK 679 AUDIO
+    TITLE "Part 679"
+    INDEX 01 418:06:00
+  TRACK 680 AUDIO
+    TITLE "Part 680"
+    INDEX 01 418:43:00
+  TRACK 681 AUDIO
+    TITLE "Part 681"
+    INDEX 01 419:20:00
+  TRACK 682 AUDIO
+    TITLE "Part 682"
+    INDEX 01 419:57:00
+  TRACK 683 AUDIO
+    TITLE "Part 683"
+    INDEX 01 420:34:00
+  TRACK 684 AUDIO
+    TITLE "Part 684"
+    INDEX 01 421:11:00
+  TRACK 685 AUDIO
+    TITLE "Part 685"
+    INDEX 01 421:48:00
+  TRACK 686 AUDIO
+    TITLE "Part 686"
+    INDEX 01 422:25:00
+  TRACK 687 AUDIO
+    TITLE "Part 687"
+    INDEX 01 423:02:00
+  TRACK 688 AUDIO
+    TITLE "Part 688"
+    INDEX 01 423:39:00
+  TRACK 689 AUDIO
+    TITLE "Part 689"
+    INDEX 01 424:16:00
+  TRACK 690 AUDIO
+    TITLE "Part 690"
+    INDEX 01 424:53:00
+  TRACK 691 AUDIO
+    TITLE "Part 691"
+    INDEX 01 425:30:00
+  TRACK 692 AUDIO
+    TITLE "Part 692"
+    INDEX 01 426:07:00
+  TRACK 693 AUDIO
+    TITLE "Part 693"
+    INDEX 01 426:44:00
+  TRACK 694 AUDIO
+    TITLE "Part 694"
+    INDEX 01 427:21:00
+  TRACK 695 AUDIO
+    TITLE "Part 695"
+    INDEX 01 427:58:00
+  TRACK 696 AUDIO
+    TITLE "Part 696"
+    INDEX 01 428:35:00
+  TRACK 697 AUDIO
+    TITLE "Part 697"
+    INDEX 01 429:12:00
+  TRACK 698 AUDIO
+    TITLE "Part 698"
+    INDEX 01 429:49:00
+  TRACK 699 AUDIO
+    TITLE "Part 699"
+    INDEX 01 430:26:00
+  TRACK 700 AUDIO
+    TITLE "Part 700"
+    INDEX 01 431:03:00
+  TRACK 701 AUDIO
+    TITLE "Part 701"
+    INDEX 01 431:40:00
+  TRACK 702 AUDIO
+    TITLE "Part 702"
+    INDEX 01 432:17:00
+  TRACK 703 AUDIO
+    TITLE "Part 703"
+    INDEX 01 432:54:00
+  TRACK 704 AUDIO
+    TITLE "Part 704"
+    INDEX 01 433:31:00
+  TRACK 705 AUDIO
+    TITLE "Part 705"
+    INDEX 01 434:08:00
+  TRACK 706 AUDIO
+    TITLE "Part 706"
+    INDEX 01 434:45:00
+  TRACK 707 AUDIO
+    TITLE "Part 707"
+    INDEX 01 435:22:00
+  TRACK 708 AUDIO
+    TITLE "Part 708"
+    INDEX 01 435:59:00
+  TRACK 709 AUDIO
+    TITLE "Part 709"
+    INDEX 01 436:36:00
+  TRACK 710 AUDIO
+    TITLE "Part 710"
+    INDEX 01 437:13:00
+  TRACK 711 AUDIO
+    TITLE "Part 711"
+    INDEX 01 437:50:00
+  TRACK 712 AUDIO
+    TITLE "Part 712"
+    INDEX 01 438:27:00
+  TRACK 713 AUDIO
+    TITLE "Part 713"
+    INDEX 01 439:04:00
+  TRACK 714 AUDIO
+    TITLE "Part 714"
+    INDEX 01 439:41:00
+  TRACK 715 AUDIO
+    TITLE "Part 715"
+    INDEX 01 440:18:00
+  TRACK 716 AUDIO
+    TITLE "Part 716"
+    INDEX 01 440:55:00
+  TRACK 717 AUDIO
+    TITLE "Part 717"
+    INDEX 01 441:32:00
+  TRACK 718 AUDIO
+    TITLE "Part 718"
+    INDEX 01 442:09:00
+  TRACK 719 AUDIO
+    TITLE "Part 719"
+    INDEX 01 442:46:00
+  TRACK 720 AUDIO
+    TITLE "Part 720"
+    INDEX 01 443:23:00
+  TRACK 721 AUDIO
+    TITLE "Part 721"
+    INDEX 01 444:00:00
+  TRACK 722 AUDIO
+    TITLE "Part 722"
+    INDEX 01 444:37:00
+  TRACK 723 AUDIO
+    TITLE "Part 723"
+    INDEX 01 445:14:00
+  TRACK 724 AUDIO
+    TITLE "Part 724"
+    INDEX 01 445:51:00
+  TRACK 725 AUDIO
+    TITLE "Part 725"
+    INDEX 01 446:28:00
+  TRACK 726 AUDIO
+    TITLE "Part 726"
+    INDEX 01 447:05:00
+  TRACK 727 AUDIO
+    TITLE "Part 727"
+    INDEX 01 447:42:00
+  TRACK 728 AUDIO
+    TITLE "Part 728"
+    INDEX 01 448:19:00
+  TRACK 729 AUDIO
+    TITLE "Part 729"
+    INDEX 01 448:56:00
+  TRACK 730 AUDIO
+    TITLE "Part 730"
+    INDEX 01 449:33:00
+  TRACK 731 AUDIO
+    TITLE "Part 731"
+    INDEX 01 450:10:00
+  TRACK 732 AUDIO
+    TITLE "Part 732"
+    INDEX 01 450:47:00
+  TRACK 733 AUDIO
+    TITLE "Part 733"
+    INDEX 01 451:24:00
+  TRACK 734 AUDIO
+    TITLE "Part 734"
+    INDEX 01 452:01:00
+  TRACK 735 AUDIO
+    TITLE "Part 735"
+    INDEX 01 452:38:00
+  TRACK 736 AUDIO
+    TITLE "Part 736"
+    INDEX 01 453:15:00
+  TRACK 737 AUDIO
+    TITLE "Part 737"
+    INDEX 01 453:52:00
+  TRACK 738 AUDIO
+    TITLE "Part 738"
+    INDEX 01 454:29:00
+  TRACK 739 AUDIO
+    TITLE "Part 739"
+    INDEX 01 455:06:00
+  TRACK 740 AUDIO
+    TITLE "Part 740"
+    INDEX 01 455:43:00
+  TRACK 741 AUDIO
+    TITLE "Part 741"
+    INDEX 01 456:20:00
+  TRACK 742 AUDIO
+    TITLE "Part 742"
+    INDEX 01 456:57:00
+  TRACK 743 AUDIO
+    TITLE "Part 743"
+    INDEX 01 457:34:00
+  TRACK 744 AUDIO
+    TITLE "Part 744"
+    INDEX 01 458:11:00
+  TRACK 745 AUDIO
+    TITLE "Part 745"
+    INDEX 01 458:48:00
+  TRACK 746 AUDIO
+    TITLE "Part 746"
+    INDEX 01 459:25:00
+  TRACK 747 AUDIO
+    TITLE "Part 747"
+    INDEX 01 460:02:00
+  TRACK 748 AUDIO
+    TITLE "Part 748"
+    INDEX 01 460:39:00
+  TRACK 749 AUDIO
+    TITLE "Part 749"
+    INDEX 01 461:16:00
+  TRACK 750 AUDIO
+    TITLE "Part 750"
+    INDEX 01 461:53:00
+  TRACK 751 AUDIO
+    TITLE "Part 751"
+    INDEX 01 462:30:00
+  TRACK 752 AUDIO
+    TITLE "Part 752"
+    INDEX 01 463:07:00
+  TRACK 753 AUDIO
+    TITLE "Part 753"
+    INDEX 01 463:44:00
+  TRACK 754 AUDIO
+    TITLE "Part 754"
+    INDEX 01 464:21:00
+  TRACK 755 AUDIO
+    TITLE "Part 755"
+    INDEX 01 464:58:00
+  TRACK 756 AUDIO
+    TITLE "Part 756"
+    INDEX 01 465:35:00
+  TRACK 757 AUDIO
+    TITLE "Part 757"
+    INDEX 01 466:12:00
+  TRACK 758 AUDIO
+    TITLE "Part 758"
+    INDEX 01 466:49:00
+  TRACK 759 AUDIO
+    TITLE "Part 759"
+    INDEX 01 467:26:00
+  TRACK 760 AUDIO
+    TITLE "Part 760"
+    INDEX 01 468:03:00
+  TRACK 761 AUDIO
+    TITLE "Part 761"
+    INDEX 01 468:40:00
+  TRACK 762 AUDIO
+    TITLE "Part 762"
+    INDEX 01 469:17:00
+  TRACK 763 AUDIO
+    TITLE "Part 763"
+    INDEX 01 469:54:00
+  TRACK 764 AUDIO
+    TITLE "Part 764"
+    INDEX 01 470:31:00
+  TRACK 765 AUDIO
+    TITLE "Part 765"
+    INDEX 01 471:08:00
+  TRACK 766 AUDIO
+    TITLE "Part 766"
+    INDEX 01 471:45:00
+  TRACK 767 AUDIO
+    TITLE "Part 767"
+    INDEX 01 472:22:00
+  TRACK 768 AUDIO
+    TITLE "Part 768"
+    INDEX 01 472:59:00
+  TRACK 769 AUDIO
+    TITLE "Part 769"
+    INDEX 01 473:36:00
+  TRACK 770 AUDIO
+    TITLE "Part 770"
+    INDEX 01 474:13:00
+  TRACK 771 AUDIO
+    TITLE "Part 771"
+    INDEX 01 474:50:00
+  TRACK 772 AUDIO
+    TITLE "Part 772"
+    INDEX 01 475:27:00
+  TRACK 773 AUDIO
+    TITLE "Part 773"
+    INDEX 01 476:04:00
+  TRACK 774 AUDIO
+    TITLE "Part 774"
+    INDEX 01 476:41:00
+  TRACK 775 AUDIO
+    TITLE "Part 775"
+    INDEX 01 477:18:00
+  TRACK 776 AUDIO
+    TITLE "Part 776"
+    INDEX 01 477:55:00
+  TRACK 777 AUDIO
+    TITLE "Part 777"
+    INDEX 01 478:32:00
+  TRACK 778 AUDIO
+    TITLE "Part 778"
+    INDEX 01 479:09:00
+  TRACK 779 AUDIO
+    TITLE "Part 779"
+    INDEX 01 479:46:00
+  TRACK 780 AUDIO
+    TITLE "Part 780"
+    INDEX 01 480:23:00
+  TRACK 781 AUDIO
+    TITLE "Part 781"
+    INDEX 01 481:00:00
+  TRACK 782 AUDIO
+    TITLE "Part 782"
+    INDEX 01 481:37:00
+  TRACK 783 AUDIO
+    TITLE "Part 783"
+    INDEX 01 482:14:00
+  TRACK 784 AUDIO
+    TITLE "Part 784"
+    INDEX 01 482:51:00
+  TRACK 785 AUDIO
+    TITLE "Part 785"
+    INDEX 01 483:28:00
+  TRACK 786 AUDIO
+    TITLE "Part 786"
+    INDEX 01 484:05:00
+  TRACK 787 AUDIO
+    TITLE "Part 787"
+    INDEX 01 484:42:00
+  TRACK 788 AUDIO
+    TITLE "Part 788"
+    INDEX 01 485:19:00
+  TRACK 789 AUDIO
+    TITLE "Part 789"
+    INDEX 01 485:56:00
+  TRACK 790 AUDIO
+    TITLE "Part 790"
+    INDEX 01 486:33:00
+  TRACK 791 AUDIO
+    TITLE "Part 791"
+    INDEX 01 487:10:00
+  TRACK 792 AUDIO
+    TITLE "Part 792"
+    INDEX 01 487:47:00
+  TRACK 793 AUDIO
+    TITLE "Part 793"
+    INDEX 01 488:24:00
+  TRACK 794 AUDIO
+    TITLE "Part 794"
+    INDEX 01 489:01:00
+  TRACK 795 AUDIO
+    TITLE "Part 795"
+    INDEX 01 489:38:00
+  TRACK 796 AUDIO
+    TITLE "Part 796"
+    INDEX 01 490:15:00
+  TRACK 797 AUDIO
+    TITLE "Part 797"
+    INDEX 01 490:52:00
+  TRACK 798 AUDIO
+    TITLE "Part 798"
+    INDEX 01 491:29:00
+  TRACK 799 AUDIO
+    TITLE "Part 799"
+    INDEX 01 492:06:00
+  TRACK 800 AUDIO
+    TITLE "Part 800"
+    INDEX 01 492:43:00
+  TRACK 801 AUDIO
+    TITLE "Part 801"
+    INDEX 01 493:20:00
+  TRACK 802 AUDIO
+    TITLE "Part 802"
+    INDEX 01 493:57:00
+  TRACK 803 AUDIO
+    TITLE "Part 803"
+    INDEX 01 494:34:00
+  TRACK 804 AUDIO
+    TITLE "Part 804"
+    INDEX 01 495:11:00
+  TRACK 805 AUDIO
+    TITLE "Part 805"
+    INDEX 01 495:48:00
+  TRACK 806 AUDIO
+    TITLE "Part 806"
+    INDEX 01 496:25:00
+  TRACK 807 AUDIO
+    TITLE "Part 807"
+    INDEX 01 497:02:00
+  TRACK 808 AUDIO
+    TITLE "Part 808"
+    INDEX 01 497:39:00
+  TRACK 809 AUDIO
+    TITLE "Part 809"
+    INDEX 01 498:16:00
+  TRACK 810 AUDIO
+    TITLE "Part 810"
+    INDEX 01 498:53:00
+  TRACK 811 AUDIO
+    TITLE "Part 811"
+    INDEX 01 499:30:00
+  TRACK 812 AUDIO
+    TITLE "Part 812"
+    INDEX 01 500:07:00
+  TRACK 813 AUDIO
+    TITLE "Part 813"
+    INDEX 01 500:44:00
+  TRACK 814 AUDIO
+    TITLE "Part 814"
+    INDEX 01 501:21:00
+  TRACK 815 AUDIO
+    TITLE "Part 815"
+    INDEX 01 501:58:00
+  TRACK 816 AUDIO
+    TITLE "Part 816"
+    INDEX 01 502:35:00
+  TRACK 817 AUDIO
+    TITLE "Part 817"
+    INDEX 01 503:12:00
+  TRACK 818 AUDIO
+    TITLE "Part 818"
+    INDEX 01 503:49:00
+  TRACK 819 AUDIO
+    TITLE "Part 819"
+    INDEX 01 504:26:00
+  TRACK 820 AUDIO
+    TITLE "Part 820"
+    INDEX 01 505:03:00
+  TRACK 821 AUDIO
+    TITLE "Part 821"
+    INDEX 01 505:40:00
+  TRACK 822 AUDIO
+    TITLE "Part 822"
+    INDEX 01 506:17:00
+  TRACK 823 AUDIO
+    TITLE "Part 823"
+    INDEX 01 506:54:00
+  TRACK 824 AUDIO
+    TITLE "Part 824"
+    INDEX 01 507:31:00
+  TRACK 825 AUDIO
+    TITLE "Part 825"
+    INDEX 01 508:08:00
+  TRACK 826 AUDIO
+    TITLE "Part 826"
+    INDEX 01 508:45:00
+  TRACK 827 AUDIO
+    TITLE "Part 827"
+    INDEX 01 509:22:00
+  TRACK 828 AUDIO
+    TITLE "Part 828"
+    INDEX 01 509:59:00
+  TRACK 829 AUDIO
+    TITLE "Part 829"
+    INDEX 01 510:36:00
+  TRACK 830 AUDIO
+    TITLE "Part 830"
+    INDEX 01 511:13:00
+  TRACK 831 AUDIO
+    TITLE "Part 831"
+    INDEX 01 511:50:00
+  TRACK 832 AUDIO
+    TITLE "Part 832"
+    INDEX 01 512:27:00
+  TRACK 833 AUDIO
+    TITLE "Part 833"
+    INDEX 01 513:04:00
+  TRACK 834 AUDIO
+    TITLE "Part 834"
+    INDEX 01 513:41:00
+  TRACK 835 AUDIO
+    TITLE "Part 835"
+    INDEX 01 514:18:00
+  TRACK 836 AUDIO
+    TITLE "Part 836"
+    INDEX 01 514:55:00
+  TRACK 837 AUDIO
+    TITLE "Part 837"
+    INDEX 01 515:32:00
+  TRACK 838 AUDIO
+    TITLE "Part 838"
+    INDEX 01 516:09:00
+  TRACK 839 AUDIO
+    TITLE "Part 839"
+    INDEX 01 516:46:00
+  TRACK 840 AUDIO
+    TITLE "Part 840"
+    INDEX 01 517:23:00
+  TRACK 841 AUDIO
+    TITLE "Part 841"
+    INDEX 01 518:00:00
+  TRACK 842 AUDIO
+    TITLE "Part 842"
+    INDEX 01 518:37:00
+  TRACK 843 AUDIO
+    TITLE "Part 843"
+    INDEX 01 519:14:00
+  TRACK 844 AUDIO
+    TITLE "Part 844"
+    INDEX 01 519:51:00
+  TRACK 845 AUDIO
+    TITLE "Part 845"
+    INDEX 01 520:28:00
+  TRACK 846 AUDIO
+    TITLE "Part 846"
+    INDEX 01 521:05:00
+  TRACK 847 AUDIO
+    TITLE "Part 847"
+    INDEX 01 521:42:00
+  TRACK 848 AUDIO
+    TITLE "Part 848"
+    INDEX 01 522:19:00
+  TRACK 849 AUDIO
+    TITLE "Part 849"
+    INDEX 01 522:56:00
+  TRACK 850 AUDIO
+    TITLE "Part 850"
+    INDEX 01 523:33:00
+  TRACK 851 AUDIO
+    TITLE "Part 851"
+    INDEX 01 524:10:00
+  TRACK 852 AUDIO
+    TITLE "Part 852"
+    INDEX 01 524:47:00
+  TRACK 853 AUDIO
+    TITLE "Part 853"
+    INDEX 01 525:24:00
+  TRACK 854 AUDIO
+    TITLE "Part 854"
+    INDEX 01 526:01:00
+  TRACK 855 AUDIO
+    TITLE "Part 855"
+    INDEX 01 526:38:00
+  TRACK 856 AUDIO
+    TITLE "Part 856"
+    INDEX 01 527:15:00
+  TRACK 857 AUDIO
+    TITLE "Part 857"
+    INDEX 01 527:52:00
+  TRACK 858 AUDIO
+    TITLE "Part 858"
+    INDEX 01 528:29:00
+  TRACK 859 AUDIO
+    TITLE "Part 859"
+    INDEX 01 529:06:00
+  TRACK 860 AUDIO
+    TITLE "Part 860"
+    INDEX 01 529:43:00
+  TRACK 861 AUDIO
+    TITLE "Part 861"
+    INDEX 01 530:20:00
+  TRACK 862 AUDIO
+    TITLE "Part 862"
+    INDEX 01 530:57:00
+  TRACK 863 AUDIO
+    TITLE "Part 863"
+    INDEX 01 531:34:00
+  TRACK 864 AUDIO
+    TITLE "Part 864"
+    INDEX 01 532:11:00
+  TRACK 865 AUDIO
+    TITLE "Part 865"
+    INDEX 01 532:48:00
+  TRACK 866 AUDIO
+    TITLE "Part 866"
+    INDEX 01 533:25:00
+  TRACK 867 AUDIO
+    TITLE "Part 867"
+    INDEX 01 534:02:00
+  TRACK 868 AUDIO
+    TITLE "Part 868"
+    INDEX 01 534:39:00
+  TRACK 869 AUDIO
+    TITLE "Part 869"
+    INDEX 01 535:16:00
+  TRACK 870 AUDIO
+    TITLE "Part 870"
+    INDEX 01 535:53:00
+  TRACK 871 AUDIO
+    TITLE "Part 871"
+    INDEX 01 536:30:00
+  TRACK 872 AUDIO
+    TITLE "Part 872"
+    INDEX 01 537:07:00
+  TRACK 873 AUDIO
+    TITLE "Part 873"
+    INDEX 01 537:44:00
+  TRACK 874 AUDIO
+    TITLE "Part 874"
+    INDEX 01 538:21:00
+  TRACK 875 AUDIO
+    TITLE "Part 875"
+    INDEX 01 538:58:00
+  TRACK 876 AUDIO
+    TITLE "Part 876"
+    INDEX 01 539:35:00
+  TRACK 877 AUDIO
+    TITLE "Part 877"
+    INDEX 01 540:12:00
+  TRACK 878 AUDIO
+    TITLE "Part 878"
+    INDEX 01 540:49:00
+  TRACK 879 AUDIO
+    TITLE "Part 879"
+    INDEX 01 541:26:00
+  TRACK 880 AUDIO
+    TITLE "Part 880"
+    INDEX 01 542:03:00
+  TRACK 881 AUDIO
+    TITLE "Part 881"
+    INDEX 01 542:40:00
+  TRACK 882 AUDIO
+    TITLE "Part 882"
+    INDEX 01 543:17:00
+  TRACK 883 AUDIO
+    TITLE "Part 883"
+    INDEX 01 543:54:00
+  TRACK 884 AUDIO
+    TITLE "Part 884"
+    INDEX 01 544:31:00
+  TRACK 885 AUDIO
+    TITLE "Part 885"
+    INDEX 01 545:08:00
+  TRACK 886 AUDIO
+    TITLE "Part 886"
+    INDEX 01 545:45:00
+  TRACK 887 AUDIO
+    TITLE "Part 887"
+    INDEX 01 546:22:00
+  TRACK 888 AUDIO
+    TITLE "Part 888"
+    INDEX 01 546:59:00
+  TRACK 889 AUDIO
+    TITLE "Part 889"
+    INDEX 01 547:36:00
+  TRACK 890 AUDIO
+    TITLE "Part 890"
+    INDEX 01 548:13:00
+  TRACK 891 AUDIO
+    TITLE "Part 891"
+    INDEX 01 548:50:00
+  TRACK 892 AUDIO
+    TITLE "Part 892"
+    INDEX 01 549:27:00
+  TRACK 893 AUDIO
+    TITLE "Part 893"
+    INDEX 01 550:04:00
+  TRACK 894 AUDIO
+    TITLE "Part 894"
+    INDEX 01 550:41:00
+  TRACK 895 AUDIO
+    TITLE "Part 895"
+    INDEX 01 551:18:00
+  TRACK 896 AUDIO
+    TITLE "Part 896"
+    INDEX 01 551:55:00
+  TRACK 897 AUDIO
+    TITLE "Part 897"
+    INDEX 01 552:32:00
+  TRACK 898 AUDIO
+    TITLE "Part 898"
+    INDEX 01 553:09:00
+  TRACK 899 AUDIO
+    TITLE "Part 899"
+    INDEX 01 553:46:00
+  TRACK 900 AUDIO
+    TITLE "Part 900"
+    INDEX 01 554:23:00
+  TRACK 901 AUDIO
+    TITLE "Part 901"
+    INDEX 01 555:00:00
+  TRACK 902 AUDIO
+    TITLE "Part 902"
+    INDEX 01 555:37:00
+  TRACK 903 AUDIO
+    TITLE "Part 903"
+    INDEX 01 556:14:00
+  TRACK 904 AUDIO
+    TITLE "Part 904"
+    INDEX 01 556:51:00
+  TRACK 905 AUDIO
+    TITLE "Part 905"
+    INDEX 01 557:28:00
+  TRACK 906 AUDIO
+    TITLE "Part 906"
+    INDEX 01 558:05:00
+  TRACK 907 AUDIO
+    TITLE "Part 907"
+    INDEX 01 558:42:00
+  TRACK 908 AUDIO
+    TITLE "Part 908"
+    INDEX 01 559:19:00
+  TRACK 909 AUDIO
+    TITLE "Part 909"
+    INDEX 01 559:56:00
+  TRACK 910 AUDIO
+    TITLE "Part 910"
+    INDEX 01 560:33:00
+  TRACK 911 AUDIO
+    TITLE "Part 911"
+    INDEX 01 561:10:00
+  TRACK 912 AUDIO
+    TITLE "Part 912"
+    INDEX 01 561:47:00
+  TRACK 913 AUDIO
+    TITLE "Part 913"
+    INDEX 01 562:24:00
+  TRACK 914 AUDIO
+    TITLE "Part 914"
+    INDEX 01 563:01:00
+  TRACK 915 AUDIO
+    TITLE "Part 915"
+    INDEX 01 563:38:00
+  TRACK 916 AUDIO
+    TITLE "Part 916"
+    INDEX 01 564:15:00
+  TRACK 917 AUDIO
+    TITLE "Part 917"
+    INDEX 01 564:52:00
+  TRACK 918 AUDIO
+    TITLE "Part 918"
+    INDEX 01 565:29:00
+  TRACK 919 AUDIO
+    TITLE "Part 919"
+    INDEX 01 566:06:00
+  TRACK 920 AUDIO
+    TITLE "Part 920"
+    INDEX 01 566:43:00
+  TRACK 921 AUDIO
+    TITLE "Part 921"
+    INDEX 01 567:20:00
+  TRACK 922 AUDIO
+    TITLE "Part 922"
+    INDEX 01 567:57:00
+  TRACK 923 AUDIO
+    TITLE "Part 923"
+    INDEX 01 568:34:00
+  TRACK 924 AUDIO
+    TITLE "Part 924"
+    INDEX 01 569:11:00
+  TRACK 925 AUDIO
+    TITLE "Part 925"
+    INDEX 01 569:48:00
+  TRACK 926 AUDIO
+    TITLE "Part 926"
+    INDEX 01 570:25:00
+  TRACK 927 AUDIO
+    TITLE "Part 927"
+    INDEX 01 571:02:00
+  TRACK 928 AUDIO
+    TITLE "Part 928"
+    INDEX 01 571:39:00
+  TRACK 929 AUDIO
+    TITLE "Part 929"
+    INDEX 01 572:16:00
+  TRACK 930 AUDIO
+    TITLE "Part 930"
+    INDEX 01 572:53:00
+  TRACK 931 AUDIO
+    TITLE "Part 931"
+    INDEX 01 573:30:00
+  TRACK 932 AUDIO
+    TITLE "Part 932"
+    INDEX 01 574:07:00
+  TRACK 933 AUDIO
+    TITLE "Part 933"
+    INDEX 01 574:44:00
+  TRACK 934 AUDIO
+    TITLE "Part 934"
+    INDEX 01 575:21:00
+  TRACK 935 AUDIO
+    TITLE "Part 935"
+    INDEX 01 575:58:00
+  TRACK 936 AUDIO
+    TITLE "Part 936"
+    INDEX 01 576:35:00
+  TRACK 937 AUDIO
+    TITLE "Part 937"
+    INDEX 01 577:12:00
+  TRACK 938 AUDIO
+    TITLE "Part 938"
+    INDEX 01 577:49:00
+  TRACK 939 AUDIO
+    TITLE "Part 939"
+    INDEX 01 578:26:00
+  TRACK 940 AUDIO
+    TITLE "Part 940"
+    INDEX 01 579:03:00
+  TRACK 941 AUDIO
+    TITLE "Part 941"
+    INDEX 01 579:40:00
+  TRACK 942 AUDIO
+    TITLE "Part 942"
+    INDEX 01 580:17:00
+  TRACK 943 AUDIO
+    TITLE "Part 943"
+    INDEX 01 580:54:00
+  TRACK 944 AUDIO
+    TITLE "Part 944"
+    INDEX 01 581:31:00
+  TRACK 945 AUDIO
+    TITLE "Part 945"
+    INDEX 01 582:08:00
+  TRACK 946 AUDIO
+    TITLE "Part 946"
+    INDEX 01 582:45:00
+  TRACK 947 AUDIO
+    TITLE "Part 947"
+    INDEX 01 583:22:00
+  TRACK 948 AUDIO
+    TITLE "Part 948"
+    INDEX 01 583:59:00
+  TRACK 949 AUDIO
+    TITLE "Part 949"
+    INDEX 01 584:36:00
+  TRACK 950 AUDIO
+    TITLE "Part 950"
+    INDEX 01 585:13:00
+  TRACK 951 AUDIO
+    TITLE "Part 951"
+    INDEX 01 585:50:00
+  TRACK 952 AUDIO
+    TITLE "Part 952"
+    INDEX 01 586:27:00
+  TRACK 953 AUDIO
+    TITLE "Part 953"
+    INDEX 01 587:04:00
+  TRACK 954 AUDIO
+    TITLE "Part 954"
+    INDEX 01 587:41:00
+  TRACK 955 AUDIO
+    TITLE "Part 955"
+    INDEX 01 588:18:00
+  TRACK 956 AUDIO
+    TITLE "Part 956"
+    INDEX 01 588:55:00
+  TRACK 957 AUDIO
+    TITLE "Part 957"
+    INDEX 01 589:32:00
+  TRACK 958 AUDIO
+    TITLE "Part 958"
+    INDEX 01 590:09:00
+  TRACK 959 AUDIO
+    TITLE "Part 959"
+    INDEX 01 590:46:00
+  TRACK 960 AUDIO
+    TITLE "Part 960"
+    INDEX 01 591:23:00
+  TRACK 961 AUDIO
+    TITLE "Part 961"
+    INDEX 01 592:00:00
+  TRACK 962 AUDIO
+    TITLE "Part 962"
+    INDEX 01 592:37:00
+  TRACK 963 AUDIO
+    TITLE "Part 963"
+    INDEX 01 593:14:00
+  TRACK 964 AUDIO
+    TITLE "Part 964"
+    INDEX 01 593:51:00
+  TRACK 965 AUDIO
+    TITLE "Part 965"
+    INDEX 01 594:28:00
+  TRACK 966 AUDIO
+    TITLE "Part 966"
+    INDEX 01 595:05:00
+  TRACK 967 AUDIO
+    TITLE "Part 967"
+    INDEX 01 595:42:00
+  TRACK 968 AUDIO
+    TITLE "Part 968"
+    INDEX 01 596:19:00
+  TRACK 969 AUDIO
+    TITLE "Part 969"
+    INDEX 01 596:56:00
+  TRACK 970 AUDIO
+    TITLE "Part 970"
+    INDEX 01 597:33:00
+  TRACK 971 AUDIO
+    TITLE "Part 971"
+    INDEX 01 598:10:00
+  TRACK 972 AUDIO
+    TITLE "Part 972"
+    INDEX 01 598:47:00
+  TRACK 973 AUDIO
+    TITLE "Part 973"
+    INDEX 01 599:24:00
+  TRACK 974 AUDIO
+    TITLE "Part 974"
+    INDEX 01 600:01:00
+  TRACK 975 AUDIO
+    TITLE "Part 975"
+    INDEX 01 600:38:00
+  TRACK 976 AUDIO
+    TITLE "Part 976"
+    INDEX 01 601:15:00
+  TRACK 977 AUDIO
+    TITLE "Part 977"
+    INDEX 01 601:52:00
+  TRACK 978 AUDIO
+    TITLE "Part 978"
+    INDEX 01 602:29:00
+  TRACK 979 AUDIO
+    TITLE "Part 979"
+    INDEX 01 603:06:00
+  TRACK 980 AUDIO
+    TITLE "Part 980"
+    INDEX 01 603:43:00
+  TRACK 981 AUDIO
+    TITLE "Part 981"
+    INDEX 01 604:20:00
+  TRACK 982 AUDIO
+    TITLE "Part 982"
+    INDEX 01 604:57:00
+  TRACK 983 AUDIO
+    TITLE "Part 983"
+    INDEX 01 605:34:00
+  TRACK 984 AUDIO
+    TITLE "Part 984"
+    INDEX 01 606:11:00
+  TRACK 985 AUDIO
+    TITLE "Part 985"
+    INDEX 01 606:48:00
+  TRACK 986 AUDIO
+    TITLE "Part 986"
+    INDEX 01 607:25:00
+  TRACK 987 AUDIO
+    TITLE "Part 987"
+    INDEX 01 608:02:00
+  TRACK 988 AUDIO
+    TITLE "Part 988"
+    INDEX 01 608:39:00
+  TRACK 989 AUDIO
+    TITLE "Part 989"
+    INDEX 01 609:16:00
+  TRACK 990 AUDIO
+    TITLE "Part 990"
+    INDEX 01 609:53:00
+  TRACK 991 AUDIO
+    TITLE "Part 991"
+    INDEX 01 610:30:00
+  TRACK 992 AUDIO
+    TITLE "Part 992"
+    INDEX 01 611:07:00
+  TRACK 993 AUDIO
+    TITLE "Part 993"
+    INDEX 01 611:44:00
+  TRACK 994 AUDIO
+    TITLE "Part 994"
+    INDEX 01 612:21:00
+  TRACK 995 AUDIO
+    TITLE "Part 995"
+    INDEX 01 612:58:00
+  TRACK 996 AUDIO
+    TITLE "Part 996"
+    INDEX 01 613:35:00
+  TRACK 997 AUDIO
+    TITLE "Part 997"
+    INDEX 01 614:12:00
+  TRACK 998 AUDIO
+    TITLE "Part 998"
+    INDEX 01 614:49:00
+  TRACK 999 AUDIO
+    TITLE "Part 999"
+    INDEX 01 615:26:00
+  TRACK 1000 AUDIO
+    TITLE "Part 1000"
+    INDEX 01 616:03:00
+  TRACK 1001 AUDIO
+    TITLE "Part 1001"
+    INDEX 01 616:40:00
+  TRACK 1002 AUDIO
+    TITLE "Part 1002"
+    INDEX 01 617:17:00
+  TRACK 1003 AUDIO
+    TITLE "Part 1003"
+    INDEX 01 617:54:00
+  TRACK 1004 AUDIO
+    TITLE "Part 1004"
+    INDEX 01 618:31:00
+  TRACK 1005 AUDIO
+    TITLE "Part 1005"
+    INDEX 01 619:08:00
+  TRACK 1006 AUDIO
+    TITLE "Part 1006"
+    INDEX 01 619:45:00
+  TRACK 1007 AUDIO
+    TITLE "Part 1007"
+    INDEX 01 620:22:00
+  TRACK 1008 AUDIO
+    TITLE "Part 1008"
+    INDEX 01 620:59:00
+  TRACK 1009 AUDIO
+    TITLE "Part 1009"
+    INDEX 01 621:36:00
+  TRACK 1010 AUDIO
+    TITLE "Part 1010"
+    INDEX 01 622:13:00
+  TRACK 1011 AUDIO
+    TITLE "Part 1011"
+    INDEX 01 622:50:00
+  TRACK 1012 AUDIO
+    TITLE "Part 1012"
+    INDEX 01 623:27:00
+  TRACK 1013 AUDIO
+    TITLE "Part 1013"
+    INDEX 01 624:04:00
+  TRACK 1014 AUDIO
+    TITLE "Part 1014"
+    INDEX 01 624:41:00
+  TRACK 1015 AUDIO
+    TITLE "Part 1015"
+    INDEX 01 625:18:00
+  TRACK 1016 AUDIO
+    TITLE "Part 1016"
+    INDEX 01 625:55:00
+  TRACK 1017 AUDIO
+    TITLE "Part 1017"
+    INDEX 01 626:32:00
+  TRACK 1018 AUDIO
+    TITLE "Part 1018"
+    INDEX 01 627:09:00
+  TRACK 1019 AUDIO
+    TITLE "Part 1019"
+    INDEX 01 627:46:00
+  TRACK 1020 AUDIO
+    TITLE "Part 1020"
+    INDEX 01 628:23:00
+  TRACK 1021 AUDIO
+    TITLE "Part 1021"
+    INDEX 01 629:00:00
+  TRACK 1022 AUDIO
+    TITLE "Part 1022"
+    INDEX 01 629:37:00
+  TRACK 1023 AUDIO
+    TITLE "Part 1023"
+    INDEX 01 630:14:00
+  TRACK 1024 AUDIO
+    TITLE "Part 1024"
+    INDEX 01 630:51:00
+  TRACK 1025 AUDIO
+    TITLE "Part 1025"
+    INDEX 01 631:28:00
+  TRACK 1026 AUDIO
+    TITLE "Part 1026"
+    INDEX 01 632:05:00
+  TRACK 1027 AUDIO
+    TITLE "Part 1027"
+    INDEX 01 632:42:00
+  TRACK 1028 AUDIO
+    TITLE "Part 1028"
+    INDEX 01 633:19:00
+  TRACK 1029 AUDIO
+    TITLE "Part 1029"
+    INDEX 01 633:56:00
+  TRACK 1030 AUDIO
+    TITLE "Part 1030"
+    INDEX 01 634:33:00
+  TRACK 1031 AUDIO
+    TITLE "Part 1031"
+    INDEX 01 635:10:00
+  TRACK 1032 AUDIO
+    TITLE "Part 1032"
+    INDEX 01 635:47:00
+  TRACK 1033 AUDIO
+    TITLE "Part 1033"
+    INDEX 01 636:24:00
+  TRACK 1034 AUDIO
+    TITLE "Part 1034"
+    INDEX 01 637:01:00
+  TRACK 1035 AUDIO
+    TITLE "Part 1035"
+    INDEX 01 637:38:00
+  TRACK 1036 AUDIO
+    TITLE "Part 1036"
+    INDEX 01 638:15:00
+  TRACK 1037 AUDIO
+    TITLE "Part 1037"
+    INDEX 01 638:52:00
+  TRACK 1038 AUDIO
+    TITLE "Part 1038"
+    INDEX 01 639:29:00
+  TRACK 1039 AUDIO
+    TITLE "Part 1039"
+    INDEX 01 640:06:00
+  TRACK 1040 AUDIO
+    TITLE "Part 1040"
+    INDEX 01 640:43:00
+  TRACK 1041 AUDIO
+    TITLE "Part 1041"
+    INDEX 01 641:20:00
+  TRACK 1042 AUDIO
+    TITLE "Part 1042"
+    INDEX 01 641:57:00
+  TRACK 1043 AUDIO
+    TITLE "Part 1043"
+    INDEX 01 642:34:00
+  TRACK 1044 AUDIO
+    TITLE "Part 1044"
+    INDEX 01 643:11:00
+  TRACK 1045 AUDIO
+    TITLE "Part 1045"
+    INDEX 01 643:48:00
+  TRACK 1046 AUDIO
+    TITLE "Part 1046"
+    INDEX 01 644:25:00
+  TRACK 1047 AUDIO
+    TITLE "Part 1047"
+    INDEX 01 645:02:00
+  TRACK 1048 AUDIO
+    TITLE "Part 1048"
+    INDEX 01 645:39:00
+  TRACK 1049 AUDIO
+    TITLE "Part 1049"
+    INDEX 01 646:16:00
+  TRACK 1050 AUDIO
+    TITLE "Part 1050"
+    INDEX 01 646:53:00
+  TRACK 1051 AUDIO
+    TITLE "Part 1051"
+    INDEX 01 647:30:00
+  TRACK 1052 AUDIO
+    TITLE "Part 1052"
+    INDEX 01 648:07:00
+  TRACK 1053 AUDIO
+    TITLE "Part 1053"
+    INDEX 01 648:44:00
+  TRACK 1054 AUDIO
+    TITLE "Part 1054"
+    INDEX 01 649:21:00
+  TRACK 1055 AUDIO
+    TITLE "Part 1055"
+    INDEX 01 649:58:00
+  TRACK 1056 AUDIO
+    TITLE "Part 1056"
+    INDEX 01 650:35:00
+  TRACK 1057 AUDIO
+    TITLE "Part 1057"
+    INDEX 01 651:12:00
+  TRACK 1058 AUDIO
+    TITLE "Part 1058"
+    INDEX 01 651:49:00
+  TRACK 1059 AUDIO
+    TITLE "Part 1059"
+    INDEX 01 652:26:00
+  TRACK 1060 AUDIO
+    TITLE "Part 1060"
+    INDEX 01 653:03:00
+  TRACK 1061 AUDIO
+    TITLE "Part 1061"
+    INDEX 01 653:40:00
+  TRACK 1062 AUDIO
+    TITLE "Part 1062"
+    INDEX 01 654:17:00
+  TRACK 1063 AUDIO
+    TITLE "Part 1063"
+    INDEX 01 654:54:00
+  TRACK 1064 AUDIO
+    TITLE "Part 1064"
+    INDEX 01 655:31:00
+  TRACK 1065 AUDIO
+    TITLE "Part 1065"
+    INDEX 01 656:08:00
+  TRACK 1066 AUDIO
+    TITLE "Part 1066"
+    INDEX 01 656:45:00
+  TRACK 1067 AUDIO
+    TITLE "Part 1067"
+    INDEX 01 657:22:00
+  TRACK 1068 AUDIO
+    TITLE "Part 1068"
+    INDEX 01 657:59:00
+  TRACK 1069 AUDIO
+    TITLE "Part 1069"
+    INDEX 01 658:36:00
+  TRACK 1070 AUDIO
+    TITLE "Part 1070"
+    INDEX 01 659:13:00
+  TRACK 1071 AUDIO
+    TITLE "Part 1071"
+    INDEX 01 659:50:00
+  TRACK 1072 AUDIO
+    TITLE "Part 1072"
+    INDEX 01 660:27:00
+  TRACK 1073 AUDIO
+    TITLE "Part 1073"
+    INDEX 01 661:04:00
+  TRACK 1074 AUDIO
+    TITLE "Part 1074"
+    INDEX 01 661:41:00
+  TRACK 1075 AUDIO
+    TITLE "Part 1075"
+    INDEX 01 662:18:00
+  TRACK 1076 AUDIO
+    TITLE "Part 1076"
+    INDEX 01 662:55:00
+  TRACK 1077 AUDIO
+    TITLE "Part 1077"
+    INDEX 01 663:32:00
+  TRACK 1078 AUDIO
+    TITLE "Part 1078"
+    INDEX 01 664:09:00
+  TRACK 1079 AUDIO
+    TITLE "Part 1079"
+    INDEX 01 664:46:00
+  TRACK 1080 AUDIO
+    TITLE "Part 1080"
+    INDEX 01 665:23:00
+  TRACK 1081 AUDIO
+    TITLE "Part 1081"
+    INDEX 01 666:00:00
+  TRACK 1082 AUDIO
+    TITLE "Part 1082"
+    INDEX 01 666:37:00
+  TRACK 1083 AUDIO
+    TITLE "Part 1083"
+    INDEX 01 667:14:00
+  TRACK 1084 AUDIO
+    TITLE "Part 1084"
+    INDEX 01 667:51:00
+  TRACK 1085 AUDIO
+    TITLE "Part 1085"
+    INDEX 01 668:28:00
+  TRACK 1086 AUDIO
+    TITLE "Part 1086"
+    INDEX 01 669:05:00
+  TRACK 1087 AUDIO
+    TITLE "Part 1087"
+    INDEX 01 669:42:00
+  TRACK 1088 AUDIO
+    TITLE "Part 1088"
+    INDEX 01 670:19:00
+  TRACK 1089 AUDIO
+    TITLE "Part 1089"
+    INDEX 01 670:56:00
+  TRACK 1090 AUDIO
+    TITLE "Part 1090"
+    INDEX 01 671:33:00
+  TRACK 1091 AUDIO
+    TITLE "Part 1091"
+    INDEX 01 672:10:00
+  TRACK 1092 AUDIO
+    TITLE "Part 1092"
+    INDEX 01 672:47:00
+  TRACK 1093 AUDIO
+    TITLE "Part 1093"
+    INDEX 01 673:24:00
+  TRACK 1094 AUDIO
+    TITLE "Part 1094"
+    INDEX 01 674:01:00
+  TRACK 1095 AUDIO
+    TITLE "Part 1095"
+    INDEX 01 674:38:00
+  TRACK 1096 AUDIO
+    TITLE "Part 1096"
+    INDEX 01 675:15:00
+  TRACK 1097 AUDIO
+    TITLE "Part 1097"
+    INDEX 01 675:52:00
+  TRACK 1098 AUDIO
+    TITLE "Part 1098"
+    INDEX 01 676:29:00
+  TRACK 1099 AUDIO
+    TITLE "Part 1099"
+    INDEX 01 677:06:00
+  TRACK 1100 AUDIO
+    TITLE "Part 1100"
+    INDEX 01 677:43:00
+  TRACK 1101 AUDIO
+    TITLE "Part 1101"
+    INDEX 01 678:20:00
+  TRACK 1102 AUDIO
+    TITLE "Part 1102"
+    INDEX 01 678:57:00
+  TRACK 1103 AUDIO
+    TITLE "Part 1103"
+    INDEX 01 679:34:00
+  TRACK 1104 AUDIO
+    TITLE "Part 1104"
+    INDEX 01 680:11:00
+  TRACK 1105 AUDIO
+    TITLE "Part 1105"
+    INDEX 01 680:48:00
+  TRACK 1106 AUDIO
+    TITLE "Part 1106"
+    INDEX 01 681:25:00
+  TRACK 1107 AUDIO
+    TITLE "Part 1107"
+    INDEX 01 682:02:00
+  TRACK 1108 AUDIO
+    TITLE "Part 1108"
+    INDEX 01 682:39:00
+  TRACK 1109 AUDIO
+    TITLE "Part 1109"
+    INDEX 01 683:16:00
+  TRACK 1110 AUDIO
+    TITLE "Part 1110"
+    INDEX 01 683:53:00
+  TRACK 1111 AUDIO
+    TITLE "Part 1111"
+    INDEX 01 684:30:00
+  TRACK 1112 AUDIO
+    TITLE "Part 1112"
+    INDEX 01 685:07:00
+  TRACK 1113 AUDIO
+    TITLE "Part 1113"
+    INDEX 01 685:44:00
+  TRACK 1114 AUDIO
+    TITLE "Part 1114"
+    INDEX 01 686:21:00
+  TRACK 1115 AUDIO
+    TITLE "Part 1115"
+    INDEX 01 686:58:00
+  TRACK 1116 AUDIO
+    TITLE "Part 1116"
+    INDEX 01 687:35:00
+  TRACK 1117 AUDIO
+    TITLE "Part 1117"
+    INDEX 01 688:12:00
+  TRACK 1118 AUDIO
+    TITLE "Part 1118"
+    INDEX 01 688:49:00
+  TRACK 1119 AUDIO
+    TITLE "Part 1119"
+    INDEX 01 689:26:00
+  TRACK 1120 AUDIO
+    TITLE "Part 1120"
+    INDEX 01 690:03:00
+  TRACK 1121 AUDIO
+    TITLE "Part 1121"
+    INDEX 01 690:40:00
+  TRACK 1122 AUDIO
+    TITLE "Part 1122"
+    INDEX 01 691:17:00
+  TRACK 1123 AUDIO
+    TITLE "Part 1123"
+    INDEX 01 691:54:00
+  TRACK 1124 AUDIO
+    TITLE "Part 1124"
+    INDEX 01 692:31:00
+  TRACK 1125 AUDIO
+    TITLE "Part 1125"
+    INDEX 01 693:08:00
+  TRACK 1126 AUDIO
+    TITLE "Part 1126"
+    INDEX 01 693:45:00
+  TRACK 1127 AUDIO
+    TITLE "Part 1127"
+    INDEX 01 694:22:00
+  TRACK 1128 AUDIO
+    TITLE "Part 1128"
+    INDEX 01 694:59:00
+  TRACK 1129 AUDIO
+    TITLE "Part 1129"
+    INDEX 01 695:36:00
+  TRACK 1130 AUDIO
+    TITLE "Part 1130"
+    INDEX 01 696:13:00
+  TRACK 1131 AUDIO
+    TITLE "Part 1131"
+    INDEX 01 696:50:00
+  TRACK 1132 AUDIO
+    TITLE "Part 1132"
+    INDEX 01 697:27:00
+  TRACK 1133 AUDIO
+    TITLE "Part 1133"
+    INDEX 01 698:04:00
+  TRACK 1134 AUDIO
+    TITLE "Part 1134"
+    INDEX 01 698:41:00
+  TRACK 1135 AUDIO
+    TITLE "Part 1135"
+    INDEX 01 699:18:00
+  TRACK 1136 AUDIO
+    TITLE "Part 1136"
+    INDEX 01 699:55:00
+  TRACK 1137 AUDIO
+    TITLE "Part 1137"
+    INDEX 01 700:32:00
+  TRACK 1138 AUDIO
+    TITLE "Part 1138"
+    INDEX 01 701:09:00
+  TRACK 1139 AUDIO
+    TITLE "Part 1139"
+    INDEX 01 701:46:00
+  TRACK 1140 AUDIO
+    TITLE "Part 1140"
+    INDEX 01 702:23:00
+  TRACK 1141 AUDIO
+    TITLE "Part 1141"
+    INDEX 01 703:00:00
+  TRACK 1142 AUDIO
+    TITLE "Part 1142"
+    INDEX 01 703:37:00
+  TRACK 1143 AUDIO
+    TITLE "Part 1143"
+    INDEX 01 704:14:00
+  TRACK 1144 AUDIO
+    TITLE "Part 1144"
+    INDEX 01 704:51:00
+  TRACK 1145 AUDIO
+    TITLE "Part 1145"
+    INDEX 01 705:28:00
+  TRACK 1146 AUDIO
+    TITLE "Part 1146"
+    INDEX 01 706:05:00
+  TRACK 1147 AUDIO
+    TITLE "Part 1147"
+    INDEX 01 706:42:00
+  TRACK 1148 AUDIO
+    TITLE "Part 1148"
+    INDEX 01 707:19:00
+  TRACK 1149 AUDIO
+    TITLE "Part 1149"
+    INDEX 01 707:56:00
+  TRACK 1150 AUDIO
+    TITLE "Part 1150"
+    INDEX 01 708:33:00
+  TRACK 1151 AUDIO
+    TITLE "Part 1151"
+    INDEX 01 709:10:00
+  TRACK 1152 AUDIO
+    TITLE "Part 1152"
+    INDEX 01 709:47:00
+  TRACK 1153 AUDIO
+    TITLE "Part 1153"
+    INDEX 01 710:24:00
+  TRACK 1154 AUDIO
+    TITLE "Part 1154"
+    INDEX 01 711:01:00
+  TRACK 1155 AUDIO
+    TITLE "Part 1155"
+    INDEX 01 711:38:00
+  TRACK 1156 AUDIO
+    TITLE "Part 1156"
+    INDEX 01 712:15:00
+  TRACK 1157 AUDIO
+    TITLE "Part 1157"
+    INDEX 01 712:52:00
+  TRACK 1158 AUDIO
+    TITLE "Part 1158"
+    INDEX 01 713:29:00
+  TRACK 1159 AUDIO
+    TITLE "Part 1159"
+    INDEX 01 714:06:00
+  TRACK 1160 AUDIO
+    TITLE "Part 1160"
+    INDEX 01 714:43:00
+  TRACK 1161 AUDIO
+    TITLE "Part 1161"
+    INDEX 01 715:20:00
+  TRACK 1162 AUDIO
+    TITLE "Part 1162"
+    INDEX 01 715:57:00
+  TRACK 1163 AUDIO
+    TITLE "Part 1163"
+    INDEX 01 716:34:00
+  TRACK 1164 AUDIO
+    TITLE "Part 1164"
+    INDEX 01 717:11:00
+  TRACK 1165 AUDIO
+    TITLE "Part 1165"
+    INDEX 01 717:48:00
+  TRACK 1166 AUDIO
+    TITLE "Part 1166"
+    INDEX 01 718:25:00
+  TRACK 1167 AUDIO
+    TITLE "Part 1167"
+    INDEX 01 719:02:00
+  TRACK 1168 AUDIO
+    TITLE "Part 1168"
+    INDEX 01 719:39:00
+  TRACK 1169 AUDIO
+    TITLE "Part 1169"
+    INDEX 01 720:16:00
+  TRACK 1170 AUDIO
+    TITLE "Part 1170"
+    INDEX 01 720:53:00
+  TRACK 1171 AUDIO
+    TITLE "Part 1171"
+    INDEX 01 721:30:00
+  TRACK 1172 AUDIO
+    TITLE "Part 1172"
+    INDEX 01 722:07:00
+  TRACK 1173 AUDIO
+    TITLE "Part 1173"
+    INDEX 01 722:44:00
+  TRACK 1174 AUDIO
+    TITLE "Part 1174"
+    INDEX 01 723:21:00
+  TRACK 1175 AUDIO
+    TITLE "Part 1175"
+    INDEX 01 723:58:00
+  TRACK 1176 AUDIO
+    TITLE "Part 1176"
+    INDEX 01 724:35:00
+  TRACK 1177 AUDIO
+    TITLE "Part 1177"
+    INDEX 01 725:12:00
+  TRACK 1178 AUDIO
+    TITLE "Part 1178"
+    INDEX 01 725:49:00
+  TRACK 1179 AUDIO
+    TITLE "Part 1179"
+    INDEX 01 726:26:00
+  TRACK 1180 AUDIO
+    TITLE "Part 1180"
+    INDEX 01 727:03:00
+  TRACK 1181 AUDIO
+    TITLE "Part 1181"
+    INDEX 01 727:40:00
+  TRACK 1182 AUDIO
+    TITLE "Part 1182"
+    INDEX 01 728:17:00
+  TRACK 1183 AUDIO
+    TITLE "Part 1183"
+    INDEX 01 728:54:00
+  TRACK 1184 AUDIO
+    TITLE "Part 1184"
+    INDEX 01 729:31:00
+  TRACK 1185 AUDIO
+    TITLE "Part 1185"
+    INDEX 01 730:08:00
+  TRACK 1186 AUDIO
+    TITLE "Part 1186"
+    INDEX 01 730:45:00
+  TRACK 1187 AUDIO
+    TITLE "Part 1187"
+    INDEX 01 731:22:00
+  TRACK 1188 AUDIO
+    TITLE "Part 1188"
+    INDEX 01 731:59:00
+  TRACK 1189 AUDIO
+    TITLE "Part 1189"
+    INDEX 01 732:36:00
+  TRACK 1190 AUDIO
+    TITLE "Part 1190"
+    INDEX 01 733:13:00
+  TRACK 1191 AUDIO
+    TITLE "Part 1191"
+    INDEX 01 733:50:00
+  TRACK 1192 AUDIO
+    TITLE "Part 1192"
+    INDEX 01 734:27:00
+  TRACK 1193 AUDIO
+    TITLE "Part 1193"
+    INDEX 01 735:04:00
+  TRACK 1194 AUDIO
+    TITLE "Part 1194"
+    INDEX 01 735:41:00
+  TRACK 1195 AUDIO
+    TITLE "Part 1195"
+    INDEX 01 736:18:00
+  TRACK 1196 AUDIO
+    TITLE "Part 1196"
+    INDEX 01 736:55:00
+  TRACK 1197 AUDIO
+    TITLE "Part 1197"
+    INDEX 01 737:32:00
+  TRACK 1198 AUDIO
+    TITLE "Part 1198"
+    INDEX 01 738:09:00
+  TRACK 1199 AUDIO
+    TITLE "Part 1199"
+    INDEX 01 738:46:00
+  TRACK 1200 AUDIO
+    TITLE "Part 1200"
+    INDEX 01 739:23:00
+  TRACK 1201 AUDIO
+    TITLE "Part 1201"
+    INDEX 01 740:00:00
+  TRACK 1202 AUDIO
+    TITLE "Part 1202"
+    INDEX 01 740:37:00
+  TRACK 1203 AUDIO
+    TITLE "Part 1203"
+    INDEX 01 741:14:00
+  TRACK 1204 AUDIO
+    TITLE "Part 1204"
+    INDEX 01 741:51:00
+  TRACK 1205 AUDIO
+    TITLE "Part 1205"
+    INDEX 01 742:28:00
+  TRACK 1206 AUDIO
+    TITLE "Part 1206"
+    INDEX 01 743:05:00
+  TRACK 1207 AUDIO
+    TITLE "Part 1207"
+    INDEX 01 743:42:00
+  TRACK 1208 AUDIO
+    TITLE "Part 1208"
+    INDEX 01 744:19:00
+  TRACK 1209 AUDIO
+    TITLE "Part 1209"
+    INDEX 01 744:56:00
+  TRACK 1210 AUDIO
+    TITLE "Part 1210"
+    INDEX 01 745:33:00
+  TRACK 1211 AUDIO
+    TITLE "Part 1211"
+    INDEX 01 746:10:00
+  TRACK 1212 AUDIO
+    TITLE "Part 1212"
+    INDEX 01 746:47:00
+  TRACK 1213 AUDIO
+    TITLE "Part 1213"
+    INDEX 01 747:24:00
+  TRACK 1214 AUDIO
+    TITLE "Part 1214"
+    INDEX 01 748:01:00
+  TRACK 1215 AUDIO
+    TITLE "Part 1215"
+    INDEX 01 748:38:00
+  TRACK 1216 AUDIO
+    TITLE "Part 1216"
+    INDEX 01 749:15:00
+  TRACK 1217 AUDIO
+    TITLE "Part 1217"
+    INDEX 01 749:52:00
+  TRACK 1218 AUDIO
+    TITLE "Part 1218"
+    INDEX 01 750:29:00
+  TRACK 1219 AUDIO
+    TITLE "Part 1219"
+    INDEX 01 751:06:00
+  TRACK 1220 AUDIO
+    TITLE "Part 1220"
+    INDEX 01 751:43:00
+  TRACK 1221 AUDIO
+    TITLE "Part 1221"
+    INDEX 01 752:20:00
+  TRACK 1222 AUDIO
+    TITLE "Part 1222"
+    INDEX 01 752:57:00
+  TRACK 1223 AUDIO
+    TITLE "Part 1223"
+    INDEX 01 753:34:00
+  TRACK 1224 AUDIO
+    TITLE "Part 1224"
+    INDEX 01 754:11:00
+  TRACK 1225 AUDIO
+    TITLE "Part 1225"
+    INDEX 01 754:48:00
+  TRACK 1226 AUDIO
+    TITLE "Part 1226"
+    INDEX 01 755:25:00
+  TRACK 1227 AUDIO
+    TITLE "Part 1227"
+    INDEX 01 756:02:00
+  TRACK 1228 AUDIO
+    TITLE "Part 1228"
+    INDEX 01 756:39:00
+  TRACK 1229 AUDIO
+    TITLE "Part 1229"
+    INDEX 01 757:16:00
+  TRACK 1230 AUDIO
+    TITLE "Part 1230"
+    INDEX 01 757:53:00
+  TRACK 1231 AUDIO
+    TITLE "Part 1231"
+    INDEX 01 758:30:00
+  TRACK 1232 AUDIO
+    TITLE "Part 1232"
+    INDEX 01 759:07:00
+  TRACK 1233 AUDIO
+    TITLE "Part 1233"
+    INDEX 01 759:44:00
+  TRACK 1234 AUDIO
+    TITLE "Part 1234"
+    INDEX 01 760:21:00
+  TRACK 1235 AUDIO
+    TITLE "Part 1235"
+    INDEX 01 760:58:00
+  TRACK 1236 AUDIO
+    TITLE "Part 1236"
+    INDEX 01 761:35:00
+  TRACK 1237 AUDIO
+    TITLE "Part 1237"
+    INDEX 01 762:12:00
+  TRACK 1238 AUDIO
+    TITLE "Part 1238"
+    INDEX 01 762:49:00
+  TRACK 1239 AUDIO
+    TITLE "Part 1239"
+    INDEX 01 763:26:00
+  TRACK 1240 AUDIO
+    TITLE "Part 1240"
+    INDEX 01 764:03:00
+  TRACK 1241 AUDIO
+    TITLE "Part 1241"
+    INDEX 01 764:40:00
+  TRACK 1242 AUDIO
+    TITLE "Part 1242"
+    INDEX 01 765:17:00
+  TRACK 1243 AUDIO
+    TITLE "Part 1243"
+    INDEX 01 765:54:00
+  TRACK 1244 AUDIO
+    TITLE "Part 1244"
+    INDEX 01 766:31:00
+  TRACK 1245 AUDIO
+    TITLE "Part 1245"
+    INDEX 01 767:08:00
+  TRACK 1246 AUDIO
+    TITLE "Part 1246"
+    INDEX 01 767:45:00
+  TRACK 1247 AUDIO
+    TITLE "Part 1247"
+    INDEX 01 768:22:00
+  TRACK 1248 AUDIO
+    TITLE "Part 1248"
+    INDEX 01 768:59:00
+  TRACK 1249 AUDIO
+    TITLE "Part 1249"
+    INDEX 01 769:36:00
+  TRACK 1250 AUDIO
+    TITLE "Part 1250"
+    INDEX 01 770:13:00
+  TRACK 1251 AUDIO
+    TITLE "Part 1251"
+    INDEX 01 770:50:00
+  TRACK 1252 AUDIO
+    TITLE "Part 1252"
+    INDEX 01 771:27:00
+  TRACK 1253 AUDIO
+    TITLE "Part 1253"
+    INDEX 01 772:04:00
+  TRACK 1254 AUDIO
+    TITLE "Part 1254"
+    INDEX 01 772:41:00
+  TRACK 1255 AUDIO
+    TITLE "Part 1255"
+    INDEX 01 773:18:00
+  TRACK 1256 AUDIO
+    TITLE "Part 1256"
+    INDEX 01 773:55:00
+  TRACK 1257 AUDIO
+    TITLE "Part 1257"
+    INDEX 01 774:32:00
+  TRACK 1258 AUDIO
+    TITLE "Part 1258"
+    INDEX 01 775:09:00
+  TRACK 1259 AUDIO
+    TITLE "Part 1259"
+    INDEX 01 775:46:00
+  TRACK 1260 AUDIO
+    TITLE "Part 1260"
+    INDEX 01 776:23:00
+  TRACK 1261 AUDIO
+    TITLE "Part 1261"
+    INDEX 01 777:00:00
+  TRACK 1262 AUDIO
+    TITLE "Part 1262"
+    INDEX 01 777:37:00
+  TRACK 1263 AUDIO
+    TITLE "Part 1263"
+    INDEX 01 778:14:00
+  TRACK 1264 AUDIO
+    TITLE "Part 1264"
+    INDEX 01 778:51:00
+  TRACK 1265 AUDIO
+    TITLE "Part 1265"
+    INDEX 01 779:28:00
+  TRACK 1266 AUDIO
+    TITLE "Part 1266"
+    INDEX 01 780:05:00
+  TRACK 1267 AUDIO
+    TITLE "Part 1267"
+    INDEX 01 780:42:00
+  TRACK 1268 AUDIO
+    TITLE "Part 1268"
+    INDEX 01 781:19:00
+  TRACK 1269 AUDIO
+    TITLE "Part 1269"
+    INDEX 01 781:56:00
+  TRACK 1270 AUDIO
+    TITLE "Part 1270"
+    INDEX 01 782:33:00
+  TRACK 1271 AUDIO
+    TITLE "Part 1271"
+    INDEX 01 783:10:00
+  TRACK 1272 AUDIO
+    TITLE "Part 1272"
+    INDEX 01 783:47:00
+  TRACK 1273 AUDIO
+    TITLE "Part 1273"
+    INDEX 01 784:24:00
+  TRACK 1274 AUDIO
+    TITLE "Part 1274"
+    INDEX 01 785:01:00
+  TRACK 1275 AUDIO
+    TITLE "Part 1275"
+    INDEX 01 785:38:00
+  TRACK 1276 AUDIO
+    TITLE "Part 1276"
+    INDEX 01 786:15:00
+  TRACK 1277 AUDIO
+    TITLE "Part 1277"
+    INDEX 01 786:52:00
+  TRACK 1278 AUDIO
+    TITLE "Part 1278"
+    INDEX 01 787:29:00
+  TRACK 1279 AUDIO
+    TITLE "Part 1279"
+    INDEX 01 788:06:00
+  TRACK 1280 AUDIO
+    TITLE "Part 1280"
+    INDEX 01 788:43:00
+  TRACK 1281 AUDIO
+    TITLE "Part 1281"
+    INDEX 01 789:20:00
+  TRACK 1282 AUDIO
+    TITLE "Part 1282"
+    INDEX 01 789:57:00
+  TRACK 1283 AUDIO
+    TITLE "Part 1283"
+    INDEX 01 790:34:00
+  TRACK 1284 AUDIO
+    TITLE "Part 1284"
+    INDEX 01 791:11:00
+  TRACK 1285 AUDIO
+    TITLE "Part 1285"
+    INDEX 01 791:48:00
+  TRACK 1286 AUDIO
+    TITLE "Part 1286"
+    INDEX 01 792:25:00
+  TRACK 1287 AUDIO
+    TITLE "Part 1287"
+    INDEX 01 793:02:00
+  TRACK 1288 AUDIO
+    TITLE "Part 1288"
+    INDEX 01 793:39:00
+  TRACK 1289 AUDIO
+    TITLE "Part 1289"
+    INDEX 01 794:16:00
+  TRACK 1290 AUDIO
+    TITLE "Part 1290"
+    INDEX 01 794:53:00
+  TRACK 1291 AUDIO
+    TITLE "Part 1291"
+    INDEX 01 795:30:00
+  TRACK 1292 AUDIO
+    TITLE "Part 1292"
+    INDEX 01 796:07:00
+  TRACK 1293 AUDIO
+    TITLE "Part 1293"
+    INDEX 01 796:44:00
+  TRACK 1294 AUDIO
+    TITLE "Part 1294"
+    INDEX 01 797:21:00
+  TRACK 1295 AUDIO
+    TITLE "Part 1295"
+    INDEX 01 797:58:00
+  TRACK 1296 AUDIO
+    TITLE "Part 1296"
+    INDEX 01 798:35:00
+  TRACK 1297 AUDIO
+    TITLE "Part 1297"
+    INDEX 01 799:12:00
+  TRACK 1298 AUDIO
+    TITLE "Part 1298"
+    INDEX 01 799:49:00
+  TRACK 1299 AUDIO
+    TITLE "Part 1299"
+    INDEX 01 800:26:00
+  TRACK 1300 AUDIO
+    TITLE "Part 1300"
+    INDEX 01 801:03:00
+  TRACK 1301 AUDIO
+    TITLE "Part 1301"
+    INDEX 01 801:40:00
+  TRACK 1302 AUDIO
+    TITLE "Part 1302"
+    INDEX 01 802:17:00
+  TRACK 1303 AUDIO
+    TITLE "Part 1303"
+    INDEX 01 802:54:00
+  TRACK 1304 AUDIO
+    TITLE "Part 1304"
+    INDEX 01 803:31:00
+  TRACK 1305 AUDIO
+    TITLE "Part 1305"
+    INDEX 01 804:08:00
+  TRACK 1306 AUDIO
+    TITLE "Part 1306"
+    INDEX 01 804:45:00
+  TRACK 1307 AUDIO
+    TITLE "Part 1307"
+    INDEX 01 805:22:00
+  TRACK 1308 AUDIO
+    TITLE "Part 1308"
+    INDEX 01 805:59:00
+  TRACK 1309 AUDIO
+    TITLE "Part 1309"
+    INDEX 01 806:36:00
+  TRACK 1310 AUDIO
+    TITLE "Part 1310"
+    INDEX 01 807:13:00
+  TRACK 1311 AUDIO
+    TITLE "Part 1311"
+    INDEX 01 807:50:00
+  TRACK 1312 AUDIO
+    TITLE "Part 1312"
+    INDEX 01 808:27:00
+  TRACK 1313 AUDIO
+    TITLE "Part 1313"
+    INDEX 01 809:04:00
+  TRACK 1314 AUDIO
+    TITLE "Part 1314"
+    INDEX 01 809:41:00
+  TRACK 1315 AUDIO
+    TITLE "Part 1315"
+    INDEX 01 810:18:00
+  TRACK 1316 AUDIO
+    TITLE "Part 1316"
+    INDEX 01 810:55:00
+  TRACK 1317 AUDIO
+    TITLE "Part 1317"
+    INDEX 01 811:32:00
+  TRACK 1318 AUDIO
+    TITLE "Part 1318"
+    INDEX 01 812:09:00
+  TRACK 1319 AUDIO
+    TITLE "Part 1319"
+    INDEX 01 812:46:00
+  TRACK 1320 AUDIO
+    TITLE "Part 1320"
+    INDEX 01 813:23:00
+  TRACK 1321 AUDIO
+    TITLE "Part 1321"
+    INDEX 01 814:00:00
+  TRACK 1322 AUDIO
+    TITLE "Part 1322"
+    INDEX 01 814:37:00
+  TRACK 1323 AUDIO
+    TITLE "Part 1323"
+    INDEX 01 815:14:00
+  TRACK 1324 AUDIO
+    TITLE "Part 1324"
+    INDEX 01 815:51:00
+  TRACK 1325 AUDIO
+    TITLE "Part 1325"
+    INDEX 01 816:28:00
+  TRACK 1326 AUDIO
+    TITLE "Part 1326"
+    INDEX 01 817:05:00
+  TRACK 1327 AUDIO
+    TITLE "Part 1327"
+    INDEX 01 817:42:00
+  TRACK 1328 AUDIO
+    TITLE "Part 1328"
+    INDEX 01 818:19:00
+  TRACK 1329 AUDIO
+    TITLE "Part 1329"
+    INDEX 01 818:56:00
+  TRACK 1330 AUDIO
+    TITLE "Part 1330"
+    INDEX 01 819:33:00
+  TRACK 1331 AUDIO
+    TITLE "Part 1331"
+    INDEX 01 820:10:00
+  TRACK 1332 AUDIO
+    TITLE "Part 1332"
+    INDEX 01 820:47:00
+  TRACK 1333 AUDIO
+    TITLE "Part 1333"
+    INDEX 01 821:24:00
+  TRACK 1334 AUDIO
+    TITLE "Part 1334"
+    INDEX 01 822:01:00
+  TRACK 1335 AUDIO
+    TITLE "Part 1335"
+    INDEX 01 822:38:00
+  TRACK 1336 AUDIO
+    TITLE "Part 1336"
+    INDEX 01 823:15:00
+  TRACK 1337 AUDIO
+    TITLE "Part 1337"
+    INDEX 01 823:52:00
+  TRACK 1338 AUDIO
+    TITLE "Part 1338"
+    INDEX 01 824:29:00
+  TRACK 1339 AUDIO
+    TITLE "Part 1339"
+    INDEX 01 825:06:00
+  TRACK 1340 AUDIO
+    TITLE "Part 1340"
+    INDEX 01 825:43:00
+  TRACK 1341 AUDIO
+    TITLE "Part 1341"
+    INDEX 01 826:20:00
+  TRACK 1342 AUDIO
+    TITLE "Part 1342"
+    INDEX 01 826:57:00
+  TRACK 1343 AUDIO
+    TITLE "Part 1343"
+    INDEX 01 827:34:00
+  TRACK 1344 AUDIO
+    TITLE "Part 1344"
+    INDEX 01 828:11:00
+  TRACK 1345 AUDIO
+    TITLE "Part 1345"
+    INDEX 01 828:48:00
+  TRACK 1346 AUDIO
+    TITLE "Part 1346"
+    INDEX 01 829:25:00
+  TRACK 1347 AUDIO
+    TITLE "Part 1347"
+    INDEX 01 830:02:00
+  TRACK 1348 AUDIO
+    TITLE "Part 1348"
+    INDEX 01 830:39:00
+  TRACK 1349 AUDIO
+    TITLE "Part 1349"
+    INDEX 01 831:16:00
+  TRACK 1350 AUDIO
+    TITLE "Part 1350"
+    INDEX 01 831:53:00
+  TRACK 1351 AUDIO
+    TITLE "Part 1351"
+    INDEX 01 832:30:00
+  TRACK 1352 AUDIO
+    TITLE "Part 1352"
+    INDEX 01 833:07:00
+  TRACK 1353 AUDIO
+    TITLE "Part 1353"
+    INDEX 01 833:44:00
+  TRACK 1354 AUDIO
+    TITLE "Part 1354"
+    INDEX 01 834:21:00
+  TRACK 1355 AUDIO
+    TITLE "Part 1355"
+    INDEX 01 834:58:00
+  TRACK 1356 AUDIO
+    TITLE "Part 1356"
+    INDEX 01 835:35:00
+  TRACK 1357 AUDIO
+    TITLE "Part 1357"
+    INDEX 01 836:12:00
+  TRACK 1358 AUDIO
+    TITLE "Part 1358"
+    INDEX 01 836:49:00
+  TRACK 1359 AUDIO
+    TITLE "Part 1359"
+    INDEX 01 837:26:00
+  TRACK 1360 AUDIO
+    TITLE "Part 1360"
+    INDEX 01 838:03:00
+  TRACK 1361 AUDIO
+    TITLE "Part 1361"
+    INDEX 01 838:40:00
+  TRACK 1362 AUDIO
+    TITLE "Part 1362"
+    INDEX 01 839:17:00
+  TRACK 1363 AUDIO
+    TITLE "Part 1363"
+    INDEX 01 839:54:00
+  TRACK 1364 AUDIO
+    TITLE "Part 1364"
+    INDEX 01 840:31:00
+  TRACK 1365 AUDIO
+    TITLE "Part 1365"
+    INDEX 01 841:08:00
+  TRACK 1366 AUDIO
+    TITLE "Part 1366"
+    INDEX 01 841:45:00
+  TRACK 1367 AUDIO
+    TITLE "Part 1367"
+    INDEX 01 842:22:00
+  TRACK 1368 AUDIO
+    TITLE "Part 1368"
+    INDEX 01 842:59:00
+  TRACK 1369 AUDIO
+    TITLE "Part 1369"
+    INDEX 01 843:36:00
+  TRACK 1370 AUDIO
+    TITLE "Part 1370"
+    INDEX 01 844:13:00
+  TRACK 1371 AUDIO
+    TITLE "Part 1371"
+    INDEX 01 844:50:00
+  TRACK 1372 AUDIO
+    TITLE "Part 1372"
+    INDEX 01 845:27:00
+  TRACK 1373 AUDIO
+    TITLE "Part 1373"
+    INDEX 01 846:04:00
+  TRACK 1374 AUDIO
+    TITLE "Part 1374"
+    INDEX 01 846:41:00
+  TRACK 1375 AUDIO
+    TITLE "Part 1375"
+    INDEX 01 847:18:00
+  TRACK 1376 AUDIO
+    TITLE "Part 1376"
+    INDEX 01 847:55:00
+  TRACK 1377 AUDIO
+    TITLE "Part 1377"
+    INDEX 01 848:32:00
+  TRACK 1378 AUDIO
+    TITLE "Part 1378"
+    INDEX 01 849:09:00
+  TRACK 1379 AUDIO
+    TITLE "Part 1379"
+    INDEX 01 849:46:00
+  TRACK 1380 AUDIO
+    TITLE "Part 1380"
+    INDEX 01 850:23:00
+  TRACK 1381 AUDIO
+    TITLE "Part 1381"
+    INDEX 01 851:00:00
+  TRACK 1382 AUDIO
+    TITLE "Part 1382"
+    INDEX 01 851:37:00
+  TRACK 1383 AUDIO
+    TITLE "Part 1383"
+    INDEX 01 852:14:00
+  TRACK 1384 AUDIO
+    TITLE "Part 1384"
+    INDEX 01 852:51:00
+  TRACK 1385 AUDIO
+    TITLE "Part 1385"
+    INDEX 01 853:28:00
+  TRACK 1386 AUDIO
+    TITLE "Part 1386"
+    INDEX 01 854:05:00
+  TRACK 1387 AUDIO
+    TITLE "Part 1387"
+    INDEX 01 854:42:00
+  TRACK 1388 AUDIO
+    TITLE "Part 1388"
+    INDEX 01 855:19:00
+  TRACK 1389 AUDIO
+    TITLE "Part 1389"
+    INDEX 01 855:56:00
+  TRACK 1390 AUDIO
+    TITLE "Part 1390"
+    INDEX 01 856:33:00
+  TRACK 1391 AUDIO
+    TITLE "Part 1391"
+    INDEX 01 857:10:00
+  TRACK 1392 AUDIO
+    TITLE "Part 1392"
+    INDEX 01 857:47:00
+  TRACK 1393 AUDIO
+    TITLE "Part 1393"
+    INDEX 01 858:24:00
+  TRACK 1394 AUDIO
+    TITLE "Part 1394"
+    INDEX 01 859:01:00
+  TRACK 1395 AUDIO
+    TITLE "Part 1395"
+    INDEX 01 859:38:00
+  TRACK 1396 AUDIO
+    TITLE "Part 1396"
+    INDEX 01 860:15:00
+  TRACK 1397 AUDIO
+    TITLE "Part 1397"
+    INDEX 01 860:52:00
+  TRACK 1398 AUDIO
+    TITLE "Part 1398"
+    INDEX 01 861:29:00
+  TRACK 1399 AUDIO
+    TITLE "Part 1399"
+    INDEX 01 862:06:00
+  TRACK 1400 AUDIO
+    TITLE "Part 1400"
+    INDEX 01 862:43:00
+  TRACK 1401 AUDIO
+    TITLE "Part 1401"
+    INDEX 01 863:20:00
+  TRACK 1402 AUDIO
+    TITLE "Part 1402"
+    INDEX 01 863:57:00
+  TRACK 1403 AUDIO
+    TITLE "Part 1403"
+    INDEX 01 864:34:00
+  TRACK 1404 AUDIO
+    TITLE "Part 1404"
+    INDEX 01 865:11:00
+  TRACK 1405 AUDIO
+    TITLE "Part 1405"
+    INDEX 01 865:48:00
+  TRACK 1406 AUDIO
+    TITLE "Part 1406"
+    INDEX 01 866:25:00
+  TRACK 1407 AUDIO
+    TITLE "Part 1407"
+    INDEX 01 867:02:00
+  TRACK 1408 AUDIO
+    TITLE "Part 1408"
+    INDEX 01 867:39:00
+  TRACK 1409 AUDIO
+    TITLE "Part 1409"
+    INDEX 01 868:16:00
+  TRACK 1410 AUDIO
+    TITLE "Part 1410"
+    INDEX 01 868:53:00
+  TRACK 1411 AUDIO
+    TITLE "Part 1411"
+    INDEX 01 869:30:00
+  TRACK 1412 AUDIO
+    TITLE "Part 1412"
+    INDEX 01 870:07:00
+  TRACK 1413 AUDIO
+    TITLE "Part 1413"
+    INDEX 01 870:44:00
+  TRACK 1414 AUDIO
+    TITLE "Part 1414"
+    INDEX 01 871:21:00
+  TRACK 1415 AUDIO
+    TITLE "Part 1415"
+    INDEX 01 871:58:00
+  TRACK 1416 AUDIO
+    TITLE "Part 1416"
+    INDEX 01 872:35:00
+  TRACK 1417 AUDIO
+    TITLE "Part 1417"
+    INDEX 01 873:12:00
+  TRACK 1418 AUDIO
+    TITLE "Part 1418"
+    INDEX 01 873:49:00
+  TRACK 1419 AUDIO
+    TITLE "Part 1419"
+    INDEX 01 874:26:00
+  TRACK 1420 AUDIO
+    TITLE "Part 1420"
+    INDEX 01 875:03:00
+  TRACK 1421 AUDIO
+    TITLE "Part 1421"
+    INDEX 01 875:40:00
+  TRACK 1422 AUDIO
+    TITLE "Part 1422"
+    INDEX 01 876:17:00
+  TRACK 1423 AUDIO
+    TITLE "Part 1423"
+    INDEX 01 876:54:00
+  TRACK 1424 AUDIO
+    TITLE "Part 1424"
+    INDEX 01 877:31:00
+  TRACK 1425 AUDIO
+    TITLE "Part 1425"
+    INDEX 01 878:08:00
+  TRACK 1426 AUDIO
+    TITLE "Part 1426"
+    INDEX 01 878:45:00
+  TRACK 1427 AUDIO
+    TITLE "Part 1427"
+    INDEX 01 879:22:00
+  TRACK 1428 AUDIO
+    TITLE "Part 1428"
+    INDEX 01 879:59:00
+  TRACK 1429 AUDIO
+    TITLE "Part 1429"
+    INDEX 01 880:36:00
+  TRACK 1430 AUDIO
+    TITLE "Part 1430"
+    INDEX 01 881:13:00
+  TRACK 1431 AUDIO
+    TITLE "Part 1431"
+    INDEX 01 881:50:00
+  TRACK 1432 AUDIO
+    TITLE "Part 1432"
+    INDEX 01 882:27:00
+  TRACK 1433 AUDIO
+    TITLE "Part 1433"
+    INDEX 01 883:04:00
+  TRACK 1434 AUDIO
+    TITLE "Part 1434"
+    INDEX 01 883:41:00
+  TRACK 1435 AUDIO
+    TITLE "Part 1435"
+    INDEX 01 884:18:00
+  TRACK 1436 AUDIO
+    TITLE "Part 1436"
+    INDEX 01 884:55:00
+  TRACK 1437 AUDIO
+    TITLE "Part 1437"
+    INDEX 01 885:32:00
+  TRACK 1438 AUDIO
+    TITLE "Part 1438"
+    INDEX 01 886:09:00
+  TRACK 1439 AUDIO
+    TITLE "Part 1439"
+    INDEX 01 886:46:00
+  TRACK 1440 AUDIO
+    TITLE "Part 1440"
+    INDEX 01 887:23:00
+  TRACK 1441 AUDIO
+    TITLE "Part 1441"
+    INDEX 01 888:00:00
+  TRACK 1442 AUDIO
+    TITLE "Part 1442"
+    INDEX 01 888:37:00
+  TRACK 1443 AUDIO
+    TITLE "Part 1443"
+    INDEX 01 889:14:00
+  TRACK 1444 AUDIO
+    TITLE "Part 1444"
+    INDEX 01 889:51:00
+  TRACK 1445 AUDIO
+    TITLE "Part 1445"
+    INDEX 01 890:28:00
+  TRACK 1446 AUDIO
+    TITLE "Part 1446"
+    INDEX 01 891:05:00
+  TRACK 1447 AUDIO
+    TITLE "Part 1447"
+    INDEX 01 891:42:00
+  TRACK 1448 AUDIO
+    TITLE "Part 1448"
+    INDEX 01 892:19:00
+  TRACK 1449 AUDIO
+    TITLE "Part 1449"
+    INDEX 01 892:56:00
+  TRACK 1450 AUDIO
+    TITLE "Part 1450"
+    INDEX 01 893:33:00
+  TRACK 1451 AUDIO
+    TITLE "Part 1451"
+    INDEX 01 894:10:00
+  TRACK 1452 AUDIO
+    TITLE "Part 1452"
+    INDEX 01 894:47:00
+  TRACK 1453 AUDIO
+    TITLE "Part 1453"
+    INDEX 01 895:24:00
+  TRACK 1454 AUDIO
+    TITLE "Part 1454"
+    INDEX 01 896:01:00
+  TRACK 1455 AUDIO
+    TITLE "Part 1455"
+    INDEX 01 896:38:00
+  TRACK 1456 AUDIO
+    TITLE "Part 1456"
+    INDEX 01 897:15:00
+  TRACK 1457 AUDIO
+    TITLE "Part 1457"
+    INDEX 01 897:52:00
+  TRACK 1458 AUDIO
+    TITLE "Part 1458"
+    INDEX 01 898:29:00
+  TRACK 1459 AUDIO
+    TITLE "Part 1459"
+    INDEX 01 899:06:00
+  TRACK 1460 AUDIO
+    TITLE "Part 1460"
+    INDEX 01 899:43:00
+  TRACK 1461 AUDIO
+    TITLE "Part 1461"
+    INDEX 01 900:20:00
+  TRACK 1462 AUDIO
+    TITLE "Part 1462"
+    INDEX 01 900:57:00
+  TRACK 1463 AUDIO
+    TITLE "Part 1463"
+    INDEX 01 901:34:00
+  TRACK 1464 AUDIO
+    TITLE "Part 1464"
+    INDEX 01 902:11:00
+  TRACK 1465 AUDIO
+    TITLE "Part 1465"
+    INDEX 01 902:48:00
+  TRACK 1466 AUDIO
+    TITLE "Part 1466"
+    INDEX 01 903:25:00
+  TRACK 1467 AUDIO
+    TITLE "Part 1467"
+    INDEX 01 904:02:00
+  TRACK 1468 AUDIO
+    TITLE "Part 1468"
+    INDEX 01 904:39:00
+  TRACK 1469 AUDIO
+    TITLE "Part 1469"
+    INDEX 01 905:16:00
+  TRACK 1470 AUDIO
+    TITLE "Part 1470"
+    INDEX 01 905:53:00
+  TRACK 1471 AUDIO
+    TITLE "Part 1471"
+    INDEX 01 906:30:00
+  TRACK 1472 AUDIO
+    TITLE "Part 1472"
+    INDEX 01 907:07:00
+  TRACK 1473 AUDIO
+    TITLE "Part 1473"
+    INDEX 01 907:44:00
+  TRACK 1474 AUDIO
+    TITLE "Part 1474"
+    INDEX 01 908:21:00
+  TRACK 1475 AUDIO
+    TITLE "Part 1475"
+    INDEX 01 908:58:00
+  TRACK 1476 AUDIO
+    TITLE "Part 1476"
+    INDEX 01 909:35:00
+  TRACK 1477 AUDIO
+    TITLE "Part 1477"
+    INDEX 01 910:12:00
+  TRACK 1478 AUDIO
+    TITLE "Part 1478"
+    INDEX 01 910:49:00
+  TRACK 1479 AUDIO
+    TITLE "Part 1479"
+    INDEX 01 911:26:00
+  TRACK 1480 AUDIO
+    TITLE "Part 1480"
+    INDEX 01 912:03:00
+  TRACK 1481 AUDIO
+    TITLE "Part 1481"
+    INDEX 01 912:40:00
+  TRACK 1482 AUDIO
+    TITLE "Part 1482"
+    INDEX 01 913:17:00
+  TRACK 1483 AUDIO
+    TITLE "Part 1483"
+    INDEX 01 913:54:00
+  TRACK 1484 AUDIO
+    TITLE "Part 1484"
+    INDEX 01 914:31:00
+  TRACK 1485 AUDIO
+    TITLE "Part 1485"
+    INDEX 01 915:08:00
+  TRACK 1486 AUDIO
+    TITLE "Part 1486"
+    INDEX 01 915:45:00
+  TRACK 1487 AUDIO
+    TITLE "Part 1487"
+    INDEX 01 916:22:00
+  TRACK 1488 AUDIO
+    TITLE "Part 1488"
+    INDEX 01 916:59:00
+  TRACK 1489 AUDIO
+    TITLE "Part 1489"
+    INDEX 01 917:36:00
+  TRACK 1490 AUDIO
+    TITLE "Part 1490"
+    INDEX 01 918:13:00
+  TRACK 1491 AUDIO
+    TITLE "Part 1491"
+    INDEX 01 918:50:00
+  TRACK 1492 AUDIO
+    TITLE "Part 1492"
+    INDEX 01 919:27:00
+  TRACK 1493 AUDIO
+    TITLE "Part 1493"
+    INDEX 01 920:04:00
+  TRACK 1494 AUDIO
+    TITLE "Part 1494"
+    INDEX 01 920:41:00
+  TRACK 1495 AUDIO
+    TITLE "Part 1495"
+    INDEX 01 921:18:00
+  TRACK 1496 AUDIO
+    TITLE "Part 1496"
+    INDEX 01 921:55:00
+  TRACK 1497 AUDIO
+    TITLE "Part 1497"
+    INDEX 01 922:32:00
+  TRACK 1498 AUDIO
+    TITLE "Part 1498"
+    INDEX 01 923:09:00
+  TRACK 1499 AUDIO
+    TITLE "Part 1499"
+    INDEX 01 923:46:00
+  TRACK 1500 AUDIO
+    TITLE "Part 1500"
+    INDEX 01 924:23:00
+  TRACK 1501 AUDIO
+    TITLE "Part 1501"
+    INDEX 01 925:00:00
+  TRACK 1502 AUDIO
+    TITLE "Part 1502"
+    INDEX 01 925:37:00
+  TRACK 1503 AUDIO
+    TITLE "Part 1503"
+    INDEX 01 926:14:00
+  TRACK 1504 AUDIO
+    TITLE "Part 1504"
+    INDEX 01 926:51:00
+  TRACK 1505 AUDIO
+    TITLE "Part 1505"
+    INDEX 01 927:28:00
+  TRACK 1506 AUDIO
+    TITLE "Part 1506"
+    INDEX 01 928:05:00
+  TRACK 1507 AUDIO
+    TITLE "Part 1507"
+    INDEX 01 928:42:00
+  TRACK 1508 AUDIO
+    TITLE "Part 1508"
+    INDEX 01 929:19:00
+  TRACK 1509 AUDIO
+    TITLE "Part 1509"
+    INDEX 01 929:56:00
+  TRACK 1510 AUDIO
+    TITLE "Part 1510"
+    INDEX 01 930:33:00
+  TRACK 1511 AUDIO
+    TITLE "Part 1511"
+    INDEX 01 931:10:00
+  TRACK 1512 AUDIO
+    TITLE "Part 1512"
+    INDEX 01 931:47:00
+  TRACK 1513 AUDIO
+    TITLE "Part 1513"
+    INDEX 01 932:24:00
+  TRACK 1514 AUDIO
+    TITLE "Part 1514"
+    INDEX 01 933:01:00
+  TRACK 1515 AUDIO
+    TITLE "Part 1515"
+    INDEX 01 933:38:00
+  TRACK 1516 AUDIO
+    TITLE "Part 1516"
+    INDEX 01 934:15:00
+  TRACK 1517 AUDIO
+    TITLE "Part 1517"
+    INDEX 01 934:52:00
+  TRACK 1518 AUDIO
+    TITLE "Part 1518"
+    INDEX 01 935:29:00
+  TRACK 1519 AUDIO
+    TITLE "Part 1519"
+    INDEX 01 936:06:00
+  TRACK 1520 AUDIO
+    TITLE "Part 1520"
+    INDEX 01 936:43:00
+  TRACK 1521 AUDIO
+    TITLE "Part 1521"
+    INDEX 01 937:20:00
+  TRACK 1522 AUDIO
+    TITLE "Part 1522"
+    INDEX 01 937:57:00
+  TRACK 1523 AUDIO
+    TITLE "Part 1523"
+    INDEX 01 938:34:00
+  TRACK 1524 AUDIO
+    TITLE "Part 1524"
+    INDEX 01 939:11:00
+  TRACK 1525 AUDIO
+    TITLE "Part 1525"
+    INDEX 01 939:48:00
+  TRACK 1526 AUDIO
+    TITLE "Part 1526"
+    INDEX 01 940:25:00
+  TRACK 1527 AUDIO
+    TITLE "Part 1527"
+    INDEX 01 941:02:00
+  TRACK 1528 AUDIO
+    TITLE "Part 1528"
+    INDEX 01 941:39:00
+  TRACK 1529 AUDIO
+    TITLE "Part 1529"
+    INDEX 01 942:16:00
+  TRACK 1530 AUDIO
+    TITLE "Part 1530"
+    INDEX 01 942:53:00
+  TRACK 1531 AUDIO
+    TITLE "Part 1531"
+    INDEX 01 943:30:00
+  TRACK 1532 AUDIO
+    TITLE "Part 1532"
+    INDEX 01 944:07:00
+  TRACK 1533 AUDIO
+    TITLE "Part 1533"
+    INDEX 01 944:44:00
+  TRACK 1534 AUDIO
+    TITLE "Part 1534"
+    INDEX 01 945:21:00
+  TRACK 1535 AUDIO
+    TITLE "Part 1535"
+    INDEX 01 945:58:00
+  TRACK 1536 AUDIO
+    TITLE "Part 1536"
+    INDEX 01 946:35:00
+  TRACK 1537 AUDIO
+    TITLE "Part 1537"
+    INDEX 01 947:12:00
+  TRACK 1538 AUDIO
+    TITLE "Part 1538"
+    INDEX 01 947:49:00
+  TRACK 1539 AUDIO
+    TITLE "Part 1539"
+    INDEX 01 948:26:00
+  TRACK 1540 AUDIO
+    TITLE "Part 1540"
+    INDEX 01 949:03:00
+  TRACK 1541 AUDIO
+    TITLE "Part 1541"
+    INDEX 01 949:40:00
+  TRACK 1542 AUDIO
+    TITLE "Part 1542"
+    INDEX 01 950:17:00
+  TRACK 1543 AUDIO
+    TITLE "Part 1543"
+    INDEX 01 950:54:00
+  TRACK 1544 AUDIO
+    TITLE "Part 1544"
+    INDEX 01 951:31:00
+  TRACK 1545 AUDIO
+    TITLE "Part 1545"
+    INDEX 01 952:08:00
+  TRACK 1546 AUDIO
+    TITLE "Part 1546"
+    INDEX 01 952:45:00
+  TRACK 1547 AUDIO
+    TITLE "Part 1547"
+    INDEX 01 953:22:00
+  TRACK 1548 AUDIO
+    TITLE "Part 1548"
+    INDEX 01 953:59:00
+  TRACK 1549 AUDIO
+    TITLE "Part 1549"
+    INDEX 01 954:36:00
+  TRACK 1550 AUDIO
+    TITLE "Part 1550"
+    INDEX 01 955:13:00
+  TRACK 1551 AUDIO
+    TITLE "Part 1551"
+    INDEX 01 955:50:00
+  TRACK 1552 AUDIO
+    TITLE "Part 1552"
+    INDEX 01 956:27:00
+  TRACK 1553 AUDIO
+    TITLE "Part 1553"
+    INDEX 01 957:04:00
+  TRACK 1554 AUDIO
+    TITLE "Part 1554"
+    INDEX 01 957:41:00
+  TRACK 1555 AUDIO
+    TITLE "Part 1555"
+    INDEX 01 958:18:00
+  TRACK 1556 AUDIO
+    TITLE "Part 1556"
+    INDEX 01 958:55:00
+  TRACK 1557 AUDIO
+    TITLE "Part 1557"
+    INDEX 01 959:32:00
+  TRACK 1558 AUDIO
+    TITLE "Part 1558"
+    INDEX 01 960:09:00
+  TRACK 1559 AUDIO
+    TITLE "Part 1559"
+    INDEX 01 960:46:00
+  TRACK 1560 AUDIO
+    TITLE "Part 1560"
+    INDEX 01 961:23:00
+  TRACK 1561 AUDIO
+    TITLE "Part 1561"
+    INDEX 01 962:00:00
+  TRACK 1562 AUDIO
+    TITLE "Part 1562"
+    INDEX 01 962:37:00
+  TRACK 1563 AUDIO
+    TITLE "Part 1563"
+    INDEX 01 963:14:00
+  TRACK 1564 AUDIO
+    TITLE "Part 1564"
+    INDEX 01 963:51:00
+  TRACK 1565 AUDIO
+    TITLE "Part 1565"
+    INDEX 01 964:28:00
+  TRACK 1566 AUDIO
+    TITLE "Part 1566"
+    INDEX 01 965:05:00
+  TRACK 1567 AUDIO
+    TITLE "Part 1567"
+    INDEX 01 965:42:00
+  TRACK 1568 AUDIO
+    TITLE "Part 1568"
+    INDEX 01 966:19:00
+  TRACK 1569 AUDIO
+    TITLE "Part 1569"
+    INDEX 01 966:56:00
+  TRACK 1570 AUDIO
+    TITLE "Part 1570"
+    INDEX 01 967:33:00
+  TRACK 1571 AUDIO
+    TITLE "Part 1571"
+    INDEX 01 968:10:00
+  TRACK 1572 AUDIO
+    TITLE "Part 1572"
+    INDEX 01 968:47:00
+  TRACK 1573 AUDIO
+    TITLE "Part 1573"
+    INDEX 01 969:24:00
+  TRACK 1574 AUDIO
+    TITLE "Part 1574"
+    INDEX 01 970:01:00
+  TRACK 1575 AUDIO
+    TITLE "Part 1575"
+    INDEX 01 970:38:00
+  TRACK 1576 AUDIO
+    TITLE "Part 1576"
+    INDEX 01 971:15:00
+  TRACK 1577 AUDIO
+    TITLE "Part 1577"
+    INDEX 01 971:52:00
+  TRACK 1578 AUDIO
+    TITLE "Part 1578"
+    INDEX 01 972:29:00
+  TRACK 1579 AUDIO
+    TITLE "Part 1579"
+    INDEX 01 973:06:00
+  TRACK 1580 AUDIO
+    TITLE "Part 1580"
+    INDEX 01 973:43:00
+  TRACK 1581 AUDIO
+    TITLE "Part 1581"
+    INDEX 01 974:20:00
+  TRACK 1582 AUDIO
+    TITLE "Part 1582"
+    INDEX 01 974:57:00
+  TRACK 1583 AUDIO
+    TITLE "Part 1583"
+    INDEX 01 975:34:00
+  TRACK 1584 AUDIO
+    TITLE "Part 1584"
+    INDEX 01 976:11:00
+  TRACK 1585 AUDIO
+    TITLE "Part 1585"
+    INDEX 01 976:48:00
+  TRACK 1586 AUDIO
+    TITLE "Part 1586"
+    INDEX 01 977:25:00
+  TRACK 1587 AUDIO
+    TITLE "Part 1587"
+    INDEX 01 978:02:00
+  TRACK 1588 AUDIO
+    TITLE "Part 1588"
+    INDEX 01 978:39:00
+  TRACK 1589 AUDIO
+    TITLE "Part 1589"
+    INDEX 01 979:16:00
+  TRACK 1590 AUDIO
+    TITLE "Part 1590"
+    INDEX 01 979:53:00
+  TRACK 1591 AUDIO
+    TITLE "Part 1591"
+    INDEX 01 980:30:00
+  TRACK 1592 AUDIO
+    TITLE "Part 1592"
+    INDEX 01 981:07:00
+  TRACK 1593 AUDIO
+    TITLE "Part 1593"
+    INDEX 01 981:44:00
+  TRACK 1594 AUDIO
+    TITLE "Part 1594"
+    INDEX 01 982:21:00
+  TRACK 1595 AUDIO
+    TITLE "Part 1595"
+    INDEX 01 982:58:00
+  TRACK 1596 AUDIO
+    TITLE "Part 1596"
+    INDEX 01 983:35:00
+  TRACK 1597 AUDIO
+    TITLE "Part 1597"
+    INDEX 01 984:12:00
+  TRACK 1598 AUDIO
+    TITLE "Part 1598"
+    INDEX 01 984:49:00
+  TRACK 1599 AUDIO
+    TITLE "Part 1599"
+    INDEX 01 985:26:00
+  TRACK 1600 AUDIO
+    TITLE "Part 1600"
+    INDEX 01 986:03:00
+  TRACK 1601 AUDIO
+    TITLE "Part 1601"
+    INDEX 01 986:40:00
+  TRACK 1602 AUDIO
+    TITLE "Part 1602"
+    INDEX 01 987:17:00
+  TRACK 1603 AUDIO
+    TITLE "Part 1603"
+    INDEX 01 987:54:00
+  TRACK 1604 AUDIO
+    TITLE "Part 1604"
+    INDEX 01 988:31:00
+  TRACK 1605 AUDIO
+    TITLE "Part 1605"
+    INDEX 01 989:08:00
+  TRACK 1606 AUDIO
+    TITLE "Part 1606"
+    INDEX 01 989:45:00
+  TRACK 1607 AUDIO
+    TITLE "Part 1607"
+    INDEX 01 990:22:00
+  TRACK 1608 AUDIO
+    TITLE "Part 1608"
+    INDEX 01 990:59:00
+  TRACK 1609 AUDIO
+    TITLE "Part 1609"
+    INDEX 01 991:36:00
+  TRACK 1610 AUDIO
+    TITLE "Part 1610"
+    INDEX 01 992:13:00
+  TRACK 1611 AUDIO
+    TITLE "Part 1611"
+    INDEX 01 992:50:00
+  TRACK 1612 AUDIO
+    TITLE "Part 1612"
+    INDEX 01 993:27:00
+  TRACK 1613 AUDIO
+    TITLE "Part 1613"
+    INDEX 01 994:04:00
+  TRACK 1614 AUDIO
+    TITLE "Part 1614"
+    INDEX 01 994:41:00
+  TRACK 1615 AUDIO
+    TITLE "Part 1615"
+    INDEX 01 995:18:00
+  TRACK 1616 AUDIO
+    TITLE "Part 1616"
+    INDEX 01 995:55:00
+  TRACK 1617 AUDIO
+    TITLE "Part 1617"
+    INDEX 01 996:32:00
+  TRACK 1618 AUDIO
+    TITLE "Part 1618"
+    INDEX 01 997:09:00
+  TRACK 1619 AUDIO
+    TITLE "Part 1619"
+    INDEX 01 997:46:00
+  TRACK 1620 AUDIO
+    TITLE "Part 1620"
+    INDEX 01 998:23:00
+  TRACK 1621 AUDIO
+    TITLE "Part 1621"
+    INDEX 01 999:00:00
+  TRACK 1622 AUDIO
+    TITLE "Part 1622"
+    INDEX 01 999:37:00
+  TRACK 1623 AUDIO
+    TITLE "Part 1623"
+    INDEX 01 1000:14:00
+  TRACK 1624 AUDIO
+    TITLE "Part 1624"
+    INDEX 01 1000:51:00
+  TRACK 1625 AUDIO
+    TITLE "Part 1625"
+    INDEX 01 1001:28:00
+  TRACK 1626 AUDIO
+    TITLE "Part 1626"
+    INDEX 01 1002:05:00
+  TRACK 1627 AUDIO
+    TITLE "Part 1627"
+    INDEX 01 1002:42:00
+  TRACK 1628 AUDIO
+    TITLE "Part 1628"
+    INDEX 01 1003:19:00
+  TRACK 1629 AUDIO
+    TITLE "Part 1629"
+    INDEX 01 1003:56:00
+  TRACK 1630 AUDIO
+    TITLE "Part 1630"
+    INDEX 01 1004:33:00
+  TRACK 1631 AUDIO
+    TITLE "Part 1631"
+    INDEX 01 1005:10:00
+  TRACK 1632 AUDIO
+    TITLE "Part 1632"
+    INDEX 01 1005:47:00
+  TRACK 1633 AUDIO
+    TITLE "Part 1633"
+    INDEX 01 1006:24:00
+  TRACK 1634 AUDIO
+    TITLE "Part 1634"
+    INDEX 01 1007:01:00
+  TRACK 1635 AUDIO
+    TITLE "Part 1635"
+    INDEX 01 1007:38:00
+  TRACK 1636 AUDIO
+    TITLE "Part 1636"
+    INDEX 01 1008:15:00
+  TRACK 1637 AUDIO
+    TITLE "Part 1637"
+    INDEX 01 1008:52:00
+  TRACK 1638 AUDIO
+    TITLE "Part 1638"
+    INDEX 01 1009:29:00
+  TRACK 1639 AUDIO
+    TITLE "Part 1639"
+    INDEX 01 1010:06:00
+  TRACK 1640 AUDIO
+    TITLE "Part 1640"
+    INDEX 01 1010:43:00
+  TRACK 1641 AUDIO
+    TITLE "Part 1641"
+    INDEX 01 1011:20:00
+  TRACK 1642 AUDIO
+    TITLE "Part 1642"
+    INDEX 01 1011:57:00
+  TRACK 1643 AUDIO
+    TITLE "Part 1643"
+    INDEX 01 1012:34:00
+  TRACK 1644 AUDIO
+    TITLE "Part 1644"
+    INDEX 01 1013:11:00
+  TRACK 1645 AUDIO
+    TITLE "Part 1645"
+    INDEX 01 1013:48:00
+  TRACK 1646 AUDIO
+    TITLE "Part 1646"
+    INDEX 01 1014:25:00
+  TRACK 1647 AUDIO
+    TITLE "Part 1647"
+    INDEX 01 1015:02:00
+  TRACK 1648 AUDIO
+    TITLE "Part 1648"
+    INDEX 01 1015:39:00
+  TRACK 1649 AUDIO
+    TITLE "Part 1649"
+    INDEX 01 1016:16:00
+  TRACK 1650 AUDIO
+    TITLE "Part 1650"
+    INDEX 01 1016:53:00
+  TRACK 1651 AUDIO
+    TITLE "Part 1651"
+    INDEX 01 1017:30:00
+  TRACK 1652 AUDIO
+    TITLE "Part 1652"
+    INDEX 01 1018:07:00
+  TRACK 1653 AUDIO
+    TITLE "Part 1653"
+    INDEX 01 1018:44:00
+  TRACK 1654 AUDIO
+    TITLE "Part 1654"
+    INDEX 01 1019:21:00
+  TRACK 1655 AUDIO
+    TITLE "Part 1655"
+    INDEX 01 1019:58:00
+  TRACK 1656 AUDIO
+    TITLE "Part 1656"
+    INDEX 01 1020:35:00
+  TRACK 1657 AUDIO
+    TITLE "Part 1657"
+    INDEX 01 1021:12:00
+  TRACK 1658 AUDIO
+    TITLE "Part 1658"
+    INDEX 01 1021:49:00
+  TRACK 1659 AUDIO
+    TITLE "Part 1659"
+    INDEX 01 1022:26:00
+  TRACK 1660 AUDIO
+    TITLE "Part 1660"
+    INDEX 01 1023:03:00
+  TRACK 1661 AUDIO
+    TITLE "Part 1661"
+    INDEX 01 1023:40:00
+  TRACK 1662 AUDIO
+    TITLE "Part 1662"
+    INDEX 01 1024:17:00
+  TRACK 1663 AUDIO
+    TITLE "Part 1663"
+    INDEX 01 1024:54:00
+  TRACK 1664 AUDIO
+    TITLE "Part 1664"
+    INDEX 01 1025:31:00
+  TRACK 1665 AUDIO
+    TITLE "Part 1665"
+    INDEX 01 1026:08:00
+  TRACK 1666 AUDIO
+    TITLE "Part 1666"
+    INDEX 01 1026:45:00
+  TRACK 1667 AUDIO
+    TITLE "Part 1667"
+    INDEX 01 1027:22:00
+  TRACK 1668 AUDIO
+    TITLE "Part 1668"
+    INDEX 01 1027:59:00
+  TRACK 1669 AUDIO
+    TITLE "Part 1669"
+    INDEX 01 1028:36:00
+  TRACK 1670 AUDIO
+    TITLE "Part 1670"
+    INDEX 01 1029:13:00
+  TRACK 1671 AUDIO
+    TITLE "Part 1671"
+    INDEX 01 1029:50:00
+  TRACK 1672 AUDIO
+    TITLE "Part 1672"
+    INDEX 01 1030:27:00
+  TRACK 1673 AUDIO
+    TITLE "Part 1673"
+    INDEX 01 1031:04:00
+  TRACK 1674 AUDIO
+    TITLE "Part 1674"
+    INDEX 01 1031:41:00
+  TRACK 1675 AUDIO
+    TITLE "Part 1675"
+    INDEX 01 1032:18:00
+  TRACK 1676 AUDIO
+    TITLE "Part 1676"
+    INDEX 01 1032:55:00
+  TRACK 1677 AUDIO
+    TITLE "Part 1677"
+    INDEX 01 1033:32:00
+  TRACK 1678 AUDIO
+    TITLE "Part 1678"
+    INDEX 01 1034:09:00
+  TRACK 1679 AUDIO
+    TITLE "Part 1679"
+    INDEX 01 1034:46:00
+  TRACK 1680 AUDIO
+    TITLE "Part 1680"
+    INDEX 01 1035:23:00
+  TRACK 1681 AUDIO
+    TITLE "Part 1681"
+    INDEX 01 1036:00:00
+  TRACK 1682 AUDIO
+    TITLE "Part 1682"
+    INDEX 01 1036:37:00
+  TRACK 1683 AUDIO
+    TITLE "Part 1683"
+    INDEX 01 1037:14:00
+  TRACK 1684 AUDIO
+    TITLE "Part 1684"
+    INDEX 01 1037:51:00
+  TRACK 1685 AUDIO
+    TITLE "Part 1685"
+    INDEX 01 1038:28:00
+  TRACK 1686 AUDIO
+    TITLE "Part 1686"
+    INDEX 01 1039:05:00
+  TRACK 1687 AUDIO
+    TITLE "Part 1687"
+    INDEX 01 1039:42:00
+  TRACK 1688 AUDIO
+    TITLE "Part 1688"
+    INDEX 01 1040:19:00
+  TRACK 1689 AUDIO
+    TITLE "Part 1689"
+    INDEX 01 1040:56:00
+  TRACK 1690 AUDIO
+    TITLE "Part 1690"
+    INDEX 01 1041:33:00
+  TRACK 1691 AUDIO
+    TITLE "Part 1691"
+    INDEX 01 1042:10:00
+  TRACK 1692 AUDIO
+    TITLE "Part 1692"
+    INDEX 01 1042:47:00
+  TRACK 1693 AUDIO
+    TITLE "Part 1693"
+    INDEX 01 1043:24:00
+  TRACK 1694 AUDIO
+    TITLE "Part 1694"
+    INDEX 01 1044:01:00
+  TRACK 1695 AUDIO
+    TITLE "Part 1695"
+    INDEX 01 1044:38:00
+  TRACK 1696 AUDIO
+    TITLE "Part 1696"
+    INDEX 01 1045:15:00
+  TRACK 1697 AUDIO
+    TITLE "Part 1697"
+    INDEX 01 1045:52:00
+  TRACK 1698 AUDIO
+    TITLE "Part 1698"
+    INDEX 01 1046:29:00
+  TRACK 1699 AUDIO
+    TITLE "Part 1699"
+    INDEX 01 1047:06:00
+  TRACK 1700 AUDIO
+    TITLE "Part 1700"
+    INDEX 01 1047:43:00
+  TRACK 1701 AUDIO
+    TITLE "Part 1701"
+    INDEX 01 1048:20:00
+  TRACK 1702 AUDIO
+    TITLE "Part 1702"
+    INDEX 01 1048:57:00
+  TRACK 1703 AUDIO
+    TITLE "Part 1703"
+    INDEX 01 1049:34:00
+  TRACK 1704 AUDIO
+    TITLE "Part 1704"
+    INDEX 01 1050:11:00
+  TRACK 1705 AUDIO
+    TITLE "Part 1705"
+    INDEX 01 1050:48:00
+  TRACK 1706 AUDIO
+    TITLE "Part 1706"
+    INDEX 01 1051:25:00
+  TRACK 1707 AUDIO
+    TITLE "Part 1707"
+    INDEX 01 1052:02:00
+  TRACK 1708 AUDIO
+    TITLE "Part 1708"
+    INDEX 01 1052:39:00
+  TRACK 1709 AUDIO
+    TITLE "Part 1709"
+    INDEX 01 1053:16:00
+  TRACK 1710 AUDIO
+    TITLE "Part 1710"
+    INDEX 01 1053:53:00
+  TRACK 1711 AUDIO
+    TITLE "Part 1711"
+    INDEX 01 1054:30:00
+  TRACK 1712 AUDIO
+    TITLE "Part 1712"
+    INDEX 01 1055:07:00
+  TRACK 1713 AUDIO
+    TITLE "Part 1713"
+    INDEX 01 1055:44:00
+  TRACK 1714 AUDIO
+    TITLE "Part 1714"
+    INDEX 01 1056:21:00
+  TRACK 1715 AUDIO
+    TITLE "Part 1715"
+    INDEX 01 1056:58:00
+  TRACK 1716 AUDIO
+    TITLE "Part 1716"
+    INDEX 01 1057:35:00
+  TRACK 1717 AUDIO
+    TITLE "Part 1717"
+    INDEX 01 1058:12:00
+  TRACK 1718 AUDIO
+    TITLE "Part 1718"
+    INDEX 01 1058:49:00
+  TRACK 1719 AUDIO
+    TITLE "Part 1719"
+    INDEX 01 1059:26:00
+  TRACK 1720 AUDIO
+    TITLE "Part 1720"
+    INDEX 01 1060:03:00
+  TRACK 1721 AUDIO
+    TITLE "Part 1721"
+    INDEX 01 1060:40:00
+  TRACK 1722 AUDIO
+    TITLE "Part 1722"
+    INDEX 01 1061:17:00
+  TRACK 1723 AUDIO
+    TITLE "Part 1723"
+    INDEX 01 1061:54:00
+  TRACK 1724 AUDIO
+    TITLE "Part 1724"
+    INDEX 01 1062:31:00
+  TRACK 1725 AUDIO
+    TITLE "Part 1725"
+    INDEX 01 1063:08:00
+  TRACK 1726 AUDIO
+    TITLE "Part 1726"
+    INDEX 01 1063:45:00
+  TRACK 1727 AUDIO
+    TITLE "Part 1727"
+    INDEX 01 1064:22:00
+  TRACK 1728 AUDIO
+    TITLE "Part 1728"
+    INDEX 01 1064:59:00
+  TRACK 1729 AUDIO
+    TITLE "Part 1729"
+    INDEX 01 1065:36:00
+  TRACK 1730 AUDIO
+    TITLE "Part 1730"
+    INDEX 01 1066:13:00
+  TRACK 1731 AUDIO
+    TITLE "Part 1731"
+    INDEX 01 1066:50:00
+  TRACK 1732 AUDIO
+    TITLE "Part 1732"
+    INDEX 01 1067:27:00
+  TRACK 1733 AUDIO
+    TITLE "Part 1733"
+    INDEX 01 1068:04:00
+  TRACK 1734 AUDIO
+    TITLE "Part 1734"
+    INDEX 01 1068:41:00
+  TRACK 1735 AUDIO
+    TITLE "Part 1735"
+    INDEX 01 1069:18:00
+  TRACK 1736 AUDIO
+    TITLE "Part 1736"
+    INDEX 01 1069:55:00
+  TRACK 1737 AUDIO
+    TITLE "Part 1737"
+    INDEX 01 1070:32:00
+  TRACK 1738 AUDIO
+    TITLE "Part 1738"
+    INDEX 01 1071:09:00
+  TRACK 1739 AUDIO
+    TITLE "Part 1739"
+    INDEX 01 1071:46:00
+  TRACK 1740 AUDIO
+    TITLE "Part 1740"
+    INDEX 01 1072:23:00
+  TRACK 1741 AUDIO
+    TITLE "Part 1741"
+    INDEX 01 1073:00:00
+  TRACK 1742 AUDIO
+    TITLE "Part 1742"
+    INDEX 01 1073:37:00
+  TRACK 1743 AUDIO
+    TITLE "Part 1743"
+    INDEX 01 1074:14:00
+  TRACK 1744 AUDIO
+    TITLE "Part 1744"
+    INDEX 01 1074:51:00
+  TRACK 1745 AUDIO
+    TITLE "Part 1745"
+    INDEX 01 1075:28:00
+  TRACK 1746 AUDIO
+    TITLE "Part 1746"
+    INDEX 01 1076:05:00
+  TRACK 1747 AUDIO
+    TITLE "Part 1747"
+    INDEX 01 1076:42:00
+  TRACK 1748 AUDIO
+    TITLE "Part 1748"
+    INDEX 01 1077:19:00
+  TRACK 1749 AUDIO
+    TITLE "Part 1749"
+    INDEX 01 1077:56:00
+  TRACK 1750 AUDIO
+    TITLE "Part 1750"
+    INDEX 01 1078:33:00
+  TRACK 1751 AUDIO
+    TITLE "Part 1751"
+    INDEX 01 1079:10:00
+  TRACK 1752 AUDIO
+    TITLE "Part 1752"
+    INDEX 01 1079:47:00
+  TRACK 1753 AUDIO
+    TITLE "Part 1753"
+    INDEX 01 1080:24:00
+  TRACK 1754 AUDIO
+    TITLE "Part 1754"
+    INDEX 01 1081:01:00
+  TRACK 1755 AUDIO
+    TITLE "Part 1755"
+    INDEX 01 1081:38:00
+  TRACK 1756 AUDIO
+    TITLE "Part 1756"
+    INDEX 01 1082:15:00
+  TRACK 1757 AUDIO
+    TITLE "Part 1757"
+    INDEX 01 1082:52:00
+  TRACK 1758 AUDIO
+    TITLE "Part 1758"
+    INDEX 01 1083:29:00
+  TRACK 1759 AUDIO
+    TITLE "Part 1759"
+    INDEX 01 1084:06:00
+  TRACK 1760 AUDIO
+    TITLE "Part 1760"
+    INDEX 01 1084:43:00
+  TRACK 1761 AUDIO
+    TITLE "Part 1761"
+    INDEX 01 1085:20:00
+  TRACK 1762 AUDIO
+    TITLE "Part 1762"
+    INDEX 01 1085:57:00
+  TRACK 1763 AUDIO
+    TITLE "Part 1763"
+    INDEX 01 1086:34:00
+  TRACK 1764 AUDIO
+    TITLE "Part 1764"
+    INDEX 01 1087:11:00
+  TRACK 1765 AUDIO
+    TITLE "Part 1765"
+    INDEX 01 1087:48:00
+  TRACK 1766 AUDIO
+    TITLE "Part 1766"
+    INDEX 01 1088:25:00
+  TRACK 1767 AUDIO
+    TITLE "Part 1767"
+    INDEX 01 1089:02:00
+  TRACK 1768 AUDIO
+    TITLE "Part 1768"
+    INDEX 01 1089:39:00
+  TRACK 1769 AUDIO
+    TITLE "Part 1769"
+    INDEX 01 1090:16:00
+  TRACK 1770 AUDIO
+    TITLE "Part 1770"
+    INDEX 01 1090:53:00
+  TRACK 1771 AUDIO
+    TITLE "Part 1771"
+    INDEX 01 1091:30:00
+  TRACK 1772 AUDIO
+    TITLE "Part 1772"
+    INDEX 01 1092:07:00
+  TRACK 1773 AUDIO
+    TITLE "Part 1773"
+    INDEX 01 1092:44:00
+  TRACK 1774 AUDIO
+    TITLE "Part 1774"
+    INDEX 01 1093:21:00
+  TRACK 1775 AUDIO
+    TITLE "Part 1775"
+    INDEX 01 1093:58:00
+  TRACK 1776 AUDIO
+    TITLE "Part 1776"
+    INDEX 01 1094:35:00
+  TRACK 1777 AUDIO
+    TITLE "Part 1777"
+    INDEX 01 1095:12:00
+  TRACK 1778 AUDIO
+    TITLE "Part 1778"
+    INDEX 01 1095:49:00
+  TRACK 1779 AUDIO
+    TITLE "Part 1779"
+    INDEX 01 1096:26:00
+  TRACK 1780 AUDIO
+    TITLE "Part 1780"
+    INDEX 01 1097:03:00
+  TRACK 1781 AUDIO
+    TITLE "Part 1781"
+    INDEX 01 1097:40:00
+  TRACK 1782 AUDIO
+    TITLE "Part 1782"
+    INDEX 01 1098:17:00
+  TRACK 1783 AUDIO
+    TITLE "Part 1783"
+    INDEX 01 1098:54:00
+  TRACK 1784 AUDIO
+    TITLE "Part 1784"
+    INDEX 01 1099:31:00
+  TRACK 1785 AUDIO
+    TITLE "Part 1785"
+    INDEX 01 1100:08:00
+  TRACK 1786 AUDIO
+    TITLE "Part 1786"
+    INDEX 01 1100:45:00
+  TRACK 1787 AUDIO
+    TITLE "Part 1787"
+    INDEX 01 1101:22:00
+  TRACK 1788 AUDIO
+    TITLE "Part 1788"
+    INDEX 01 1101:59:00
+  TRACK 1789 AUDIO
+    TITLE "Part 1789"
+    INDEX 01 1102:36:00
+  TRACK 1790 AUDIO
+    TITLE "Part 1790"
+    INDEX 01 1103:13:00
+  TRACK 1791 AUDIO
+    TITLE "Part 1791"
+    INDEX 01 1103:50:00
+  TRACK 1792 AUDIO
+    TITLE "Part 1792"
+    INDEX 01 1104:27:00
+  TRACK 1793 AUDIO
+    TITLE "Part 1793"
+    INDEX 01 1105:04:00
+  TRACK 1794 AUDIO
+    TITLE "Part 1794"
+    INDEX 01 1105:41:00
+  TRACK 1795 AUDIO
+    TITLE "Part 1795"
+    INDEX 01 1106:18:00
+  TRACK 1796 AUDIO
+    TITLE "Part 1796"
+    INDEX 01 1106:55:00
+  TRACK 1797 AUDIO
+    TITLE "Part 1797"
+    INDEX 01 1107:32:00
+  TRACK 1798 AUDIO
+    TITLE "Part 1798"
+    INDEX 01 1108:09:00
+  TRACK 1799 AUDIO
+    TITLE "Part 1799"
+    INDEX 01 1108:46:00
+  TRACK 1800 AUDIO
+    TITLE "Part 1800"
+    INDEX 01 1109:23:00
+  TRACK 1801 AUDIO
+    TITLE "Part 1801"
+    INDEX 01 1110:00:00
+  TRACK 1802 AUDIO
+    TITLE "Part 1802"
+    INDEX 01 1110:37:00
+  TRACK 1803 AUDIO
+    TITLE "Part 1803"
+    INDEX 01 1111:14:00
+  TRACK 1804 AUDIO
+    TITLE "Part 1804"
+    INDEX 01 1111:51:00
+  TRACK 1805 AUDIO
+    TITLE "Part 1805"
+    INDEX 01 1112:28:00
+  TRACK 1806 AUDIO
+    TITLE "Part 1806"
+    INDEX 01 1113:05:00
+  TRACK 1807 AUDIO
+    TITLE "Part 1807"
+    INDEX 01 1113:42:00
+  TRACK 1808 AUDIO
+    TITLE "Part 1808"
+    INDEX 01 1114:19:00
+  TRACK 1809 AUDIO
+    TITLE "Part 1809"
+    INDEX 01 1114:56:00
+  TRACK 1810 AUDIO
+    TITLE "Part 1810"
+    INDEX 01 1115:33:00
+  TRACK 1811 AUDIO
+    TITLE "Part 1811"
+    INDEX 01 1116:10:00
+  TRACK 1812 AUDIO
+    TITLE "Part 1812"
+    INDEX 01 1116:47:00
+  TRACK 1813 AUDIO
+    TITLE "Part 1813"
+    INDEX 01 1117:24:00
+  TRACK 1814 AUDIO
+    TITLE "Part 1814"
+    INDEX 01 1118:01:00
+  TRACK 1815 AUDIO
+    TITLE "Part 1815"
+    INDEX 01 1118:38:00
+  TRACK 1816 AUDIO
+    TITLE "Part 1816"
+    INDEX 01 1119:15:00
+  TRACK 1817 AUDIO
+    TITLE "Part 1817"
+    INDEX 01 1119:52:00
+  TRACK 1818 AUDIO
+    TITLE "Part 1818"
+    INDEX 01 1120:29:00
+  TRACK 1819 AUDIO
+    TITLE "Part 1819"
+    INDEX 01 1121:06:00
+  TRACK 1820 AUDIO
+    TITLE "Part 1820"
+    INDEX 01 1121:43:00
+  TRACK 1821 AUDIO
+    TITLE "Part 1821"
+    INDEX 01 1122:20:00
+  TRACK 1822 AUDIO
+    TITLE "Part 1822"
+    INDEX 01 1122:57:00
+  TRACK 1823 AUDIO
+    TITLE "Part 1823"
+    INDEX 01 1123:34:00
+  TRACK 1824 AUDIO
+    TITLE "Part 1824"
+    INDEX 01 1124:11:00
+  TRACK 1825 AUDIO
+    TITLE "Part 1825"
+    INDEX 01 1124:48:00
+  TRACK 1826 AUDIO
+    TITLE "Part 1826"
+    INDEX 01 1125:25:00
+  TRACK 1827 AUDIO
+    TITLE "Part 1827"
+    INDEX 01 1126:02:00
+  TRACK 1828 AUDIO
+    TITLE "Part 1828"
+    INDEX 01 1126:39:00
+  TRACK 1829 AUDIO
+    TITLE "Part 1829"
+    INDEX 01 1127:16:00
+  TRACK 1830 AUDIO
+    TITLE "Part 1830"
+    INDEX 01 1127:53:00
+  TRACK 1831 AUDIO
+    TITLE "Part 1831"
+    INDEX 01 1128:30:00
+  TRACK 1832 AUDIO
+    TITLE "Part 1832"
+    INDEX 01 1129:07:00
+  TRACK 1833 AUDIO
+    TITLE "Part 1833"
+    INDEX 01 1129:44:00
+  TRACK 1834 AUDIO
+    TITLE "Part 1834"
+    INDEX 01 1130:21:00
+  TRACK 1835 AUDIO
+    TITLE "Part 1835"
+    INDEX 01 1130:58:00
+  TRACK 1836 AUDIO
+    TITLE "Part 1836"
+    INDEX 01 1131:35:00
+  TRACK 1837 AUDIO
+    TITLE "Part 1837"
+    INDEX 01 1132:12:00
+  TRACK 1838 AUDIO
+    TITLE "Part 1838"
+    INDEX 01 1132:49:00
+  TRACK 1839 AUDIO
+    TITLE "Part 1839"
+    INDEX 01 1133:26:00
+  TRACK 1840 AUDIO
+    TITLE "Part 1840"
+    INDEX 01 1134:03:00
+  TRACK 1841 AUDIO
+    TITLE "Part 1841"
+    INDEX 01 1134:40:00
+  TRACK 1842 AUDIO
+    TITLE "Part 1842"
+    INDEX 01 1135:17:00
+  TRACK 1843 AUDIO
+    TITLE "Part 1843"
+    INDEX 01 1135:54:00
+  TRACK 1844 AUDIO
+    TITLE "Part 1844"
+    INDEX 01 1136:31:00
+  TRACK 1845 AUDIO
+    TITLE "Part 1845"
+    INDEX 01 1137:08:00
+  TRACK 1846 AUDIO
+    TITLE "Part 1846"
+    INDEX 01 1137:45:00
+  TRACK 1847 AUDIO
+    TITLE "Part 1847"
+    INDEX 01 1138:22:00
+  TRACK 1848 AUDIO
+    TITLE "Part 1848"
+    INDEX 01 1138:59:00
+  TRACK 1849 AUDIO
+    TITLE "Part 1849"
+    INDEX 01 1139:36:00
+  TRACK 1850 AUDIO
+    TITLE "Part 1850"
+    INDEX 01 1140:13:00
+  TRACK 1851 AUDIO
+    TITLE "Part 1851"
+    INDEX 01 1140:50:00
+  TRACK 1852 AUDIO
+    TITLE "Part 1852"
+    INDEX 01 1141:27:00
+  TRACK 1853 AUDIO
+    TITLE "Part 1853"
+    INDEX 01 1142:04:00
+  TRACK 1854 AUDIO
+    TITLE "Part 1854"
+    INDEX 01 1142:41:00
+  TRACK 1855 AUDIO
+    TITLE "Part 1855"
+    INDEX 01 1143:18:00
+  TRACK 1856 AUDIO
+    TITLE "Part 1856"
+    INDEX 01 1143:55:00
+  TRACK 1857 AUDIO
+    TITLE "Part 1857"
+    INDEX 01 1144:32:00
+  TRACK 1858 AUDIO
+    TITLE "Part 1858"
+    INDEX 01 1145:09:00
+  TRACK 1859 AUDIO
+    TITLE "Part 1859"
+    INDEX 01 1145:46:00
+  TRACK 1860 AUDIO
+    TITLE "Part 1860"
+    INDEX 01 1146:23:00
+  TRACK 1861 AUDIO
+    TITLE "Part 1861"
+    INDEX 01 1147:00:00
+  TRACK 1862 AUDIO
+    TITLE "Part 1862"
+    INDEX 01 1147:37:00
+  TRACK 1863 AUDIO
+    TITLE "Part 1863"
+    INDEX 01 1148:14:00
+  TRACK 1864 AUDIO
+    TITLE "Part 1864"
+    INDEX 01 1148:51:00
+  TRACK 1865 AUDIO
+    TITLE "Part 1865"
+    INDEX 01 1149:28:00
+  TRACK 1866 AUDIO
+    TITLE "Part 1866"
+    INDEX 01 1150:05:00
+  TRACK 1867 AUDIO
+    TITLE "Part 1867"
+    INDEX 01 1150:42:00
+  TRACK 1868 AUDIO
+    TITLE "Part 1868"
+    INDEX 01 1151:19:00
+  TRACK 1869 AUDIO
+    TITLE "Part 1869"
+    INDEX 01 1151:56:00
+  TRACK 1870 AUDIO
+    TITLE "Part 1870"
+    INDEX 01 1152:33:00
+  TRACK 1871 AUDIO
+    TITLE "Part 1871"
+    INDEX 01 1153:10:00
+  TRACK 1872 AUDIO
+    TITLE "Part 1872"
+    INDEX 01 1153:47:00
+  TRACK 1873 AUDIO
+    TITLE "Part 1873"
+    INDEX 01 1154:24:00
+  TRACK 1874 AUDIO
+    TITLE "Part 1874"
+    INDEX 01 1155:01:00
+  TRACK 1875 AUDIO
+    TITLE "Part 1875"
+    INDEX 01 1155:38:00
+  TRACK 1876 AUDIO
+    TITLE "Part 1876"
+    INDEX 01 1156:15:00
+  TRACK 1877 AUDIO
+    TITLE "Part 1877"
+    INDEX 01 1156:52:00
+  TRACK 1878 AUDIO
+    TITLE "Part 1878"
+    INDEX 01 1157:29:00
+  TRACK 1879 AUDIO
+    TITLE "Part 1879"
+    INDEX 01 1158:06:00
+  TRACK 1880 AUDIO
+    TITLE "Part 1880"
+    INDEX 01 1158:43:00
+  TRACK 1881 AUDIO
+    TITLE "Part 1881"
+    INDEX 01 1159:20:00
+  TRACK 1882 AUDIO
+    TITLE "Part 1882"
+    INDEX 01 1159:57:00
+  TRACK 1883 AUDIO
+    TITLE "Part 1883"
+    INDEX 01 1160:34:00
+  TRACK 1884 AUDIO
+    TITLE "Part 1884"
+    INDEX 01 1161:11:00
+  TRACK 1885 AUDIO
+    TITLE "Part 1885"
+    INDEX 01 1161:48:00
+  TRACK 1886 AUDIO
+    TITLE "Part 1886"
+    INDEX 01 1162:25:00
+  TRACK 1887 AUDIO
+    TITLE "Part 1887"
+    INDEX 01 1163:02:00
+  TRACK 1888 AUDIO
+    TITLE "Part 1888"
+    INDEX 01 1163:39:00
+  TRACK 1889 AUDIO
+    TITLE "Part 1889"
+    INDEX 01 1164:16:00
+  TRACK 1890 AUDIO
+    TITLE "Part 1890"
+    INDEX 01 1164:53:00
+  TRACK 1891 AUDIO
+    TITLE "Part 1891"
+    INDEX 01 1165:30:00
+  TRACK 1892 AUDIO
+    TITLE "Part 1892"
+    INDEX 01 1166:07:00
+  TRACK 1893 AUDIO
+    TITLE "Part 1893"
+    INDEX 01 1166:44:00
+  TRACK 1894 AUDIO
+    TITLE "Part 1894"
+    INDEX 01 1167:21:00
+  TRACK 1895 AUDIO
+    TITLE "Part 1895"
+    INDEX 01 1167:58:00
+  TRACK 1896 AUDIO
+    TITLE "Part 1896"
+    INDEX 01 1168:35:00
+  TRACK 1897 AUDIO
+    TITLE "Part 1897"
+    INDEX 01 1169:12:00
+  TRACK 1898 AUDIO
+    TITLE "Part 1898"
+    INDEX 01 1169:49:00
+  TRACK 1899 AUDIO
+    TITLE "Part 1899"
+    INDEX 01 1170:26:00
+  TRACK 1900 AUDIO
+    TITLE "Part 1900"
+    INDEX 01 1171:03:00
+  TRACK 1901 AUDIO
+    TITLE "Part 1901"
+    INDEX 01 1171:40:00
+  TRACK 1902 AUDIO
+    TITLE "Part 1902"
+    INDEX 01 1172:17:00
+  TRACK 1903 AUDIO
+    TITLE "Part 1903"
+    INDEX 01 1172:54:00
+  TRACK 1904 AUDIO
+    TITLE "Part 1904"
+    INDEX 01 1173:31:00
+  TRACK 1905 AUDIO
+    TITLE "Part 1905"
+    INDEX 01 1174:08:00
+  TRACK 1906 AUDIO
+    TITLE "Part 1906"
+    INDEX 01 1174:45:00
+  TRACK 1907 AUDIO
+    TITLE "Part 1907"
+    INDEX 01 1175:22:00
+  TRACK 1908 AUDIO
+    TITLE "Part 1908"
+    INDEX 01 1175:59:00
+  TRACK 1909 AUDIO
+    TITLE "Part 1909"
+    INDEX 01 1176:36:00
+  TRACK 1910 AUDIO
+    TITLE "Part 1910"
+    INDEX 01 1177:13:00
+  TRACK 1911 AUDIO
+    TITLE "Part 1911"
+    INDEX 01 1177:50:00
+  TRACK 1912 AUDIO
+    TITLE "Part 1912"
+    INDEX 01 1178:27:00
+  TRACK 1913 AUDIO
+    TITLE "Part 1913"
+    INDEX 01 1179:04:00
+  TRACK 1914 AUDIO
+    TITLE "Part 1914"
+    INDEX 01 1179:41:00
+  TRACK 1915 AUDIO
+    TITLE "Part 1915"
+    INDEX 01 1180:18:00
+  TRACK 1916 AUDIO
+    TITLE "Part 1916"
+    INDEX 01 1180:55:00
+  TRACK 1917 AUDIO
+    TITLE "Part 1917"
+    INDEX 01 1181:32:00
+  TRACK 1918 AUDIO
+    TITLE "Part 1918"
+    INDEX 01 1182:09:00
+  TRACK 1919 AUDIO
+    TITLE "Part 1919"
+    INDEX 01 1182:46:00
+  TRACK 1920 AUDIO
+    TITLE "Part 1920"
+    INDEX 01 1183:23:00
+  TRACK 1921 AUDIO
+    TITLE "Part 1921"
+    INDEX 01 1184:00:00
+  TRACK 1922 AUDIO
+    TITLE "Part 1922"
+    INDEX 01 1184:37:00
+  TRACK 1923 AUDIO
+    TITLE "Part 1923"
+    INDEX 01 1185:14:00
+  TRACK 1924 AUDIO
+    TITLE "Part 1924"
+    INDEX 01 1185:51:00
+  TRACK 1925 AUDIO
+    TITLE "Part 1925"
+    INDEX 01 1186:28:00
+  TRACK 1926 AUDIO
+    TITLE "Part 1926"
+    INDEX 01 1187:05:00
+  TRACK 1927 AUDIO
+    TITLE "Part 1927"
+    INDEX 01 1187:42:00
+  TRACK 1928 AUDIO
+    TITLE "Part 1928"
+    INDEX 01 1188:19:00
+  TRACK 1929 AUDIO
+    TITLE "Part 1929"
+    INDEX 01 1188:56:00
+  TRACK 1930 AUDIO
+    TITLE "Part 1930"
+    INDEX 01 1189:33:00
+  TRACK 1931 AUDIO
+    TITLE "Part 1931"
+    INDEX 01 1190:10:00
+  TRACK 1932 AUDIO
+    TITLE "Part 1932"
+    INDEX 01 1190:47:00
+  TRACK 1933 AUDIO
+    TITLE "Part 1933"
+    INDEX 01 1191:24:00
+  TRACK 1934 AUDIO
+    TITLE "Part 1934"
+    INDEX 01 1192:01:00
+  TRACK 1935 AUDIO
+    TITLE "Part 1935"
+    INDEX 01 1192:38:00
+  TRACK 1936 AUDIO
+    TITLE "Part 1936"
+    INDEX 01 1193:15:00
+  TRACK 1937 AUDIO
+    TITLE "Part 1937"
+    INDEX 01 1193:52:00
+  TRACK 1938 AUDIO
+    TITLE "Part 1938"
+    INDEX 01 1194:29:00
+  TRACK 1939 AUDIO
+    TITLE "Part 1939"
+    INDEX 01 1195:06:00
+  TRACK 1940 AUDIO
+    TITLE "Part 1940"
+    INDEX 01 1195:43:00
+  TRACK 1941 AUDIO
+    TITLE "Part 1941"
+    INDEX 01 1196:20:00
+  TRACK 1942 AUDIO
+    TITLE "Part 1942"
+    INDEX 01 1196:57:00
+  TRACK 1943 AUDIO
+    TITLE "Part 1943"
+    INDEX 01 1197:34:00
+  TRACK 1944 AUDIO
+    TITLE "Part 1944"
+    INDEX 01 1198:11:00
+  TRACK 1945 AUDIO
+    TITLE "Part 1945"
+    INDEX 01 1198:48:00
+  TRACK 1946 AUDIO
+    TITLE "Part 1946"
+    INDEX 01 1199:25:00
+  TRACK 1947 AUDIO
+    TITLE "Part 1947"
+    INDEX 01 1200:02:00
+  TRACK 1948 AUDIO
+    TITLE "Part 1948"
+    INDEX 01 1200:39:00
+  TRACK 1949 AUDIO
+    TITLE "Part 1949"
+    INDEX 01 1201:16:00
+  TRACK 1950 AUDIO
+    TITLE "Part 1950"
+    INDEX 01 1201:53:00
+  TRACK 1951 AUDIO
+    TITLE "Part 1951"
+    INDEX 01 1202:30:00
+  TRACK 1952 AUDIO
+    TITLE "Part 1952"
+    INDEX 01 1203:07:00
+  TRACK 1953 AUDIO
+    TITLE "Part 1953"
+    INDEX 01 1203:44:00
+  TRACK 1954 AUDIO
+    TITLE "Part 1954"
+    INDEX 01 1204:21:00
+  TRACK 1955 AUDIO
+    TITLE "Part 1955"
+    INDEX 01 1204:58:00
+  TRACK 1956 AUDIO
+    TITLE "Part 1956"
+    INDEX 01 1205:35:00
+  TRACK 1957 AUDIO
+    TITLE "Part 1957"
+    INDEX 01 1206:12:00
+  TRACK 1958 AUDIO
+    TITLE "Part 1958"
+    INDEX 01 1206:49:00
+  TRACK 1959 AUDIO
+    TITLE "Part 1959"
+    INDEX 01 1207:26:00
+  TRACK 1960 AUDIO
+    TITLE "Part 1960"
+    INDEX 01 1208:03:00
+  TRACK 1961 AUDIO
+    TITLE "Part 1961"
+    INDEX 01 1208:40:00
+  TRACK 1962 AUDIO
+    TITLE "Part 1962"
+    INDEX 01 1209:17:00
+  TRACK 1963 AUDIO
+    TITLE "Part 1963"
+    INDEX 01 1209:54:00
+  TRACK 1964 AUDIO
+    TITLE "Part 1964"
+    INDEX 01 1210:31:00
+  TRACK 1965 AUDIO
+    TITLE "Part 1965"
+    INDEX 01 1211:08:00
+  TRACK 1966 AUDIO
+    TITLE "Part 1966"
+    INDEX 01 1211:45:00
+  TRACK 1967 AUDIO
+    TITLE "Part 1967"
+    INDEX 01 1212:22:00
+  TRACK 1968 AUDIO
+    TITLE "Part 1968"
+    INDEX 01 1212:59:00
+  TRACK 1969 AUDIO
+    TITLE "Part 1969"
+    INDEX 01 1213:36:00
+  TRACK 1970 AUDIO
+    TITLE "Part 1970"
+    INDEX 01 1214:13:00
+  TRACK 1971 AUDIO
+    TITLE "Part 1971"
+    INDEX 01 1214:50:00
+  TRACK 1972 AUDIO
+    TITLE "Part 1972"
+    INDEX 01 1215:27:00
+  TRACK 1973 AUDIO
+    TITLE "Part 1973"
+    INDEX 01 1216:04:00
+  TRACK 1974 AUDIO
+    TITLE "Part 1974"
+    INDEX 01 1216:41:00
+  TRACK 1975 AUDIO
+    TITLE "Part 1975"
+    INDEX 01 1217:18:00
+  TRACK 1976 AUDIO
+    TITLE "Part 1976"
+    INDEX 01 1217:55:00
+  TRACK 1977 AUDIO
+    TITLE "Part 1977"
+    INDEX 01 1218:32:00
+  TRACK 1978 AUDIO
+    TITLE "Part 1978"
+    INDEX 01 1219:09:00
+  TRACK 1979 AUDIO
+    TITLE "Part 1979"
+    INDEX 01 1219:46:00
+  TRACK 1980 AUDIO
+    TITLE "Part 1980"
+    INDEX 01 1220:23:00
+  TRACK 1981 AUDIO
+    TITLE "Part 1981"
+    INDEX 01 1221:00:00
+  TRACK 1982 AUDIO
+    TITLE "Part 1982"
+    INDEX 01 1221:37:00
+  TRACK 1983 AUDIO
+    TITLE "Part 1983"
+    INDEX 01 1222:14:00
+  TRACK 1984 AUDIO
+    TITLE "Part 1984"
+    INDEX 01 1222:51:00
+  TRACK 1985 AUDIO
+    TITLE "Part 1985"
+    INDEX 01 1223:28:00
+  TRACK 1986 AUDIO
+    TITLE "Part 1986"
+    INDEX 01 1224:05:00
+  TRACK 1987 AUDIO
+    TITLE "Part 1987"
+    INDEX 01 1224:42:00
+  TRACK 1988 AUDIO
+    TITLE "Part 1988"
+    INDEX 01 1225:19:00
+  TRACK 1989 AUDIO
+    TITLE "Part 1989"
+    INDEX 01 1225:56:00
+  TRACK 1990 AUDIO
+    TITLE "Part 1990"
+    INDEX 01 1226:33:00
+  TRACK 1991 AUDIO
+    TITLE "Part 1991"
+    INDEX 01 1227:10:00
+  TRACK 1992 AUDIO
+    TITLE "Part 1992"
+    INDEX 01 1227:47:00
+  TRACK 1993 AUDIO
+    TITLE "Part 1993"
+    INDEX 01 1228:24:00
+  TRACK 1994 AUDIO
+    TITLE "Part 1994"
+    INDEX 01 1229:01:00
+  TRACK 1995 AUDIO
+    TITLE "Part 1995"
+    INDEX 01 1229:38:00
+  TRACK 1996 AUDIO
+    TITLE "Part 1996"
+    INDEX 01 1230:15:00
+  TRACK 1997 AUDIO
+    TITLE "Part 1997"
+    INDEX 01 1230:52:00
+  TRACK 1998 AUDIO
+    TITLE "Part 1998"
+    INDEX 01 1231:29:00
+  TRACK 1999 AUDIO
+    TITLE "Part 1999"
+    INDEX 01 1232:06:00
+  TRACK 2000 AUDIO
+    TITLE "Part 2000"
+    INDEX 01 1232:43:00
+  TRACK 2001 AUDIO
+    TITLE "Part 2001"
+    INDEX 01 1233:20:00
+  TRACK 2002 AUDIO
+    TITLE "Part 2002"
+    INDEX 01 1233:57:00
+  TRACK 2003 AUDIO
+    TITLE "Part 2003"
+    INDEX 01 1234:34:00
+  TRACK 2004 AUDIO
+    TITLE "Part 2004"
+    INDEX 01 1235:11:00
+  TRACK 2005 AUDIO
+    TITLE "Part 2005"
+    INDEX 01 1235:48:00
+  TRACK 2006 AUDIO
+    TITLE "Part 2006"
+    INDEX 01 1236:25:00
+  TRACK 2007 AUDIO
+    TITLE "Part 2007"
+    INDEX 01 1237:02:00
+  TRACK 2008 AUDIO
+    TITLE "Part 2008"
+    INDEX 01 1237:39:00
+  TRACK 2009 AUDIO
+    TITLE "Part 2009"
+    INDEX 01 1238:16:00
+  TRACK 2010 AUDIO
+    TITLE "Part 2010"
+    INDEX 01 1238:53:00
+  TRACK 2011 AUDIO
+    TITLE "Part 2011"
+    INDEX 01 1239:30:00
+  TRACK 2012 AUDIO
+    TITLE "Part 2012"
+    INDEX 01 1240:07:00
+  TRACK 2013 AUDIO
+    TITLE "Part 2013"
+    INDEX 01 1240:44:00
+  TRACK 2014 AUDIO
+    TITLE "Part 2014"
+    INDEX 01 1241:21:00
+  TRACK 2015 AUDIO
+    TITLE "Part 2015"
+    INDEX 01 1241:58:00
+  TRACK 2016 AUDIO
+    TITLE "Part 2016"
+    INDEX 01 1242:35:00
+  TRACK 2017 AUDIO
+    TITLE "Part 2017"
+    INDEX 01 1243:12:00
+  TRACK 2018 AUDIO
+    TITLE "Part 2018"
+    INDEX 01 1243:49:00
+  TRACK 2019 AUDIO
+    TITLE "Part 2019"
+    INDEX 01 1244:26:00
+  TRACK 2020 AUDIO
+    TITLE "Part 2020"
+    INDEX 01 1245:03:00
+  TRACK 2021 AUDIO
+    TITLE "Part 2021"
+    INDEX 01 1245:40:00
+  TRACK 2022 AUDIO
+    TITLE "Part 2022"
+    INDEX 01 1246:17:00
+  TRACK 2023 AUDIO
+    TITLE "Part 2023"
+    INDEX 01 1246:54:00
+  TRACK 2024 AUDIO
+    TITLE "Part 2024"
+    INDEX 01 1247:31:00
+  TRACK 2025 AUDIO
+    TITLE "Part 2025"
+    INDEX 01 1248:08:00
+  TRACK 2026 AUDIO
+    TITLE "Part 2026"
+    INDEX 01 1248:45:00
+  TRACK 2027 AUDIO
+    TITLE "Part 2027"
+    INDEX 01 1249:22:00
+  TRACK 2028 AUDIO
+    TITLE "Part 2028"
+    INDEX 01 1249:59:00
+  TRACK 2029 AUDIO
+    TITLE "Part 2029"
+    INDEX 01 1250:36:00
+  TRACK 2030 AUDIO
+    TITLE "Part 2030"
+    INDEX 01 1251:13:00
+  TRACK 2031 AUDIO
+    TITLE "Part 2031"
+    INDEX 01 1251:50:00
+  TRACK 2032 AUDIO
+    TITLE "Part 2032"
+    INDEX 01 1252:27:00
+  TRACK 2033 AUDIO
+    TITLE "Part 2033"
+    INDEX 01 1253:04:00
+  TRACK 2034 AUDIO
+    TITLE "Part 2034"
+    INDEX 01 1253:41:00
+  TRACK 2035 AUDIO
+    TITLE "Part 2035"
+    INDEX 01 1254:18:00
+  TRACK 2036 AUDIO
+    TITLE "Part 2036"
+    INDEX 01 1254:55:00
+  TRACK 2037 AUDIO
+    TITLE "Part 2037"
+    INDEX 01 1255:32:00
+  TRACK 2038 AUDIO
+    TITLE "Part 2038"
+    INDEX 01 1256:09:00
+  TRACK 2039 AUDIO
+    TITLE "Part 2039"
+    INDEX 01 1256:46:00
+  TRACK 2040 AUDIO
+    TITLE "Part 2040"
+    INDEX 01 1257:23:00
+  TRACK 2041 AUDIO
+    TITLE "Part 2041"
+    INDEX 01 1258:00:00
+  TRACK 2042 AUDIO
+    TITLE "Part 2042"
+    INDEX 01 1258:37:00
+  TRACK 2043 AUDIO
+    TITLE "Part 2043"
+    INDEX 01 1259:14:00
+  TRACK 2044 AUDIO
+    TITLE "Part 2044"
+    INDEX 01 1259:51:00
+  TRACK 2045 AUDIO
+    TITLE "Part 2045"
+    INDEX 01 1260:28:00
+  TRACK 2046 AUDIO
+    TITLE "Part 2046"
+    INDEX 01 1261:05:00
+  TRACK 2047 AUDIO
+    TITLE "Part 2047"
+    INDEX 01 1261:42:00
+  TRACK 2048 AUDIO
+    TITLE "Part 2048"
+    INDEX 01 1262:19:00
+  TRACK 2049 AUDIO
+    TITLE "Part 2049"
+    INDEX 01 1262:56:00
+  TRACK 2050 AUDIO
+    TITLE "Part 2050"
+    INDEX 01 1263:33:00
+  TRACK 2051 AUDIO
+    TITLE "Part 2051"
+    INDEX 01 1264:10:00
+  TRACK 2052 AUDIO
+    TITLE "Part 2052"
+    INDEX 01 1264:47:00
+  TRACK 2053 AUDIO
+    TITLE "Part 2053"
+    INDEX 01 1265:24:00
+  TRACK 2054 AUDIO
+    TITLE "Part 2054"
+    INDEX 01 1266:01:00
+  TRACK 2055 AUDIO
+    TITLE "Part 2055"
+    INDEX 01 1266:38:00
+  TRACK 2056 AUDIO
+    TITLE "Part 2056"
+    INDEX 01 1267:15:00
+  TRACK 2057 AUDIO
+    TITLE "Part 2057"
+    INDEX 01 1267:52:00
+  TRACK 2058 AUDIO
+    TITLE "Part 2058"
+    INDEX 01 1268:29:00
+  TRACK 2059 AUDIO
+    TITLE "Part 2059"
+    INDEX 01 1269:06:00
+  TRACK 2060 AUDIO
+    TITLE "Part 2060"
+    INDEX 01 1269:43:00
+  TRACK 2061 AUDIO
+    TITLE "Part 2061"
+    INDEX 01 1270:20:00
+  TRACK 2062 AUDIO
+    TITLE "Part 2062"
+    INDEX 01 1270:57:00
+  TRACK 2063 AUDIO
+    TITLE "Part 2063"
+    INDEX 01 1271:34:00
+  TRACK 2064 AUDIO
+    TITLE "Part 2064"
+    INDEX 01 1272:11:00
+  TRACK 2065 AUDIO
+    TITLE "Part 2065"
+    INDEX 01 1272:48:00
+  TRACK 2066 AUDIO
+    TITLE "Part 2066"
+    INDEX 01 1273:25:00
+  TRACK 2067 AUDIO
+    TITLE "Part 2067"
+    INDEX 01 1274:02:00
+  TRACK 2068 AUDIO
+    TITLE "Part 2068"
+    INDEX 01 1274:39:00
+  TRACK 2069 AUDIO
+    TITLE "Part 2069"
+    INDEX 01 1275:16:00
+  TRACK 2070 AUDIO
+    TITLE "Part 2070"
+    INDEX 01 1275:53:00
+  TRACK 2071 AUDIO
+    TITLE "Part 2071"
+    INDEX 01 1276:30:00
+  TRACK 2072 AUDIO
+    TITLE "Part 2072"
+    INDEX 01 1277:07:00
+  TRACK 2073 AUDIO
+    TITLE "Part 2073"
+    INDEX 01 1277:44:00
+  TRACK 2074 AUDIO
+    TITLE "Part 2074"
+    INDEX 01 1278:21:00
+  TRACK 2075 AUDIO
+    TITLE "Part 2075"
+    INDEX 01 1278:58:00
+  TRACK 2076 AUDIO
+    TITLE "Part 2076"
+    INDEX 01 1279:35:00
+  TRACK 2077 AUDIO
+    TITLE "Part 2077"
+    INDEX 01 1280:12:00
+  TRACK 2078 AUDIO
+    TITLE "Part 2078"
+    INDEX 01 1280:49:00
+  TRACK 2079 AUDIO
+    TITLE "Part 2079"
+    INDEX 01 1281:26:00
+  TRACK 2080 AUDIO
+    TITLE "Part 2080"
+    INDEX 01 1282:03:00
+  TRACK 2081 AUDIO
+    TITLE "Part 2081"
+    INDEX 01 1282:40:00
+  TRACK 2082 AUDIO
+    TITLE "Part 2082"
+    INDEX 01 1283:17:00
+  TRACK 2083 AUDIO
+    TITLE "Part 2083"
+    INDEX 01 1283:54:00
+  TRACK 2084 AUDIO
+    TITLE "Part 2084"
+    INDEX 01 1284:31:00
+  TRACK 2085 AUDIO
+    TITLE "Part 2085"
+    INDEX 01 1285:08:00
+  TRACK 2086 AUDIO
+    TITLE "Part 2086"
+    INDEX 01 1285:45:00
+  TRACK 2087 AUDIO
+    TITLE "Part 2087"
+    INDEX 01 1286:22:00
+  TRACK 2088 AUDIO
+    TITLE "Part 2088"
+    INDEX 01 1286:59:00
+  TRACK 2089 AUDIO
+    TITLE "Part 2089"
+    INDEX 01 1287:36:00
+  TRACK 2090 AUDIO
+    TITLE "Part 2090"
+    INDEX 01 1288:13:00
+  TRACK 2091 AUDIO
+    TITLE "Part 2091"
+    INDEX 01 1288:50:00
+  TRACK 2092 AUDIO
+    TITLE "Part 2092"
+    INDEX 01 1289:27:00
+  TRACK 2093 AUDIO
+    TITLE "Part 2093"
+    INDEX 01 1290:04:00
+  TRACK 2094 AUDIO
+    TITLE "Part 2094"
+    INDEX 01 1290:41:00
+  TRACK 2095 AUDIO
+    TITLE "Part 2095"
+    INDEX 01 1291:18:00
+  TRACK 2096 AUDIO
+    TITLE "Part 2096"
+    INDEX 01 1291:55:00
+  TRACK 2097 AUDIO
+    TITLE "Part 2097"
+    INDEX 01 1292:32:00
+  TRACK 2098 AUDIO
+    TITLE "Part 2098"
+    INDEX 01 1293:09:00
+  TRACK 2099 AUDIO
+    TITLE "Part 2099"
+    INDEX 01 1293:46:00
+  TRACK 2100 AUDIO
+    TITLE "Part 2100"
+    INDEX 01 1294:23:00
+  TRACK 2101 AUDIO
+    TITLE "Part 2101"
+    INDEX 01 1295:00:00
+  TRACK 2102 AUDIO
+    TITLE "Part 2102"
+    INDEX 01 1295:37:00
+  TRACK 2103 AUDIO
+    TITLE "Part 2103"
+    INDEX 01 1296:14:00
+  TRACK 2104 AUDIO
+    TITLE "Part 2104"
+    INDEX 01 1296:51:00
+  TRACK 2105 AUDIO
+    TITLE "Part 2105"
+    INDEX 01 1297:28:00
+  TRACK 2106 AUDIO
+    TITLE "Part 2106"
+    INDEX 01 1298:05:00
+  TRACK 2107 AUDIO
+    TITLE "Part 2107"
+    INDEX 01 1298:42:00
+  TRACK 2108 AUDIO
+    TITLE "Part 2108"
+    INDEX 01 1299:19:00
+  TRACK 2109 AUDIO
+    TITLE "Part 2109"
+    INDEX 01 1299:56:00
+  TRACK 2110 AUDIO
+    TITLE "Part 2110"
+    INDEX 01 1300:33:00
+  TRACK 2111 AUDIO
+    TITLE "Part 2111"
+    INDEX 01 1301:10:00
+  TRACK 2112 AUDIO
+    TITLE "Part 2112"
+    INDEX 01 1301:47:00
+  TRACK 2113 AUDIO
+    TITLE "Part 2113"
+    INDEX 01 1302:24:00
+  TRACK 2114 AUDIO
+    TITLE "Part 2114"
+    INDEX 01 1303:01:00
+  TRACK 2115 AUDIO
+    TITLE "Part 2115"
+    INDEX 01 1303:38:00
+  TRACK 2116 AUDIO
+    TITLE "Part 2116"
+    INDEX 01 1304:15:00
+  TRACK 2117 AUDIO
+    TITLE "Part 2117"
+    INDEX 01 1304:52:00
+  TRACK 2118 AUDIO
+    TITLE "Part 2118"
+    INDEX 01 1305:29:00
+  TRACK 2119 AUDIO
+    TITLE "Part 2119"
+    INDEX 01 1306:06:00
+  TRACK 2120 AUDIO
+    TITLE "Part 2120"
+    INDEX 01 1306:43:00
+  TRACK 2121 AUDIO
+    TITLE "Part 2121"
+    INDEX 01 1307:20:00
+  TRACK 2122 AUDIO
+    TITLE "Part 2122"
+    INDEX 01 1307:57:00
+  TRACK 2123 AUDIO
+    TITLE "Part 2123"
+    INDEX 01 1308:34:00
+  TRACK 2124 AUDIO
+    TITLE "Part 2124"
+    INDEX 01 1309:11:00
+  TRACK 2125 AUDIO
+    TITLE "Part 2125"
+    INDEX 01 1309:48:00
+  TRACK 2126 AUDIO
+    TITLE "Part 2126"
+    INDEX 01 1310:25:00
+  TRACK 2127 AUDIO
+    TITLE "Part 2127"
+    INDEX 01 1311:02:00
+  TRACK 2128 AUDIO
+    TITLE "Part 2128"
+    INDEX 01 1311:39:00
+  TRACK 2129 AUDIO
+    TITLE "Part 2129"
+    INDEX 01 1312:16:00
+  TRACK 2130 AUDIO
+    TITLE "Part 2130"
+    INDEX 01 1312:53:00
+  TRACK 2131 AUDIO
+    TITLE "Part 2131"
+    INDEX 01 1313:30:00
+  TRACK 2132 AUDIO
+    TITLE "Part 2132"
+    INDEX 01 1314:07:00
+  TRACK 2133 AUDIO
+    TITLE "Part 2133"
+    INDEX 01 1314:44:00
+  TRACK 2134 AUDIO
+    TITLE "Part 2134"
+    INDEX 01 1315:21:00
+  TRACK 2135 AUDIO
+    TITLE "Part 2135"
+    INDEX 01 1315:58:00
+  TRACK 2136 AUDIO
+    TITLE "Part 2136"
+    INDEX 01 1316:35:00
+  TRACK 2137 AUDIO
+    TITLE "Part 2137"
+    INDEX 01 1317:12:00
+  TRACK 2138 AUDIO
+    TITLE "Part 2138"
+    INDEX 01 1317:49:00
+  TRACK 2139 AUDIO
+    TITLE "Part 2139"
+    INDEX 01 1318:26:00
+  TRACK 2140 AUDIO
+    TITLE "Part 2140"
+    INDEX 01 1319:03:00
+  TRACK 2141 AUDIO
+    TITLE "Part 2141"
+    INDEX 01 1319:40:00
+  TRACK 2142 AUDIO
+    TITLE "Part 2142"
+    INDEX 01 1320:17:00
+  TRACK 2143 AUDIO
+    TITLE "Part 2143"
+    INDEX 01 1320:54:00
+  TRACK 2144 AUDIO
+    TITLE "Part 2144"
+    INDEX 01 1321:31:00
+  TRACK 2145 AUDIO
+    TITLE "Part 2145"
+    INDEX 01 1322:08:00
+  TRACK 2146 AUDIO
+    TITLE "Part 2146"
+    INDEX 01 1322:45:00
+  TRACK 2147 AUDIO
+    TITLE "Part 2147"
+    INDEX 01 1323:22:00
+  TRACK 2148 AUDIO
+    TITLE "Part 2148"
+    INDEX 01 1323:59:00
+  TRACK 2149 AUDIO
+    TITLE "Part 2149"
+    INDEX 01 1324:36:00
+  TRACK 2150 AUDIO
+    TITLE "Part 2150"
+    INDEX 01 1325:13:00
+  TRACK 2151 AUDIO
+    TITLE "Part 2151"
+    INDEX 01 1325:50:00
+  TRACK 2152 AUDIO
+    TITLE "Part 2152"
+    INDEX 01 1326:27:00
+  TRACK 2153 AUDIO
+    TITLE "Part 2153"
+    INDEX 01 1327:04:00
+  TRACK 2154 AUDIO
+    TITLE "Part 2154"
+    INDEX 01 1327:41:00
+  TRACK 2155 AUDIO
+    TITLE "Part 2155"
+    INDEX 01 1328:18:00
+  TRACK 2156 AUDIO
+    TITLE "Part 2156"
+    INDEX 01 1328:55:00
+  TRACK 2157 AUDIO
+    TITLE "Part 2157"
+    INDEX 01 1329:32:00
+  TRACK 2158 AUDIO
+    TITLE "Part 2158"
+    INDEX 01 1330:09:00
+  TRACK 2159 AUDIO
+    TITLE "Part 2159"
+    INDEX 01 1330:46:00
+  TRACK 2160 AUDIO
+    TITLE "Part 2160"
+    INDEX 01 1331:23:00
+  TRACK 2161 AUDIO
+    TITLE "Part 2161"
+    INDEX 01 1332:00:00
+  TRACK 2162 AUDIO
+    TITLE "Part 2162"
+    INDEX 01 1332:37:00
+  TRACK 2163 AUDIO
+    TITLE "Part 2163"
+    INDEX 01 1333:14:00
+  TRACK 2164 AUDIO
+    TITLE "Part 2164"
+    INDEX 01 1333:51:00
+  TRACK 2165 AUDIO
+    TITLE "Part 2165"
+    INDEX 01 1334:28:00
+  TRACK 2166 AUDIO
+    TITLE "Part 2166"
+    INDEX 01 1335:05:00
+  TRACK 2167 AUDIO
+    TITLE "Part 2167"
+    INDEX 01 1335:42:00
+  TRACK 2168 AUDIO
+    TITLE "Part 2168"
+    INDEX 01 1336:19:00
+  TRACK 2169 AUDIO
+    TITLE "Part 2169"
+    INDEX 01 1336:56:00
+  TRACK 2170 AUDIO
+    TITLE "Part 2170"
+    INDEX 01 1337:33:00
+  TRACK 2171 AUDIO
+    TITLE "Part 2171"
+    INDEX 01 1338:10:00
+  TRACK 2172 AUDIO
+    TITLE "Part 2172"
+    INDEX 01 1338:47:00
+  TRACK 2173 AUDIO
+    TITLE "Part 2173"
+    INDEX 01 1339:24:00
+  TRACK 2174 AUDIO
+    TITLE "Part 2174"
+    INDEX 01 1340:01:00
+  TRACK 2175 AUDIO
+    TITLE "Part 2175"
+    INDEX 01 1340:38:00
+  TRACK 2176 AUDIO
+    TITLE "Part 2176"
+    INDEX 01 1341:15:00
+  TRACK 2177 AUDIO
+    TITLE "Part 2177"
+    INDEX 01 1341:52:00
+  TRACK 2178 AUDIO
+    TITLE "Part 2178"
+    INDEX 01 1342:29:00
+  TRACK 2179 AUDIO
+    TITLE "Part 2179"
+    INDEX 01 1343:06:00
+  TRACK 2180 AUDIO
+    TITLE "Part 2180"
+    INDEX 01 1343:43:00
+  TRACK 2181 AUDIO
+    TITLE "Part 2181"
+    INDEX 01 1344:20:00
+  TRACK 2182 AUDIO
+    TITLE "Part 2182"
+    INDEX 01 1344:57:00
+  TRACK 2183 AUDIO
+    TITLE "Part 2183"
+    INDEX 01 1345:34:00
+  TRACK 2184 AUDIO
+    TITLE "Part 2184"
+    INDEX 01 1346:11:00
+  TRACK 2185 AUDIO
+    TITLE "Part 2185"
+    INDEX 01 1346:48:00
+  TRACK 2186 AUDIO
+    TITLE "Part 2186"
+    INDEX 01 1347:25:00
+  TRACK 2187 AUDIO
+    TITLE "Part 2187"
+    INDEX 01 1348:02:00
+  TRACK 2188 AUDIO
+    TITLE "Part 2188"
+    INDEX 01 1348:39:00
+  TRACK 2189 AUDIO
+    TITLE "Part 2189"
+    INDEX 01 1349:16:00
+  TRACK 2190 AUDIO
+    TITLE "Part 2190"
+    INDEX 01 1349:53:00
+  TRACK 2191 AUDIO
+    TITLE "Part 2191"
+    INDEX 01 1350:30:00
+  TRACK 2192 AUDIO
+    TITLE "Part 2192"
+    INDEX 01 1351:07:00
+  TRACK 2193 AUDIO
+    TITLE "Part 2193"
+    INDEX 01 1351:44:00
+  TRACK 2194 AUDIO
+    TITLE "Part 2194"
+    INDEX 01 1352:21:00
+  TRACK 2195 AUDIO
+    TITLE "Part 2195"
+    INDEX 01 1352:58:00
+  TRACK 2196 AUDIO
+    TITLE "Part 2196"
+    INDEX 01 1353:35:00
+  TRACK 2197 AUDIO
+    TITLE "Part 2197"
+    INDEX 01 1354:12:00
+  TRACK 2198 AUDIO
+    TITLE "Part 2198"
+    INDEX 01 1354:49:00
+  TRACK 2199 AUDIO
+    TITLE "Part 2199"
+    INDEX 01 1355:26:00
+  TRACK 2200 AUDIO
+    TITLE "Part 2200"
+    INDEX 01 1356:03:00
+  TRACK 2201 AUDIO
+    TITLE "Part 2201"
+    INDEX 01 1356:40:00
+  TRACK 2202 AUDIO
+    TITLE "Part 2202"
+    INDEX 01 1357:17:00
+  TRACK 2203 AUDIO
+    TITLE "Part 2203"
+    INDEX 01 1357:54:00
+  TRACK 2204 AUDIO
+    TITLE "Part 2204"
+    INDEX 01 1358:31:00
+  TRACK 2205 AUDIO
+    TITLE "Part 2205"
+    INDEX 01 1359:08:00
+  TRACK 2206 AUDIO
+    TITLE "Part 2206"
+    INDEX 01 1359:45:00
+  TRACK 2207 AUDIO
+    TITLE "Part 2207"
+    INDEX 01 1360:22:00
+  TRACK 2208 AUDIO
+    TITLE "Part 2208"
+    INDEX 01 1360:59:00
+  TRACK 2209 AUDIO
+    TITLE "Part 2209"
+    INDEX 01 1361:36:00
+  TRACK 2210 AUDIO
+    TITLE "Part 2210"
+    INDEX 01 1362:13:00
+  TRACK 2211 AUDIO
+    TITLE "Part 2211"
+    INDEX 01 1362:50:00
+  TRACK 2212 AUDIO
+    TITLE "Part 2212"
+    INDEX 01 1363:27:00
+  TRACK 2213 AUDIO
+    TITLE "Part 2213"
+    INDEX 01 1364:04:00
+  TRACK 2214 AUDIO
+    TITLE "Part 2214"
+    INDEX 01 1364:41:00
+  TRACK 2215 AUDIO
+    TITLE "Part 2215"
+    INDEX 01 1365:18:00
+  TRACK 2216 AUDIO
+    TITLE "Part 2216"
+    INDEX 01 1365:55:00
+  TRACK 2217 AUDIO
+    TITLE "Part 2217"
+    INDEX 01 1366:32:00
+  TRACK 2218 AUDIO
+    TITLE "Part 2218"
+    INDEX 01 1367:09:00
+  TRACK 2219 AUDIO
+    TITLE "Part 2219"
+    INDEX 01 1367:46:00
+  TRACK 2220 AUDIO
+    TITLE "Part 2220"
+    INDEX 01 1368:23:00
+  TRACK 2221 AUDIO
+    TITLE "Part 2221"
+    INDEX 01 1369:00:00
+  TRACK 2222 AUDIO
+    TITLE "Part 2222"
+    INDEX 01 1369:37:00
+  TRACK 2223 AUDIO
+    TITLE "Part 2223"
+    INDEX 01 1370:14:00
+  TRACK 2224 AUDIO
+    TITLE "Part 2224"
+    INDEX 01 1370:51:00
+  TRACK 2225 AUDIO
+    TITLE "Part 2225"
+    INDEX 01 1371:28:00
+  TRACK 2226 AUDIO
+    TITLE "Part 2226"
+    INDEX 01 1372:05:00
+  TRACK 2227 AUDIO
+    TITLE "Part 2227"
+    INDEX 01 1372:42:00
+  TRACK 2228 AUDIO
+    TITLE "Part 2228"
+    INDEX 01 1373:19:00
+  TRACK 2229 AUDIO
+    TITLE "Part 2229"
+    INDEX 01 1373:56:00
+  TRACK 2230 AUDIO
+    TITLE "Part 2230"
+    INDEX 01 1374:33:00
+  TRACK 2231 AUDIO
+    TITLE "Part 2231"
+    INDEX 01 1375:10:00
+  TRACK 2232 AUDIO
+    TITLE "Part 2232"
+    INDEX 01 1375:47:00
+  TRACK 2233 AUDIO
+    TITLE "Part 2233"
+    INDEX 01 1376:24:00
+  TRACK 2234 AUDIO
+    TITLE "Part 2234"
+    INDEX 01 1377:01:00
+  TRACK 2235 AUDIO
+    TITLE "Part 2235"
+    INDEX 01 1377:38:00
+  TRACK 2236 AUDIO
+    TITLE "Part 2236"
+    INDEX 01 1378:15:00
+  TRACK 2237 AUDIO
+    TITLE "Part 2237"
+    INDEX 01 1378:52:00
+  TRACK 2238 AUDIO
+    TITLE "Part 2238"
+    INDEX 01 1379:29:00
+  TRACK 2239 AUDIO
+    TITLE "Part 2239"
+    INDEX 01 1380:06:00
+  TRACK 2240 AUDIO
+    TITLE "Part 2240"
+    INDEX 01 1380:43:00
+  TRACK 2241 AUDIO
+    TITLE "Part 2241"
+    INDEX 01 1381:20:00
+  TRACK 2242 AUDIO
+    TITLE "Part 2242"
+    INDEX 01 1381:57:00
+  TRACK 2243 AUDIO
+    TITLE "Part 2243"
+    INDEX 01 1382:34:00
+  TRACK 2244 AUDIO
+    TITLE "Part 2244"
+    INDEX 01 1383:11:00
+  TRACK 2245 AUDIO
+    TITLE "Part 2245"
+    INDEX 01 1383:48:00
+  TRACK 2246 AUDIO
+    TITLE "Part 2246"
+    INDEX 01 1384:25:00
+  TRACK 2247 AUDIO
+    TITLE "Part 2247"
+    INDEX 01 1385:02:00
+  TRACK 2248 AUDIO
+    TITLE "Part 2248"
+    INDEX 01 1385:39:00
+  TRACK 2249 AUDIO
+    TITLE "Part 2249"
+    INDEX 01 1386:16:00
+  TRACK 2250 AUDIO
+    TITLE "Part 2250"
+    INDEX 01 1386:53:00
+  TRACK 2251 AUDIO
+    TITLE "Part 2251"
+    INDEX 01 1387:30:00
+  TRACK 2252 AUDIO
+    TITLE "Part 2252"
+    INDEX 01 1388:07:00
+  TRACK 2253 AUDIO
+    TITLE "Part 2253"
+    INDEX 01 1388:44:00
+  TRACK 2254 AUDIO
+    TITLE "Part 2254"
+    INDEX 01 1389:21:00
+  TRACK 2255 AUDIO
+    TITLE "Part 2255"
+    INDEX 01 1389:58:00
+  TRACK 2256 AUDIO
+    TITLE "Part 2256"
+    INDEX 01 1390:35:00
+  TRACK 2257 AUDIO
+    TITLE "Part 2257"
+    INDEX 01 1391:12:00
+  TRACK 2258 AUDIO
+    TITLE "Part 2258"
+    INDEX 01 1391:49:00
+  TRACK 2259 AUDIO
+    TITLE "Part 2259"
+    INDEX 01 1392:26:00
+  TRACK 2260 AUDIO
+    TITLE "Part 2260"
+    INDEX 01 1393:03:00
+  TRACK 2261 AUDIO
+    TITLE "Part 2261"
+    INDEX 01 1393:40:00
+  TRACK 2262 AUDIO
+    TITLE "Part 2262"
+    INDEX 01 1394:17:00
+  TRACK 2263 AUDIO
+    TITLE "Part 2263"
+    INDEX 01 1394:54:00
+  TRACK 2264 AUDIO
+    TITLE "Part 2264"
+    INDEX 01 1395:31:00
+  TRACK 2265 AUDIO
+    TITLE "Part 2265"
+    INDEX 01 1396:08:00
+  TRACK 2266 AUDIO
+    TITLE "Part 2266"
+    INDEX 01 1396:45:00
+  TRACK 2267 AUDIO
+    TITLE "Part 2267"
+    INDEX 01 1397:22:00
+  TRACK 2268 AUDIO
+    TITLE "Part 2268"
+    INDEX 01 1397:59:00
+  TRACK 2269 AUDIO
+    TITLE "Part 2269"
+    INDEX 01 1398:36:00
+  TRACK 2270 AUDIO
+    TITLE "Part 2270"
+    INDEX 01 1399:13:00
+  TRACK 2271 AUDIO
+    TITLE "Part 2271"
+    INDEX 01 1399:50:00
+  TRACK 2272 AUDIO
+    TITLE "Part 2272"
+    INDEX 01 1400:27:00
+  TRACK 2273 AUDIO
+    TITLE "Part 2273"
+    INDEX 01 1401:04:00
+  TRACK 2274 AUDIO
+    TITLE "Part 2274"
+    INDEX 01 1401:41:00
+  TRACK 2275 AUDIO
+    TITLE "Part 2275"
+    INDEX 01 1402:18:00
+  TRACK 2276 AUDIO
+    TITLE "Part 2276"
+    INDEX 01 1402:55:00
+  TRACK 2277 AUDIO
+    TITLE "Part 2277"
+    INDEX 01 1403:32:00
+  TRACK 2278 AUDIO
+    TITLE "Part 2278"
+    INDEX 01 1404:09:00
+  TRACK 2279 AUDIO
+    TITLE "Part 2279"
+    INDEX 01 1404:46:00
+  TRACK 2280 AUDIO
+    TITLE "Part 2280"
+    INDEX 01 1405:23:00
+  TRACK 2281 AUDIO
+    TITLE "Part 2281"
+    INDEX 01 1406:00:00
+  TRACK 2282 AUDIO
+    TITLE "Part 2282"
+    INDEX 01 1406:37:00
+  TRACK 2283 AUDIO
+    TITLE "Part 2283"
+    INDEX 01 1407:14:00
+  TRACK 2284 AUDIO
+    TITLE "Part 2284"
+    INDEX 01 1407:51:00
+  TRACK 2285 AUDIO
+    TITLE "Part 2285"
+    INDEX 01 1408:28:00
+  TRACK 2286 AUDIO
+    TITLE "Part 2286"
+    INDEX 01 1409:05:00
+  TRACK 2287 AUDIO
+    TITLE "Part 2287"
+    INDEX 01 1409:42:00
+  TRACK 2288 AUDIO
+    TITLE "Part 2288"
+    INDEX 01 1410:19:00
+  TRACK 2289 AUDIO
+    TITLE "Part 2289"
+    INDEX 01 1410:56:00
+  TRACK 2290 AUDIO
+    TITLE "Part 2290"
+    INDEX 01 1411:33:00
+  TRACK 2291 AUDIO
+    TITLE "Part 2291"
+    INDEX 01 1412:10:00
+  TRACK 2292 AUDIO
+    TITLE "Part 2292"
+    INDEX 01 1412:47:00
+  TRACK 2293 AUDIO
+    TITLE "Part 2293"
+    INDEX 01 1413:24:00
+  TRACK 2294 AUDIO
+    TITLE "Part 2294"
+    INDEX 01 1414:01:00
+  TRACK 2295 AUDIO
+    TITLE "Part 2295"
+    INDEX 01 1414:38:00
+  TRACK 2296 AUDIO
+    TITLE "Part 2296"
+    INDEX 01 1415:15:00
+  TRACK 2297 AUDIO
+    TITLE "Part 2297"
+    INDEX 01 1415:52:00
+  TRACK 2298 AUDIO
+    TITLE "Part 2298"
+    INDEX 01 1416:29:00
+  TRACK 2299 AUDIO
+    TITLE "Part 2299"
+    INDEX 01 1417:06:00
+  TRACK 2300 AUDIO
+    TITLE "Part 2300"
+    INDEX 01 1417:43:00
+  TRACK 2301 AUDIO
+    TITLE "Part 2301"
+    INDEX 01 1418:20:00
+  TRACK 2302 AUDIO
+    TITLE "Part 2302"
+    INDEX 01 1418:57:00
+  TRACK 2303 AUDIO
+    TITLE "Part 2303"
+    INDEX 01 1419:34:00
+  TRACK 2304 AUDIO
+    TITLE "Part 2304"
+    INDEX 01 1420:11:00
+  TRACK 2305 AUDIO
+    TITLE "Part 2305"
+    INDEX 01 1420:48:00
+  TRACK 2306 AUDIO
+    TITLE "Part 2306"
+    INDEX 01 1421:25:00
+  TRACK 2307 AUDIO
+    TITLE "Part 2307"
+    INDEX 01 1422:02:00
+  TRACK 2308 AUDIO
+    TITLE "Part 2308"
+    INDEX 01 1422:39:00
+  TRACK 2309 AUDIO
+    TITLE "Part 2309"
+    INDEX 01 1423:16:00
+  TRACK 2310 AUDIO
+    TITLE "Part 2310"
+    INDEX 01 1423:53:00
+  TRACK 2311 AUDIO
+    TITLE "Part 2311"
+    INDEX 01 1424:30:00
+  TRACK 2312 AUDIO
+    TITLE "Part 2312"
+    INDEX 01 1425:07:00
+  TRACK 2313 AUDIO
+    TITLE "Part 2313"
+    INDEX 01 1425:44:00
+  TRACK 2314 AUDIO
+    TITLE "Part 2314"
+    INDEX 01 1426:21:00
+  TRACK 2315 AUDIO
+    TITLE "Part 2315"
+    INDEX 01 1426:58:00
+  TRACK 2316 AUDIO
+    TITLE "Part 2316"
+    INDEX 01 1427:35:00
+  TRACK 2317 AUDIO
+    TITLE "Part 2317"
+    INDEX 01 1428:12:00
+  TRACK 2318 AUDIO
+    TITLE "Part 2318"
+    INDEX 01 1428:49:00
+  TRACK 2319 AUDIO
+    TITLE "Part 2319"
+    INDEX 01 1429:26:00
+  TRACK 2320 AUDIO
+    TITLE "Part 2320"
+    INDEX 01 1430:03:00
+  TRACK 2321 AUDIO
+    TITLE "Part 2321"
+    INDEX 01 1430:40:00
+  TRACK 2322 AUDIO
+    TITLE "Part 2322"
+    INDEX 01 1431:17:00
+  TRACK 2323 AUDIO
+    TITLE "Part 2323"
+    INDEX 01 1431:54:00
+  TRACK 2324 AUDIO
+    TITLE "Part 2324"
+    INDEX 01 1432:31:00
+  TRACK 2325 AUDIO
+    TITLE "Part 2325"
+    INDEX 01 1433:08:00
+  TRACK 2326 AUDIO
+    TITLE "Part 2326"
+    INDEX 01 1433:45:00
+  TRACK 2327 AUDIO
+    TITLE "Part 2327"
+    INDEX 01 1434:22:00
+  TRACK 2328 AUDIO
+    TITLE "Part 2328"
+    INDEX 01 1434:59:00
+  TRACK 2329 AUDIO
+    TITLE "Part 2329"
+    INDEX 01 1435:36:00
+  TRACK 2330 AUDIO
+    TITLE "Part 2330"
+    INDEX 01 1436:13:00
+  TRACK 2331 AUDIO
+    TITLE "Part 2331"
+    INDEX 01 1436:50:00
+  TRACK 2332 AUDIO
+    TITLE "Part 2332"
+    INDEX 01 1437:27:00
+  TRACK 2333 AUDIO
+    TITLE "Part 2333"
+    INDEX 01 1438:04:00
+  TRACK 2334 AUDIO
+    TITLE "Part 2334"
+    INDEX 01 1438:41:00
+  TRACK 2335 AUDIO
+    TITLE "Part 2335"
+    INDEX 01 1439:18:00
+  TRACK 2336 AUDIO
+    TITLE "Part 2336"
+    INDEX 01 1439:55:00
+  TRACK 2337 AUDIO
+    TITLE "Part 2337"
+    INDEX 01 1440:32:00
+  TRACK 2338 AUDIO
+    TITLE "Part 2338"
+    INDEX 01 1441:09:00
+  TRACK 2339 AUDIO
+    TITLE "Part 2339"
+    INDEX 01 1441:46:00
+  TRACK 2340 AUDIO
+    TITLE "Part 2340"
+    INDEX 01 1442:23:00
+  TRACK 2341 AUDIO
+    TITLE "Part 2341"
+    INDEX 01 1443:00:00
+  TRACK 2342 AUDIO
+    TITLE "Part 2342"
+    INDEX 01 1443:37:00
+  TRACK 2343 AUDIO
+    TITLE "Part 2343"
+    INDEX 01 1444:14:00
+  TRACK 2344 AUDIO
+    TITLE "Part 2344"
+    INDEX 01 1444:51:00
+  TRACK 2345 AUDIO
+    TITLE "Part 2345"
+    INDEX 01 1445:28:00
+  TRACK 2346 AUDIO
+    TITLE "Part 2346"
+    INDEX 01 1446:05:00
+  TRACK 2347 AUDIO
+    TITLE "Part 2347"
+    INDEX 01 1446:42:00
+  TRACK 2348 AUDIO
+    TITLE "Part 2348"
+    INDEX 01 1447:19:00
+  TRACK 2349 AUDIO
+    TITLE "Part 2349"
+    INDEX 01 1447:56:00
+  TRACK 2350 AUDIO
+    TITLE "Part 2350"
+    INDEX 01 1448:33:00
+  TRACK 2351 AUDIO
+    TITLE "Part 2351"
+    INDEX 01 1449:10:00
+  TRACK 2352 AUDIO
+    TITLE "Part 2352"
+    INDEX 01 1449:47:00
+  TRACK 2353 AUDIO
+    TITLE "Part 2353"
+    INDEX 01 1450:24:00
+  TRACK 2354 AUDIO
+    TITLE "Part 2354"
+    INDEX 01 1451:01:00
+  TRACK 2355 AUDIO
+    TITLE "Part 2355"
+    INDEX 01 1451:38:00
+  TRACK 2356 AUDIO
+    TITLE "Part 2356"
+    INDEX 01 1452:15:00
+  TRACK 2357 AUDIO
+    TITLE "Part 2357"
+    INDEX 01 1452:52:00
+  TRACK 2358 AUDIO
+    TITLE "Part 2358"
+    INDEX 01 1453:29:00
+  TRACK 2359 AUDIO
+    TITLE "Part 2359"
+    INDEX 01 1454:06:00
+  TRACK 2360 AUDIO
+    TITLE "Part 2360"
+    INDEX 01 1454:43:00
+  TRACK 2361 AUDIO
+    TITLE "Part 2361"
+    INDEX 01 1455:20:00
+  TRACK 2362 AUDIO
+    TITLE "Part 2362"
+    INDEX 01 1455:57:00
+  TRACK 2363 AUDIO
+    TITLE "Part 2363"
+    INDEX 01 1456:34:00
+  TRACK 2364 AUDIO
+    TITLE "Part 2364"
+    INDEX 01 1457:11:00
+  TRACK 2365 AUDIO
+    TITLE "Part 2365"
+    INDEX 01 1457:48:00
+  TRACK 2366 AUDIO
+    TITLE "Part 2366"
+    INDEX 01 1458:25:00
+  TRACK 2367 AUDIO
+    TITLE "Part 2367"
+    INDEX 01 1459:02:00
+  TRACK 2368 AUDIO
+    TITLE "Part 2368"
+    INDEX 01 1459:39:00
+  TRACK 2369 AUDIO
+    TITLE "Part 2369"
+    INDEX 01 1460:16:00
+  TRACK 2370 AUDIO
+    TITLE "Part 2370"
+    INDEX 01 1460:53:00
+  TRACK 2371 AUDIO
+    TITLE "Part 2371"
+    INDEX 01 1461:30:00
+  TRACK 2372 AUDIO
+    TITLE "Part 2372"
+    INDEX 01 1462:07:00
+  TRACK 2373 AUDIO
+    TITLE "Part 2373"
+    INDEX 01 1462:44:00
+  TRACK 2374 AUDIO
+    TITLE "Part 2374"
+    INDEX 01 1463:21:00
+  TRACK 2375 AUDIO
+    TITLE "Part 2375"
+    INDEX 01 1463:58:00
+  TRACK 2376 AUDIO
+    TITLE "Part 2376"
+    INDEX 01 1464:35:00
+  TRACK 2377 AUDIO
+    TITLE "Part 2377"
+    INDEX 01 1465:12:00
+  TRACK 2378 AUDIO
+    TITLE "Part 2378"
+    INDEX 01 1465:49:00
+  TRACK 2379 AUDIO
+    TITLE "Part 2379"
+    INDEX 01 1466:26:00
+  TRACK 2380 AUDIO
+    TITLE "Part 2380"
+    INDEX 01 1467:03:00
+  TRACK 2381 AUDIO
+    TITLE "Part 2381"
+    INDEX 01 1467:40:00
+  TRACK 2382 AUDIO
+    TITLE "Part 2382"
+    INDEX 01 1468:17:00
+  TRACK 2383 AUDIO
+    TITLE "Part 2383"
+    INDEX 01 1468:54:00
+  TRACK 2384 AUDIO
+    TITLE "Part 2384"
+    INDEX 01 1469:31:00
+  TRACK 2385 AUDIO
+    TITLE "Part 2385"
+    INDEX 01 1470:08:00
+  TRACK 2386 AUDIO
+    TITLE "Part 2386"
+    INDEX 01 1470:45:00
+  TRACK 2387 AUDIO
+    TITLE "Part 2387"
+    INDEX 01 1471:22:00
+  TRACK 2388 AUDIO
+    TITLE "Part 2388"
+    INDEX 01 1471:59:00
+  TRACK 2389 AUDIO
+    TITLE "Part 2389"
+    INDEX 01 1472:36:00
+  TRACK 2390 AUDIO
+    TITLE "Part 2390"
+    INDEX 01 1473:13:00
+  TRACK 2391 AUDIO
+    TITLE "Part 2391"
+    INDEX 01 1473:50:00
+  TRACK 2392 AUDIO
+    TITLE "Part 2392"
+    INDEX 01 1474:27:00
+  TRACK 2393 AUDIO
+    TITLE "Part 2393"
+    INDEX 01 1475:04:00
+  TRACK 2394 AUDIO
+    TITLE "Part 2394"
+    INDEX 01 1475:41:00
+  TRACK 2395 AUDIO
+    TITLE "Part 2395"
+    INDEX 01 1476:18:00
+  TRACK 2396 AUDIO
+    TITLE "Part 2396"
+    INDEX 01 1476:55:00
+  TRACK 2397 AUDIO
+    TITLE "Part 2397"
+    INDEX 01 1477:32:00
+  TRACK 2398 AUDIO
+    TITLE "Part 2398"
+    INDEX 01 1478:09:00
+  TRACK 2399 AUDIO
+    TITLE "Part 2399"
+    INDEX 01 1478:46:00
+  TRACK 2400 AUDIO
+    TITLE "Part 2400"
+    INDEX 01 1479:23:00
+  TRACK 2401 AUDIO
+    TITLE "Part 2401"
+    INDEX 01 1480:00:00
+  TRACK 2402 AUDIO
+    TITLE "Part 2402"
+    INDEX 01 1480:37:00
+  TRACK 2403 AUDIO
+    TITLE "Part 2403"
+    INDEX 01 1481:14:00
+  TRACK 2404 AUDIO
+    TITLE "Part 2404"
+    INDEX 01 1481:51:00
+  TRACK 2405 AUDIO
+    TITLE "Part 2405"
+    INDEX 01 1482:28:00
+  TRACK 2406 AUDIO
+    TITLE "Part 2406"
+    INDEX 01 1483:05:00
+  TRACK 2407 AUDIO
+    TITLE "Part 2407"
+    INDEX 01 1483:42:00
+  TRACK 2408 AUDIO
+    TITLE "Part 2408"
+    INDEX 01 1484:19:00
+  TRACK 2409 AUDIO
+    TITLE "Part 2409"
+    INDEX 01 1484:56:00
+  TRACK 2410 AUDIO
+    TITLE "Part 2410"
+    INDEX 01 1485:33:00
+  TRACK 2411 AUDIO
+    TITLE "Part 2411"
+    INDEX 01 1486:10:00
+  TRACK 2412 AUDIO
+    TITLE "Part 2412"
+    INDEX 01 1486:47:00
+  TRACK 2413 AUDIO
+    TITLE "Part 2413"
+    INDEX 01 1487:24:00
+  TRACK 2414 AUDIO
+    TITLE "Part 2414"
+    INDEX 01 1488:01:00
+  TRACK 2415 AUDIO
+    TITLE "Part 2415"
+    INDEX 01 1488:38:00
+  TRACK 2416 AUDIO
+    TITLE "Part 2416"
+    INDEX 01 1489:15:00
+  TRACK 2417 AUDIO
+    TITLE "Part 2417"
+    INDEX 01 1489:52:00
+  TRACK 2418 AUDIO
+    TITLE "Part 2418"
+    INDEX 01 1490:29:00
+  TRACK 2419 AUDIO
+    TITLE "Part 2419"
+    INDEX 01 1491:06:00
+  TRACK 2420 AUDIO
+    TITLE "Part 2420"
+    INDEX 01 1491:43:00
+  TRACK 2421 AUDIO
+    TITLE "Part 2421"
+    INDEX 01 1492:20:00
+  TRACK 2422 AUDIO
+    TITLE "Part 2422"
+    INDEX 01 1492:57:00
+  TRACK 2423 AUDIO
+    TITLE "Part 2423"
+    INDEX 01 1493:34:00
+  TRACK 2424 AUDIO
+    TITLE "Part 2424"
+    INDEX 01 1494:11:00
+  TRACK 2425 AUDIO
+    TITLE "Part 2425"
+    INDEX 01 1494:48:00
+  TRACK 2426 AUDIO
+    TITLE "Part 2426"
+    INDEX 01 1495:25:00
+  TRACK 2427 AUDIO
+    TITLE "Part 2427"
+    INDEX 01 1496:02:00
+  TRACK 2428 AUDIO
+    TITLE "Part 2428"
+    INDEX 01 1496:39:00
+  TRACK 2429 AUDIO
+    TITLE "Part 2429"
+    INDEX 01 1497:16:00
+  TRACK 2430 AUDIO
+    TITLE "Part 2430"
+    INDEX 01 1497:53:00
+  TRACK 2431 AUDIO
+    TITLE "Part 2431"
+    INDEX 01 1498:30:00
+  TRACK 2432 AUDIO
+    TITLE "Part 2432"
+    INDEX 01 1499:07:00
+  TRACK 2433 AUDIO
+    TITLE "Part 2433"
+    INDEX 01 1499:44:00
+  TRACK 2434 AUDIO
+    TITLE "Part 2434"
+    INDEX 01 1500:21:00
+  TRACK 2435 AUDIO
+    TITLE "Part 2435"
+    INDEX 01 1500:58:00
+  TRACK 2436 AUDIO
+    TITLE "Part 2436"
+    INDEX 01 1501:35:00
+  TRACK 2437 AUDIO
+    TITLE "Part 2437"
+    INDEX 01 1502:12:00
+  TRACK 2438 AUDIO
+    TITLE "Part 2438"
+    INDEX 01 1502:49:00
+  TRACK 2439 AUDIO
+    TITLE "Part 2439"
+    INDEX 01 1503:26:00
+  TRACK 2440 AUDIO
+    TITLE "Part 2440"
+    INDEX 01 1504:03:00
+  TRACK 2441 AUDIO
+    TITLE "Part 2441"
+    INDEX 01 1504:40:00
+  TRACK 2442 AUDIO
+    TITLE "Part 2442"
+    INDEX 01 1505:17:00
+  TRACK 2443 AUDIO
+    TITLE "Part 2443"
+    INDEX 01 1505:54:00
+  TRACK 2444 AUDIO
+    TITLE "Part 2444"
+    INDEX 01 1506:31:00
+  TRACK 2445 AUDIO
+    TITLE "Part 2445"
+    INDEX 01 1507:08:00
+  TRACK 2446 AUDIO
+    TITLE "Part 2446"
+    INDEX 01 1507:45:00
+  TRACK 2447 AUDIO
+    TITLE "Part 2447"
+    INDEX 01 1508:22:00
+  TRACK 2448 AUDIO
+    TITLE "Part 2448"
+    INDEX 01 1508:59:00
+  TRACK 2449 AUDIO
+    TITLE "Part 2449"
+    INDEX 01 1509:36:00
+  TRACK 2450 AUDIO
+    TITLE "Part 2450"
+    INDEX 01 1510:13:00
+  TRACK 2451 AUDIO
+    TITLE "Part 2451"
+    INDEX 01 1510:50:00
+  TRACK 2452 AUDIO
+    TITLE "Part 2452"
+    INDEX 01 1511:27:00
+  TRACK 2453 AUDIO
+    TITLE "Part 2453"
+    INDEX 01 1512:04:00
+  TRACK 2454 AUDIO
+    TITLE "Part 2454"
+    INDEX 01 1512:41:00
+  TRACK 2455 AUDIO
+    TITLE "Part 2455"
+    INDEX 01 1513:18:00
+  TRACK 2456 AUDIO
+    TITLE "Part 2456"
+    INDEX 01 1513:55:00
+  TRACK 2457 AUDIO
+    TITLE "Part 2457"
+    INDEX 01 1514:32:00
+  TRACK 2458 AUDIO
+    TITLE "Part 2458"
+    INDEX 01 1515:09:00
+  TRACK 2459 AUDIO
+    TITLE "Part 2459"
+    INDEX 01 1515:46:00
+  TRACK 2460 AUDIO
+    TITLE "Part 2460"
+    INDEX 01 1516:23:00
+  TRACK 2461 AUDIO
+    TITLE "Part 2461"
+    INDEX 01 1517:00:00
+  TRACK 2462 AUDIO
+    TITLE "Part 2462"
+    INDEX 01 1517:37:00
+  TRACK 2463 AUDIO
+    TITLE "Part 2463"
+    INDEX 01 1518:14:00
+  TRACK 2464 AUDIO
+    TITLE "Part 2464"
+    INDEX 01 1518:51:00
+  TRACK 2465 AUDIO
+    TITLE "Part 2465"
+    INDEX 01 1519:28:00
+  TRACK 2466 AUDIO
+    TITLE "Part 2466"
+    INDEX 01 1520:05:00
+  TRACK 2467 AUDIO
+    TITLE "Part 2467"
+    INDEX 01 1520:42:00
+  TRACK 2468 AUDIO
+    TITLE "Part 2468"
+    INDEX 01 1521:19:00
+  TRACK 2469 AUDIO
+    TITLE "Part 2469"
+    INDEX 01 1521:56:00
+  TRACK 2470 AUDIO
+    TITLE "Part 2470"
+    INDEX 01 1522:33:00
+  TRACK 2471 AUDIO
+    TITLE "Part 2471"
+    INDEX 01 1523:10:00
+  TRACK 2472 AUDIO
+    TITLE "Part 2472"
+    INDEX 01 1523:47:00
+  TRACK 2473 AUDIO
+    TITLE "Part 2473"
+    INDEX 01 1524:24:00
+  TRACK 2474 AUDIO
+    TITLE "Part 2474"
+    INDEX 01 1525:01:00
+  TRACK 2475 AUDIO
+    TITLE "Part 2475"
+    INDEX 01 1525:38:00
+  TRACK 2476 AUDIO
+    TITLE "Part 2476"
+    INDEX 01 1526:15:00
+  TRACK 2477 AUDIO
+    TITLE "Part 2477"
+    INDEX 01 1526:52:00
+  TRACK 2478 AUDIO
+    TITLE "Part 2478"
+    INDEX 01 1527:29:00
+  TRACK 2479 AUDIO
+    TITLE "Part 2479"
+    INDEX 01 1528:06:00
+  TRACK 2480 AUDIO
+    TITLE "Part 2480"
+    INDEX 01 1528:43:00
+  TRACK 2481 AUDIO
+    TITLE "Part 2481"
+    INDEX 01 1529:20:00
+  TRACK 2482 AUDIO
+    TITLE "Part 2482"
+    INDEX 01 1529:57:00
+  TRACK 2483 AUDIO
+    TITLE "Part 2483"
+    INDEX 01 1530:34:00
+  TRACK 2484 AUDIO
+    TITLE "Part 2484"
+    INDEX 01 1531:11:00
+  TRACK 2485 AUDIO
+    TITLE "Part 2485"
+    INDEX 01 1531:48:00
+  TRACK 2486 AUDIO
+    TITLE "Part 2486"
+    INDEX 01 1532:25:00
+  TRACK 2487 AUDIO
+    TITLE "Part 2487"
+    INDEX 01 1533:02:00
+  TRACK 2488 AUDIO
+    TITLE "Part 2488"
+    INDEX 01 1533:39:00
+  TRACK 2489 AUDIO
+    TITLE "Part 2489"
+    INDEX 01 1534:16:00
+  TRACK 2490 AUDIO
+    TITLE "Part 2490"
+    INDEX 01 1534:53:00
+  TRACK 2491 AUDIO
+    TITLE "Part 2491"
+    INDEX 01 1535:30:00
+  TRACK 2492 AUDIO
+    TITLE "Part 2492"
+    INDEX 01 1536:07:00
+  TRACK 2493 AUDIO
+    TITLE "Part 2493"
+    INDEX 01 1536:44:00
+  TRACK 2494 AUDIO
+    TITLE "Part 2494"
+    INDEX 01 1537:21:00
+  TRACK 2495 AUDIO
+    TITLE "Part 2495"
+    INDEX 01 1537:58:00
+  TRACK 2496 AUDIO
+    TITLE "Part 2496"
+    INDEX 01 1538:35:00
+  TRACK 2497 AUDIO
+    TITLE "Part 2497"
+    INDEX 01 1539:12:00
+  TRACK 2498 AUDIO
+    TITLE "Part 2498"
+    INDEX 01 1539:49:00
+  TRACK 2499 AUDIO
+    TITLE "Part 2499"
+    INDEX 01 1540:26:00
+  TRACK 2500 AUDIO
+    TITLE "Part 2500"
+    INDEX 01 1541:03:00
+  TRACK 2501 AUDIO
+    TITLE "Part 2501"
+    INDEX 01 1541:40:00
+  TRACK 2502 AUDIO
+    TITLE "Part 2502"
+    INDEX 01 1542:17:00
+  TRACK 2503 AUDIO
+    TITLE "Part 2503"
+    INDEX 01 1542:54:00
+  TRACK 2504 AUDIO
+    TITLE "Part 2504"
+    INDEX 01 1543:31:00
+  TRACK 2505 AUDIO
+    TITLE "Part 2505"
+    INDEX 01 1544:08:00
+  TRACK 2506 AUDIO
+    TITLE "Part 2506"
+    INDEX 01 1544:45:00
+  TRACK 2507 AUDIO
+    TITLE "Part 2507"
+    INDEX 01 1545:22:00
+  TRACK 2508 AUDIO
+    TITLE "Part 2508"
+    INDEX 01 1545:59:00
+  TRACK 2509 AUDIO
+    TITLE "Part 2509"
+    INDEX 01 1546:36:00
+  TRACK 2510 AUDIO
+    TITLE "Part 2510"
+    INDEX 01 1547:13:00
+  TRACK 2511 AUDIO
+    TITLE "Part 2511"
+    INDEX 01 1547:50:00
+  TRACK 2512 AUDIO
+    TITLE "Part 2512"
+    INDEX 01 1548:27:00
+  TRACK 2513 AUDIO
+    TITLE "Part 2513"
+    INDEX 01 1549:04:00
+  TRACK 2514 AUDIO
+    TITLE "Part 2514"
+    INDEX 01 1549:41:00
+  TRACK 2515 AUDIO
+    TITLE "Part 2515"
+    INDEX 01 1550:18:00
+  TRACK 2516 AUDIO
+    TITLE "Part 2516"
+    INDEX 01 1550:55:00
+  TRACK 2517 AUDIO
+    TITLE "Part 2517"
+    INDEX 01 1551:32:00
+  TRACK 2518 AUDIO
+    TITLE "Part 2518"
+    INDEX 01 1552:09:00
+  TRACK 2519 AUDIO
+    TITLE "Part 2519"
+    INDEX 01 1552:46:00
+  TRACK 2520 AUDIO
+    TITLE "Part 2520"
+    INDEX 01 1553:23:00
+  TRACK 2521 AUDIO
+    TITLE "Part 2521"
+    INDEX 01 1554:00:00
+  TRACK 2522 AUDIO
+    TITLE "Part 2522"
+    INDEX 01 1554:37:00
+  TRACK 2523 AUDIO
+    TITLE "Part 2523"
+    INDEX 01 1555:14:00
+  TRACK 2524 AUDIO
+    TITLE "Part 2524"
+    INDEX 01 1555:51:00
+  TRACK 2525 AUDIO
+    TITLE "Part 2525"
+    INDEX 01 1556:28:00
+  TRACK 2526 AUDIO
+    TITLE "Part 2526"
+    INDEX 01 1557:05:00
+  TRACK 2527 AUDIO
+    TITLE "Part 2527"
+    INDEX 01 1557:42:00
+  TRACK 2528 AUDIO
+    TITLE "Part 2528"
+    INDEX 01 1558:19:00
+  TRACK 2529 AUDIO
+    TITLE "Part 2529"
+    INDEX 01 1558:56:00
+  TRACK 2530 AUDIO
+    TITLE "Part 2530"
+    INDEX 01 1559:33:00
+  TRACK 2531 AUDIO
+    TITLE "Part 2531"
+    INDEX 01 1560:10:00
+  TRACK 2532 AUDIO
+    TITLE "Part 2532"
+    INDEX 01 1560:47:00
+  TRACK 2533 AUDIO
+    TITLE "Part 2533"
+    INDEX 01 1561:24:00
+  TRACK 2534 AUDIO
+    TITLE "Part 2534"
+    INDEX 01 1562:01:00
+  TRACK 2535 AUDIO
+    TITLE "Part 2535"
+    INDEX 01 1562:38:00
+  TRACK 2536 AUDIO
+    TITLE "Part 2536"
+    INDEX 01 1563:15:00
+  TRACK 2537 AUDIO
+    TITLE "Part 2537"
+    INDEX 01 1563:52:00
+  TRACK 2538 AUDIO
+    TITLE "Part 2538"
+    INDEX 01 1564:29:00
+  TRACK 2539 AUDIO
+    TITLE "Part 2539"
+    INDEX 01 1565:06:00
+  TRACK 2540 AUDIO
+    TITLE "Part 2540"
+    INDEX 01 1565:43:00
+  TRACK 2541 AUDIO
+    TITLE "Part 2541"
+    INDEX 01 1566:20:00
+  TRACK 2542 AUDIO
+    TITLE "Part 2542"
+    INDEX 01 1566:57:00
+  TRACK 2543 AUDIO
+    TITLE "Part 2543"
+    INDEX 01 1567:34:00
+  TRACK 2544 AUDIO
+    TITLE "Part 2544"
+    INDEX 01 1568:11:00
+  TRACK 2545 AUDIO
+    TITLE "Part 2545"
+    INDEX 01 1568:48:00
+  TRACK 2546 AUDIO
+    TITLE "Part 2546"
+    INDEX 01 1569:25:00
+  TRACK 2547 AUDIO
+    TITLE "Part 2547"
+    INDEX 01 1570:02:00
+  TRACK 2548 AUDIO
+    TITLE "Part 2548"
+    INDEX 01 1570:39:00
+  TRACK 2549 AUDIO
+    TITLE "Part 2549"
+    INDEX 01 1571:16:00
+  TRACK 2550 AUDIO
+    TITLE "Part 2550"
+    INDEX 01 1571:53:00
+  TRACK 2551 AUDIO
+    TITLE "Part 2551"
+    INDEX 01 1572:30:00
+  TRACK 2552 AUDIO
+    TITLE "Part 2552"
+    INDEX 01 1573:07:00
+  TRACK 2553 AUDIO
+    TITLE "Part 2553"
+    INDEX 01 1573:44:00
+  TRACK 2554 AUDIO
+    TITLE "Part 2554"
+    INDEX 01 1574:21:00
+  TRACK 2555 AUDIO
+    TITLE "Part 2555"
+    INDEX 01 1574:58:00
+  TRACK 2556 AUDIO
+    TITLE "Part 2556"
+    INDEX 01 1575:35:00
+  TRACK 2557 AUDIO
+    TITLE "Part 2557"
+    INDEX 01 1576:12:00
+  TRACK 2558 AUDIO
+    TITLE "Part 2558"
+    INDEX 01 1576:49:00
+  TRACK 2559 AUDIO
+    TITLE "Part 2559"
+    INDEX 01 1577:26:00
+  TRACK 2560 AUDIO
+    TITLE "Part 2560"
+    INDEX 01 1578:03:00
+  TRACK 2561 AUDIO
+    TITLE "Part 2561"
+    INDEX 01 1578:40:00
+  TRACK 2562 AUDIO
+    TITLE "Part 2562"
+    INDEX 01 1579:17:00
+  TRACK 2563 AUDIO
+    TITLE "Part 2563"
+    INDEX 01 1579:54:00
+  TRACK 2564 AUDIO
+    TITLE "Part 2564"
+    INDEX 01 1580:31:00
+  TRACK 2565 AUDIO
+    TITLE "Part 2565"
+    INDEX 01 1581:08:00
+  TRACK 2566 AUDIO
+    TITLE "Part 2566"
+    INDEX 01 1581:45:00
+  TRACK 2567 AUDIO
+    TITLE "Part 2567"
+    INDEX 01 1582:22:00
+  TRACK 2568 AUDIO
+    TITLE "Part 2568"
+    INDEX 01 1582:59:00
+  TRACK 2569 AUDIO
+    TITLE "Part 2569"
+    INDEX 01 1583:36:00
+  TRACK 2570 AUDIO
+    TITLE "Part 2570"
+    INDEX 01 1584:13:00
+  TRACK 2571 AUDIO
+    TITLE "Part 2571"
+    INDEX 01 1584:50:00
+  TRACK 2572 AUDIO
+    TITLE "Part 2572"
+    INDEX 01 1585:27:00
+  TRACK 2573 AUDIO
+    TITLE "Part 2573"
+    INDEX 01 1586:04:00
+  TRACK 2574 AUDIO
+    TITLE "Part 2574"
+    INDEX 01 1586:41:00
+  TRACK 2575 AUDIO
+    TITLE "Part 2575"
+    INDEX 01 1587:18:00
+  TRACK 2576 AUDIO
+    TITLE "Part 2576"
+    INDEX 01 1587:55:00
+  TRACK 2577 AUDIO
+    TITLE "Part 2577"
+    INDEX 01 1588:32:00
+  TRACK 2578 AUDIO
+    TITLE "Part 2578"
+    INDEX 01 1589:09:00
+  TRACK 2579 AUDIO
+    TITLE "Part 2579"
+    INDEX 01 1589:46:00
+  TRACK 2580 AUDIO
+    TITLE "Part 2580"
+    INDEX 01 1590:23:00
+  TRACK 2581 AUDIO
+    TITLE "Part 2581"
+    INDEX 01 1591:00:00
+  TRACK 2582 AUDIO
+    TITLE "Part 2582"
+    INDEX 01 1591:37:00
+  TRACK 2583 AUDIO
+    TITLE "Part 2583"
+    INDEX 01 1592:14:00
+  TRACK 2584 AUDIO
+    TITLE "Part 2584"
+    INDEX 01 1592:51:00
+  TRACK 2585 AUDIO
+    TITLE "Part 2585"
+    INDEX 01 1593:28:00
+  TRACK 2586 AUDIO
+    TITLE "Part 2586"
+    INDEX 01 1594:05:00
+  TRACK 2587 AUDIO
+    TITLE "Part 2587"
+    INDEX 01 1594:42:00
+  TRACK 2588 AUDIO
+    TITLE "Part 2588"
+    INDEX 01 1595:19:00
+  TRACK 2589 AUDIO
+    TITLE "Part 2589"
+    INDEX 01 1595:56:00
+  TRACK 2590 AUDIO
+    TITLE "Part 2590"
+    INDEX 01 1596:33:00
+  TRACK 2591 AUDIO
+    TITLE "Part 2591"
+    INDEX 01 1597:10:00
+  TRACK 2592 AUDIO
+    TITLE "Part 2592"
+    INDEX 01 1597:47:00
+  TRACK 2593 AUDIO
+    TITLE "Part 2593"
+    INDEX 01 1598:24:00
+  TRACK 2594 AUDIO
+    TITLE "Part 2594"
+    INDEX 01 1599:01:00
+  TRACK 2595 AUDIO
+    TITLE "Part 2595"
+    INDEX 01 1599:38:00
+  TRACK 2596 AUDIO
+    TITLE "Part 2596"
+    INDEX 01 1600:15:00
+  TRACK 2597 AUDIO
+    TITLE "Part 2597"
+    INDEX 01 1600:52:00
+  TRACK 2598 AUDIO
+    TITLE "Part 2598"
+    INDEX 01 1601:29:00
+  TRACK 2599 AUDIO
+    TITLE "Part 2599"
+    INDEX 01 1602:06:00
+  TRACK 2600 AUDIO
+    TITLE "Part 2600"
+    INDEX 01 1602:43:00
+  TRACK 2601 AUDIO
+    TITLE "Part 2601"
+    INDEX 01 1603:20:00
+  TRACK 2602 AUDIO
+    TITLE "Part 2602"
+    INDEX 01 1603:57:00
+  TRACK 2603 AUDIO
+    TITLE "Part 2603"
+    INDEX 01 1604:34:00
+  TRACK 2604 AUDIO
+    TITLE "Part 2604"
+    INDEX 01 1605:11:00
+  TRACK 2605 AUDIO
+    TITLE "Part 2605"
+    INDEX 01 1605:48:00
+  TRACK 2606 AUDIO
+    TITLE "Part 2606"
+    INDEX 01 1606:25:00
+  TRACK 2607 AUDIO
+    TITLE "Part 2607"
+    INDEX 01 1607:02:00
+  TRACK 2608 AUDIO
+    TITLE "Part 2608"
+    INDEX 01 1607:39:00
+  TRACK 2609 AUDIO
+    TITLE "Part 2609"
+    INDEX 01 1608:16:00
+  TRACK 2610 AUDIO
+    TITLE "Part 2610"
+    INDEX 01 1608:53:00
+  TRACK 2611 AUDIO
+    TITLE "Part 2611"
+    INDEX 01 1609:30:00
+  TRACK 2612 AUDIO
+    TITLE "Part 2612"
+    INDEX 01 1610:07:00
+  TRACK 2613 AUDIO
+    TITLE "Part 2613"
+    INDEX 01 1610:44:00
+  TRACK 2614 AUDIO
+    TITLE "Part 2614"
+    INDEX 01 1611:21:00
+  TRACK 2615 AUDIO
+    TITLE "Part 2615"
+    INDEX 01 1611:58:00
+  TRACK 2616 AUDIO
+    TITLE "Part 2616"
+    INDEX 01 1612:35:00
+  TRACK 2617 AUDIO
+    TITLE "Part 2617"
+    INDEX 01 1613:12:00
+  TRACK 2618 AUDIO
+    TITLE "Part 2618"
+    INDEX 01 1613:49:00
+  TRACK 2619 AUDIO
+    TITLE "Part 2619"
+    INDEX 01 1614:26:00
+  TRACK 2620 AUDIO
+    TITLE "Part 2620"
+    INDEX 01 1615:03:00
+  TRACK 2621 AUDIO
+    TITLE "Part 2621"
+    INDEX 01 1615:40:00
+  TRACK 2622 AUDIO
+    TITLE "Part 2622"
+    INDEX 01 1616:17:00
+  TRACK 2623 AUDIO
+    TITLE "Part 2623"
+    INDEX 01 1616:54:00
+  TRACK 2624 AUDIO
+    TITLE "Part 2624"
+    INDEX 01 1617:31:00
+  TRACK 2625 AUDIO
+    TITLE "Part 2625"
+    INDEX 01 1618:08:00
+  TRACK 2626 AUDIO
+    TITLE "Part 2626"
+    INDEX 01 1618:45:00
+  TRACK 2627 AUDIO
+    TITLE "Part 2627"
+    INDEX 01 1619:22:00
+  TRACK 2628 AUDIO
+    TITLE "Part 2628"
+    INDEX 01 1619:59:00
+  TRACK 2629 AUDIO
+    TITLE "Part 2629"
+    INDEX 01 1620:36:00
+  TRACK 2630 AUDIO
+    TITLE "Part 2630"
+    INDEX 01 1621:13:00
+  TRACK 2631 AUDIO
+    TITLE "Part 2631"
+    INDEX 01 1621:50:00
+  TRACK 2632 AUDIO
+    TITLE "Part 2632"
+    INDEX 01 1622:27:00
+  TRACK 2633 AUDIO
+    TITLE "Part 2633"
+    INDEX 01 1623:04:00
+  TRACK 2634 AUDIO
+    TITLE "Part 2634"
+    INDEX 01 1623:41:00
+  TRACK 2635 AUDIO
+    TITLE "Part 2635"
+    INDEX 01 1624:18:00
+  TRACK 2636 AUDIO
+    TITLE "Part 2636"
+    INDEX 01 1624:55:00
+  TRACK 2637 AUDIO
+    TITLE "Part 2637"
+    INDEX 01 1625:32:00
+  TRACK 2638 AUDIO
+    TITLE "Part 2638"
+    INDEX 01 1626:09:00
+  TRACK 2639 AUDIO
+    TITLE "Part 2639"
+    INDEX 01 1626:46:00
+  TRACK 2640 AUDIO
+    TITLE "Part 2640"
+    INDEX 01 1627:23:00
+  TRACK 2641 AUDIO
+    TITLE "Part 2641"
+    INDEX 01 1628:00:00
+  TRACK 2642 AUDIO
+    TITLE "Part 2642"
+    INDEX 01 1628:37:00
+  TRACK 2643 AUDIO
+    TITLE "Part 2643"
+    INDEX 01 1629:14:00
+  TRACK 2644 AUDIO
+    TITLE "Part 2644"
+    INDEX 01 1629:51:00
+  TRACK 2645 AUDIO
+    TITLE "Part 2645"
+    INDEX 01 1630:28:00
+  TRACK 2646 AUDIO
+    TITLE "Part 2646"
+    INDEX 01 1631:05:00
+  TRACK 2647 AUDIO
+    TITLE "Part 2647"
+    INDEX 01 1631:42:00
+  TRACK 2648 AUDIO
+    TITLE "Part 2648"
+    INDEX 01 1632:19:00
+  TRACK 2649 AUDIO
+    TITLE "Part 2649"
+    INDEX 01 1632:56:00
+  TRACK 2650 AUDIO
+    TITLE "Part 2650"
+    INDEX 01 1633:33:00
+  TRACK 2651 AUDIO
+    TITLE "Part 2651"
+    INDEX 01 1634:10:00
+  TRACK 2652 AUDIO
+    TITLE "Part 2652"
+    INDEX 01 1634:47:00
+  TRACK 2653 AUDIO
+    TITLE "Part 2653"
+    INDEX 01 1635:24:00
+  TRACK 2654 AUDIO
+    TITLE "Part 2654"
+    INDEX 01 1636:01:00
+  TRACK 2655 AUDIO
+    TITLE "Part 2655"
+    INDEX 01 1636:38:00
+  TRACK 2656 AUDIO
+    TITLE "Part 2656"
+    INDEX 01 1637:15:00
+  TRACK 2657 AUDIO
+    TITLE "Part 2657"
+    INDEX 01 1637:52:00
+  TRACK 2658 AUDIO
+    TITLE "Part 2658"
+    INDEX 01 1638:29:00
+  TRACK 2659 AUDIO
+    TITLE "Part 2659"
+    INDEX 01 1639:06:00
+  TRACK 2660 AUDIO
+    TITLE "Part 2660"
+    INDEX 01 1639:43:00
+  TRACK 2661 AUDIO
+    TITLE "Part 2661"
+    INDEX 01 1640:20:00
+  TRACK 2662 AUDIO
+    TITLE "Part 2662"
+    INDEX 01 1640:57:00
+  TRACK 2663 AUDIO
+    TITLE "Part 2663"
+    INDEX 01 1641:34:00
+  TRACK 2664 AUDIO
+    TITLE "Part 2664"
+    INDEX 01 1642:11:00
+  TRACK 2665 AUDIO
+    TITLE "Part 2665"
+    INDEX 01 1642:48:00
+  TRACK 2666 AUDIO
+    TITLE "Part 2666"
+    INDEX 01 1643:25:00
+  TRACK 2667 AUDIO
+    TITLE "Part 2667"
+    INDEX 01 1644:02:00
+  TRACK 2668 AUDIO
+    TITLE "Part 2668"
+    INDEX 01 1644:39:00
+  TRACK 2669 AUDIO
+    TITLE "Part 2669"
+    INDEX 01 1645:16:00
+  TRACK 2670 AUDIO
+    TITLE "Part 2670"
+    INDEX 01 1645:53:00
+  TRACK 2671 AUDIO
+    TITLE "Part 2671"
+    INDEX 01 1646:30:00
+  TRACK 2672 AUDIO
+    TITLE "Part 2672"
+    INDEX 01 1647:07:00
+  TRACK 2673 AUDIO
+    TITLE "Part 2673"
+    INDEX 01 1647:44:00
+  TRACK 2674 AUDIO
+    TITLE "Part 2674"
+    INDEX 01 1648:21:00
+  TRACK 2675 AUDIO
+    TITLE "Part 2675"
+    INDEX 01 1648:58:00
+  TRACK 2676 AUDIO
+    TITLE "Part 2676"
+    INDEX 01 1649:35:00
+  TRACK 2677 AUDIO
+    TITLE "Part 2677"
+    INDEX 01 1650:12:00
+  TRACK 2678 AUDIO
+    TITLE "Part 2678"
+    INDEX 01 1650:49:00
+  TRACK 2679 AUDIO
+    TITLE "Part 2679"
+    INDEX 01 1651:26:00
+  TRACK 2680 AUDIO
+    TITLE "Part 2680"
+    INDEX 01 1652:03:00
+  TRACK 2681 AUDIO
+    TITLE "Part 2681"
+    INDEX 01 1652:40:00
+  TRACK 2682 AUDIO
+    TITLE "Part 2682"
+    INDEX 01 1653:17:00
+  TRACK 2683 AUDIO
+    TITLE "Part 2683"
+    INDEX 01 1653:54:00
+  TRACK 2684 AUDIO
+    TITLE "Part 2684"
+    INDEX 01 1654:31:00
+  TRACK 2685 AUDIO
+    TITLE "Part 2685"
+    INDEX 01 1655:08:00
+  TRACK 2686 AUDIO
+    TITLE "Part 2686"
+    INDEX 01 1655:45:00
+  TRACK 2687 AUDIO
+    TITLE "Part 2687"
+    INDEX 01 1656:22:00
+  TRACK 2688 AUDIO
+    TITLE "Part 2688"
+    INDEX 01 1656:59:00
+  TRACK 2689 AUDIO
+    TITLE "Part 2689"
+    INDEX 01 1657:36:00
+  TRACK 2690 AUDIO
+    TITLE "Part 2690"
+    INDEX 01 1658:13:00
+  TRACK 2691 AUDIO
+    TITLE "Part 2691"
+    INDEX 01 1658:50:00
+  TRACK 2692 AUDIO
+    TITLE "Part 2692"
+    INDEX 01 1659:27:00
+  TRACK 2693 AUDIO
+    TITLE "Part 2693"
+    INDEX 01 1660:04:00
+  TRACK 2694 AUDIO
+    TITLE "Part 2694"
+    INDEX 01 1660:41:00
+  TRACK 2695 AUDIO
+    TITLE "Part 2695"
+    INDEX 01 1661:18:00
+  TRACK 2696 AUDIO
+    TITLE "Part 2696"
+    INDEX 01 1661:55:00
+  TRACK 2697 AUDIO
+    TITLE "Part 2697"
+    INDEX 01 1662:32:00
+  TRACK 2698 AUDIO
+    TITLE "Part 2698"
+    INDEX 01 1663:09:00
+  TRACK 2699 AUDIO
+    TITLE "Part 2699"
+    INDEX 01 1663:46:00
+  TRACK 2700 AUDIO
+    TITLE "Part 2700"
+    INDEX 01 1664:23:00
+  TRACK 2701 AUDIO
+    TITLE "Part 2701"
+    INDEX 01 1665:00:00
+  TRACK 2702 AUDIO
+    TITLE "Part 2702"
+    INDEX 01 1665:37:00
+  TRACK 2703 AUDIO
+    TITLE "Part 2703"
+    INDEX 01 1666:14:00
+  TRACK 2704 AUDIO
+    TITLE "Part 2704"
+    INDEX 01 1666:51:00
+  TRACK 2705 AUDIO
+    TITLE "Part 2705"
+    INDEX 01 1667:28:00
+  TRACK 2706 AUDIO
+    TITLE "Part 2706"
+    INDEX 01 1668:05:00
+  TRACK 2707 AUDIO
+    TITLE "Part 2707"
+    INDEX 01 1668:42:00
+  TRACK 2708 AUDIO
+    TITLE "Part 2708"
+    INDEX 01 1669:19:00
+  TRACK 2709 AUDIO
+    TITLE "Part 2709"
+    INDEX 01 1669:56:00
+  TRACK 2710 AUDIO
+    TITLE "Part 2710"
+    INDEX 01 1670:33:00
+  TRACK 2711 AUDIO
+    TITLE "Part 2711"
+    INDEX 01 1671:10:00
+  TRACK 2712 AUDIO
+    TITLE "Part 2712"
+    INDEX 01 1671:47:00
+  TRACK 2713 AUDIO
+    TITLE "Part 2713"
+    INDEX 01 1672:24:00
+  TRACK 2714 AUDIO
+    TITLE "Part 2714"
+    INDEX 01 1673:01:00
+  TRACK 2715 AUDIO
+    TITLE "Part 2715"
+    INDEX 01 1673:38:00
+  TRACK 2716 AUDIO
+    TITLE "Part 2716"
+    INDEX 01 1674:15:00
+  TRACK 2717 AUDIO
+    TITLE "Part 2717"
+    INDEX 01 1674:52:00
+  TRACK 2718 AUDIO
+    TITLE "Part 2718"
+    INDEX 01 1675:29:00
+  TRACK 2719 AUDIO
+    TITLE "Part 2719"
+    INDEX 01 1676:06:00
+  TRACK 2720 AUDIO
+    TITLE "Part 2720"
+    INDEX 01 1676:43:00
+  TRACK 2721 AUDIO
+    TITLE "Part 2721"
+    INDEX 01 1677:20:00
+  TRACK 2722 AUDIO
+    TITLE "Part 2722"
+    INDEX 01 1677:57:00
+  TRACK 2723 AUDIO
+    TITLE "Part 2723"
+    INDEX 01 1678:34:00
+  TRACK 2724 AUDIO
+    TITLE "Part 2724"
+    INDEX 01 1679:11:00
+  TRACK 2725 AUDIO
+    TITLE "Part 2725"
+    INDEX 01 1679:48:00
+  TRACK 2726 AUDIO
+    TITLE "Part 2726"
+    INDEX 01 1680:25:00
+  TRACK 2727 AUDIO
+    TITLE "Part 2727"
+    INDEX 01 1681:02:00
+  TRACK 2728 AUDIO
+    TITLE "Part 2728"
+    INDEX 01 1681:39:00
+  TRACK 2729 AUDIO
+    TITLE "Part 2729"
+    INDEX 01 1682:16:00
+  TRACK 2730 AUDIO
+    TITLE "Part 2730"
+    INDEX 01 1682:53:00
+  TRACK 2731 AUDIO
+    TITLE "Part 2731"
+    INDEX 01 1683:30:00
+  TRACK 2732 AUDIO
+    TITLE "Part 2732"
+    INDEX 01 1684:07:00
+  TRACK 2733 AUDIO
+    TITLE "Part 2733"
+    INDEX 01 1684:44:00
+  TRACK 2734 AUDIO
+    TITLE "Part 2734"
+    INDEX 01 1685:21:00
+  TRACK 2735 AUDIO
+    TITLE "Part 2735"
+    INDEX 01 1685:58:00
+  TRACK 2736 AUDIO
+    TITLE "Part 2736"
+    INDEX 01 1686:35:00
+  TRACK 2737 AUDIO
+    TITLE "Part 2737"
+    INDEX 01 1687:12:00
+  TRACK 2738 AUDIO
+    TITLE "Part 2738"
+    INDEX 01 1687:49:00
+  TRACK 2739 AUDIO
+    TITLE "Part 2739"
+    INDEX 01 1688:26:00
+  TRACK 2740 AUDIO
+    TITLE "Part 2740"
+    INDEX 01 1689:03:00
+  TRACK 2741 AUDIO
+    TITLE "Part 2741"
+    INDEX 01 1689:40:00
+  TRACK 2742 AUDIO
+    TITLE "Part 2742"
+    INDEX 01 1690:17:00
+  TRACK 2743 AUDIO
+    TITLE "Part 2743"
+    INDEX 01 1690:54:00
+  TRACK 2744 AUDIO
+    TITLE "Part 2744"
+    INDEX 01 1691:31:00
+  TRACK 2745 AUDIO
+    TITLE "Part 2745"
+    INDEX 01 1692:08:00
+  TRACK 2746 AUDIO
+    TITLE "Part 2746"
+    INDEX 01 1692:45:00
+  TRACK 2747 AUDIO
+    TITLE "Part 2747"
+    INDEX 01 1693:22:00
+  TRACK 2748 AUDIO
+    TITLE "Part 2748"
+    INDEX 01 1693:59:00
+  TRACK 2749 AUDIO
+    TITLE "Part 2749"
+    INDEX 01 1694:36:00
+  TRACK 2750 AUDIO
+    TITLE "Part 2750"
+    INDEX 01 1695:13:00
+  TRACK 2751 AUDIO
+    TITLE "Part 2751"
+    INDEX 01 1695:50:00
+  TRACK 2752 AUDIO
+    TITLE "Part 2752"
+    INDEX 01 1696:27:00
+  TRACK 2753 AUDIO
+    TITLE "Part 2753"
+    INDEX 01 1697:04:00
+  TRACK 2754 AUDIO
+    TITLE "Part 2754"
+    INDEX 01 1697:41:00
+  TRACK 2755 AUDIO
+    TITLE "Part 2755"
+    INDEX 01 1698:18:00
+  TRACK 2756 AUDIO
+    TITLE "Part 2756"
+    INDEX 01 1698:55:00
+  TRACK 2757 AUDIO
+    TITLE "Part 2757"
+    INDEX 01 1699:32:00
+  TRACK 2758 AUDIO
+    TITLE "Part 2758"
+    INDEX 01 1700:09:00
+  TRACK 2759 AUDIO
+    TITLE "Part 2759"
+    INDEX 01 1700:46:00
+  TRACK 2760 AUDIO
+    TITLE "Part 2760"
+    INDEX 01 1701:23:00
+  TRACK 2761 AUDIO
+    TITLE "Part 2761"
+    INDEX 01 1702:00:00
+  TRACK 2762 AUDIO
+    TITLE "Part 2762"
+    INDEX 01 1702:37:00
+  TRACK 2763 AUDIO
+    TITLE "Part 2763"
+    INDEX 01 1703:14:00
+  TRACK 2764 AUDIO
+    TITLE "Part 2764"
+    INDEX 01 1703:51:00
+  TRACK 2765 AUDIO
+    TITLE "Part 2765"
+    INDEX 01 1704:28:00
+  TRACK 2766 AUDIO
+    TITLE "Part 2766"
+    INDEX 01 1705:05:00
+  TRACK 2767 AUDIO
+    TITLE "Part 2767"
+    INDEX 01 1705:42:00
+  TRACK 2768 AUDIO
+    TITLE "Part 2768"
+    INDEX 01 1706:19:00
+  TRACK 2769 AUDIO
+    TITLE "Part 2769"
+    INDEX 01 1706:56:00
+  TRACK 2770 AUDIO
+    TITLE "Part 2770"
+    INDEX 01 1707:33:00
+  TRACK 2771 AUDIO
+    TITLE "Part 2771"
+    INDEX 01 1708:10:00
+  TRACK 2772 AUDIO
+    TITLE "Part 2772"
+    INDEX 01 1708:47:00
+  TRACK 2773 AUDIO
+    TITLE "Part 2773"
+    INDEX 01 1709:24:00
+  TRACK 2774 AUDIO
+    TITLE "Part 2774"
+    INDEX 01 1710:01:00
+  TRACK 2775 AUDIO
+    TITLE "Part 2775"
+    INDEX 01 1710:38:00
+  TRACK 2776 AUDIO
+    TITLE "Part 2776"
+    INDEX 01 1711:15:00
+  TRACK 2777 AUDIO
+    TITLE "Part 2777"
+    INDEX 01 1711:52:00
+  TRACK 2778 AUDIO
+    TITLE "Part 2778"
+    INDEX 01 1712:29:00
+  TRACK 2779 AUDIO
+    TITLE "Part 2779"
+    INDEX 01 1713:06:00
+  TRACK 2780 AUDIO
+    TITLE "Part 2780"
+    INDEX 01 1713:43:00
+  TRACK 2781 AUDIO
+    TITLE "Part 2781"
+    INDEX 01 1714:20:00
+  TRACK 2782 AUDIO
+    TITLE "Part 2782"
+    INDEX 01 1714:57:00
+  TRACK 2783 AUDIO
+    TITLE "Part 2783"
+    INDEX 01 1715:34:00
+  TRACK 2784 AUDIO
+    TITLE "Part 2784"
+    INDEX 01 1716:11:00
+  TRACK 2785 AUDIO
+    TITLE "Part 2785"
+    INDEX 01 1716:48:00
+  TRACK 2786 AUDIO
+    TITLE "Part 2786"
+    INDEX 01 1717:25:00
+  TRACK 2787 AUDIO
+    TITLE "Part 2787"
+    INDEX 01 1718:02:00
+  TRACK 2788 AUDIO
+    TITLE "Part 2788"
+    INDEX 01 1718:39:00
+  TRACK 2789 AUDIO
+    TITLE "Part 2789"
+    INDEX 01 1719:16:00
+  TRACK 2790 AUDIO
+    TITLE "Part 2790"
+    INDEX 01 1719:53:00
+  TRACK 2791 AUDIO
+    TITLE "Part 2791"
+    INDEX 01 1720:30:00
+  TRACK 2792 AUDIO
+    TITLE "Part 2792"
+    INDEX 01 1721:07:00
+  TRACK 2793 AUDIO
+    TITLE "Part 2793"
+    INDEX 01 1721:44:00
+  TRACK 2794 AUDIO
+    TITLE "Part 2794"
+    INDEX 01 1722:21:00
+  TRACK 2795 AUDIO
+    TITLE "Part 2795"
+    INDEX 01 1722:58:00
+  TRACK 2796 AUDIO
+    TITLE "Part 2796"
+    INDEX 01 1723:35:00
+  TRACK 2797 AUDIO
+    TITLE "Part 2797"
+    INDEX 01 1724:12:00
+  TRACK 2798 AUDIO
+    TITLE "Part 2798"
+    INDEX 01 1724:49:00
+  TRACK 2799 AUDIO
+    TITLE "Part 2799"
+    INDEX 01 1725:26:00
+  TRACK 2800 AUDIO
+    TITLE "Part 2800"
+    INDEX 01 1726:03:00
+  TRACK 2801 AUDIO
+    TITLE "Part 2801"
+    INDEX 01 1726:40:00
+  TRACK 2802 AUDIO
+    TITLE "Part 2802"
+    INDEX 01 1727:17:00
+  TRACK 2803 AUDIO
+    TITLE "Part 2803"
+    INDEX 01 1727:54:00
+  TRACK 2804 AUDIO
+    TITLE "Part 2804"
+    INDEX 01 1728:31:00
+  TRACK 2805 AUDIO
+    TITLE "Part 2805"
+    INDEX 01 1729:08:00
+  TRACK 2806 AUDIO
+    TITLE "Part 2806"
+    INDEX 01 1729:45:00
+  TRACK 2807 AUDIO
+    TITLE "Part 2807"
+    INDEX 01 1730:22:00
+  TRACK 2808 AUDIO
+    TITLE "Part 2808"
+    INDEX 01 1730:59:00
+  TRACK 2809 AUDIO
+    TITLE "Part 2809"
+    INDEX 01 1731:36:00
+  TRACK 2810 AUDIO
+    TITLE "Part 2810"
+    INDEX 01 1732:13:00
+  TRACK 2811 AUDIO
+    TITLE "Part 2811"
+    INDEX 01 1732:50:00
+  TRACK 2812 AUDIO
+    TITLE "Part 2812"
+    INDEX 01 1733:27:00
+  TRACK 2813 AUDIO
+    TITLE "Part 2813"
+    INDEX 01 1734:04:00
+  TRACK 2814 AUDIO
+    TITLE "Part 2814"
+    INDEX 01 1734:41:00
+  TRACK 2815 AUDIO
+    TITLE "Part 2815"
+    INDEX 01 1735:18:00
+  TRACK 2816 AUDIO
+    TITLE "Part 2816"
+    INDEX 01 1735:55:00
+  TRACK 2817 AUDIO
+    TITLE "Part 2817"
+    INDEX 01 1736:32:00
+  TRACK 2818 AUDIO
+    TITLE "Part 2818"
+    INDEX 01 1737:09:00
+  TRACK 2819 AUDIO
+    TITLE "Part 2819"
+    INDEX 01 1737:46:00
+  TRACK 2820 AUDIO
+    TITLE "Part 2820"
+    INDEX 01 1738:23:00
+  TRACK 2821 AUDIO
+    TITLE "Part 2821"
+    INDEX 01 1739:00:00
+  TRACK 2822 AUDIO
+    TITLE "Part 2822"
+    INDEX 01 1739:37:00
+  TRACK 2823 AUDIO
+    TITLE "Part 2823"
+    INDEX 01 1740:14:00
+  TRACK 2824 AUDIO
+    TITLE "Part 2824"
+    INDEX 01 1740:51:00
+  TRACK 2825 AUDIO
+    TITLE "Part 2825"
+    INDEX 01 1741:28:00
+  TRACK 2826 AUDIO
+    TITLE "Part 2826"
+    INDEX 01 1742:05:00
+  TRACK 2827 AUDIO
+    TITLE "Part 2827"
+    INDEX 01 1742:42:00
+  TRACK 2828 AUDIO
+    TITLE "Part 2828"
+    INDEX 01 1743:19:00
+  TRACK 2829 AUDIO
+    TITLE "Part 2829"
+    INDEX 01 1743:56:00
+  TRACK 2830 AUDIO
+    TITLE "Part 2830"
+    INDEX 01 1744:33:00
+  TRACK 2831 AUDIO
+    TITLE "Part 2831"
+    INDEX 01 1745:10:00
+  TRACK 2832 AUDIO
+    TITLE "Part 2832"
+    INDEX 01 1745:47:00
+  TRACK 2833 AUDIO
+    TITLE "Part 2833"
+    INDEX 01 1746:24:00
+  TRACK 2834 AUDIO
+    TITLE "Part 2834"
+    INDEX 01 1747:01:00
+  TRACK 2835 AUDIO
+    TITLE "Part 2835"
+    INDEX 01 1747:38:00
+  TRACK 2836 AUDIO
+    TITLE "Part 2836"
+    INDEX 01 1748:15:00
+  TRACK 2837 AUDIO
+    TITLE "Part 2837"
+    INDEX 01 1748:52:00
+  TRACK 2838 AUDIO
+    TITLE "Part 2838"
+    INDEX 01 1749:29:00
+  TRACK 2839 AUDIO
+    TITLE "Part 2839"
+    INDEX 01 1750:06:00
+  TRACK 2840 AUDIO
+    TITLE "Part 2840"
+    INDEX 01 1750:43:00
+  TRACK 2841 AUDIO
+    TITLE "Part 2841"
+    INDEX 01 1751:20:00
+  TRACK 2842 AUDIO
+    TITLE "Part 2842"
+    INDEX 01 1751:57:00
+  TRACK 2843 AUDIO
+    TITLE "Part 2843"
+    INDEX 01 1752:34:00
+  TRACK 2844 AUDIO
+    TITLE "Part 2844"
+    INDEX 01 1753:11:00
+  TRACK 2845 AUDIO
+    TITLE "Part 2845"
+    INDEX 01 1753:48:00
+  TRACK 2846 AUDIO
+    TITLE "Part 2846"
+    INDEX 01 1754:25:00
+  TRACK 2847 AUDIO
+    TITLE "Part 2847"
+    INDEX 01 1755:02:00
+  TRACK 2848 AUDIO
+    TITLE "Part 2848"
+    INDEX 01 1755:39:00
+  TRACK 2849 AUDIO
+    TITLE "Part 2849"
+    INDEX 01 1756:16:00
+  TRACK 2850 AUDIO
+    TITLE "Part 2850"
+    INDEX 01 1756:53:00
+  TRACK 2851 AUDIO
+    TITLE "Part 2851"
+    INDEX 01 1757:30:00
+  TRACK 2852 AUDIO
+    TITLE "Part 2852"
+    INDEX 01 1758:07:00
+  TRACK 2853 AUDIO
+    TITLE "Part 2853"
+    INDEX 01 1758:44:00
+  TRACK 2854 AUDIO
+    TITLE "Part 2854"
+    INDEX 01 1759:21:00
+  TRACK 2855 AUDIO
+    TITLE "Part 2855"
+    INDEX 01 1759:58:00
+  TRACK 2856 AUDIO
+    TITLE "Part 2856"
+    INDEX 01 1760:35:00
+  TRACK 2857 AUDIO
+    TITLE "Part 2857"
+    INDEX 01 1761:12:00
+  TRACK 2858 AUDIO
+    TITLE "Part 2858"
+    INDEX 01 1761:49:00
+  TRACK 2859 AUDIO
+    TITLE "Part 2859"
+    INDEX 01 1762:26:00
+  TRACK 2860 AUDIO
+    TITLE "Part 2860"
+    INDEX 01 1763:03:00
+  TRACK 2861 AUDIO
+    TITLE "Part 2861"
+    INDEX 01 1763:40:00
+  TRACK 2862 AUDIO
+    TITLE "Part 2862"
+    INDEX 01 1764:17:00
+  TRACK 2863 AUDIO
+    TITLE "Part 2863"
+    INDEX 01 1764:54:00
+  TRACK 2864 AUDIO
+    TITLE "Part 2864"
+    INDEX 01 1765:31:00
+  TRACK 2865 AUDIO
+    TITLE "Part 2865"
+    INDEX 01 1766:08:00
+  TRACK 2866 AUDIO
+    TITLE "Part 2866"
+    INDEX 01 1766:45:00
+  TRACK 2867 AUDIO
+    TITLE "Part 2867"
+    INDEX 01 1767:22:00
+  TRACK 2868 AUDIO
+    TITLE "Part 2868"
+    INDEX 01 1767:59:00
+  TRACK 2869 AUDIO
+    TITLE "Part 2869"
+    INDEX 01 1768:36:00
+  TRACK 2870 AUDIO
+    TITLE "Part 2870"
+    INDEX 01 1769:13:00
+  TRACK 2871 AUDIO
+    TITLE "Part 2871"
+    INDEX 01 1769:50:00
+  TRACK 2872 AUDIO
+    TITLE "Part 2872"
+    INDEX 01 1770:27:00
+  TRACK 2873 AUDIO
+    TITLE "Part 2873"
+    INDEX 01 1771:04:00
+  TRACK 2874 AUDIO
+    TITLE "Part 2874"
+    INDEX 01 1771:41:00
+  TRACK 2875 AUDIO
+    TITLE "Part 2875"
+    INDEX 01 1772:18:00
+  TRACK 2876 AUDIO
+    TITLE "Part 2876"
+    INDEX 01 1772:55:00
+  TRACK 2877 AUDIO
+    TITLE "Part 2877"
+    INDEX 01 1773:32:00
+  TRACK 2878 AUDIO
+    TITLE "Part 2878"
+    INDEX 01 1774:09:00
+  TRACK 2879 AUDIO
+    TITLE "Part 2879"
+    INDEX 01 1774:46:00
+  TRACK 2880 AUDIO
+    TITLE "Part 2880"
+    INDEX 01 1775:23:00
+  TRACK 2881 AUDIO
+    TITLE "Part 2881"
+    INDEX 01 1776:00:00
+  TRACK 2882 AUDIO
+    TITLE "Part 2882"
+    INDEX 01 1776:37:00
+  TRACK 2883 AUDIO
+    TITLE "Part 2883"
+    INDEX 01 1777:14:00
+  TRACK 2884 AUDIO
+    TITLE "Part 2884"
+    INDEX 01 1777:51:00
+  TRACK 2885 AUDIO
+    TITLE "Part 2885"
+    INDEX 01 1778:28:00
+  TRACK 2886 AUDIO
+    TITLE "Part 2886"
+    INDEX 01 1779:05:00
+  TRACK 2887 AUDIO
+    TITLE "Part 2887"
+    INDEX 01 1779:42:00
+  TRACK 2888 AUDIO
+    TITLE "Part 2888"
+    INDEX 01 1780:19:00
+  TRACK 2889 AUDIO
+    TITLE "Part 2889"
+    INDEX 01 1780:56:00
+  TRACK 2890 AUDIO
+    TITLE "Part 2890"
+    INDEX 01 1781:33:00
+  TRACK 2891 AUDIO
+    TITLE "Part 2891"
+    INDEX 01 1782:10:00
+  TRACK 2892 AUDIO
+    TITLE "Part 2892"
+    INDEX 01 1782:47:00
+  TRACK 2893 AUDIO
+    TITLE "Part 2893"
+    INDEX 01 1783:24:00
+  TRACK 2894 AUDIO
+    TITLE "Part 2894"
+    INDEX 01 1784:01:00
+  TRACK 2895 AUDIO
+    TITLE "Part 2895"
+    INDEX 01 1784:38:00
+  TRACK 2896 AUDIO
+    TITLE "Part 2896"
+    INDEX 01 1785:15:00
+  TRACK 2897 AUDIO
+    TITLE "Part 2897"
+    INDEX 01 1785:52:00
+  TRACK 2898 AUDIO
+    TITLE "Part 2898"
+    INDEX 01 1786:29:00
+  TRACK 2899 AUDIO
+    TITLE "Part 2899"
+    INDEX 01 1787:06:00
+  TRACK 2900 AUDIO
+    TITLE "Part 2900"
+    INDEX 01 1787:43:00
+  TRACK 2901 AUDIO
+    TITLE "Part 2901"
+    INDEX 01 1788:20:00
+  TRACK 2902 AUDIO
+    TITLE "Part 2902"
+    INDEX 01 1788:57:00
+  TRACK 2903 AUDIO
+    TITLE "Part 2903"
+    INDEX 01 1789:34:00
+  TRACK 2904 AUDIO
+    TITLE "Part 2904"
+    INDEX 01 1790:11:00
+  TRACK 2905 AUDIO
+    TITLE "Part 2905"
+    INDEX 01 1790:48:00
+  TRACK 2906 AUDIO
+    TITLE "Part 2906"
+    INDEX 01 1791:25:00
+  TRACK 2907 AUDIO
+    TITLE "Part 2907"
+    INDEX 01 1792:02:00
+  TRACK 2908 AUDIO
+    TITLE "Part 2908"
+    INDEX 01 1792:39:00
+  TRACK 2909 AUDIO
+    TITLE "Part 2909"
+    INDEX 01 1793:16:00
+  TRACK 2910 AUDIO
+    TITLE "Part 2910"
+    INDEX 01 1793:53:00
+  TRACK 2911 AUDIO
+    TITLE "Part 2911"
+    INDEX 01 1794:30:00
+  TRACK 2912 AUDIO
+    TITLE "Part 2912"
+    INDEX 01 1795:07:00
+  TRACK 2913 AUDIO
+    TITLE "Part 2913"
+    INDEX 01 1795:44:00
+  TRACK 2914 AUDIO
+    TITLE "Part 2914"
+    INDEX 01 1796:21:00
+  TRACK 2915 AUDIO
+    TITLE "Part 2915"
+    INDEX 01 1796:58:00
+  TRACK 2916 AUDIO
+    TITLE "Part 2916"
+    INDEX 01 1797:35:00
+  TRACK 2917 AUDIO
+    TITLE "Part 2917"
+    INDEX 01 1798:12:00
+  TRACK 2918 AUDIO
+    TITLE "Part 2918"
+    INDEX 01 1798:49:00
+  TRACK 2919 AUDIO
+    TITLE "Part 2919"
+    INDEX 01 1799:26:00
+  TRACK 2920 AUDIO
+    TITLE "Part 2920"
+    INDEX 01 1800:03:00
+  TRACK 2921 AUDIO
+    TITLE "Part 2921"
+    INDEX 01 1800:40:00
+  TRACK 2922 AUDIO
+    TITLE "Part 2922"
+    INDEX 01 1801:17:00
+  TRACK 2923 AUDIO
+    TITLE "Part 2923"
+    INDEX 01 1801:54:00
+  TRACK 2924 AUDIO
+    TITLE "Part 2924"
+    INDEX 01 1802:31:00
+  TRACK 2925 AUDIO
+    TITLE "Part 2925"
+    INDEX 01 1803:08:00
+  TRACK 2926 AUDIO
+    TITLE "Part 2926"
+    INDEX 01 1803:45:00
+  TRACK 2927 AUDIO
+    TITLE "Part 2927"
+    INDEX 01 1804:22:00
+  TRACK 2928 AUDIO
+    TITLE "Part 2928"
+    INDEX 01 1804:59:00
+  TRACK 2929 AUDIO
+    TITLE "Part 2929"
+    INDEX 01 1805:36:00
+  TRACK 2930 AUDIO
+    TITLE "Part 2930"
+    INDEX 01 1806:13:00
+  TRACK 2931 AUDIO
+    TITLE "Part 2931"
+    INDEX 01 1806:50:00
+  TRACK 2932 AUDIO
+    TITLE "Part 2932"
+    INDEX 01 1807:27:00
+  TRACK 2933 AUDIO
+    TITLE "Part 2933"
+    INDEX 01 1808:04:00
+  TRACK 2934 AUDIO
+    TITLE "Part 2934"
+    INDEX 01 1808:41:00
+  TRACK 2935 AUDIO
+    TITLE "Part 2935"
+    INDEX 01 1809:18:00
+  TRACK 2936 AUDIO
+    TITLE "Part 2936"
+    INDEX 01 1809:55:00
+  TRACK 2937 AUDIO
+    TITLE "Part 2937"
+    INDEX 01 1810:32:00
+  TRACK 2938 AUDIO
+    TITLE "Part 2938"
+    INDEX 01 1811:09:00
+  TRACK 2939 AUDIO
+    TITLE "Part 2939"
+    INDEX 01 1811:46:00
+  TRACK 2940 AUDIO
+    TITLE "Part 2940"
+    INDEX 01 1812:23:00
+  TRACK 2941 AUDIO
+    TITLE "Part 2941"
+    INDEX 01 1813:00:00
+  TRACK 2942 AUDIO
+    TITLE "Part 2942"
+    INDEX 01 1813:37:00
+  TRACK 2943 AUDIO
+    TITLE "Part 2943"
+    INDEX 01 1814:14:00
+  TRACK 2944 AUDIO
+    TITLE "Part 2944"
+    INDEX 01 1814:51:00
+  TRACK 2945 AUDIO
+    TITLE "Part 2945"
+    INDEX 01 1815:28:00
+  TRACK 2946 AUDIO
+    TITLE "Part 2946"
+    INDEX 01 1816:05:00
+  TRACK 2947 AUDIO
+    TITLE "Part 2947"
+    INDEX 01 1816:42:00
+  TRACK 2948 AUDIO
+    TITLE "Part 2948"
+    INDEX 01 1817:19:00
+  TRACK 2949 AUDIO
+    TITLE "Part 2949"
+    INDEX 01 1817:56:00
+  TRACK 2950 AUDIO
+    TITLE "Part 2950"
+    INDEX 01 1818:33:00
+  TRACK 2951 AUDIO
+    TITLE "Part 2951"
+    INDEX 01 1819:10:00
+  TRACK 2952 AUDIO
+    TITLE "Part 2952"
+    INDEX 01 1819:47:00
+  TRACK 2953 AUDIO
+    TITLE "Part 2953"
+    INDEX 01 1820:24:00
+  TRACK 2954 AUDIO
+    TITLE "Part 2954"
+    INDEX 01 1821:01:00
+  TRACK 2955 AUDIO
+    TITLE "Part 2955"
+    INDEX 01 1821:38:00
+  TRACK 2956 AUDIO
+    TITLE "Part 2956"
+    INDEX 01 1822:15:00
+  TRACK 2957 AUDIO
+    TITLE "Part 2957"
+    INDEX 01 1822:52:00
+  TRACK 2958 AUDIO
+    TITLE "Part 2958"
+    INDEX 01 1823:29:00
+  TRACK 2959 AUDIO
+    TITLE "Part 2959"
+    INDEX 01 1824:06:00
+  TRACK 2960 AUDIO
+    TITLE "Part 2960"
+    INDEX 01 1824:43:00
+  TRACK 2961 AUDIO
+    TITLE "Part 2961"
+    INDEX 01 1825:20:00
+  TRACK 2962 AUDIO
+    TITLE "Part 2962"
+    INDEX 01 1825:57:00
+  TRACK 2963 AUDIO
+    TITLE "Part 2963"
+    INDEX 01 1826:34:00
+  TRACK 2964 AUDIO
+    TITLE "Part 2964"
+    INDEX 01 1827:11:00
+  TRACK 2965 AUDIO
+    TITLE "Part 2965"
+    INDEX 01 1827:48:00
+  TRACK 2966 AUDIO
+    TITLE "Part 2966"
+    INDEX 01 1828:25:00
+  TRACK 2967 AUDIO
+    TITLE "Part 2967"
+    INDEX 01 1829:02:00
+  TRACK 2968 AUDIO
+    TITLE "Part 2968"
+    INDEX 01 1829:39:00
+  TRACK 2969 AUDIO
+    TITLE "Part 2969"
+    INDEX 01 1830:16:00
+  TRACK 2970 AUDIO
+    TITLE "Part 2970"
+    INDEX 01 1830:53:00
+  TRACK 2971 AUDIO
+    TITLE "Part 2971"
+    INDEX 01 1831:30:00
+  TRACK 2972 AUDIO
+    TITLE "Part 2972"
+    INDEX 01 1832:07:00
+  TRACK 2973 AUDIO
+    TITLE "Part 2973"
+    INDEX 01 1832:44:00
+  TRACK 2974 AUDIO
+    TITLE "Part 2974"
+    INDEX 01 1833:21:00
+  TRACK 2975 AUDIO
+    TITLE "Part 2975"
+    INDEX 01 1833:58:00
+  TRACK 2976 AUDIO
+    TITLE "Part 2976"
+    INDEX 01 1834:35:00
+  TRACK 2977 AUDIO
+    TITLE "Part 2977"
+    INDEX 01 1835:12:00
+  TRACK 2978 AUDIO
+    TITLE "Part 2978"
+    INDEX 01 1835:49:00
+  TRACK 2979 AUDIO
+    TITLE "Part 2979"
+    INDEX 01 1836:26:00
+  TRACK 2980 AUDIO
+    TITLE "Part 2980"
+    INDEX 01 1837:03:00
+  TRACK 2981 AUDIO
+    TITLE "Part 2981"
+    INDEX 01 1837:40:00
+  TRACK 2982 AUDIO
+    TITLE "Part 2982"
+    INDEX 01 1838:17:00
+  TRACK 2983 AUDIO
+    TITLE "Part 2983"
+    INDEX 01 1838:54:00
+  TRACK 2984 AUDIO
+    TITLE "Part 2984"
+    INDEX 01 1839:31:00
+  TRACK 2985 AUDIO
+    TITLE "Part 2985"
+    INDEX 01 1840:08:00
+  TRACK 2986 AUDIO
+    TITLE "Part 2986"
+    INDEX 01 1840:45:00
+  TRACK 2987 AUDIO
+    TITLE "Part 2987"
+    INDEX 01 1841:22:00
+  TRACK 2988 AUDIO
+    TITLE "Part 2988"
+    INDEX 01 1841:59:00
+  TRACK 2989 AUDIO
+    TITLE "Part 2989"
+    INDEX 01 1842:36:00
+  TRACK 2990 AUDIO
+    TITLE "Part 2990"
+    INDEX 01 1843:13:00
+  TRACK 2991 AUDIO
+    TITLE "Part 2991"
+    INDEX 01 1843:50:00
+  TRACK 2992 AUDIO
+    TITLE "Part 2992"
+    INDEX 01 1844:27:00
+  TRACK 2993 AUDIO
+    TITLE "Part 2993"
+    INDEX 01 1845:04:00
+  TRACK 2994 AUDIO
+    TITLE "Part 2994"
+    INDEX 01 1845:41:00
+  TRACK 2995 AUDIO
+    TITLE "Part 2995"
+    INDEX 01 1846:18:00
+  TRACK 2996 AUDIO
+    TITLE "Part 2996"
+    INDEX 01 1846:55:00
+  TRACK 2997 AUDIO
+    TITLE "Part 2997"
+    INDEX 01 1847:32:00
+  TRACK 2998 AUDIO
+    TITLE "Part 2998"
+    INDEX 01 1848:09:00
+  TRACK 2999 AUDIO
+    TITLE "Part 2999"
+    INDEX 01 1848:46:00
+  TRACK 3000 AUDIO
+    TITLE "Part 3000"
+    INDEX 01 1849:23:00
@@ -0,0 +1,12 @@
+PERFORMER "Bach"
+FILE "01 Prelude.flac" WAVE
+  TRACK 01 AUDIO
+    TITLE "Prelude"
+    INDEX 01 00:00:00
+FILE "02 Fugue.flac" WAVE
+  TRACK 02 AUDIO
+    TITLE "Fugue - Exposition"
+    INDEX 01 00:00:00
+  TRACK 03 AUDIO
+    TITLE "Fugue - Stretto"
+    INDEX 01 01:30:00
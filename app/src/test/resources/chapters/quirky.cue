@@ -0,0 +1,20 @@
+﻿rem COMMENT "made by hand"
+file lecture.mp3 MP3
+	track 1 audio
+		title Introduction
+		index 1 0:00:00
+	track 2 audio
+		index 01 12:34:56
+		title "Title after index"
+	track 3 audio
+		title "Pregap only"
+		index 00 20:00:00
+	track 4 audio
+		title "Bad index is skipped"
+		index 01 20:61:00
+	track 5 audio
+		title "Past 99 minutes"
+		index 01 125:00:15
+		flags dcp
+	track 6 audio
+		index 01 130:00:00
@@ -0,0 +1,7 @@
+FILE "Klavierstuecke.wav" WAVE
+  TRACK 01 AUDIO
+    TITLE "Fr Elise"
+    INDEX 01 00:00:00
+  TRACK 02 AUDIO
+    TITLE "Caf  Nocturne"
+    INDEX 01 03:00:00